@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.services.publishing.spi;
 
 import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -48,4 +49,27 @@ public interface EntityPropertyChangeSubscriber extends HasEnabling {
      */
     void onChanging(EntityPropertyChange entityPropertyChange);
 
+    /**
+     * Receives all property change events of the current transaction in one go,
+     * in the order they would otherwise be passed to {@link #onChanging(EntityPropertyChange)}.
+     *
+     * <p>
+     *     This is the callback actually called by the framework (once per transaction, during
+     *     the pre-commit phase); implementations that write to a datastore are encouraged to
+     *     override it, so that they can persist the changes in bulk rather than one by one.
+     * </p>
+     *
+     * <p>
+     *     Subscribers are called one after the other, each receiving all changes, that is, any one subscriber
+     *     has seen all changes before the next subscriber sees the first. (Previously, delivery was change by
+     *     change, with all subscribers receiving each change before any of them received the next.)
+     * </p>
+     *
+     * @implNote the default implementation simply delegates to
+     *      {@link #onChanging(EntityPropertyChange)} for each change
+     */
+    default void onChangingBatch(final Can<EntityPropertyChange> entityPropertyChanges) {
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
 }
@@ -61,6 +61,12 @@
  * algorithm of the business logic can remain easy to understand.
  * </p>
  *
+ * <p>
+ * Results of {@link #executeShared(Callable, Class, String, Object...)} (only) are also shared across
+ * interactions: if a {@link QueryResultsCacheSharedTier} is available and enabled, those not yet cached
+ * for the current interaction are looked up from (and added to) that application scoped tier.
+ * </p>
+ *
  * @since 1.x {@index}
  */
 @Component
@@ -98,7 +104,38 @@ public <T> T execute(
             }
         }
         final Key cacheKey = new Key(callingClass, methodName, keys);
-        return executeWithCaching(callable, cacheKey);
+        return executeWithCaching(callable, cacheKey, false);
+    }
+
+    /**
+     * As {@link #execute(Callable, Class, String, Object...)}, but the result is also shared across
+     * interactions (hence across users), if a {@link QueryResultsCacheSharedTier} is available and enabled.
+     *
+     * <p>
+     * Only to be used if the result depends on the supplied keys only, not on the current user,
+     * their tenancy, the clock or any other state of the current interaction.
+     * </p>
+     *
+     * @param callable
+     * @param callingClass
+     * @param methodName
+     * @param keys
+     * @param <T>
+     */
+    public <T> T executeShared(
+            final Callable<T> callable,
+            final Class<?> callingClass,
+            final String methodName,
+            final Object... keys) {
+        if(isIgnoreCache()) {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final Key cacheKey = new Key(callingClass, methodName, keys);
+        return executeWithCaching(callable, cacheKey, true);
     }
 
     public <R> R execute(final MethodReferences.Call0<? extends R> action, final Class<?> callingClass, final String methodName) {
@@ -106,7 +143,7 @@ public <R> R execute(final MethodReferences.Call0<? extends R> action, final Cla
             return action.call();
         }
         final Key cacheKey = new Key(callingClass, methodName);
-        return executeWithCaching(action::call, cacheKey);
+        return executeWithCaching(action::call, cacheKey, false);
     }
 
 
@@ -115,7 +152,7 @@ public <R, A0> R execute(final MethodReferences.Call1<? extends R, A0> action, f
             return action.call(arg0);
         }
         final Key cacheKey = new Key(callingClass, methodName, arg0);
-        return executeWithCaching(()->action.call(arg0), cacheKey);
+        return executeWithCaching(()->action.call(arg0), cacheKey, false);
     }
 
     public <R, A0, A1> R execute(final MethodReferences.Call2<? extends R, A0, A1> action, final Class<?> callingClass, final String methodName, final A0 arg0,
@@ -124,7 +161,7 @@ public <R, A0, A1> R execute(final MethodReferences.Call2<? extends R, A0, A1> a
             return action.call(arg0, arg1);
         }
         final Key cacheKey = new Key(callingClass, methodName, arg0, arg1);
-        return executeWithCaching(()->action.call(arg0, arg1), cacheKey);
+        return executeWithCaching(()->action.call(arg0, arg1), cacheKey, false);
     }
 
     public <R, A0, A1, A2> R execute(final MethodReferences.Call3<? extends R, A0, A1, A2> action, final Class<?> callingClass, final String methodName,
@@ -133,7 +170,7 @@ public <R, A0, A1, A2> R execute(final MethodReferences.Call3<? extends R, A0, A
             return action.call(arg0, arg1, arg2);
         }
         final Key cacheKey = new Key(callingClass, methodName, arg0, arg1, arg2);
-        return executeWithCaching(()->action.call(arg0, arg1, arg2), cacheKey);
+        return executeWithCaching(()->action.call(arg0, arg1, arg2), cacheKey, false);
     }
 
     public <R, A0, A1, A2, A3> R execute(final MethodReferences.Call4<? extends R, A0, A1, A2, A3> action, final Class<?> callingClass,
@@ -142,7 +179,7 @@ public <R, A0, A1, A2, A3> R execute(final MethodReferences.Call4<? extends R, A
             return action.call(arg0, arg1, arg2, arg3);
         }
         final Key cacheKey = new Key(callingClass, methodName, arg0, arg1, arg2, arg3);
-        return executeWithCaching(()->action.call(arg0, arg1, arg2, arg3), cacheKey);
+        return executeWithCaching(()->action.call(arg0, arg1, arg2, arg3), cacheKey, false);
     }
 
     public <R, A0, A1, A2, A3, A4> R execute(final MethodReferences.Call5<? extends R, A0, A1, A2, A3, A4> action, final Class<?> callingClass,
@@ -151,7 +188,7 @@ public <R, A0, A1, A2, A3, A4> R execute(final MethodReferences.Call5<? extends
             return action.call(arg0, arg1, arg2, arg3, arg4);
         }
         final Key cacheKey = new Key(callingClass, methodName, arg0, arg1, arg2, arg3, arg4);
-        return executeWithCaching(()->action.call(arg0, arg1, arg2, arg3, arg4), cacheKey);
+        return executeWithCaching(()->action.call(arg0, arg1, arg2, arg3, arg4), cacheKey, false);
     }
 
     @Getter @EqualsAndHashCode
@@ -179,7 +216,7 @@ public String toString() {
         private final T result;
     }
 
-    private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey) {
+    private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey, final boolean shared) {
         try {
             final Value<?> cacheValue = cache.get(cacheKey);
             logHitOrMiss(cacheKey, cacheValue);
@@ -187,8 +224,11 @@ private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey)
                 return _Casts.uncheckedCast(cacheValue.getResult());
             }
 
-            // cache miss, so get the result...
-            T result = callable.call();
+            // cache miss, so get the result (possibly from the shared tier) ...
+            T result = shared
+                    && isUseSharedTier()
+                    ? sharedTier.computeIfAbsent(cacheKey, callable)
+                    : callable.call();
 
             // ... and cache
             //
@@ -240,6 +280,14 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected QueryResultsCacheSharedTier sharedTier;
+
+    private boolean isUseSharedTier() {
+        return sharedTier != null
+                && sharedTier.isEnabled();
+    }
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
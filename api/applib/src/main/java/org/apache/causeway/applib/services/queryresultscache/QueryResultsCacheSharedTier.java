@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * SPI for an application scoped second tier of the (interaction scoped) {@link QueryResultsCache},
+ * consulted whenever a result of {@link QueryResultsCache#executeShared(Callable, Class, String, Object...)}
+ * is not (yet) cached for the current interaction.
+ *
+ * <p>
+ *     Results are shared across interactions, so implementations are responsible for invalidating
+ *     them once stale.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface QueryResultsCacheSharedTier {
+
+    /**
+     * Whether this tier is to be consulted at all.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the result cached for given {@link QueryResultsCache.Key key}, otherwise calls given
+     * {@code callable}, potentially caching its result.
+     */
+    <T> T computeIfAbsent(QueryResultsCache.Key key, Callable<T> callable) throws Exception;
+
+}
@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -292,6 +293,36 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Streams all the instances that match the given {@link Query}.
+     *
+     * <p>
+     *     Unlike {@link #allMatches(Query)}, matching instances are not
+     *     materialized upfront, but are fetched lazily (using a database
+     *     cursor, if supported by the ORM) as the returned {@link Stream} is
+     *     consumed. This allows to process large result sets with bounded
+     *     memory.
+     * </p>
+     *
+     * <p>
+     *     The number of rows fetched per database round trip, and whether
+     *     instances already consumed are released (detached or evicted) from
+     *     the persistence context, is configurable. Any changes to released
+     *     instances are <i>not</i> persisted.
+     * </p>
+     *
+     * @apiNote The returned {@link Stream} holds database resources, hence
+     *          must be consumed within the current transaction and must be
+     *          closed, eg. using try-with-resources.
+     * @implNote The default implementation is not lazy, it simply delegates
+     *          to {@link #allMatches(Query)}.
+     *
+     * @see #allMatches(Query)
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -49,6 +49,16 @@ public DtoMapper<CommandDto> dtoMapper() {
         return dtoMapper.get();
     }
 
+    private _Lazy<DtoStorageCodec<CommandDto>> storageCodec = _Lazy.threadSafe(
+            ()->DtoStorageCodec.of(CommandDto.class, dtoMapper()));
+
+    /**
+     * For storing {@link CommandDto}s as text, in any of the {@link DtoStorageFormat}s.
+     */
+    public DtoStorageCodec<CommandDto> storageCodec() {
+        return storageCodec.get();
+    }
+
     public OidsDto targetsFor(final CommandDto dto) {
         OidsDto targets = dto.getTargets();
         if(targets == null) {
@@ -0,0 +1,208 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
+
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.MemberDto;
+import org.apache.causeway.schema.cmd.v2.PropertyDto;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
+import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Encodes DTOs as text in any of the {@link DtoStorageFormat}s, and decodes them back,
+ * detecting the format of the stored value, such that legacy (plain XML) values remain readable.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @see CommandDtoUtils#storageCodec()
+ * @see InteractionDtoUtils#storageCodec()
+ * @since 2.0 {@index}
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class DtoStorageCodec<T> {
+
+    private final @NonNull Class<T> dtoClass;
+    private final @NonNull DtoMapper<T> xmlMapper;
+
+    @Nullable
+    public String encode(final @Nullable T dto, final @NonNull DtoStorageFormat format) {
+        if(dto==null) {
+            return null;
+        }
+        switch (format) {
+        case XML:
+            return xmlMapper.toString(dto);
+        case XML_GZIP:
+            return format.getPrefix()
+                    + gzipBase64(out->out.write(xmlMapper.toString(dto).getBytes(StandardCharsets.UTF_8)));
+        case JSON_GZIP:
+            return format.getPrefix()
+                    + gzipBase64(out->JSON_MAPPER.get().writeValue(out, dto));
+        default:
+            throw _Exceptions.unmatchedCase(format);
+        }
+    }
+
+    /**
+     * Decodes given value, as encoded by {@link #encode(Object, DtoStorageFormat)} using any format.
+     */
+    @Nullable
+    public T decode(final @Nullable String encoded) {
+        if(encoded==null) {
+            return null;
+        }
+        val format = DtoStorageFormat.detect(encoded);
+        switch (format) {
+        case XML:
+            return xmlMapper.read(encoded);
+        case XML_GZIP:
+            return xmlMapper.read(new String(gunzip(encoded, format), StandardCharsets.UTF_8));
+        case JSON_GZIP:
+            try {
+                return JSON_MAPPER.get().readValue(gunzip(encoded, format), dtoClass);
+            } catch (IOException e) {
+                throw _Exceptions.unrecoverable(e, "failed to read %s from JSON", dtoClass.getName());
+            }
+        default:
+            throw _Exceptions.unmatchedCase(format);
+        }
+    }
+
+    // -- HELPER
+
+    @FunctionalInterface
+    private interface OutputStreamWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private String gzipBase64(final OutputStreamWriter writer) {
+        val bytes = new ByteArrayOutputStream();
+        try(val gzip = new GZIPOutputStream(bytes)) {
+            writer.writeTo(gzip);
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable(e, "failed to write %s", dtoClass.getName());
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private byte[] gunzip(final String encoded, final DtoStorageFormat format) {
+        val compressed = Base64.getDecoder().decode(encoded.substring(format.getPrefix().length()));
+        try(InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable(e, "failed to decompress %s", dtoClass.getName());
+        }
+    }
+
+    /**
+     * Shared (thread-safe) mapper for the schema's DTOs; type information is included only for
+     * the abstract {@link MemberDto} and {@link MemberExecutionDto}.
+     */
+    private static final _Lazy<ObjectMapper> JSON_MAPPER = _Lazy.threadSafe(DtoStorageCodec::createJsonMapper);
+
+    private static ObjectMapper createJsonMapper() {
+        return new ObjectMapper()
+                .registerModule(new JaxbAnnotationModule())
+                .registerModule(new SimpleModule()
+                        .addSerializer(XMLGregorianCalendar.class, new XmlCalendarSerializer())
+                        .addDeserializer(XMLGregorianCalendar.class, new XmlCalendarDeserializer()))
+                .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .addMixIn(MemberDto.class, MemberDtoMixin.class)
+                .addMixIn(MemberExecutionDto.class, MemberExecutionDtoMixin.class);
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes({
+        @JsonSubTypes.Type(value = ActionDto.class, name = "action"),
+        @JsonSubTypes.Type(value = PropertyDto.class, name = "property")})
+    private static abstract class MemberDtoMixin {}
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes({
+        @JsonSubTypes.Type(value = ActionInvocationDto.class, name = "actionInvocation"),
+        @JsonSubTypes.Type(value = PropertyEditDto.class, name = "propertyEdit")})
+    private static abstract class MemberExecutionDtoMixin {}
+
+    /** lossless, as opposed to Jackson's default, which writes epoch millis */
+    private static class XmlCalendarSerializer extends JsonSerializer<XMLGregorianCalendar> {
+        @Override
+        public void serialize(
+                final XMLGregorianCalendar value, final JsonGenerator gen, final SerializerProvider serializers)
+                throws IOException {
+            gen.writeString(value.toXMLFormat());
+        }
+    }
+
+    private static class XmlCalendarDeserializer extends JsonDeserializer<XMLGregorianCalendar> {
+        private final _Lazy<DatatypeFactory> datatypeFactory = _Lazy.threadSafe(()->{
+            try {
+                return DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                throw _Exceptions.unrecoverable(e);
+            }
+        });
+        @Override
+        public XMLGregorianCalendar deserialize(final JsonParser p, final DeserializationContext ctxt)
+                throws IOException {
+            return datatypeFactory.get().newXMLGregorianCalendar(p.getValueAsString());
+        }
+    }
+
+}
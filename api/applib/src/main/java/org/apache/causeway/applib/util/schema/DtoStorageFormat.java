@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * How DTOs (such as {@link org.apache.causeway.schema.cmd.v2.CommandDto} and
+ * {@link org.apache.causeway.schema.ixn.v2.InteractionDto}) are encoded when stored as text,
+ * eg. in a CLOB column.
+ * <p>
+ * Any of the compact formats is marked by a prefix, such that {@link DtoStorageCodec#decode(String)}
+ * can detect the format of any stored value, including values stored (as plain XML) before the format
+ * was changed.
+ *
+ * @see DtoStorageCodec
+ * @since 2.0 {@index}
+ */
+@RequiredArgsConstructor
+public enum DtoStorageFormat {
+
+    /**
+     * The DTO's XML representation, as per its XSD; (legacy) default.
+     */
+    XML(""),
+
+    /**
+     * The DTO's XML representation, GZIP compressed and Base64 encoded.
+     */
+    XML_GZIP("gzxml:"),
+
+    /**
+     * The DTO's JSON representation (honoring its JAXB annotations), GZIP compressed and Base64 encoded.
+     * <p>
+     * Most compact and fastest to encode and decode.
+     */
+    JSON_GZIP("gzjson:");
+
+    /**
+     * Marks encoded values of this format, empty for {@link #XML}.
+     */
+    @Getter
+    private final String prefix;
+
+    public boolean isCompressed() {
+        return this != XML;
+    }
+
+    /**
+     * The format of given encoded value, as detected by its prefix, otherwise {@link #XML}.
+     */
+    public static DtoStorageFormat detect(final String encoded) {
+        if(encoded.startsWith(JSON_GZIP.prefix)) {
+            return JSON_GZIP;
+        }
+        if(encoded.startsWith(XML_GZIP.prefix)) {
+            return XML_GZIP;
+        }
+        return XML;
+    }
+
+}
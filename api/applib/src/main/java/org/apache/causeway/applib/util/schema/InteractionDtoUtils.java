@@ -61,6 +61,16 @@ public DtoMapper<InteractionDto> dtoMapper() {
         return dtoMapper.get();
     }
 
+    private _Lazy<DtoStorageCodec<InteractionDto>> storageCodec = _Lazy.threadSafe(
+            ()->DtoStorageCodec.of(InteractionDto.class, dtoMapper()));
+
+    /**
+     * For storing {@link InteractionDto}s as text, in any of the {@link DtoStorageFormat}s.
+     */
+    public DtoStorageCodec<InteractionDto> storageCodec() {
+        return storageCodec.get();
+    }
+
     // -- newInteractionDto
 
     /**
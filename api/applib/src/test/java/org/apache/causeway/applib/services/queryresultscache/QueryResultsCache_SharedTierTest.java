@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryResultsCache_SharedTierTest {
+
+    static class A {}
+
+    QueryResultsCache queryResultsCache;
+    List<QueryResultsCache.Key> sharedTierLookups;
+
+    @BeforeEach
+    void setup() {
+        sharedTierLookups = new ArrayList<>();
+        queryResultsCache = new QueryResultsCache();
+        queryResultsCache.sharedTier = new QueryResultsCacheSharedTier() {
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+            @Override
+            public <T> T computeIfAbsent(final QueryResultsCache.Key key, final Callable<T> callable) throws Exception {
+                sharedTierLookups.add(key);
+                return callable.call();
+            }
+        };
+    }
+
+    @Test
+    void execute_shouldNotConsultSharedTier() {
+        assertEquals("a", queryResultsCache.execute(()->"a", A.class, "foo", "key1"));
+        assertEquals(0, sharedTierLookups.size());
+    }
+
+    @Test
+    void executeShared_shouldConsultSharedTier_onlyIfNotCachedForInteraction() {
+        assertEquals("a", queryResultsCache.executeShared(()->"a", A.class, "foo", "key1"));
+        assertEquals("a", queryResultsCache.executeShared(()->"b", A.class, "foo", "key1"));
+        assertEquals(1, sharedTierLookups.size());
+        assertEquals(new QueryResultsCache.Key(A.class, "foo", "key1"), sharedTierLookups.get(0));
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.cmd.v2.ParamsDto;
+import org.apache.causeway.schema.common.v2.InteractionType;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
+import org.apache.causeway.schema.common.v2.PeriodDto;
+import org.apache.causeway.schema.common.v2.ValueType;
+import org.apache.causeway.schema.common.v2.ValueWithTypeDto;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class DtoStorageCodec_Test {
+
+    @ParameterizedTest
+    @EnumSource(DtoStorageFormat.class)
+    void commandDto_roundtrip(final DtoStorageFormat format) {
+        val codec = CommandDtoUtils.storageCodec();
+        val dto = sampleCommandDto();
+
+        val encoded = codec.encode(dto, format);
+        assertEquals(format, DtoStorageFormat.detect(encoded));
+
+        val decoded = codec.decode(encoded);
+        assertTrue(decoded.getMember() instanceof ActionDto);
+        assertEquals(
+                CommandDtoUtils.dtoMapper().toString(dto),
+                CommandDtoUtils.dtoMapper().toString(decoded));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DtoStorageFormat.class)
+    void interactionDto_roundtrip(final DtoStorageFormat format) {
+        val codec = InteractionDtoUtils.storageCodec();
+        val dto = sampleInteractionDto();
+
+        val encoded = codec.encode(dto, format);
+        assertEquals(format, DtoStorageFormat.detect(encoded));
+
+        val decoded = codec.decode(encoded);
+        assertTrue(decoded.getExecution() instanceof ActionInvocationDto);
+        assertEquals(
+                InteractionDtoUtils.dtoMapper().toString(dto),
+                InteractionDtoUtils.dtoMapper().toString(decoded));
+    }
+
+    @Test
+    void legacyXml_isDecoded() {
+        val xml = CommandDtoUtils.dtoMapper().toString(sampleCommandDto());
+        val decoded = CommandDtoUtils.storageCodec().decode(xml);
+        assertEquals(xml, CommandDtoUtils.dtoMapper().toString(decoded));
+    }
+
+    @Test
+    void nulls_arePassedThrough() {
+        assertNull(CommandDtoUtils.storageCodec().encode(null, DtoStorageFormat.JSON_GZIP));
+        assertNull(CommandDtoUtils.storageCodec().decode(null));
+    }
+
+    // -- SAMPLES
+
+    static CommandDto sampleCommandDto() {
+        val dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        dto.setTimestamp(timestamp());
+
+        val targets = new OidsDto();
+        targets.getOid().add(oid("customer.Customer", "123"));
+        dto.setTargets(targets);
+
+        val action = new ActionDto();
+        action.setInteractionType(InteractionType.ACTION_INVOCATION);
+        action.setLogicalMemberIdentifier("customer.Customer#placeOrder");
+        val params = new ParamsDto();
+        params.getParameter().add(CommonDtoUtils.paramDto("product"));
+        params.getParameter().add(CommonDtoUtils.paramDto("quantity"));
+        action.setParameters(params);
+        dto.setMember(action);
+
+        val timings = new PeriodDto();
+        timings.setStartedAt(timestamp());
+        timings.setCompletedAt(timestamp());
+        dto.setTimings(timings);
+
+        CommandDtoUtils.setUserData(dto, "someKey", "someValue");
+        return dto;
+    }
+
+    static InteractionDto sampleInteractionDto() {
+        val dto = new InteractionDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+
+        val execution = new ActionInvocationDto();
+        execution.setInteractionType(InteractionType.ACTION_INVOCATION);
+        execution.setLogicalMemberIdentifier("customer.Customer#placeOrder");
+        execution.setSequence(0);
+        execution.setUsername("sven");
+        execution.setTarget(oid("customer.Customer", "123"));
+        val params = new ParamsDto();
+        params.getParameter().add(CommonDtoUtils.paramDto("product"));
+        execution.setParameters(params);
+
+        val returned = new ValueWithTypeDto();
+        returned.setType(ValueType.STRING);
+        returned.setString("ORD-4711");
+        execution.setReturned(returned);
+
+        dto.setExecution(execution);
+        return dto;
+    }
+
+    private static OidDto oid(final String logicalTypeName, final String id) {
+        val oid = new OidDto();
+        oid.setType(logicalTypeName);
+        oid.setId(id);
+        return oid;
+    }
+
+    @SneakyThrows
+    private static XMLGregorianCalendar timestamp() {
+        val calendar = new GregorianCalendar(TimeZone.getTimeZone("Europe/Vienna"));
+        return DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar);
+    }
+
+}
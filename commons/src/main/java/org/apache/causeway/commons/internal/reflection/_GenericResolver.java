@@ -37,10 +37,13 @@
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.reflection._MethodInvokers.MethodInvoker;
 import org.apache.causeway.commons.semantics.CollectionSemantics;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -144,6 +147,11 @@ public static interface ResolvedMethod {
         Class<?> implementationClass();
         Class<?> returnType();
         Class<?>[] paramTypes();
+        /**
+         * The {@link MethodInvoker} for this method, compiled on first use and then reused,
+         * as resolved methods are held on to by the meta-model.
+         */
+        MethodInvoker invoker();
         default String name() {
             return method().getName();
         }
@@ -339,6 +347,8 @@ private static class SimpleResolvedMethod implements ResolvedMethod {
         private final Class<?> returnType;
         @EqualsAndHashCode.Exclude
         private final boolean isResolved;
+        @EqualsAndHashCode.Exclude @Getter(AccessLevel.NONE)
+        private final _Lazy<MethodInvoker> invoker;
 
         public SimpleResolvedMethod(final Method method, final Class<?> implementationClass) {
             this.method = method;
@@ -347,11 +357,16 @@ public SimpleResolvedMethod(final Method method, final Class<?> implementationCl
             this.returnType = GenericTypeResolver.resolveReturnType(method, implementationClass);
             this.isResolved = isReturnTypeResolved()
                     && areParamsResolved();
+            this.invoker = _Lazy.threadSafe(()->_MethodInvokers.compile(method));
         }
         public Optional<ResolvedMethod> guardAgainstCannotResolve() {
             return isResolved ? Optional.of(this) : Optional.empty();
         }
         @Override
+        public MethodInvoker invoker() {
+            return invoker.get();
+        }
+        @Override
         public Class<?> resolveFirstGenericTypeArgumentOnMethodReturn() {
             return genericTypeArg(ResolvableType.forMethodReturnType(method, implementationClass))
                     .toClass();
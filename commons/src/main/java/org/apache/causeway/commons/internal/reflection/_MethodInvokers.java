@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * <p>
+ * Compiles {@link Method}s into {@link MethodInvoker}s backed by a {@link MethodHandle},
+ * such that repeated invocations neither have to toggle accessibility nor go through the
+ * reflective access checks.
+ * @since 2.0
+ */
+@UtilityClass
+public class _MethodInvokers {
+
+    /**
+     * Invokes a {@link Method}, honoring the contract of {@link Method#invoke(Object, Object...)}
+     * with regard to the exceptions thrown.
+     */
+    @FunctionalInterface
+    public static interface MethodInvoker {
+        /**
+         * @param target - ignored for static methods
+         * @throws IllegalArgumentException if given arguments do not match the method's parameters
+         *      or given target is not an instance of the method's declaring class
+         * @throws InvocationTargetException if the invoked method throws an exception
+         */
+        Object invoke(@Nullable Object target, @Nullable Object... args)
+                throws IllegalAccessException, InvocationTargetException;
+    }
+
+    /**
+     * Returns a {@link MethodInvoker} backed by a {@link MethodHandle} for given {@link Method},
+     * falling back to reflective invocation, if no {@link MethodHandle} can be obtained
+     * (eg. because the declaring class' module does not open its package).
+     */
+    public MethodInvoker compile(final @NonNull Method method) {
+        try {
+            val lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            return new MethodHandleInvoker(method, spread(method, lookup.unreflect(method)));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return reflective(method);
+        }
+    }
+
+    /**
+     * Returns a {@link MethodInvoker} that uses plain reflection, as {@link _Reflect#invokeMethodOn} does.
+     */
+    public MethodInvoker reflective(final @NonNull Method method) {
+        return (target, args)->{
+            if(_Reflect.canAccess(method, target)) {
+                return method.invoke(target, args);
+            }
+            try {
+                method.setAccessible(true);
+                return method.invoke(target, args);
+            } finally {
+                method.setAccessible(false);
+            }
+        };
+    }
+
+    // -- HELPER
+
+    /**
+     * Adapts given handle to the uniform type {@code (Object, Object[])Object}.
+     */
+    private MethodHandle spread(final Method method, final MethodHandle methodHandle) {
+        val handle = Modifier.isStatic(method.getModifiers())
+                ? MethodHandles.dropArguments(methodHandle.asFixedArity(), 0, Object.class)
+                : methodHandle.asFixedArity();
+        return handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+    private static class MethodHandleInvoker implements MethodInvoker {
+
+        private final Method method;
+        private final MethodHandle methodHandle;
+        private final MethodInvoker fallback;
+        private final boolean isStatic;
+        private final Class<?>[] boxedParamTypes;
+        private final boolean[] primitiveParams;
+
+        MethodHandleInvoker(final Method method, final MethodHandle methodHandle) {
+            this.method = method;
+            this.methodHandle = methodHandle;
+            this.fallback = reflective(method);
+            this.isStatic = Modifier.isStatic(method.getModifiers());
+            this.boxedParamTypes = method.getParameterTypes();
+            this.primitiveParams = new boolean[boxedParamTypes.length];
+            for (int i = 0; i < boxedParamTypes.length; i++) {
+                primitiveParams[i] = boxedParamTypes[i].isPrimitive();
+                boxedParamTypes[i] = ClassUtils.resolvePrimitiveIfNecessary(boxedParamTypes[i]);
+            }
+        }
+
+        @Override
+        public Object invoke(final @Nullable Object target, final @Nullable Object... args)
+                throws IllegalAccessException, InvocationTargetException {
+            if(!isExactMatch(target, args)) {
+                // let reflection either apply widening conversions or throw the appropriate exception
+                return fallback.invoke(target, args);
+            }
+            try {
+                return (Object) methodHandle.invokeExact(target, args);
+            } catch (Throwable e) {
+                // target and arguments were checked upfront, so any exception originates from the invoked method
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        /**
+         * Whether target and arguments can be passed on to the {@link MethodHandle} as they are.
+         */
+        private boolean isExactMatch(final Object target, final Object[] args) {
+            if(!isStatic
+                    && !method.getDeclaringClass().isInstance(target)) {
+                return false;
+            }
+            final int argCount = args!=null ? args.length : 0;
+            if(argCount!=boxedParamTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < argCount; i++) {
+                val arg = args[i];
+                if(arg==null
+                        ? primitiveParams[i]
+                        : !boxedParamTypes[i].isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.reflection;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.reflection._MethodInvokers.MethodInvoker;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class MethodInvokersTest {
+
+    static class Sample {
+        private String name = "sample";
+        private String getName() { return name; }
+        @SuppressWarnings("unused")
+        private void setName(final String name) { this.name = name; }
+        int add(final int a, final int b) { return a + b; }
+        long widen(final long a) { return a; }
+        String join(final String... parts) { return String.join(",", parts); }
+        void fail() { throw new IllegalStateException("failed"); }
+        static String echo(final String x) { return x; }
+    }
+
+    @Test
+    void privateAccessor() throws Exception {
+        val sample = new Sample();
+        assertEquals("sample", invoker("getName").invoke(sample));
+        assertNull(invoker("setName", String.class).invoke(sample, "other"));
+        assertEquals("other", sample.getName());
+    }
+
+    @Test
+    void primitives() throws Exception {
+        assertEquals(3, invoker("add", int.class, int.class).invoke(new Sample(), 1, 2));
+    }
+
+    @Test
+    void widening_fallsBackToReflection() throws Exception {
+        assertEquals(1L, invoker("widen", long.class).invoke(new Sample(), 1));
+    }
+
+    @Test
+    void varargs_areNotCollected() throws Exception {
+        assertEquals("a,b", invoker("join", String[].class)
+                .invoke(new Sample(), new Object[] {new String[] {"a", "b"}}));
+    }
+
+    @Test
+    void staticMethod_ignoresTarget() throws Exception {
+        assertEquals("x", invoker("echo", String.class).invoke(null, "x"));
+    }
+
+    @Test
+    void exceptionFromMethod_isWrapped() {
+        val ex = assertThrows(InvocationTargetException.class,
+                ()->invoker("fail").invoke(new Sample()));
+        assertTrue(ex.getTargetException() instanceof IllegalStateException);
+    }
+
+    @Test
+    void illegalArguments_areRejectedLikeReflection() {
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("add", int.class, int.class).invoke(new Sample(), 1));
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("add", int.class, int.class).invoke(new Sample(), 1, "2"));
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("add", int.class, int.class).invoke(new Sample(), 1, null));
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("getName").invoke("not a sample"));
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("getName").invoke(null));
+    }
+
+    @Test
+    void resolvedMethod_memoizesInvoker() {
+        val resolvedMethod = _GenericResolver.resolveMethod(method("getName"), Sample.class).orElseThrow();
+        assertTrue(resolvedMethod.invoker() == resolvedMethod.invoker());
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final Class<?>... paramTypes) {
+        return Sample.class.getDeclaredMethod(name, paramTypes);
+    }
+
+    private static MethodInvoker invoker(final String name, final Class<?>... paramTypes) {
+        return _MethodInvokers.compile(method(name, paramTypes));
+    }
+
+}
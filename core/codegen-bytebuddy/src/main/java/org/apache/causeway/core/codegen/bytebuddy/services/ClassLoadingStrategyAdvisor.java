@@ -43,9 +43,16 @@ class ClassLoadingStrategyAdvisor {
     }
 
     public ClassLoadingStrategy<ClassLoader> getSuitableStrategy(final Class<?> targetClass) {
+        return ClassLoadingStrategy.UsingLookup.of(getPrivateLookup(targetClass));
+    }
+
+    /**
+     * @return a private {@link MethodHandles.Lookup} on given {@code targetClass},
+     *      that also allows access to (generated) classes of the same package
+     */
+    public MethodHandles.Lookup getPrivateLookup(final Class<?> targetClass) {
         try {
-            final Object privateLookup = invokeLookup(privateLookupMethodHandle, targetClass);
-            return ClassLoadingStrategy.UsingLookup.of(privateLookup);
+            return (MethodHandles.Lookup) invokeLookup(privateLookupMethodHandle, targetClass);
         } catch (Throwable e) {
             throw _Exceptions.illegalState(e,
                     "Failed to utilize code generation strategy on class '%s'",
@@ -18,8 +18,12 @@
  */
 package org.apache.causeway.core.codegen.bytebuddy.services;
 
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
@@ -30,12 +34,16 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy._ProxyFactory;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryServiceAbstract;
 
+import lombok.NonNull;
+import lombok.Value;
 import lombok.val;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -43,6 +51,28 @@
 @Service
 public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
+    /**
+     * Name of the (generated) instance field, that holds the proxy's {@link InvocationHandler}.
+     */
+    static final String HANDLER_FIELD_NAME = "$$causewayInvocationHandler";
+
+    /**
+     * Generated proxy classes, keyed by base type (outer) and interfaces (inner).
+     * <p>
+     * Backed by a {@link ClassValue}, such that generated proxy classes do not outlive their base type's
+     * class-loader. (Proxy classes are defined within the base type's class-loader.)
+     * <p>
+     * Shared by all instances of this service, as proxy classes are not specific to any
+     * {@link InvocationHandler}.
+     */
+    private static final ClassValue<Map<List<Class<?>>, ProxyClass<?>>> proxyClassesByBase =
+            new ClassValue<Map<List<Class<?>>, ProxyClass<?>>>() {
+                @Override
+                protected Map<List<Class<?>>, ProxyClass<?>> computeValue(final Class<?> base) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
 
     @Override
@@ -53,6 +83,7 @@ public <T> _ProxyFactory<T> factory(
 
         val objenesis = new ObjenesisStd();
 
+        // used when a constructor is involved, as we need the handler in place before the constructor runs
         final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
         nextProxyDef(base, interfaces)
         .intercept(InvocationHandlerAdapter.of(handler))
@@ -99,8 +130,9 @@ public T createInstance(final InvocationHandler handler, final Object[] construc
             // -- HELPER (create w/o initialize)
 
             private Object createNotUsingConstructor(final InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                final Object object = objenesis.newInstance(proxyClass);
+                final ProxyClass<T> proxyClass = proxyClassFor(base, interfaces);
+                final Object object = objenesis.newInstance(proxyClass.getType());
+                proxyClass.getHandlerField().set(object, invocationHandler);
                 return object;
             }
 
@@ -118,11 +150,55 @@ private Object createUsingConstructor(final InvocationHandler invocationHandler,
 
     }
 
+    // -- PROXY CLASS CACHING
+
+    @Value
+    private static class ProxyClass<T> {
+        final @NonNull Class<? extends T> type;
+        /** write access to the proxy's {@link #HANDLER_FIELD_NAME} field */
+        final @NonNull VarHandle handlerField;
+    }
+
+    private <T> ProxyClass<T> proxyClassFor(
+            final Class<T> base,
+            final @Nullable Class<?>[] interfaces) {
+        // keyed on the interfaces only, as the lookup strategy always defines the proxy class
+        // within the base type's class loader, regardless of any context class loader
+        val key = interfaces==null
+                ? List.<Class<?>>of()
+                : List.<Class<?>>of(interfaces);
+        return _Casts.uncheckedCast(
+                proxyClassesByBase.get(base)
+                .computeIfAbsent(key, __->createProxyClass(base, interfaces)));
+    }
+
+    private <T> ProxyClass<T> createProxyClass(
+            final Class<T> base,
+            final @Nullable Class<?>[] interfaces) {
+
+        final Class<? extends T> proxyType = nextProxyDef(base, interfaces)
+                .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD_NAME))
+                .defineField(HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
+                .make()
+                .load(base.getClassLoader(), strategyAdvisor.getSuitableStrategy(base))
+                .getLoaded();
+
+        try {
+            val handlerField = strategyAdvisor.getPrivateLookup(proxyType)
+                    .findVarHandle(proxyType, HANDLER_FIELD_NAME, InvocationHandler.class);
+            return new ProxyClass<>(proxyType, handlerField);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw _Exceptions.illegalState(e,
+                    "Failed to access generated handler field on proxy class '%s'",
+                    proxyType.getName());
+        }
+    }
+
     // -- HELPER
 
     private static <T> ImplementationDefinition<T> nextProxyDef(
             final Class<T> base,
-            final Class<?>[] interfaces) {
+            final @Nullable Class<?>[] interfaces) {
         return new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
@@ -78,6 +78,7 @@
 import org.apache.causeway.applib.services.userreg.EmailNotificationService;
 import org.apache.causeway.applib.services.userreg.UserRegistrationService;
 import org.apache.causeway.applib.services.userui.UserMenu;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
@@ -136,6 +137,42 @@ public static class Security {
          */
         private boolean actionsWithSafeSemanticsRequireOnlyViewingPermission = false;
 
+        private final AuthenticationCache authenticationCache = new AuthenticationCache();
+        @Data
+        public static class AuthenticationCache {
+
+            /**
+             * Whether successful authentications of stateless username/password requests should be cached
+             * (application scoped), rather than having the authenticator verify the credentials for every
+             * request (the default).
+             *
+             * <p>
+             *     Applies only to the Restful Objects viewer's HTTP Basic Auth strategy, which otherwise
+             *     authenticates every request afresh; with secman that is a user query plus a (deliberately slow)
+             *     password hash comparison per request.
+             * </p>
+             *
+             * <p>
+             *     Credentials are not held in clear, the cache is keyed by a salted digest of username and password.
+             *     With secman, cached authentications are invalidated whenever any <code>ApplicationUser</code> or
+             *     <code>ApplicationRole</code> is changed by this node; changes made by other nodes (of a cluster)
+             *     are picked up once the {@link #getTimeToLive() time to live} has expired.
+             * </p>
+             */
+            private boolean enabled = false;
+
+            /**
+             * The maximum number of authentications cached; the least recently used are evicted first.
+             */
+            @Min(value = 1)
+            private int maxSize = 1000;
+
+            /**
+             * How long a cached authentication is used, before the credentials are verified again.
+             */
+            private Duration timeToLive = Duration.ofMinutes(1);
+        }
+
         private final Shiro shiro = new Shiro();
         @Data
         public static class Shiro {
@@ -1557,11 +1594,20 @@ public IntrospectionPolicy getPolicy() {
                  * Whether to perform metamodel introspection in parallel, intended to speed up bootstrapping.
                  *
                  * <p>
-                 *     For now this is <i>experimental</i>.
-                 *     We recommend this is left as disabled (the default).
+                 *     Specifications are scheduled in dependency order (supertypes and contributing mixins first),
+                 *     such that the resulting metamodel is the same as when introspecting sequentially (the default).
+                 * </p>
+                 */
+                private boolean parallelize = false;
+
+                /**
+                 * The number of threads to use, if introspecting in {@link #isParallelize() parallel}.
+                 *
+                 * <p>
+                 *     If not positive (the default), the number of available processors is used.
                  * </p>
                  */
-                private boolean parallelize = false; //TODO[CAUSEWAY-2382] concurrent spec-loading is experimental
+                private int parallelism = 0;
 
                 /**
                  * Whether all known types should be fully introspected as part of the bootstrapping, or should only be
@@ -1608,6 +1654,27 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                /**
+                 * Policy as to how the cache of (already introspected) specifications synchronizes concurrent access.
+                 * <p>
+                 * Specifications are looked up on every object rendered and on every member invoked, hence
+                 * under high concurrency the cache may become a point of contention.
+                 */
+                private SpecificationCachePolicy specificationCache = SpecificationCachePolicy.SYNCHRONIZED;
+
+                public enum SpecificationCachePolicy {
+                    /**
+                     * Lookups and additions are guarded by a single (cache wide) monitor.
+                     */
+                    SYNCHRONIZED,
+                    /**
+                     * Lookups are lock-free, while introspection of any given type is guarded by a
+                     * per-type in-flight marker, such that no two threads ever create a specification
+                     * for the same type.
+                     */
+                    CONCURRENT
+                }
+
             }
 
             private final Validator validator = new Validator();
@@ -1853,6 +1920,138 @@ public static class ApplicationFeatures {
                 ApplicationFeaturesInitConfiguration init = ApplicationFeaturesInitConfiguration.NOT_SPECIFIED;
             }
 
+            private final Publishing publishing = new Publishing();
+            @Data
+            public static class Publishing {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+                    /**
+                     * The {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}
+                     * and {@link org.apache.causeway.applib.services.publishing.spi.CommandSubscriber} implementations
+                     * (identified either by their fully qualified class name or by their logical type name, as
+                     * per <code>@Named</code>) that are to be called asynchronously, once the transaction has
+                     * committed, rather than synchronously within the user's transaction.
+                     *
+                     * <p>
+                     *     Each such subscriber gets its own bounded queue, serviced by its own pool of worker
+                     *     threads.  Subscribers not listed here (the default) are called synchronously.
+                     * </p>
+                     *
+                     * <p>
+                     *     {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber}s are
+                     *     always called synchronously, even if listed here, as the executions they receive
+                     *     refer to the state of the interaction (such as its domain objects).
+                     * </p>
+                     */
+                    private List<String> subscribers = new ArrayList<>();
+
+                    /**
+                     * The maximum number of payloads held in memory (per subscriber and worker thread) waiting to
+                     * be delivered.
+                     */
+                    @Min(value = 1)
+                    private int queueCapacity = 10_000;
+
+                    /**
+                     * The maximum number of payloads delivered to a subscriber in one go (within a single
+                     * transaction).
+                     */
+                    @Min(value = 1)
+                    private int batchSize = 100;
+
+                    /**
+                     * The number of worker threads (per subscriber) that deliver payloads.
+                     *
+                     * <p>
+                     *     Each worker thread services its own queue (lane); all payloads of an interaction go to
+                     *     the same lane, hence are delivered in the order they were published, whereas payloads
+                     *     of different interactions may be delivered out of order, unless this is left as 1.
+                     * </p>
+                     */
+                    @Min(value = 1)
+                    private int workerThreads = 1;
+
+                    /**
+                     * How long a publishing thread waits for space to become available in a full queue; once
+                     * this elapses, the payload is delivered by the publishing thread itself instead, so slowing
+                     * down producers to the rate at which the subscriber can keep up (backpressure).
+                     */
+                    private Duration offerTimeout = Duration.ofSeconds(1);
+
+                    /**
+                     * How long to wait before retrying to deliver payloads the subscriber failed to process;
+                     * doubled on each further consecutive failure, up to {@link #getMaxRetryBackoff()}.
+                     *
+                     * <p>
+                     *     Payloads following those failed (of the same worker thread) are held back meanwhile,
+                     *     so as to retain their order.
+                     * </p>
+                     */
+                    private Duration retryBackoff = Duration.ofSeconds(1);
+
+                    /**
+                     * Upper bound for {@link #getRetryBackoff()}.
+                     */
+                    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+                    /**
+                     * If set, the directory in which each subscriber's pending payloads (entity property changes,
+                     * or commands as their <code>CommandDto</code>) are journaled, so that they are re-delivered
+                     * after a restart if not yet delivered (at-least-once delivery).
+                     *
+                     * <p>
+                     *     If not set, pending payloads are only held in memory.
+                     * </p>
+                     */
+                    private String journalDirectory = null;
+                }
+            }
+
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final SharedTier sharedTier = new SharedTier();
+                @Data
+                public static class SharedTier {
+
+                    /**
+                     * Whether results cached by the (interaction scoped)
+                     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache} should also be
+                     * cached across interactions (application scoped), rather than be re-computed for every
+                     * interaction (the default).
+                     *
+                     * <p>
+                     *     Applies only to call sites that opt in, by calling
+                     *     <code>QueryResultsCache#executeShared(...)</code> rather than <code>execute(...)</code>.
+                     * </p>
+                     *
+                     * <p>
+                     *     Only results consisting of entities and/or values are shared; entities are held by
+                     *     bookmark, and are re-fetched (by id) for each interaction.  Cached results are
+                     *     invalidated whenever an entity of a type they are made up of is changed by this node
+                     *     (results not holding any entities, eg. counts, whenever any entity is changed); changes
+                     *     made by other nodes (of a cluster) are picked up once the
+                     *     {@link #getTimeToLive() time to live} has expired.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The maximum number of results cached; the least recently used are evicted first.
+                     */
+                    @Min(value = 1)
+                    private int maxSize = 1000;
+
+                    /**
+                     * How long a cached result is used, before it is re-computed.
+                     */
+                    private Duration timeToLive = Duration.ofMinutes(5);
+                }
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -1869,6 +2068,33 @@ public static class RepositoryService {
                  */
                 private boolean disableAutoFlush = false;
 
+                private final StreamMatches streamMatches = new StreamMatches();
+                @Data
+                public static class StreamMatches {
+                    /**
+                     * Hint as to how many rows to fetch per database round trip, when streaming the instances
+                     * matching a query using {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(org.apache.causeway.applib.query.Query)}.
+                     *
+                     * <p>
+                     * If set to <code>0</code>, the persistence layer's (JDBC driver's) default applies.
+                     */
+                    @Min(value = 0)
+                    private int fetchSize = 100;
+
+                    /**
+                     * If positive, instances already consumed from a stream are released (detached or evicted)
+                     * from the persistence context in batches of this size, such that the persistence context does
+                     * not grow unbounded, when streaming the instances matching a query using
+                     * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(org.apache.causeway.applib.query.Query)}.
+                     *
+                     * <p>
+                     * Any changes to released instances are <i>not</i> persisted, hence this is disabled
+                     * (set to <code>0</code>) by default.
+                     */
+                    @Min(value = 0)
+                    private int releaseEvery = 0;
+                }
+
             }
 
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
@@ -1984,6 +2210,26 @@ public static class Schema {
             private String createSchemaSqlTemplate = "CREATE SCHEMA IF NOT EXISTS %S";
 
         }
+
+        private final EntityChangeTracking entityChangeTracking = new EntityChangeTracking();
+        @Data
+        public static class EntityChangeTracking {
+
+            /**
+             * Whether - for entity property change publishing - pre-values of an updated entity are captured only
+             * for those properties, that the ORM's own dirty tracking reports as changed (EclipseLink's change sets,
+             * respectively field writes as intercepted by DataNucleus), rather than for every publishable property.
+             * <p>
+             * The latter requires to read (and later re-read) every property of every updated entity, which becomes
+             * costly for bulk updates of entities with many properties.
+             * <p>
+             * Only properties that are backed by a persistent field of the same name are reported as changed,
+             * hence disable to revert to capturing pre-values of all properties, eg. if derived properties
+             * are to be published as well.
+             */
+            private boolean dirtyPropertiesOnly = true;
+
+        }
     }
 
     private final Prototyping prototyping = new Prototyping();
@@ -2198,6 +2444,51 @@ public static class Authentication {
              */
             private boolean strictAcceptChecking = false;
 
+            /**
+             * If set, then representations are written straight to the response stream (rather than first being
+             * rendered into a <code>String</code>), and the elements of list representations (such as an action's
+             * returned list) are only rendered one at a time while being written.
+             *
+             * <p>
+             *     This keeps memory use flat regardless of the size of the result, and reduces the time to first
+             *     byte. However, as the response is committed early, any failure while rendering an element can
+             *     no longer be reported with an appropriate HTTP status code; the response is truncated instead.
+             * </p>
+             *
+             * <p>
+             *     This is disabled by default.
+             * </p>
+             */
+            private boolean streamResponses = false;
+
+            /**
+             * If set, then representations of domain objects, whose entity type declares an (optimistic locking)
+             * version, are tagged with a strong <code>ETag</code>, derived from the entity's version and the
+             * requesting user. Conditional GET requests (<code>If-None-Match</code>) for an unchanged object are
+             * then answered with <i>304 Not Modified</i>, without rendering the object.
+             *
+             * <p>
+             *     Derived properties and collections (not backed by the entity's persistent state) might change
+             *     without the entity's version changing, hence this is disabled by default.
+             * </p>
+             *
+             * <p>
+             *     Domain type representations are always tagged, based on a hash over the metamodel.
+             * </p>
+             */
+            private boolean domainObjectEtags = false;
+
+            /**
+             * The maximum number of sub-requests accepted by a single request to the <code>/batch</code> resource.
+             *
+             * <p>
+             *     All sub-requests of a batch are executed one after the other within the batch request's
+             *     interaction, so this limits the time a single batch request can take.
+             * </p>
+             */
+            @Min(value = 1)
+            private int maxBatchSize = 100;
+
             /**
              * If set, then the representations returned will omit any links to the formal domain-type representations.
              */
@@ -2466,6 +2757,29 @@ public void setMaxTitleLengthInStandaloneTables(final int val) {
              */
             private int maxTitleLengthInTablesNotHavingAnyPropertyColumn = 80;
 
+            /**
+             * How tables are paged and sorted.
+             * <p>
+             * With {@link TablePaging#QUERY}, tables backed by a
+             * {@link org.apache.causeway.applib.query.Query} have sorting, skip and limit pushed down to
+             * the persistence layer, and their size determined by a separate count query.
+             * Tables not backed by a query (or sorted by a non-persistent property)
+             * are always paged and sorted in memory.
+             */
+            private TablePaging tablePaging = TablePaging.IN_MEMORY;
+            public enum TablePaging {
+                /**
+                 * Loads all elements, then sorts and pages them in memory.
+                 */
+                IN_MEMORY,
+                /**
+                 * Pushes sorting and paging down to the persistence layer, if the table is
+                 * backed by a query; falls back to {@link #IN_MEMORY} otherwise.
+                 */
+                QUERY;
+                public boolean isQuery() { return this == QUERY; }
+            }
+
             /**
              * Whether to use a modal dialog for property edits and for actions associated with properties.
              *
@@ -3171,6 +3485,68 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
+            @Data
+            public static class RunBackgroundCommands {
+
+                public enum ExecutionMode {
+                    /**
+                     * Executes all pending background commands one at a time.  This is the default.
+                     */
+                    SEQUENTIAL,
+                    /**
+                     * Claims batches of pending background commands, so that multiple nodes can share the work,
+                     * and executes each batch concurrently, using a pool of worker threads.
+                     * <p>
+                     * Commands against the same target are always executed one after the other,
+                     * in the order they were submitted.
+                     */
+                    WORKER_POOL;
+
+                    public boolean isWorkerPool() { return this == WORKER_POOL; }
+                }
+
+                /**
+                 * How the <code>RunBackgroundCommandsJob</code> executes pending background commands.
+                 */
+                private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+
+                /**
+                 * With {@link ExecutionMode#WORKER_POOL}, the number of commands executed concurrently on each node.
+                 * <p>
+                 * The worker threads are created once, and reused across job runs.
+                 */
+                @Min(value = 1)
+                private int parallelism = 4;
+
+                /**
+                 * With {@link ExecutionMode#WORKER_POOL}, the maximum number of commands claimed per job run.
+                 */
+                @Min(value = 1)
+                private int batchSize = 50;
+
+                /**
+                 * With {@link ExecutionMode#WORKER_POOL}, how long a claim on a batch of commands is held,
+                 * after which any commands not yet started can be claimed by other nodes.
+                 * <p>
+                 * The lease of each command is renewed as it is started, then every third of this duration while
+                 * it is executing, and verified before it is completed (rolling back the command otherwise);
+                 * hence should comfortably exceed the time it takes to renew a lease.
+                 */
+                private Duration leaseDuration = Duration.ofMinutes(5);
+            }
+
+            /**
+             * How the {@link org.apache.causeway.schema.cmd.v2.CommandDto} of each command log entry is encoded
+             * when persisted (to a CLOB column).
+             *
+             * <p>
+             *     Values already stored in any other format (including plain XML, as stored prior to this setting)
+             *     can still be read, hence this setting can be changed at any time; only newly written values are
+             *     affected.
+             * </p>
+             */
+            private DtoStorageFormat dtoStorageFormat = DtoStorageFormat.XML;
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -3385,6 +3761,12 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * How the {@link org.apache.causeway.schema.ixn.v2.InteractionDto} of each execution log entry is encoded
+             * when persisted; as per {@link CommandLog#getDtoStorageFormat()}.
+             */
+            private DtoStorageFormat dtoStorageFormat = DtoStorageFormat.XML;
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -3402,6 +3784,31 @@ public static class RestApi {
                 @Min(value = 1)
                 @Max(value = 1000)
                 private int maxPending = 100;
+
+                /**
+                 * Upper bound for how long a <i>long-poll</i> (as requested by the outbox client) waits for
+                 * new interactions, if there are none pending; also bounds the wait requested by the client.
+                 */
+                private Duration maxWait = Duration.ofSeconds(30);
+
+                /**
+                 * While a <i>long-poll</i> is waiting, how often to check for new interactions.
+                 */
+                private Duration pollInterval = Duration.ofMillis(500);
+
+                /**
+                 * Upper bound for how many <i>long-polls</i> may wait concurrently; any further long-poll
+                 * returns immediately (as if no wait was requested).
+                 *
+                 * <p>
+                 *     A waiting long-poll holds on to its request's transaction (and hence to a JDBC connection)
+                 *     for the entire wait, and briefly uses another connection for each check; so this bounds the
+                 *     number of pooled connections taken by waiting long-polls to twice this value.
+                 *     Set to <code>0</code> to disable waiting altogether.
+                 * </p>
+                 */
+                @Min(value = 0)
+                private int maxConcurrentPolls = 2;
             }
 
             /**
@@ -3440,6 +3847,12 @@ public enum PersistPolicy {
              */
             private ExecutionOutbox.PersistPolicy persist = ExecutionOutbox.PersistPolicy.ENABLED;
 
+            /**
+             * How the {@link org.apache.causeway.schema.ixn.v2.InteractionDto} of each outbox entry is encoded
+             * when persisted; as per {@link CommandLog#getDtoStorageFormat()}.
+             */
+            private DtoStorageFormat dtoStorageFormat = DtoStorageFormat.XML;
+
         }
 
         private final LayoutLoaders layoutLoaders = new LayoutLoaders();
@@ -3673,6 +4086,36 @@ public enum PermissionsEvaluationPolicy {
              */
             private PermissionsEvaluationPolicy permissionsEvaluationPolicy = PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
 
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * Whether each user's permission set should also be cached across interactions (application scoped),
+                 * rather than be re-read from the database for every interaction (the default).
+                 *
+                 * <p>
+                 *     Cached permission sets are invalidated whenever any <code>ApplicationUser</code>,
+                 *     <code>ApplicationRole</code> or <code>ApplicationPermission</code> is changed by this node;
+                 *     changes made by other nodes (of a cluster) are picked up once the
+                 *     {@link #getTimeToLive() time to live} has expired.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The maximum number of users whose permission sets are cached; the least recently used are evicted
+                 * first.
+                 */
+                @Min(value = 1)
+                private int maxSize = 1000;
+
+                /**
+                 * How long a cached permission set is used, before it is re-read from the database.
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+            }
+
             private final UserRegistration userRegistration = new UserRegistration();
             @Data
             public static class UserRegistration {
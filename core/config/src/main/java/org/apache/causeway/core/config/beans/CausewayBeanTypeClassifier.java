@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.core.config.beans;
 
+import java.util.Optional;
+
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 
@@ -25,6 +27,7 @@
 import org.apache.causeway.commons.internal.context._Context;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * ServiceLoader SPI that allows for implementing instances to have a say during bean type scanning.
@@ -47,15 +50,23 @@ public interface CausewayBeanTypeClassifier {
     // -- FACTORY
 
     /**
-     * in support of JUnit testing
+     * in support of JUnit testing, also used by the {@link CausewayBeanTypeIndex} generator;
+     * always classifies reflectively
      */
     static CausewayBeanTypeClassifier createInstance() {
         return new CausewayBeanTypeClassifierDefault(Can.empty());
     }
 
+    /**
+     * Consults any {@link CausewayBeanTypeIndex} found on the class-path first,
+     * before falling back to reflective classification.
+     */
     static CausewayBeanTypeClassifier createInstance(final @NonNull ApplicationContext applicationContext) {
-        return new CausewayBeanTypeClassifierDefault(
-                Can.ofArray(applicationContext.getEnvironment().getActiveProfiles()));
+        val classLoader = Optional.ofNullable(applicationContext.getClassLoader())
+                .orElseGet(_Context::getDefaultClassLoader);
+        return CausewayBeanTypeIndex.load(classLoader)
+                .withFallback(new CausewayBeanTypeClassifierDefault(
+                        Can.ofArray(applicationContext.getEnvironment().getActiveProfiles())));
     }
 
     // -- LOOKUP
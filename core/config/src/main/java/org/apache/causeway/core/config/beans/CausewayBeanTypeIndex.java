@@ -0,0 +1,270 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.config.beans;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.reflection._Annotations;
+import org.apache.causeway.commons.io.TextUtils;
+import org.apache.causeway.core.config.beans.CausewayBeanMetaData.ManagedBy;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Build-time index of bean type classifications, as read from (any number of)
+ * class-path resources {@value #RESOURCE_PATH}.
+ * <p>
+ * Allows for the {@link CausewayBeanTypeClassifier} to skip reflective classification
+ * (annotation synthesis and {@link LogicalType} inference) for indexed types at application startup.
+ * <p>
+ * An index is generated per module by running {@link #main(String[])} after compilation,
+ * as is done by the <i>causeway-app-starter-parent</i>'s opt-in <code>causeway-app-starter-beantypeindex</code>
+ * profile (using the <i>exec-maven-plugin</i>'s <code>java</code> goal bound to the <code>process-classes</code> phase),
+ * activated with <code>-Dcauseway-app-starter-beantypeindex</code>.
+ * The generator uses the very same classifier as is used at runtime, such that results are identical.
+ * <p>
+ * Types annotated with {@link Profile} are never indexed, as their classification depends on
+ * the active profiles at runtime.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+@Log4j2
+public final class CausewayBeanTypeIndex {
+
+    public static final String RESOURCE_PATH = "META-INF/causeway/types.idx";
+
+    private static final String HEADER = "# causeway bean type index v1";
+    private static final String SEPARATOR = "\t";
+    private static final String NO_PERSISTENCE_STACK = "-";
+
+    /**
+     * Index entries keyed by fully qualified class name.
+     */
+    private final @NonNull Map<String, Entry> entriesByClassName;
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+        final @NonNull BeanSort beanSort;
+        final @NonNull ManagedBy managedBy;
+        final @NonNull Optional<PersistenceStack> persistenceStack;
+        final @NonNull String logicalTypeName;
+    }
+
+    // -- FACTORIES
+
+    public static CausewayBeanTypeIndex empty() {
+        return new CausewayBeanTypeIndex(Collections.emptyMap());
+    }
+
+    /**
+     * Reads and merges all {@value #RESOURCE_PATH} resources as found on the class-path of given class loader.
+     * Malformed lines are ignored.
+     */
+    @SneakyThrows
+    public static CausewayBeanTypeIndex load(final @NonNull ClassLoader classLoader) {
+        val entriesByClassName = _Maps.<String, Entry>newHashMap();
+        val resources = classLoader.getResources(RESOURCE_PATH);
+        while(resources.hasMoreElements()) {
+            val resource = resources.nextElement();
+            parse(resource, entriesByClassName);
+        }
+        if(entriesByClassName.isEmpty()) {
+            return empty();
+        }
+        log.info("using bean type index, having {} entries", entriesByClassName.size());
+        return new CausewayBeanTypeIndex(Collections.unmodifiableMap(entriesByClassName));
+    }
+
+    // -- LOOKUP
+
+    public boolean isEmpty() {
+        return entriesByClassName.isEmpty();
+    }
+
+    public int size() {
+        return entriesByClassName.size();
+    }
+
+    /**
+     * Optionally the indexed classification of given type, based on whether the type was indexed.
+     */
+    public Optional<CausewayBeanMetaData> lookup(final @NonNull Class<?> type) {
+        val entry = entriesByClassName.get(type.getName());
+        if(entry==null) {
+            return Optional.empty();
+        }
+        return Optional.of(CausewayBeanMetaData.of(
+                entry.beanSort,
+                entry.persistenceStack,
+                LogicalType.eager(type, entry.logicalTypeName),
+                entry.managedBy));
+    }
+
+    /**
+     * Returns a classifier, that consults this index first, before falling back to given {@code classifier}.
+     */
+    public CausewayBeanTypeClassifier withFallback(final @NonNull CausewayBeanTypeClassifier classifier) {
+        if(isEmpty()) {
+            return classifier;
+        }
+        return type->lookup(type)
+                .orElseGet(()->classifier.classify(type));
+    }
+
+    // -- GENERATOR
+
+    /**
+     * Writes the {@value #RESOURCE_PATH} resource into given class output directory,
+     * indexing all (non-local, non-anonymous) concrete classes found within.
+     * <p>
+     * Requires the classes (and their dependencies) to be loadable by the context class loader.
+     * @param args - the class output directory, eg. <code>target/classes</code>
+     */
+    public static void main(final String[] args) throws IOException {
+        if(args.length!=1) {
+            System.err.printf("usage: %s <class-output-directory>%n", CausewayBeanTypeIndex.class.getName());
+            System.exit(1);
+        }
+        val classesDir = new File(args[0]);
+        val classLoader = Thread.currentThread().getContextClassLoader();
+        val classifier = CausewayBeanTypeClassifier.createInstance();
+        val types = Can.ofCollection(scanClassNames(classesDir.toPath())
+                .stream()
+                .map(className->loadClass(classLoader, className))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList()));
+        val indexFile = new File(classesDir, RESOURCE_PATH);
+        indexFile.getParentFile().mkdirs();
+        TextUtils.writeLinesToFile(toLines(types, classifier), indexFile, StandardCharsets.UTF_8);
+        System.out.printf("bean type index written to %s%n", indexFile);
+    }
+
+    /**
+     * Classifies given types using given classifier, returning the index lines,
+     * skipping types that are not indexable.
+     */
+    static Can<String> toLines(
+            final @NonNull Can<Class<?>> types,
+            final @NonNull CausewayBeanTypeClassifier classifier) {
+        val lines = types.stream()
+                .filter(CausewayBeanTypeIndex::isIndexable)
+                .map(type->toLine(type, classifier.classify(type)))
+                .sorted()
+                .collect(Collectors.toList());
+        return Can.<String>of(HEADER).addAll(Can.ofCollection(lines));
+    }
+
+    // -- HELPER
+
+    private static boolean isIndexable(final Class<?> type) {
+        return !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers())
+                && !type.isAnonymousClass()
+                && !type.isLocalClass()
+                && !type.isSynthetic()
+                && _Annotations.synthesize(type, Profile.class).isEmpty();
+    }
+
+    private static String toLine(final Class<?> type, final CausewayBeanMetaData typeMeta) {
+        return String.join(SEPARATOR,
+                type.getName(),
+                typeMeta.getBeanSort().name(),
+                typeMeta.getManagedBy().name(),
+                typeMeta.getPersistenceStack().map(PersistenceStack::name).orElse(NO_PERSISTENCE_STACK),
+                typeMeta.getLogicalType().getLogicalTypeName());
+    }
+
+    private static void parse(final URL resource, final Map<String, Entry> entriesByClassName) {
+        val lines = TextUtils.readLinesFromUrl(resource, StandardCharsets.UTF_8);
+        if(lines.isEmpty()
+                || !HEADER.equals(lines.getFirstElseFail())) {
+            log.warn("ignoring bean type index {}, unsupported format", resource);
+            return;
+        }
+        lines.stream()
+            .skip(1)
+            .filter(_Strings::isNotEmpty)
+            .forEach(line->{
+                val parts = line.split(SEPARATOR);
+                if(parts.length!=5) {
+                    log.warn("ignoring malformed line '{}' in bean type index {}", line, resource);
+                    return;
+                }
+                try {
+                    entriesByClassName.put(parts[0], new Entry(
+                            BeanSort.valueOf(parts[1]),
+                            ManagedBy.valueOf(parts[2]),
+                            NO_PERSISTENCE_STACK.equals(parts[3])
+                                    ? Optional.empty()
+                                    : Optional.of(PersistenceStack.valueOf(parts[3])),
+                            parts[4]));
+                } catch (IllegalArgumentException e) {
+                    log.warn("ignoring malformed line '{}' in bean type index {}", line, resource);
+                }
+            });
+    }
+
+    private static List<String> scanClassNames(final Path classesDir) throws IOException {
+        try(val files = Files.walk(classesDir)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .map(file->classesDir.relativize(file).toString())
+                    .filter(path->path.endsWith(".class"))
+                    .map(path->_Strings.substring(path, 0, -".class".length())
+                            .replace(File.separatorChar, '.'))
+                    .filter(className->!className.endsWith("package-info")
+                            && !className.endsWith("module-info"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static Optional<Class<?>> loadClass(final ClassLoader classLoader, final @Nullable String className) {
+        try {
+            return Optional.of(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("skipping {}, failed to load class: {}", className, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+}
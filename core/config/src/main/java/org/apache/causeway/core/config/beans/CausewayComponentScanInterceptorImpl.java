@@ -39,6 +39,10 @@
 final class CausewayComponentScanInterceptorImpl
 implements CausewayComponentScanInterceptor {
 
+    /**
+     * Consults any {@link CausewayBeanTypeIndex} first, when created via
+     * {@link CausewayBeanTypeClassifier#createInstance(org.springframework.context.ApplicationContext)}.
+     */
     private final @NonNull CausewayBeanTypeClassifier causewayBeanTypeClassifier;
 
     /**
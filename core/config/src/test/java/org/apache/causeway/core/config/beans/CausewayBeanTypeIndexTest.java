@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.config.beans;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.io.TextUtils;
+
+import lombok.val;
+
+class CausewayBeanTypeIndexTest {
+
+    @Named("test.Customer")
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+    }
+
+    @Named("test.CustomerMenu")
+    @DomainService
+    public static class CustomerMenu {
+    }
+
+    @Named("test.DevMenu")
+    @DomainService
+    @Profile("dev")
+    public static class DevMenu {
+    }
+
+    @TempDir Path directory;
+
+    @Test
+    void roundTrip() throws Exception {
+        val classifier = CausewayBeanTypeClassifier.createInstance();
+        val lines = CausewayBeanTypeIndex.toLines(
+                Can.of(Customer.class, CustomerMenu.class, DevMenu.class, Runnable.class),
+                classifier);
+
+        // header + 2 entries, @Profile annotated and abstract types are not indexed
+        assertEquals(3, lines.size());
+
+        val index = loadIndex(lines);
+        assertEquals(2, index.size());
+
+        for(val type : Can.<Class<?>>of(Customer.class, CustomerMenu.class)) {
+            val expected = classifier.classify(type);
+            val actual = index.lookup(type).orElseThrow();
+            assertEquals(expected.getBeanSort(), actual.getBeanSort());
+            assertEquals(expected.getManagedBy(), actual.getManagedBy());
+            assertEquals(expected.getPersistenceStack(), actual.getPersistenceStack());
+            assertEquals(expected.getLogicalType(), actual.getLogicalType());
+        }
+        assertEquals(BeanSort.VIEW_MODEL, index.lookup(Customer.class).orElseThrow().getBeanSort());
+        assertEquals("test.Customer", index.lookup(Customer.class).orElseThrow().getBeanName());
+        assertFalse(index.lookup(DevMenu.class).isPresent());
+    }
+
+    @Test
+    void unsupportedFormat_isIgnored() throws Exception {
+        val index = loadIndex(Can.of(
+                "# some other format",
+                Customer.class.getName() + "\tVIEW_MODEL\tCAUSEWAY\t-\ttest.Customer"));
+        assertTrue(index.isEmpty());
+    }
+
+    // -- HELPER
+
+    private CausewayBeanTypeIndex loadIndex(final Can<String> lines) throws Exception {
+        val indexFile = new File(directory.toFile(), CausewayBeanTypeIndex.RESOURCE_PATH);
+        indexFile.getParentFile().mkdirs();
+        TextUtils.writeLinesToFile(lines, indexFile, StandardCharsets.UTF_8);
+        try(val classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            return CausewayBeanTypeIndex.load(classLoader);
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.config.beans;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.io.TextUtils;
+
+import lombok.val;
+
+class CausewayComponentScanInterceptorTest {
+
+    @Named("test.Customer")
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+    }
+
+    @TempDir Path directory;
+
+    @Test
+    void indexedTypes_areClassifiedFromIndex() throws Exception {
+        // index deliberately disagrees with reflective classification (logical type name)
+        writeIndex(Can.of(
+                "# causeway bean type index v1",
+                Customer.class.getName() + "\tVIEW_MODEL\tCAUSEWAY\t-\tindexed.Customer"));
+
+        try(val classLoader = new URLClassLoader(
+                    new URL[] {directory.toUri().toURL()}, getClass().getClassLoader());
+                val applicationContext = new GenericApplicationContext()) {
+
+            applicationContext.setClassLoader(classLoader);
+
+            // same as CausewayBeanFactoryPostProcessorForSpring
+            val interceptor = CausewayComponentScanInterceptor.createInstance(
+                    CausewayBeanTypeClassifier.createInstance(applicationContext));
+
+            val scanMeta = ScannedTypeMetaData.of(Customer.class.getName(), "customer");
+            interceptor.intercept(scanMeta);
+
+            assertTrue(scanMeta.isVetoedForInjection());
+            assertEquals("indexed.Customer", scanMeta.getBeanNameOverride());
+
+            val typeMeta = interceptor.getAndDrainIntrospectableTypes().getSingletonOrFail();
+            assertEquals(BeanSort.VIEW_MODEL, typeMeta.getBeanSort());
+            assertEquals("indexed.Customer", typeMeta.getLogicalType().getLogicalTypeName());
+        }
+    }
+
+    @Test
+    void notIndexedTypes_areClassifiedReflectively() throws Exception {
+        writeIndex(Can.of("# causeway bean type index v1"));
+
+        try(val classLoader = new URLClassLoader(
+                    new URL[] {directory.toUri().toURL()}, getClass().getClassLoader());
+                val applicationContext = new GenericApplicationContext()) {
+
+            applicationContext.setClassLoader(classLoader);
+
+            val interceptor = CausewayComponentScanInterceptor.createInstance(
+                    CausewayBeanTypeClassifier.createInstance(applicationContext));
+
+            val scanMeta = ScannedTypeMetaData.of(Customer.class.getName(), "customer");
+            interceptor.intercept(scanMeta);
+
+            assertEquals("test.Customer", scanMeta.getBeanNameOverride());
+        }
+    }
+
+    // -- HELPER
+
+    private void writeIndex(final Can<String> lines) {
+        val indexFile = new File(directory.toFile(), CausewayBeanTypeIndex.RESOURCE_PATH);
+        indexFile.getParentFile().mkdirs();
+        TextUtils.writeLinesToFile(lines, indexFile, StandardCharsets.UTF_8);
+    }
+
+}
@@ -28,10 +28,12 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Arrays;
+import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
 import org.apache.causeway.commons.internal.reflection._Reflect;
 
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.val;
 import lombok.experimental.UtilityClass;
 
@@ -61,13 +63,32 @@ public <T> T construct(final Constructor<T> constructor, final @Nullable Object.
 
     public Object invoke(final MethodFacade methodFacade, final Object targetPojo, final Object[] executionParameters) {
         return invoke(
-                methodFacade.asMethodForIntrospection().method(), targetPojo, methodFacade.getArguments(executionParameters));
+                methodFacade.asMethodForIntrospection(), targetPojo, methodFacade.getArguments(executionParameters));
     }
 
-    public void invokeAll(final Iterable<Method> methods, final Object object) {
+    public void invokeAll(final Iterable<ResolvedMethod> methods, final Object object) {
         methods.forEach(method->invoke(method, object));
     }
 
+    /**
+     * Invokes given method via its {@link ResolvedMethod#invoker() invoker},
+     * which is compiled once and then reused by any subsequent invocation.
+     */
+    @SneakyThrows
+    public Object invoke(
+            final ResolvedMethod method,
+            final Object targetPojo,
+            final @Nullable Object ... executionParameters) {
+        val adaptedExecutionParameters = ParameterAdapter.DEFAULT.adaptAll(method.method(), executionParameters);
+        try {
+            return method.invoker().invoke(targetPojo, adaptedExecutionParameters);
+        } catch (Throwable ex) {
+            throw toVerboseException(ex,
+                    method.method(),
+                    adaptedExecutionParameters);
+        }
+    }
+
     public Object invoke(
             final Method method,
             final Object targetPojo,
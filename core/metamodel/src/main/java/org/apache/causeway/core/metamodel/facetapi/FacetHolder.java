@@ -144,6 +144,14 @@ default <F extends Facet> Stream<F> streamFacets(final Class<F> requiredType) {
      */
     void addFacet(@NonNull Facet facet);
 
+    /**
+     * Optimizes facet storage for lookups, once the metamodel is fully introspected.
+     * <p>
+     * Adding facets later on is still supported, but reverts any optimizations.
+     */
+    default void freezeFacets() {
+    }
+
     // -- VALIDATION SUPPORT
 
     Stream<FacetRanking> streamFacetRankings();
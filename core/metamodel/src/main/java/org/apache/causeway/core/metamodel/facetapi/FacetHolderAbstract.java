@@ -22,14 +22,16 @@
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +40,6 @@
 /**
  * For base subclasses or, more likely, to help write tests.
  */
-@AllArgsConstructor
 @RequiredArgsConstructor
 //@Log4j2
 abstract class FacetHolderAbstract
@@ -51,11 +52,28 @@
     // not private nor final, as featureIdentifier might depend on lazily provided LogicalTypeFacet
     @Getter(onMethod_ = {@Override}) protected Identifier featureIdentifier;
 
+    protected FacetHolderAbstract(
+            final @NonNull MetaModelContext metaModelContext,
+            final Identifier featureIdentifier) {
+        this.metaModelContext = metaModelContext;
+        this.featureIdentifier = featureIdentifier;
+    }
+
     private final Map<Class<? extends Facet>, FacetRanking> rankingByType = _Maps.newHashMap();
     private final Object $lock = new Object();
 
+    /**
+     * Lock-free (read-only) view of the winning facets, as installed by {@link #freezeFacets()},
+     * otherwise {@code null}.
+     */
+    private volatile FrozenFacets frozenFacets;
+
     @Override
     public final boolean containsFacet(final Class<? extends Facet> facetType) {
+        val frozen = frozenFacets;
+        if(frozen!=null) {
+            return frozen.get(facetType)!=null;
+        }
         synchronized($lock) {
             return snapshot.get().containsKey(facetType);
         }
@@ -69,6 +87,7 @@ public final void addFacet(final @NonNull Facet facet) {
             val needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
                 snapshot.clear(); //invalidate
+                frozenFacets = null; //thaw
             }
         }
     }
@@ -77,6 +96,10 @@ public final void addFacet(final @NonNull Facet facet) {
     // which potentially leads to inconsistent behavior with facet and facet-ranking streaming
     @Override
     public /*final*/ <T extends Facet> T getFacet(final Class<T> facetType) {
+        val frozen = frozenFacets;
+        if(frozen!=null) {
+            return uncheckedCast(frozen.get(facetType));
+        }
         synchronized($lock) {
             return uncheckedCast(snapshot.get().get(facetType));
         }
@@ -84,6 +107,10 @@ public final void addFacet(final @NonNull Facet facet) {
 
     @Override
     public final Stream<Facet> streamFacets() {
+        val frozen = frozenFacets;
+        if(frozen!=null) {
+            return frozen.facets.stream();
+        }
         synchronized($lock) {
             // consumers should play nice and don't take too long (as we have a lock)
             return snapshot.get().values().stream();
@@ -92,11 +119,30 @@ public final Stream<Facet> streamFacets() {
 
     @Override
     public final int getFacetCount() {
+        val frozen = frozenFacets;
+        if(frozen!=null) {
+            return frozen.facets.size();
+        }
         synchronized($lock) {
             return snapshot.get().size();
         }
     }
 
+    /**
+     * Compacts the winning facets into a flat array indexed by facet type ID,
+     * such that consecutive lookups are lock-free.
+     * The mutable snapshot is released in the process.
+     * <p>
+     * Adding a facet with higher precedence later on, reverts to the mutable (synchronized) storage.
+     */
+    @Override
+    public final void freezeFacets() {
+        synchronized($lock) {
+            frozenFacets = FrozenFacets.of(Can.ofCollection(snapshot.get().values()));
+            snapshot.clear();
+        }
+    }
+
     // -- VALIDATION SUPPORT
 
     @Override
@@ -131,5 +177,33 @@ private Map<Class<? extends Facet>, Facet> snapshot() {
         return snapshot;
     }
 
+    private static final class FrozenFacets {
+
+        private final Facet[] facetsByTypeId;
+        private final Can<Facet> facets;
+
+        private static FrozenFacets of(final Can<Facet> facets) {
+            val facetsByTypeId = new Facet[facets.stream()
+                    .mapToInt(facet->_FacetTypeIds.idOf(facet.facetType()))
+                    .max()
+                    .orElse(-1) + 1];
+            facets.forEach(facet->facetsByTypeId[_FacetTypeIds.idOf(facet.facetType())] = facet);
+            return new FrozenFacets(facetsByTypeId, facets);
+        }
+
+        private FrozenFacets(final Facet[] facetsByTypeId, final Can<Facet> facets) {
+            this.facetsByTypeId = facetsByTypeId;
+            this.facets = facets;
+        }
+
+        @Nullable
+        private Facet get(final Class<? extends Facet> facetType) {
+            val typeId = _FacetTypeIds.idOf(facetType);
+            return typeId<facetsByTypeId.length
+                    ? facetsByTypeId[typeId]
+                    : null;
+        }
+    }
+
 
 }
@@ -76,6 +76,12 @@ public void addFacet(@NonNull final Facet facet) {
         facetHolder.addFacet(facet);
     }
 
+    @Override
+    public void freezeFacets() {
+        local.freezeFacets();
+        shared.freezeFacets();
+    }
+
     @Override
     public int getFacetCount() {
         // optimization, not strictly required
@@ -61,6 +61,11 @@ default void addFacet(final Facet facet) {
         getFacetHolder().addFacet(facet);
     }
 
+    @Override
+    default void freezeFacets() {
+        getFacetHolder().freezeFacets();
+    }
+
     @Override
     default Stream<FacetRanking> streamFacetRankings() {
         return getFacetHolder().streamFacetRankings();
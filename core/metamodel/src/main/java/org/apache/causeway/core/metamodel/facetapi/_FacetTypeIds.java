@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Assigns each facet type a small (JVM wide) integer ID, in order of first use,
+ * such that frozen {@link FacetHolder}s can store their facets in flat arrays.
+ */
+@UtilityClass
+class _FacetTypeIds {
+
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private final ClassValue<Integer> idByFacetType = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(final Class<?> facetType) {
+            return nextId.getAndIncrement();
+        }
+    };
+
+    /**
+     * The ID of given facet type, assigning a new one on first use.
+     */
+    int idOf(final @NonNull Class<? extends Facet> facetType) {
+        return idByFacetType.get(facetType);
+    }
+
+    /**
+     * Number of IDs assigned so far.
+     */
+    int count() {
+        return nextId.get();
+    }
+
+}
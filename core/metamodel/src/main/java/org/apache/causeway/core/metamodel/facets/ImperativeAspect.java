@@ -63,7 +63,7 @@ public void visitAttributes(final BiConsumer<String, Object> visitor) {
 
     public Object invokeSingleMethod(final ManagedObject domainObject) {
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular, as the factories only creates regular
-        final Object returnValue = MmInvokeUtils.invokeNoArg(method.method(), domainObject);
+        final Object returnValue = MmInvokeUtils.invokeNoArg(method, domainObject);
         return returnValue;
     }
 
@@ -67,7 +67,7 @@ public Optional<VetoReason> disables(final UsabilityContext ic) {
             return Optional.empty();
         }
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object returnValue = MmInvokeUtils.invokeAutofit(method.method(), target);
+        final Object returnValue = MmInvokeUtils.invokeAutofit(method, target);
         final String reasonString = returnValue instanceof String
                 ? (String) returnValue
                 : returnValue instanceof TranslatableString
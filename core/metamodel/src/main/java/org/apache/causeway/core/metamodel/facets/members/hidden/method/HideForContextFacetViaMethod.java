@@ -56,7 +56,7 @@ public String hides(final VisibilityContext ic) {
             return null;
         }
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Boolean isHidden = (Boolean) MmInvokeUtils.invokeAutofit(method.method(), target);
+        final Boolean isHidden = (Boolean) MmInvokeUtils.invokeAutofit(method, target);
         return isHidden.booleanValue() ? "Hidden" : null;
     }
 
@@ -56,7 +56,7 @@ public final Intent getIntent() {
 
     @Override
     public final void invoke(final ManagedObject adapter) {
-        MmInvokeUtils.invokeAll(asRegularMethods.map(ResolvedMethod::method), adapter);
+        MmInvokeUtils.invokeAll(asRegularMethods, adapter);
     }
 
 }
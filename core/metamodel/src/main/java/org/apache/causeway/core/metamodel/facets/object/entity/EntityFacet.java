@@ -19,13 +19,21 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.IdStringifier;
 import org.apache.causeway.applib.services.repository.EntityState;
@@ -40,6 +48,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * Indicates that this class is managed by a persistence context.
@@ -136,14 +145,121 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
     }
 
 
+    /**
+     * Optionally the (optimistic locking) version of given entity pojo,
+     * based on whether its type declares a version and the entity is persistent.
+     * <p>
+     * Any change to the entity's persistent state results in a different version.
+     */
+    default Optional<Object> versionOf(final @Nullable Object pojo) {
+        return Optional.empty();
+    }
+
     /**
      * Optionally the entity pojo corresponding to given {@link Bookmark},
      * based on whether could be found.
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * The entity pojos corresponding to given {@link Bookmark}s (keyed by bookmark),
+     * omitting those that could not be found.
+     * @implNote default implementation fetches one at a time;
+     *      implementations are encouraged to fetch in bulk instead, using as few queries as possible
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        val entityPojos = new HashMap<Bookmark, Object>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entityPojos.put(bookmark, entityPojo)));
+        return entityPojos;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Lazily fetched entities matching given {@link Query}, that is, rows are fetched from the database
+     * (using a cursor, if supported by the persistence layer) only as the stream is consumed.
+     * <p>
+     * The returned stream holds database resources, hence must be closed (eg. using try-with-resources)
+     * and must be consumed within the current transaction.
+     * @param fetchSize - hint as to how many rows to fetch per database round trip,
+     *      ignored if not positive
+     * @param releaseEveryNRows - if positive, entities already consumed are released from the persistence context
+     *      (detached or evicted) in batches of given size, such that the persistence context does not grow unbounded;
+     *      any changes to released entities are not persisted
+     * @implNote default implementation fetches all matching entities upfront;
+     *      implementations are encouraged to stream from a database cursor instead
+     */
+    default Stream<ManagedObject> streamByQuery(
+            final Query<?> query, final int fetchSize, final int releaseEveryNRows) {
+        return fetchByQuery(query).stream();
+    }
+
+    /**
+     * Whether for given {@link Query} both {@link #fetchByQuerySorted(Query, String, boolean)}
+     * and {@link #countByQuery(Query)} are pushed down to the persistence layer,
+     * such that pages can be fetched and counted without loading all matching entities.
+     */
+    default boolean isPageableByQuery(final Query<?> query) {
+        return false;
+    }
+
+    /**
+     * Optionally the entities matching given {@link Query}, ordered by given property,
+     * with ordering and the query's range both applied by the persistence layer.
+     * <p>
+     * Empty, if the persistence layer cannot honor the requested ordering for given query
+     * (eg. the query is a named query or the property is not persistent),
+     * in which case the caller is expected to fall back to in-memory sorting.
+     * @param propertyId - if {@code null} ordered by primary key only, such that pages are stable
+     * @see #isPageableByQuery(Query)
+     */
+    default Optional<Can<ManagedObject>> fetchByQuerySorted(
+            final Query<?> query, final @Nullable String propertyId, final boolean ascending) {
+        return Optional.empty();
+    }
+
+    /**
+     * Number of entities matching given {@link Query}, ignoring its range.
+     * @implNote default implementation fetches all matching entities;
+     *      implementations are encouraged to issue a dedicated count query instead
+     */
+    default int countByQuery(final Query<?> query) {
+        return fetchByQuery(query.withRange(QueryRange.unconstrained())).size();
+    }
+
+    /**
+     * Optionally the elements of given entity's collection, ordered by given property of the element type,
+     * with ordering and given range both applied by the persistence layer, without loading the collection.
+     * <p>
+     * Empty, if the persistence layer cannot honor the request (eg. the collection is not persistent,
+     * the property is not persistent or the entity is not persistent yet), in which case the caller
+     * is expected to fall back to sorting and slicing the collection in memory.
+     * <p>
+     * Bypasses the collection's accessor, hence the elements are not filtered for visibility.
+     * @param propertyId - if {@code null} the collection's natural order is to be retained,
+     *      hence implementations must not push down, if they cannot reproduce that order
+     */
+    default Optional<Can<ManagedObject>> fetchCollectionPage(
+            final Object pojo, final String collectionId,
+            final @Nullable String propertyId, final boolean ascending, final QueryRange range) {
+        return Optional.empty();
+    }
+
+    /**
+     * Optionally the number of elements of given entity's collection, as determined by a count query,
+     * without loading the collection.
+     * <p>
+     * Empty, if the persistence layer cannot count the collection's elements
+     * (eg. the collection is not persistent or the entity is not persistent yet).
+     * <p>
+     * Bypasses the collection's accessor, hence hidden elements are counted as well.
+     */
+    default OptionalInt countCollection(final Object pojo, final String collectionId) {
+        return OptionalInt.empty();
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
@@ -167,6 +283,33 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     EntityOrmMetadata getOrmMetadata();
 
+    // -- UTILITY
+
+    /**
+     * Wraps given stream, such that elements already consumed are passed on to given {@code releaser}
+     * in batches of given size. A batch is released only once the element following it is pulled,
+     * that is, once a (sequential) consumer is done with the batch.
+     * @param batchSize - if not positive, given stream is returned as is
+     */
+    static <T> Stream<T> releasingInBatches(
+            final @NonNull Stream<T> stream,
+            final int batchSize,
+            final @NonNull Consumer<List<T>> releaser) {
+        if(batchSize<1) {
+            return stream;
+        }
+        val batch = new ArrayList<T>(batchSize);
+        return stream
+                .sequential()
+                .peek(element->{
+                    if(batch.size()>=batchSize) {
+                        releaser.accept(batch);
+                        batch.clear();
+                    }
+                    batch.add(element);
+                });
+    }
+
     // -- JUNIT SUPPORT
 
     static EntityFacet forTesting(
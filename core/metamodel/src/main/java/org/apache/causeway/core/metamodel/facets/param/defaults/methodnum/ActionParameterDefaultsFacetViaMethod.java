@@ -83,7 +83,7 @@ public Can<ManagedObject> getDefault(@NonNull final ParameterNegotiationModel pe
                             pendingArgs.getActionTarget(), pendingArgs.getParamValues())
             // else support legacy programming model, call any-arg defaultNAct(...)
             : MmInvokeUtils
-                    .invokeAutofit(method.asMethodElseFail().method(),
+                    .invokeAutofit(method.asMethodElseFail(),
                         pendingArgs.getActionTarget(), pendingArgs.getParamValues());
 
         return _NullSafe.streamAutodetect(defaultValue)
@@ -78,12 +78,12 @@ public String invalidReason(
                 : method.asMethodElseFail().isSingleArg()
                          // provides the a single arg, namely the param under validation
                         ? MmInvokeUtils.invokeWithSingleArg(
-                                method.asMethodElseFail().method(),
+                                method.asMethodElseFail(),
                                 owningAdapter,
                                 pendingArgs.getElseFail(paramIndex))
                         // provides pending args up to paramIndex (for validation)
                         : MmInvokeUtils.invokeWithArgs(
-                            method.asMethodElseFail().method(),
+                            method.asMethodElseFail(),
                             owningAdapter,
                             pendingArgs.subCan(0, paramIndex + 1));
 
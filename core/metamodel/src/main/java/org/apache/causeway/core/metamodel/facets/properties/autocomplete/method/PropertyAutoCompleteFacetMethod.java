@@ -71,7 +71,7 @@ public Object[] autoComplete(
             final InteractionInitiatedBy interactionInitiatedBy) {
 
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object collectionOrArray = MmInvokeUtils.invokeWithSingleArgPojo(method.method(), owningAdapter, searchArg);
+        final Object collectionOrArray = MmInvokeUtils.invokeWithSingleArgPojo(method, owningAdapter, searchArg);
         if (collectionOrArray == null) {
             return null;
         }
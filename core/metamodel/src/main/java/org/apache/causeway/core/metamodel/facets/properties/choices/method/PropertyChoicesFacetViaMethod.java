@@ -64,7 +64,7 @@ public Can<ManagedObject> getChoices(
 
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
         val elementSpec = ((FacetedMethod) getFacetHolder()).getElementSpecification();
-        val optionPojos = MmInvokeUtils.invokeNoArg(method.method(), owningAdapter);
+        val optionPojos = MmInvokeUtils.invokeNoArg(method, owningAdapter);
         val visibleChoices = ManagedObjects
                 .adaptMultipleOfTypeThenFilterByVisibility(
                         elementSpec, optionPojos, interactionInitiatedBy);
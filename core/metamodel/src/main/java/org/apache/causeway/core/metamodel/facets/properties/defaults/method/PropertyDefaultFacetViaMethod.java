@@ -55,7 +55,7 @@ public Intent getIntent() {
     @Override
     public ManagedObject getDefault(final ManagedObject owningAdapter) {
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object result = MmInvokeUtils.invokeNoArg(method.method(), owningAdapter);
+        final Object result = MmInvokeUtils.invokeNoArg(method, owningAdapter);
         if (result == null) {
             return null;
         }
@@ -56,7 +56,7 @@ public ManagedObject clearProperty(
             final ManagedObject targetAdapter,
             final InteractionInitiatedBy interactionInitiatedBy) {
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        MmInvokeUtils.invokeNoArg(method.method(), targetAdapter);
+        MmInvokeUtils.invokeNoArg(method, targetAdapter);
         return targetAdapter;
     }
 
@@ -53,7 +53,7 @@ public Intent getIntent() {
     @Override
     public void initProperty(final ManagedObject owningAdapter, final ManagedObject initialAdapter) {
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        MmInvokeUtils.invokeWithSingleArg(method.method(), owningAdapter, initialAdapter);
+        MmInvokeUtils.invokeWithSingleArg(method, owningAdapter, initialAdapter);
     }
 
     @Override
@@ -58,7 +58,7 @@ public ManagedObject setProperty(
             final InteractionInitiatedBy interactionInitiatedBy) {
 
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        MmInvokeUtils.invokeWithSingleArg(method.method(), targetAdapter, valueAdapter);
+        MmInvokeUtils.invokeWithSingleArg(method, targetAdapter, valueAdapter);
         return targetAdapter;
     }
 
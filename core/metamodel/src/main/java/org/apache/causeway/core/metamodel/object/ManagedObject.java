@@ -24,6 +24,7 @@
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
@@ -533,7 +534,20 @@ private static ManagedObject other(
     static PackedManagedObject packed(
             final @NonNull ObjectSpecification elementSpec,
             final @Nullable Can<ManagedObject> nonScalar) {
-        return new _ManagedObjectPacked(elementSpec, nonScalar);
+        return new _ManagedObjectPacked(elementSpec, nonScalar, null);
+    }
+    /**
+     * PACKED, originating from given {@link Query}
+     * @param elementSpec - required
+     * @param nonScalar - if <code>null</code> uses {@link Can#empty()} instead
+     * @param backingQuery - required
+     * @see PackedManagedObject#getBackingQuery()
+     */
+    static PackedManagedObject packed(
+            final @NonNull ObjectSpecification elementSpec,
+            final @Nullable Can<ManagedObject> nonScalar,
+            final @NonNull Query<?> backingQuery) {
+        return new _ManagedObjectPacked(elementSpec, nonScalar, backingQuery);
     }
 
     /**
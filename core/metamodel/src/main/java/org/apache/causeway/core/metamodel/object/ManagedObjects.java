@@ -418,7 +418,7 @@ public static Try<String> imperativeText(
         val mmc = object.getSpecification().getMetaModelContext();
 
         val result =  Try.call(()->{
-            final Object returnValue = MmInvokeUtils.invokeNoArg(method.method(), object);
+            final Object returnValue = MmInvokeUtils.invokeNoArg(method, object);
             if(returnValue instanceof String) {
                 return (String) returnValue;
             }
@@ -18,7 +18,6 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
-import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -50,7 +49,7 @@ public static Object invokeWithPAT(
 
         val pat = CanonicalInvoker.construct(patConstructor.constructor(), MmUnwrapUtils.multipleAsArray(pendingArguments));
         val paramPojos = _Arrays.combineWithExplicitType(Object.class, pat, additionalArguments.toArray());
-        return CanonicalInvoker.invoke(method.method(), MmUnwrapUtils.single(adapter), paramPojos);
+        return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), paramPojos);
     }
 
     /** PAT ... Parameters as Tuple */
@@ -62,7 +61,7 @@ public static Object invokeWithPAT(
         return invokeWithPAT(patConstructor, method, adapter, argumentAdapters, Collections.emptyList());
     }
 
-    public static void invokeAll(final Iterable<Method> methods, final ManagedObject adapter) {
+    public static void invokeAll(final Iterable<ResolvedMethod> methods, final ManagedObject adapter) {
         CanonicalInvoker.invokeAll(methods, MmUnwrapUtils.single(adapter));
     }
 
@@ -73,7 +72,7 @@ public static Object invokeAutofit(
                 ? invokeWithPAT(patConstructor.get(),
                         methodFacade.asMethodForIntrospection(),
                         owningAdapter, pendingArgs)
-                : invokeAutofit(methodFacade.asMethodElseFail().method(),
+                : invokeAutofit(methodFacade.asMethodElseFail(),
                         owningAdapter, pendingArgs);
     }
 
@@ -84,7 +83,7 @@ public static Object invokeNoAutofit(
                 ? invokeWithPAT(patConstructor.get(),
                         methodFacade.asMethodForIntrospection(),
                         owningAdapter, pendingArgs)
-                : invokeWithArgs(methodFacade.asMethodElseFail().method(),
+                : invokeWithArgs(methodFacade.asMethodElseFail(),
                         owningAdapter, pendingArgs);
     }
 
@@ -98,29 +97,29 @@ public static Object invokeWithSearchArg(
                         owningAdapter, pendingArgs,
                         Collections.singletonList(searchArg))
                 : invokeAutofit(
-                        methodFacade.asMethodElseFail().method(),
+                        methodFacade.asMethodElseFail(),
                         owningAdapter, pendingArgs,
                         Collections.singletonList(searchArg));
         return collectionOrArray;
     }
 
-    public static Object invokeNoArg(final Method method, final ManagedObject adapter) {
+    public static Object invokeNoArg(final ResolvedMethod method, final ManagedObject adapter) {
         return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter));
     }
 
-    public static Object invokeWithSingleArgPojo(final Method method, final ManagedObject adapter, final Object arg0) {
+    public static Object invokeWithSingleArgPojo(final ResolvedMethod method, final ManagedObject adapter, final Object arg0) {
         return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), new Object[] {arg0});
     }
 
-    public static Object invokeWithArgs(final Method method, final ManagedObject adapter, final Can<ManagedObject> argumentAdapters) {
+    public static Object invokeWithArgs(final ResolvedMethod method, final ManagedObject adapter, final Can<ManagedObject> argumentAdapters) {
         return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), MmUnwrapUtils.multipleAsArray(argumentAdapters));
     }
 
-    public static Object invokeWithSingleArg(final Method method, final ManagedObject adapter, final ManagedObject arg0Adapter) {
+    public static Object invokeWithSingleArg(final ResolvedMethod method, final ManagedObject adapter, final ManagedObject arg0Adapter) {
         return invokeWithSingleArgPojo(method, adapter, MmUnwrapUtils.single(arg0Adapter));
     }
 
-    public static Object invokeWithArgArray(final Method method, final ManagedObject adapter, final ManagedObject[] argumentAdapters) {
+    public static Object invokeWithArgArray(final ResolvedMethod method, final ManagedObject adapter, final ManagedObject[] argumentAdapters) {
         return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), MmUnwrapUtils.multipleAsArray(argumentAdapters));
     }
 
@@ -132,8 +131,8 @@ public static Object invokeWithArgArray(final Method method, final ManagedObject
      * <li>if the method declares parameters but arguments are missing, then will provide 'null' defaults for these.</li>
      * </ul>
      */
-    public static Object invokeAutofit(final Method method, final ManagedObject adapter) {
-        return invokeWithArgArray(method, adapter, new ManagedObject[method.getParameterTypes().length]);
+    public static Object invokeAutofit(final ResolvedMethod method, final ManagedObject adapter) {
+        return invokeWithArgArray(method, adapter, new ManagedObject[method.paramCount()]);
     }
 
     /**
@@ -147,7 +146,7 @@ public static Object invokeAutofit(final Method method, final ManagedObject adap
      * </ul>
      */
     public static Object invokeAutofit(
-            final Method method,
+            final ResolvedMethod method,
             final ManagedObject target,
             final Can<? extends ManagedObject> pendingArgs,
             final List<Object> additionalArgValues) {
@@ -158,10 +157,10 @@ public static Object invokeAutofit(
     }
 
     /**
-     * same as {@link #invokeAutofit(Method, ManagedObject, Can, List)} w/o additionalArgValues
+     * same as {@link #invokeAutofit(ResolvedMethod, ManagedObject, Can, List)} w/o additionalArgValues
      */
     public static Object invokeAutofit(
-            final Method method,
+            final ResolvedMethod method,
             final ManagedObject target,
             final Can<? extends ManagedObject> pendingArgs) {
 
@@ -169,11 +168,11 @@ public static Object invokeAutofit(
     }
 
     private static Object[] adjust(
-            final Method method,
+            final ResolvedMethod method,
             final Can<? extends ManagedObject> pendingArgs,
             final List<Object> additionalArgValues) {
 
-        val parameterTypes = method.getParameterTypes();
+        val parameterTypes = method.method().getParameterTypes();
         val paramCount = parameterTypes.length;
         val additionalArgCount = additionalArgValues.size();
         val pendingArgsToConsiderCount = paramCount - additionalArgCount;
@@ -25,10 +25,14 @@
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
+import org.apache.causeway.core.metamodel.facets.object.hidden.HiddenTypeFacet;
+import org.apache.causeway.core.metamodel.interactions.HidingInteractionAdvisor;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.interactions.InteractionUtils;
 import org.apache.causeway.core.metamodel.interactions.ObjectVisibilityContext;
 import org.apache.causeway.core.metamodel.interactions.VisibilityContext;
+import org.apache.causeway.core.metamodel.postprocessors.allbutparam.authorization.AuthorizationFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.val;
 import lombok.experimental.UtilityClass;
@@ -83,6 +87,17 @@ public static Object visiblePojosAutofit(
         return autofittedObjectContainer;
     }
 
+    /**
+     * Whether {@link #isVisible(ManagedObject, InteractionInitiatedBy)} might hide some instances of given type
+     * but not others (eg. based on a <i>hidden()</i> method or on the instance's tenancy),
+     * as opposed to authorization and type-level hiding, which hide either all instances or none.
+     */
+    public static boolean isVisibilityInstanceDependent(final ObjectSpecification spec) {
+        return spec.streamFacets(HidingInteractionAdvisor.class)
+                .anyMatch(advisor->!(advisor instanceof AuthorizationFacet
+                        || advisor instanceof HiddenTypeFacet));
+    }
+
 
     /**
      * @param adapter - wrapper of domain object whose visibility is being checked,
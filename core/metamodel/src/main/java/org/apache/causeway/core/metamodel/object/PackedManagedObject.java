@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
+import java.util.Optional;
+
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.collections.Can;
 
 /**
@@ -29,4 +32,11 @@
 
     Can<ManagedObject> unpack();
 
+    /**
+     * Optionally the {@link Query} the packed elements originate from,
+     * such that it can be re-issued with sorting and paging pushed down
+     * to the persistence layer.
+     */
+    Optional<Query<?>> getBackingQuery();
+
 }
@@ -19,10 +19,12 @@
 package org.apache.causeway.core.metamodel.object;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
@@ -39,14 +41,17 @@
     PackedManagedObject {
 
     private final @NonNull Can<ManagedObject> nonScalar;
+    private final @Nullable Query<?> backingQuery;
 
     _ManagedObjectPacked(
             final ObjectSpecification elementSpec,
-            final @Nullable Can<ManagedObject> nonScalar) {
+            final @Nullable Can<ManagedObject> nonScalar,
+            final @Nullable Query<?> backingQuery) {
         super(Specialization.PACKED, elementSpec);
         this.nonScalar = nonScalar!=null
                 ? nonScalar
                 : Can.empty();
+        this.backingQuery = backingQuery;
     }
 
     @Override
@@ -63,4 +68,9 @@ public Can<ManagedObject> unpack(){
         return nonScalar;
     }
 
+    @Override
+    public Optional<Query<?>> getBackingQuery() {
+        return Optional.ofNullable(backingQuery);
+    }
+
 }
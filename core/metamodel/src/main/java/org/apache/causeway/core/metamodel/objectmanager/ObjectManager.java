@@ -18,8 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -74,6 +77,12 @@ default ManagedObject demementify(final ObjectSpecification spec, final ObjectMe
         return demementify(memento);
     }
 
+    /**
+     * Bulk variant of {@link #demementify(ObjectMemento)}, retaining order,
+     * that loads entities in bulk (see {@link #loadObjects(Can)}) rather than one at a time.
+     */
+    Can<ManagedObject> demementifyAll(Can<ObjectMemento> mementos);
+
     // -- SHORTCUTS
 
     /**
@@ -110,6 +119,45 @@ default Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}, retaining order, that fetches entities
+     * of the same logical type in bulk (using as few queries as possible) rather than one at a time.
+     * <p>
+     * Bookmarks, whose logical type cannot be resolved, are skipped.
+     * Entities, that cannot be found, are represented by empty {@link ManagedObject}s
+     * (same as with {@link #loadObject(Bookmark)}).
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     */
+    default Can<ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+        val specLoader = getMetaModelContext().getSpecificationLoader();
+        val protoObjects = bookmarks
+                .map(bookmark->ProtoObject.resolve(specLoader, bookmark).orElse(null));
+
+        // fetch entities grouped by (logical) type
+        val entitiesByBookmark = new HashMap<Bookmark, ManagedObject>();
+        protoObjects.stream()
+            .filter(protoObject->protoObject.getObjectSpecification().isEntity())
+            .collect(Collectors.groupingBy(ProtoObject::getObjectSpecification, LinkedHashMap::new,
+                    Collectors.mapping(ProtoObject::getBookmark, Can.toCan())))
+            .forEach((spec, entityBookmarks)->{
+                val entityPojos = spec.entityFacetElseFail().fetchByBookmarks(entityBookmarks);
+                entityBookmarks.forEach(bookmark->
+                    entitiesByBookmark.put(bookmark, Optional.ofNullable(entityPojos.get(bookmark))
+                            .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
+                            .orElseGet(()->ManagedObject.empty(spec))));
+            });
+
+        return protoObjects
+                .map(protoObject->protoObject.getObjectSpecification().isEntity()
+                        ? entitiesByBookmark.get(protoObject.getBookmark())
+                        : loadObject(protoObject));
+    }
+
     /**
      * @see #loadObject(Bookmark)
      */
@@ -189,13 +237,16 @@ public default ManagedObject adapt(
             // best we can do?
             return ManagedObject.unspecified();
         }
-        return spec.isSingular()
-                ? ManagedObject.adaptSingular(spec, pojo)
-                : ManagedObject.packed(
-                        spec.getElementSpecification().orElseGet(fallbackElementType),
-                        _NullSafe.streamAutodetect(pojo)
-                        .map(element->adapt(element))
-                        .collect(Can.toCan()));
+        if(spec.isSingular()) {
+            return ManagedObject.adaptSingular(spec, pojo);
+        }
+        val elementSpec = spec.getElementSpecification().orElseGet(fallbackElementType);
+        val elements = _NullSafe.streamAutodetect(pojo)
+                .map(element->adapt(element))
+                .collect(Can.toCan());
+        return QueryResultList.lookupQuery(pojo)
+                .map(query->ManagedObject.packed(elementSpec, elements, query))
+                .orElseGet(()->ManagedObject.packed(elementSpec, elements));
     }
 
 
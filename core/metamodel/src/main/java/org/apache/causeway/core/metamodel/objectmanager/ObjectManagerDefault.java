@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.HashMap;
+import java.util.Optional;
+
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -28,6 +31,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
@@ -37,6 +41,7 @@
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForScalar;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -92,9 +97,7 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
              * as the latter can be ambiguous, when shared in a type hierarchy*/
             val elementSpec = getSpecificationLoader().specForLogicalTypeElseFail(logicalType);
 
-            val objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            val objects = demementifyAll(Can.ofCollection(objectMementoCollection.unwrapList()));
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -108,6 +111,43 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
     }
 
 
+    @Override
+    public Can<ManagedObject> demementifyAll(final @Nullable Can<ObjectMemento> mementos) {
+        if(mementos==null
+                || mementos.isEmpty()) {
+            return Can.empty();
+        }
+        val entityBookmarks = mementos.stream()
+                .filter(this::isEntityMemento)
+                .map(ObjectMemento::getBookmark)
+                .collect(Can.toCan());
+        if(entityBookmarks.size()<2) {
+            return mementos.map(this::demementify);
+        }
+
+        val entitiesByBookmark = new HashMap<Bookmark, ManagedObject>();
+        loadObjects(entityBookmarks)
+            .forEach(entity->entity.getBookmark()
+                    .ifPresent(bookmark->entitiesByBookmark.put(bookmark, entity)));
+
+        // entities not found are demementified one by one, to fail the same way as if not loaded in bulk
+        return mementos.map(memento->Optional
+                .ofNullable(isEntityMemento(memento)
+                        ? entitiesByBookmark.get(memento.getBookmark())
+                        : null)
+                .orElseGet(()->demementify(memento)));
+    }
+
+    // -- HELPER
+
+    private boolean isEntityMemento(final @Nullable ObjectMemento memento) {
+        return memento instanceof ObjectMementoForScalar
+                && memento.getBookmark()!=null
+                && getSpecificationLoader().specForLogicalType(memento.getLogicalType())
+                    .map(ObjectSpecification::isEntity)
+                    .orElse(false);
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         val objectManager = new ObjectManagerDefault(metaModelContext);
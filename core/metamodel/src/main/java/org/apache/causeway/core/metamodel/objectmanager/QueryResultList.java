@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.Query;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Unmodifiable {@link List} of query results, that remembers the {@link Query} it originates from.
+ * <p>
+ * Allows consumers of action results (eg. tables) to re-issue the query,
+ * with sorting and paging pushed down to the persistence layer.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResultList<T>
+extends AbstractList<T>
+implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static <T> List<T> of(
+            final @NonNull Query<T> query,
+            final @NonNull List<T> results) {
+        return new QueryResultList<>(query, results);
+    }
+
+    /**
+     * Optionally the {@link Query} given pojo originates from,
+     * based on whether it is a {@link QueryResultList}.
+     */
+    public static Optional<Query<?>> lookupQuery(final @Nullable Object pojo) {
+        return pojo instanceof QueryResultList
+                ? Optional.of(((QueryResultList<?>)pojo).getQuery())
+                : Optional.empty();
+    }
+
+    @Getter private final @NonNull Query<T> query;
+    private final @NonNull List<T> results;
+
+    @Override
+    public T get(final int index) {
+        return results.get(index);
+    }
+
+    @Override
+    public int size() {
+        return results.size();
+    }
+
+}
@@ -86,7 +86,7 @@ public interface ObjectLifecyclePublisher {
     void onPostPersist(ManagedObject entity);
 
     /**
-     * Called by both JPA and JDO (though JDO does <i>not</i> provide any changeRecords).
+     * Called by both JPA and JDO.
      *
      * <p>
      *     Default implementation fires callbacks and enlists the entity within <code>EntityChangeTracker</code>
@@ -95,10 +95,26 @@ public interface ObjectLifecyclePublisher {
      *
      * @param entity
      * @param propertyChangeRecordSupplier - optional parameter to provide the pre-computed
-     *      {@link PropertyChangeRecord}s from the ORM. JPA does this, JDO does not.
+     *      {@link PropertyChangeRecord}s from the ORM (for changed properties only). JPA does this,
+     *      and so does JDO, when using the framework's own state manager.
      */
     void onPreUpdate(ManagedObject entity, @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier);
 
+    /**
+     * Called by JDO, just before an existing entity is flushed to the database, to enlist any further
+     * property changes, that were not yet known, when {@link #onPreUpdate(ManagedObject, Function)} was called.
+     * (JDO calls the latter as soon as the first field of an entity is about to change.)
+     *
+     * <p>
+     *     Default implementation enlists the entity within <code>EntityChangeTracker</code> for update,
+     *     but unlike {@link #onPreUpdate(ManagedObject, Function)} does not fire any callbacks.
+     * </p>
+     *
+     * @param entity
+     * @param propertyChangeRecordSupplier - provides the {@link PropertyChangeRecord}s from the ORM
+     */
+    void onPreFlushUpdate(ManagedObject entity, Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier);
+
     /**
      * Called by both JPA and JDO, after an existing entity has been updated.
      *
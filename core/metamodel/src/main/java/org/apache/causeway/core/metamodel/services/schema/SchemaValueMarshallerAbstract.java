@@ -323,13 +323,15 @@ protected Can<ManagedObject> recoverCollectionOfReferences(
             return Can.empty();
         }
 
-        val elementDtos = collectionDto.getValue();
-        val list = new ArrayList<ManagedObject>(elementDtos.size());
+        val bookmarks = collectionDto.getValue().stream()
+                .map(elementDto->Bookmark.forOidDto(elementDto.getReference()))
+                .collect(Can.toCan());
 
-        for(val elementDto : elementDtos) {
-            list.add(recoverReferenceFrom(elementDto.getReference()));
-        }
-        return Can.ofCollection(list);
+        // fail early, same as when recovering one at a time
+        bookmarks.forEach(bookmark->ProtoObject.resolveElseFail(getSpecificationLoader(), bookmark));
+
+        // entities are fetched in bulk
+        return getObjectManager().loadObjects(bookmarks);
     }
 
     private ManagedObject recoverValueOrReference(
@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.collections.snapshot._VersionedList;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Read optimized variant of {@link SpecificationCacheDefault}.
+ * <p>
+ * Lookups are lock-free, while creation of any given specification is guarded by a per-type
+ * in-flight marker, such that concurrent callers wait for the thread that got there first,
+ * instead of creating the same specification twice.
+ */
+class SpecificationCacheConcurrent<T extends ObjectSpecification> implements SpecificationCache<T> {
+
+    private final Map<Class<?>, T> specByClass = new ConcurrentHashMap<>();
+    private final Map<Class<?>, InFlight<T>> inFlightByClass = new ConcurrentHashMap<>();
+
+    // optimization: specialized list to keep track of any additions to the cache fast
+    private final _VersionedList<T> vList = new _VersionedList<>();
+
+    // guards modifications only, such that specByClass and vList stay in sync
+    private final Object $lock = new Object();
+
+    @Override
+    public Optional<T> lookup(final Class<?> cls) {
+        return Optional.ofNullable(specByClass.get(cls));
+    }
+
+    @Override
+    public T computeIfAbsent(
+            final Class<?> cls,
+            final Function<Class<?>, T> mappingFunction) {
+
+        val spec = specByClass.get(cls);
+        if(spec!=null) {
+            return spec;
+        }
+
+        val newInFlight = new InFlight<T>(Thread.currentThread());
+        val inFlight = inFlightByClass.putIfAbsent(cls, newInFlight);
+
+        if(inFlight==null) {
+            // we are in charge of creating the spec
+            try {
+                val newSpec = Optional.ofNullable(specByClass.get(cls)) // double check
+                        .orElseGet(()->internalPut(mappingFunction.apply(cls)));
+                newInFlight.future.complete(newSpec);
+                return newSpec;
+            } catch (Throwable e) {
+                newInFlight.future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightByClass.remove(cls, newInFlight);
+            }
+        }
+
+        if(inFlight.owner == Thread.currentThread()) {
+            // re-entrant call for the same type, waiting would deadlock;
+            // behave like the monitor based variant does
+            return internalPut(mappingFunction.apply(cls));
+        }
+
+        return inFlight.await();
+    }
+
+    @Override
+    public void clear() {
+        synchronized($lock) {
+            specByClass.clear();
+            vList.clear();
+        }
+    }
+
+    @Override
+    public Can<T> snapshotSpecs() {
+        return Can.ofCollection(specByClass.values());
+    }
+
+    @Override
+    public T remove(@NonNull final Class<?> cls) {
+        synchronized($lock) {
+            final T removed = specByClass.remove(cls);
+            if(removed!=null) {
+                vList.clear(); // invalidate
+                vList.addAll(specByClass.values());
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public void forEachConcurrent(final Consumer<T> onSpec) {
+        vList.forEachConcurrent(onSpec);
+    }
+
+    @Override
+    public void forEach(final Consumer<T> onSpec) {
+        vList.forEach(onSpec);
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static final class InFlight<T> {
+        final @NonNull Thread owner;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        T await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                val cause = e.getCause();
+                if(cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if(cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private T internalPut(@Nullable final T spec) {
+        if(spec==null) {
+            return null;
+        }
+        synchronized($lock) {
+            val cls = spec.getCorrespondingClass();
+            val existing = specByClass.put(cls, spec);
+            if(existing==null) {
+                vList.add(spec); // add to vList only if we don't have it already
+            }
+        }
+        return spec;
+    }
+
+}
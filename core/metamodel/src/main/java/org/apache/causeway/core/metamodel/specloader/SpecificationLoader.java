@@ -111,6 +111,15 @@ public interface SpecificationLoader {
 
     void reloadSpecification(Class<?> domainType);
 
+    /**
+     * Changes whenever existing {@link ObjectSpecification}s are invalidated, that is, when specifications
+     * are reloaded or the metamodel is disposed; but not when specifications are (lazily) discovered,
+     * as that does not change any already introspected ones.
+     * <p>
+     * Allows for caching of artifacts derived from the metamodel.
+     */
+    long getMetamodelRevision();
+
     /**
      * Return the specification for the specified class of object.
      *
@@ -23,8 +23,10 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -57,6 +59,7 @@
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.MetaModel.Introspector.SpecificationCachePolicy;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeClassifier;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
@@ -132,7 +135,7 @@
 
     private FacetProcessor facetProcessor;
 
-    private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
+    private final SpecificationCache<ObjectSpecification> cache;
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
 
     /**
@@ -142,6 +145,8 @@
     @Getter @Setter
     private boolean metamodelFullyIntrospected = false;
 
+    private final AtomicLong metamodelRevision = new AtomicLong();
+
     @Inject
     public SpecificationLoaderDefault(
             final ProgrammingModelService programmingModelService,
@@ -181,6 +186,10 @@ public SpecificationLoaderDefault(
         this.causewayBeanTypeRegistry = causewayBeanTypeRegistry;
         this.valueSemanticsResolver = valueSemanticsRegistry;
         this.classSubstitutorRegistry = classSubstitutorRegistry;
+        this.cache = causewayConfiguration.getCore().getMetaModel().getIntrospector()
+                .getSpecificationCache() == SpecificationCachePolicy.CONCURRENT
+                    ? new SpecificationCacheConcurrent<>()
+                    : new SpecificationCacheDefault<>();
     }
 
     /** JUnit Test Support */
@@ -284,8 +293,8 @@ public void createMetaModel() {
 
         });
 
-        //XXX[CAUSEWAY-2382] when parallel introspecting, make sure we have the mixins before their holders
-        // (observation by experiment, no real understanding as to why)
+        // mixins are introspected before their holders, as the holders' mixed-in members are created from these;
+        // when introspecting in parallel, _IntrospectionScheduler also takes care of this (and any other dependencies)
 
         _LogUtil.logBefore(log, cache, knownSpecs);
 
@@ -323,6 +332,9 @@ public void createMetaModel() {
         log.info(" - running remaining validators");
         _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
 
+        log.info(" - freezing facets of fully introspected types");
+        cache.snapshotSpecs().forEach(ObjectSpecification::freezeFacets);
+
         stopWatch.stop();
         log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
 
@@ -348,6 +360,7 @@ public void disposeMetaModel() {
         cache.clear();
         validationResult.clear();
         serviceRegistry.clearRegisteredBeans();
+        metamodelRevision.incrementAndGet();
         log.info("Metamodel disposed.");
     }
 
@@ -389,6 +402,11 @@ public void reloadSpecification(final Class<?> domainType) {
         loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
     }
 
+    @Override
+    public long getMetamodelRevision() {
+        return metamodelRevision.get();
+    }
+
     @Override
     public boolean loadSpecifications(final Class<?>... domainTypes) {
         // ensure that all types are loadable
@@ -650,15 +668,15 @@ private void introspectSequential(
     private void introspectParallel(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
-            try {
-                spec.introspectUpTo(upTo);
-            } catch (Throwable ex) {
-                log.error(ex);
-                throw ex;
-            }
-        });
+        val parallelism = causewayConfiguration.getCore().getMetaModel().getIntrospector().getParallelism();
+        val pool = new ForkJoinPool(parallelism>0
+                ? parallelism
+                : Runtime.getRuntime().availableProcessors());
+        try {
+            _IntrospectionScheduler.introspect(specs, upTo, pool);
+        } finally {
+            pool.shutdown();
+        }
     }
 
     private void introspect(
@@ -687,6 +705,7 @@ private void invalidateCache(final Class<?> cls) {
             cache.remove(type);
             spec = spec.superclass();
         }
+        metamodelRevision.incrementAndGet();
     }
 
 }
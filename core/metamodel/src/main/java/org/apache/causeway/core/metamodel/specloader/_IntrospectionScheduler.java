@@ -0,0 +1,185 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Introspects specifications in parallel, honoring the dependencies between them,
+ * such that any spec is only introspected once all the specs it depends on are.
+ * <p>
+ * Within a batch of specs, a spec depends on
+ * <ul>
+ * <li>the specs of its superclass and its interfaces</li>
+ * <li>when introspecting members, the specs of any mixins contributing to it</li>
+ * </ul>
+ * Element types (of members) need not be considered, as these are only ever introspected up to
+ * {@link IntrospectionState#TYPE_INTROSPECTED}, which all known types are, before any members are introspected.
+ * Any types not known upfront are introspected on demand, where
+ * {@link ObjectSpecification#introspectUpTo(IntrospectionState)} makes concurrent callers wait for each other.
+ */
+@UtilityClass
+@Log4j2
+final class _IntrospectionScheduler {
+
+    void introspect(
+            final Can<ObjectSpecification> specs,
+            final IntrospectionState upTo,
+            final Executor executor) {
+
+        val specsByType = new HashMap<Class<?>, ObjectSpecification>();
+        specs.forEach(spec->specsByType.put(spec.getCorrespondingClass(), spec));
+
+        val mixinSpecs = upTo==IntrospectionState.FULLY_INTROSPECTED
+                ? specs.filter(spec->spec.getBeanSort().isMixin())
+                : Can.<ObjectSpecification>empty();
+
+        val futures = new IdentityHashMap<ObjectSpecification, CompletableFuture<Void>>();
+
+        topologicalOrder(specs.toList(), spec->dependencies(spec, specsByType, mixinSpecs))
+        .forEach(spec->{
+            // dependencies not scheduled yet are those on a cycle, which are ignored
+            val dependencyFutures = dependencies(spec, specsByType, mixinSpecs).stream()
+                    .map(futures::get)
+                    .filter(future->future!=null)
+                    .toArray(CompletableFuture[]::new);
+            val future = CompletableFuture.allOf(dependencyFutures)
+                    .thenRunAsync(()->introspect(spec, upTo), executor);
+            futures.put(spec, future);
+        });
+
+        join(futures.values());
+    }
+
+    /**
+     * Orders given nodes such that any node comes after the nodes it depends on, otherwise retaining their order.
+     * Nodes on a cycle (if any) are appended last, in their original order.
+     * Dependencies not contained in given nodes are ignored.
+     */
+    <T> List<T> topologicalOrder(
+            final List<T> nodes,
+            final Function<T, Collection<T>> dependencies) {
+
+        val pending = new LinkedHashSet<T>(nodes);
+        val ordered = new ArrayList<T>(nodes.size());
+        val dependants = new IdentityHashMap<T, List<T>>();
+        val unresolvedCount = new IdentityHashMap<T, Integer>();
+
+        for(val node : nodes) {
+            val dependenciesOfNode = dependencies.apply(node).stream()
+                    .filter(pending::contains)
+                    .distinct()
+                    .collect(Collectors.toList());
+            unresolvedCount.put(node, dependenciesOfNode.size());
+            dependenciesOfNode.forEach(dependency->
+                dependants.computeIfAbsent(dependency, __->new ArrayList<>()).add(node));
+        }
+
+        // Kahn's algorithm, visiting ready nodes in their original order
+        List<T> ready = nodes.stream()
+                .filter(node->unresolvedCount.get(node)==0)
+                .collect(Collectors.toList());
+        while(!ready.isEmpty()) {
+            val nextReady = new ArrayList<T>();
+            for(val node : ready) {
+                ordered.add(node);
+                pending.remove(node);
+                for(val dependant : dependants.getOrDefault(node, List.of())) {
+                    if(unresolvedCount.merge(dependant, -1, Integer::sum)==0) {
+                        nextReady.add(dependant);
+                    }
+                }
+            }
+            ready = nextReady;
+        }
+
+        ordered.addAll(pending); // cycles
+        return ordered;
+    }
+
+    // -- HELPER
+
+    private Collection<ObjectSpecification> dependencies(
+            final ObjectSpecification spec,
+            final Map<Class<?>, ObjectSpecification> specsByType,
+            final Can<ObjectSpecification> mixinSpecs) {
+
+        val type = spec.getCorrespondingClass();
+
+        val superTypeSpecs = Stream.concat(
+                    Stream.ofNullable(type.getSuperclass()),
+                    Stream.of(type.getInterfaces()))
+                .map(specsByType::get)
+                .filter(superTypeSpec->superTypeSpec!=null);
+
+        if(spec.getBeanSort().isMixin()) {
+            return superTypeSpecs.collect(Collectors.toList());
+        }
+
+        val contributingMixinSpecs = mixinSpecs.stream()
+                .filter(mixinSpec->mixinSpec.mixinFacet()
+                        .map(mixinFacet->mixinFacet.isMixinFor(type))
+                        .orElse(false));
+
+        return Stream.concat(superTypeSpecs, contributingMixinSpecs)
+                .collect(Collectors.toList());
+    }
+
+    private void introspect(final ObjectSpecification spec, final IntrospectionState upTo) {
+        try {
+            spec.introspectUpTo(upTo);
+        } catch (Throwable ex) {
+            log.error(ex);
+            throw ex;
+        }
+    }
+
+    @SneakyThrows
+    private void join(final Collection<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause()!=null
+                    ? ex.getCause()
+                    : ex;
+        }
+    }
+
+}
@@ -83,6 +83,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 import org.apache.causeway.core.metamodel.specloader.facetprocessor.FacetProcessor;
@@ -193,7 +194,18 @@ public Can<ObjectSpecification> snapshot() {
     private AliasedFacet aliasedFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private volatile IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+
+    /**
+     * Whether the type hierarchy and facets of this (fully introspected) spec are frozen,
+     * such that facet lookups need not synchronize.
+     */
+    private volatile boolean facetsFrozen;
+
+    /**
+     * Guards introspection of this spec against concurrent introspecting threads.
+     */
+    private final _IntrospectionLock introspectionLock = new _IntrospectionLock();
 
 
     // -- Constructor
@@ -249,6 +261,14 @@ public final String getFullIdentifier() {
 
     public abstract IntrospectionPolicy getIntrospectionPolicy();
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If another thread is already introspecting this spec, waits for it to finish, such that concurrent callers
+     * never see a partially introspected spec. Re-entrant calls (from the introspecting thread itself)
+     * return immediately, as do calls that would otherwise deadlock (on cyclic dependencies between specs
+     * being introspected by different threads), both corresponding to the behavior when introspecting sequentially.
+     */
     @Override
     public void introspectUpTo(final IntrospectionState upTo) {
 
@@ -260,6 +280,18 @@ public void introspectUpTo(final IntrospectionState upTo) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
 
+        if(!introspectionLock.acquire(()->isLessThan(upTo), this::getFullIdentifier)) {
+            return;
+        }
+        try {
+            introspectUpToWhileAcquired(upTo);
+        } finally {
+            introspectionLock.release();
+        }
+    }
+
+    private void introspectUpToWhileAcquired(final IntrospectionState upTo) {
+
         boolean revalidate = false;
 
         switch (introspectionState) {
@@ -553,31 +585,56 @@ public final Optional<Contributing> contributing() {
 
     @Override
     public <Q extends Facet> Q getFacet(final Class<Q> facetType) {
-
+        if(facetsFrozen) {
+            return lookupFacetWithinTypeHierarchy(facetType);
+        }
         synchronized(unmodifiableInterfaces) {
+            return lookupFacetWithinTypeHierarchy(facetType);
+        }
+    }
 
-            // lookup facet holder's facet
-            val facets1 = _NullSafe.streamNullable(super.getFacet(facetType));
+    /**
+     * Freezes the facets of this spec and those of its members (including mixed-in ones)
+     * and their parameters, provided this spec is fully introspected, otherwise is a no-op.
+     */
+    @Override
+    public void freezeFacets() {
+        if(introspectionState != IntrospectionState.FULLY_INTROSPECTED) {
+            return;
+        }
+        super.freezeFacets();
+        streamAssociations(MixedIn.INCLUDED)
+            .forEach(ObjectAssociation::freezeFacets);
+        streamAnyActions(MixedIn.INCLUDED)
+            .forEach(action->{
+                action.freezeFacets();
+                action.getParameters().forEach(ObjectActionParameter::freezeFacets);
+            });
+        facetsFrozen = true;
+    }
 
-            // lookup all interfaces
-            val facets2 = _NullSafe.stream(interfaces())
-                    .filter(_NullSafe::isPresent) // just in case
-                    .map(interfaceSpec->interfaceSpec.getFacet(facetType));
+    private <Q extends Facet> Q lookupFacetWithinTypeHierarchy(final Class<Q> facetType) {
+        // lookup facet holder's facet
+        val facets1 = _NullSafe.streamNullable(super.getFacet(facetType));
 
-            // search up the inheritance hierarchy
-            val facets3 = _NullSafe.streamNullable(superclass())
-                    .map(superSpec->superSpec.getFacet(facetType));
+        // lookup all interfaces
+        val facets2 = _NullSafe.stream(interfaces())
+                .filter(_NullSafe::isPresent) // just in case
+                .map(interfaceSpec->interfaceSpec.getFacet(facetType));
 
-            val facetsCombined = _Streams.concat(facets1, facets2, facets3);
+        // search up the inheritance hierarchy
+        val facets3 = _NullSafe.streamNullable(superclass())
+                .map(superSpec->superSpec.getFacet(facetType));
 
-            val notANoopFacetFilter = new NotANoopFacetFilter<Q>();
+        val facetsCombined = _Streams.concat(facets1, facets2, facets3);
 
-            return facetsCombined
-                    .filter(notANoopFacetFilter)
-                    .findFirst()
-                    .orElse(notANoopFacetFilter.noopFacet);
+        val notANoopFacetFilter = new NotANoopFacetFilter<Q>();
+
+        return facetsCombined
+                .filter(notANoopFacetFilter)
+                .findFirst()
+                .orElse(notANoopFacetFilter.noopFacet);
 
-        }
     }
 
     @Domain.Exclude
@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.val;
+
+/**
+ * (package private) guards introspection of a single spec, such that at most one thread introspects it,
+ * while other threads wait for that introspection to finish.
+ * <p>
+ * All bookkeeping (owning threads and threads waiting) is guarded by a single global monitor,
+ * such that detecting a deadlock (on cyclic dependencies between specs being introspected
+ * by different threads) and registering as waiting thread is atomic.
+ * Introspection itself runs outside of that monitor.
+ */
+final class _IntrospectionLock {
+
+    private static final Object monitor = new Object();
+
+    /**
+     * Threads waiting for another thread to finish introspection (keyed by waiting thread), guarded by {@link #monitor}.
+     */
+    private static final Map<Thread, _IntrospectionLock> locksWaitedFor = new HashMap<>();
+
+    /**
+     * The thread currently owning this lock (if any), guarded by {@link #monitor}.
+     */
+    private Thread owner;
+
+    /**
+     * Returns whether the current thread may go ahead with introspection, that is,
+     * whether it (now) owns this lock and introspection is still required.
+     * <p>
+     * Returns {@code false} without waiting, if the current thread already owns this lock (re-entrant call),
+     * or if waiting would deadlock, because the owner is (transitively) waiting for the current thread.
+     * @param isIntrospectionRequired - re-evaluated after waiting for another thread
+     * @param lockName - for diagnostics only
+     */
+    boolean acquire(final BooleanSupplier isIntrospectionRequired, final Supplier<String> lockName) {
+        val currentThread = Thread.currentThread();
+        synchronized(monitor) {
+            while(owner!=null
+                    && owner!=currentThread) {
+                if(isWaitingFor(owner, currentThread)) {
+                    return false; // would deadlock
+                }
+                locksWaitedFor.put(currentThread, this);
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw _Exceptions.unrecoverable(e, "interrupted while waiting for introspection of %s",
+                            lockName.get());
+                } finally {
+                    locksWaitedFor.remove(currentThread);
+                }
+                if(!isIntrospectionRequired.getAsBoolean()) {
+                    return false;
+                }
+            }
+            if(owner==currentThread) {
+                return false; // re-entrant call, nothing to do
+            }
+            owner = currentThread;
+            return true;
+        }
+    }
+
+    void release() {
+        synchronized(monitor) {
+            owner = null;
+            monitor.notifyAll();
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Whether given {@code thread} is (transitively) waiting for a lock owned by given {@code waitedForThread}.
+     * Must be called while holding the {@link #monitor}.
+     */
+    private static boolean isWaitingFor(final Thread thread, final Thread waitedForThread) {
+        Thread next = thread;
+        // bounded, in case of a cycle not involving waitedForThread
+        for(int i = 0; i < locksWaitedFor.size() + 1; i++) {
+            val lockWaitedFor = locksWaitedFor.get(next);
+            if(lockWaitedFor==null) {
+                return false;
+            }
+            next = lockWaitedFor.owner;
+            if(next==null) {
+                return false;
+            }
+            if(next==waitedForThread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
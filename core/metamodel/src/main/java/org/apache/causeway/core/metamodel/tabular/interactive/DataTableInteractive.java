@@ -24,12 +24,14 @@
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
@@ -40,6 +42,7 @@
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.consent.InteractionResult;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.interactions.HidingInteractionAdvisor;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.interactions.InteractionUtils;
 import org.apache.causeway.core.metamodel.interactions.ObjectVisibilityContext;
@@ -53,8 +56,12 @@
 import org.apache.causeway.core.metamodel.interactions.managed.MultiselectChoices;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
+import org.apache.causeway.core.metamodel.postprocessors.allbutparam.authorization.AuthorizationFacet;
+import org.apache.causeway.core.metamodel.spec.Hierarchical.Depth;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
 import lombok.AccessLevel;
@@ -86,24 +93,45 @@ public static DataTableInteractive forAction(
             final ManagedObject actionResult) {
 
         if(actionResult==null) {
-            new DataTableInteractive(managedAction, managedAction.getWhere(), Can::empty);
+            return new DataTableInteractive(managedAction, managedAction.getWhere(), Can::empty);
         }
         if(!(actionResult instanceof PackedManagedObject)) {
             throw _Exceptions.unexpectedCodeReach();
         }
 
-        val elements = ((PackedManagedObject)actionResult).unpack();
+        val packed = (PackedManagedObject)actionResult;
+        val elements = packed.unpack();
         elements.forEach(ManagedObject::getBookmark);
 
-        return new DataTableInteractive(managedAction, managedAction.getWhere(),
+        // the already fetched elements serve the non-paged case,
+        // while the query (if any) allows for paging to be pushed down
+        val backingQuery = packed.getBackingQuery()
+                .filter(query->isPageable(query, managedAction.getElementType()))
+                .orElse(null);
+
+        return new DataTableInteractive(managedAction, managedAction.getWhere(), backingQuery,
                 ()->elements);
     }
 
+    /**
+     * Table backed by given {@link Query}, such that sorting and paging
+     * can be pushed down to the persistence layer.
+     * @see #fetchPage(OneToOneAssociation, boolean, long, long)
+     * @see #countByQuery()
+     */
+    public static DataTableInteractive forQuery(
+            final ManagedMember managedMember,
+            final Where where,
+            final Query<?> query) {
+        return new DataTableInteractive(managedMember, where, query);
+    }
+
     // -- CONSTRUCTION
 
     // as this is a layer of abstraction, don't expose via getter
     final @NonNull ManagedMember managedMember;
     final @NonNull Where where;
+    final @Nullable Query<?> backingQuery;
 
     @Getter private final @NonNull LazyObservable<Can<ManagedObject>> dataElements;
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
@@ -114,14 +142,32 @@ public static DataTableInteractive forAction(
     @Getter private final @NonNull LazyObservable<Can<DataColumn>> dataColumns;
     @Getter private final @NonNull LazyObservable<String> title;
 
+    private DataTableInteractive(
+            final ManagedMember managedMember,
+            final Where where,
+            final Query<?> backingQuery) {
+        this(managedMember, where, backingQuery, ()->
+            managedMember.getElementType().getObjectManager()
+                .queryObjects(ObjectBulkLoader.Request.of(managedMember.getElementType(), backingQuery)));
+    }
+
+    private DataTableInteractive(
+            final ManagedMember managedMember,
+            final Where where,
+            final Supplier<Can<ManagedObject>> elementSupplier) {
+        this(managedMember, where, null, elementSupplier);
+    }
+
     private DataTableInteractive(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
+            final @Nullable Query<?> backingQuery,
             final Supplier<Can<ManagedObject>> elementSupplier) {
 
         this.managedMember = managedMember;
         this.where = where;
+        this.backingQuery = backingQuery;
 
         //dataElements = _Observables.lazy(elementSupplier);
         dataElements = _Observables.lazy(()->elementSupplier.get().map(
@@ -139,7 +185,7 @@ private DataTableInteractive(
                 .collect(Can.toCan()));
 
         dataRowsSelected = _Observables.lazy(()->
-            dataRowsFiltered.getValue().stream()
+            streamSelectableDataRows()
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
             .collect(Can.toCan()));
 
@@ -152,7 +198,7 @@ private DataTableInteractive(
             dataRowsSelected.invalidate();
             try {
                 isToggleAllEvent.set(true);
-                dataRowsFiltered.getValue().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
+                streamSelectableDataRows().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
             } finally {
                 isToggleAllEvent.set(false);
             }
@@ -201,12 +247,91 @@ public ObjectSpecification getElementType() {
 
     private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
+        val pagedRow = dataRowsPaged.get(uuid);
+        if(pagedRow!=null) {
+            return Optional.of(pagedRow);
+        }
         // lookup can be safely cached
         return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
                 .filter(dr->dr.getUuid().equals(uuid))
                 .findFirst());
     }
 
+    // -- QUERY BACKED PAGING
+
+    // data rows of the most recently fetched page, if any
+    private final Map<UUID, DataRow> dataRowsPaged = _Maps.newLinkedHashMap();
+
+    /**
+     * Whether this table is backed by a {@link Query} over entities,
+     * such that sorting and paging can be pushed down to the persistence layer.
+     * <p>
+     * Not the case, if the persistence layer cannot push down both, fetching a page and counting
+     * (eg. for named queries), nor if elements could be hidden on a per instance basis
+     * (eg. via a {@code hidden()} supporting method or tenancy),
+     * because pages would come out short and would not agree with the count.
+     */
+    public boolean isQueryBacked() {
+        return backingQuery!=null
+                && getElementType().isEntity()
+                && getElementType().entityFacetElseFail().isPageableByQuery(backingQuery)
+                && !hasInstanceDependentVisibility(getElementType());
+    }
+
+    /**
+     * Number of elements as determined by a count query,
+     * without loading any of them.
+     * <p>
+     * Agrees with {@link #getElementCount()}, as query backing is limited to element types
+     * that don't hide individual instances.
+     * @see #isQueryBacked()
+     */
+    public int countByQuery() {
+        return getElementType().entityFacetElseFail()
+                .countByQuery(queryBackedElseFail());
+    }
+
+    /**
+     * Optionally the requested page of data rows, with sorting and paging applied by
+     * the persistence layer.
+     * <p>
+     * Empty if the persistence layer cannot honor the requested sort order,
+     * in which case the caller is expected to fall back to {@link #getDataRowsFiltered()}.
+     * @param sortProperty - if {@code null} the member's element comparator (if any) is used,
+     *      otherwise rows are ordered by primary key, such that pages are stable
+     * @see #isQueryBacked()
+     */
+    public Optional<Can<DataRow>> fetchPage(
+            final @Nullable OneToOneAssociation sortProperty,
+            final boolean ascending,
+            final long skip,
+            final long limit) {
+
+        val entityFacet = getElementType().entityFacetElseFail();
+        val pageQuery = queryBackedElseFail().withRange(skip, limit);
+
+        final Optional<Can<ManagedObject>> pageElements;
+        if(sortProperty!=null) {
+            pageElements = entityFacet.fetchByQuerySorted(pageQuery, sortProperty.getId(), ascending);
+        } else if(getMetaModel().getElementComparator().isPresent()) {
+            // a comparator cannot be pushed down
+            pageElements = Optional.empty();
+        } else {
+            pageElements = entityFacet.fetchByQuerySorted(pageQuery, null, true);
+        }
+
+        return pageElements
+                .map(elements->{
+                    val dataRows = elements
+                        .map(MetaModelContext.instanceElseFail()::injectServicesInto)
+                        .map(domainObject->new DataRow(this, domainObject));
+                    dataRowsPaged.clear();
+                    dataRows.forEach(dataRow->dataRowsPaged.put(dataRow.getUuid(), dataRow));
+                    dataRowsSelected.invalidate();
+                    return dataRows;
+                });
+    }
+
     // -- TOGGLE ALL
 
     final AtomicBoolean isToggleAllEvent = new AtomicBoolean();
@@ -220,6 +345,46 @@ public void clearToggleAll() {
         }
     }
 
+    // -- HELPER
+
+    /**
+     * Only queries that are not already ranged (their result would otherwise be truncated)
+     * and that are over the table's element type qualify for paging.
+     */
+    private static boolean isPageable(final Query<?> query, final ObjectSpecification elementType) {
+        return query.getRange().isUnconstrained()
+                && elementType.getCorrespondingClass().isAssignableFrom(query.getResultType());
+    }
+
+    /**
+     * Whether any of the given type (or its sub types) has hiding advisors other than
+     * the {@link AuthorizationFacet}, which decides on a per type basis.
+     */
+    private static boolean hasInstanceDependentVisibility(final ObjectSpecification elementType) {
+        return Stream.concat(
+                    Stream.of(elementType),
+                    elementType.subclasses(Depth.TRANSITIVE).stream())
+                .flatMap(spec->spec.streamFacets(HidingInteractionAdvisor.class))
+                .anyMatch(advisor->!(advisor instanceof AuthorizationFacet));
+    }
+
+    private Query<?> queryBackedElseFail() {
+        if(!isQueryBacked()) {
+            throw _Exceptions.illegalState("table %s is not backed by a query over entities",
+                    managedMember.getIdentifier());
+        }
+        return backingQuery;
+    }
+
+    /**
+     * When paged by query, only the rows of the current page are available for selection.
+     */
+    private Stream<DataRow> streamSelectableDataRows() {
+        return dataRowsPaged.isEmpty()
+                ? dataRowsFiltered.getValue().stream()
+                : dataRowsPaged.values().stream();
+    }
+
     // -- DATA ROW VISIBILITY
 
     private boolean ignoreHidden(final ManagedObject adapter) {
@@ -304,12 +469,17 @@ static Memento create(
             return new Memento(
                     managedMember.getIdentifier(),
                     table.where,
-                    argsMemento);
+                    argsMemento,
+                    // only retained if in use, as it holds the query's raw parameters
+                    isTablePagingByQuery()
+                        ? table.backingQuery
+                        : null);
         }
 
         private final Identifier featureId;
         private final Where where;
         private final MementoForArgs argsMemento;
+        private final @Nullable Query<?> backingQuery;
 
         public DataTableInteractive getDataTableModel(final ManagedObject owner) {
 
@@ -324,18 +494,32 @@ public DataTableInteractive getDataTableModel(final ManagedObject owner) {
                 // bypass domain events
                 val collInteraction = CollectionInteraction.start(owner, memberId, where);
                 val managedColl = collInteraction.getManagedCollection().orElseThrow();
+                if(backingQuery!=null
+                        && isTablePagingByQuery()) {
+                    return new DataTableInteractive(managedColl, where, backingQuery);
+                }
                 // invocation bypassing domain events (pass-through)
                 return new DataTableInteractive(managedColl, where, ()->
                     managedColl.streamElements(InteractionInitiatedBy.PASS_THROUGH).collect(Can.toCan()));
             }
             val actionInteraction = ActionInteraction.start(owner, memberId, where);
             val managedAction = actionInteraction.getManagedActionElseFail();
+            if(backingQuery!=null
+                    && isTablePagingByQuery()) {
+                // no need to re-invoke the action, the query is sufficient to recreate its result
+                return new DataTableInteractive(managedAction, where, backingQuery);
+            }
             val args = argsMemento.getArgumentList(managedAction.getMetaModel());
             // invocation bypassing domain events (pass-through)
             val actionResult = managedAction.invoke(args, InteractionInitiatedBy.PASS_THROUGH)
                     .getSuccessElseFail();
             return forAction(managedAction, args, actionResult);
         }
+
+        private static boolean isTablePagingByQuery() {
+            return MetaModelContext.instanceElseFail().getConfiguration()
+                    .getViewer().getWicket().getTablePaging().isQuery();
+        }
     }
 
 }
@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+
+import lombok.val;
+
+class FacetHolderAbstractTest {
+
+    static interface FooFacet extends Facet {
+    }
+
+    static interface BarFacet extends Facet {
+    }
+
+    static interface UnusedFacet extends Facet {
+    }
+
+    static class ConcreteFacet extends FacetAbstract {
+        public ConcreteFacet(
+                final Class<? extends Facet> facetType,
+                final FacetHolder holder,
+                final Facet.Precedence precedence) {
+            super(facetType, holder, precedence);
+        }
+    }
+
+    private FacetHolder facetHolder;
+    private Facet fooFacet;
+    private Facet barFacet;
+
+    @BeforeEach
+    void setUp() {
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.buildDefault());
+        fooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        barFacet = new ConcreteFacet(BarFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(fooFacet);
+        facetHolder.addFacet(barFacet);
+    }
+
+    @Test
+    void frozen_shouldReportSameFacets() {
+        facetHolder.freezeFacets();
+
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+        assertSame(barFacet, facetHolder.getFacet(BarFacet.class));
+        assertNull(facetHolder.getFacet(UnusedFacet.class));
+        assertTrue(facetHolder.containsFacet(FooFacet.class));
+        assertFalse(facetHolder.containsFacet(UnusedFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+        assertEquals(
+                Set.of(fooFacet, barFacet),
+                facetHolder.streamFacets().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void frozen_whenFacetAddedWithHigherPrecedence_shouldReportNewWinner() {
+        facetHolder.freezeFacets();
+
+        val fooFacetHigh = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.HIGH);
+        facetHolder.addFacet(fooFacetHigh);
+
+        assertSame(fooFacetHigh, facetHolder.getFacet(FooFacet.class));
+        assertSame(barFacet, facetHolder.getFacet(BarFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+    }
+
+    @Test
+    void frozen_whenFacetAddedWithLowerPrecedence_shouldRetainWinner() {
+        facetHolder.freezeFacets();
+
+        facetHolder.addFacet(new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.LOW));
+
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+    }
+
+    @Test
+    void facetTypeIds_shouldBeStable() {
+        val id = _FacetTypeIds.idOf(FooFacet.class);
+        assertEquals(id, _FacetTypeIds.idOf(FooFacet.class));
+        assertTrue(id != _FacetTypeIds.idOf(BarFacet.class));
+        assertTrue(_FacetTypeIds.count() > id);
+    }
+
+}
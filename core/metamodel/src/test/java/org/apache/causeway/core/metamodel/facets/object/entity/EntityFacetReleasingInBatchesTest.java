@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.val;
+
+class EntityFacetReleasingInBatchesTest {
+
+    @Test
+    void releasesConsumedElementsInBatches() {
+        val released = new ArrayList<List<Integer>>();
+        val consumed = EntityFacet.releasingInBatches(
+                    IntStream.range(0, 7).boxed(),
+                    3,
+                    batch->released.add(new ArrayList<>(batch)))
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), consumed);
+        // the last (incomplete) batch is not released, as its elements might still be in use
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5)), released);
+    }
+
+    @Test
+    void releasesNothing_whenBatchSizeNotPositive() {
+        val released = new ArrayList<List<Integer>>();
+        val consumed = EntityFacet.releasingInBatches(
+                    IntStream.range(0, 7).boxed(),
+                    0,
+                    batch->released.add(new ArrayList<>(batch)))
+                .collect(Collectors.toList());
+
+        assertEquals(7, consumed.size());
+        assertEquals(0, released.size());
+    }
+
+}
@@ -33,10 +33,12 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.domain.DomainObjectList;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.internal._Constants;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
 import org.apache.causeway.core.metamodel.object.ManagedObject.Specialization;
+import org.apache.causeway.core.metamodel.objectmanager.QueryResultList;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.metamodel.valuesemantics.IntValueSemantics;
 
@@ -245,4 +247,24 @@ void comparatorShouldNotViolateItsGeneralContract() {
         managedObjects.sort(ManagedObjects.NATURAL_NULL_FIRST);
     }
 
+    @Test
+    void queryResultList_shouldAdaptToPackedWithBackingQuery() {
+
+        val intSpec = specLoader.specForTypeElseFail(Integer.class);
+        val query = Query.allInstances(Integer.class);
+
+        val packed = (PackedManagedObject) mmc.getObjectManager()
+                .adapt(QueryResultList.of(query, List.of(1, 2, 3)), ()->intSpec);
+
+        assertEquals(3, packed.unpack().size());
+        assertEquals(query, packed.getBackingQuery().orElseThrow());
+
+        // whereas any other list has no backing query
+        val packedFromPlainList = (PackedManagedObject) mmc.getObjectManager()
+                .adapt(List.of(1, 2, 3), ()->intSpec);
+
+        assertEquals(3, packedFromPlainList.unpack().size());
+        assertTrue(packedFromPlainList.getBackingQuery().isEmpty());
+    }
+
 }
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.facets.object.mixin.MixinFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import lombok.val;
+
+class IntrospectionSchedulerTest {
+
+    static interface Named {}
+    static class Base {}
+    static class Sub extends Base {}
+    static class SubSub extends Sub implements Named {}
+    static class Unrelated {}
+    static class Base_mixin {}
+
+    @Test
+    void topologicalOrder_retainsOrder_whenNoDependencies() {
+        val ordered = _IntrospectionScheduler.topologicalOrder(
+                List.of("a", "b", "c"), node->List.of());
+        assertEquals(List.of("a", "b", "c"), ordered);
+    }
+
+    @Test
+    void topologicalOrder_placesDependenciesFirst() {
+        val dependencies = Map.of(
+                "a", List.of("c"),
+                "b", List.of("a", "x"), // x is ignored
+                "c", List.<String>of());
+        val ordered = _IntrospectionScheduler.topologicalOrder(
+                List.of("a", "b", "c"), dependencies::get);
+        assertEquals(List.of("c", "a", "b"), ordered);
+    }
+
+    @Test
+    void topologicalOrder_appendsCycles() {
+        val dependencies = Map.of(
+                "a", List.of("b"),
+                "b", List.of("a"),
+                "c", List.<String>of());
+        val ordered = _IntrospectionScheduler.topologicalOrder(
+                List.of("a", "b", "c"), dependencies::get);
+        assertEquals(List.of("c", "a", "b"), ordered);
+    }
+
+    @Test
+    void introspect_honorsSupertypesAndMixins() {
+        val introspected = Collections.synchronizedList(new ArrayList<Class<?>>());
+
+        // in reverse order of dependencies
+        val specs = Can.<ObjectSpecification>of(
+                mockSpec(SubSub.class, BeanSort.VIEW_MODEL, introspected),
+                mockSpec(Unrelated.class, BeanSort.VIEW_MODEL, introspected),
+                mockSpec(Named.class, BeanSort.ABSTRACT, introspected),
+                mockSpec(Sub.class, BeanSort.VIEW_MODEL, introspected),
+                mockSpec(Base.class, BeanSort.VIEW_MODEL, introspected),
+                mockSpec(Base_mixin.class, BeanSort.MIXIN, introspected));
+
+        val pool = new ForkJoinPool(4);
+        try {
+            _IntrospectionScheduler.introspect(specs, IntrospectionState.FULLY_INTROSPECTED, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(specs.size(), introspected.size());
+        assertBefore(introspected, Base.class, Sub.class);
+        assertBefore(introspected, Sub.class, SubSub.class);
+        assertBefore(introspected, Named.class, SubSub.class);
+        assertBefore(introspected, Base_mixin.class, Base.class);
+    }
+
+    // -- HELPER
+
+    private static void assertBefore(final List<Class<?>> introspected, final Class<?> first, final Class<?> second) {
+        assertTrue(introspected.indexOf(first) < introspected.indexOf(second),
+                ()->String.format("expected %s to be introspected before %s, but got %s", first, second, introspected));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ObjectSpecification mockSpec(
+            final Class<?> type,
+            final BeanSort beanSort,
+            final List<Class<?>> introspected) {
+        val spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)type);
+        Mockito.when(spec.getBeanSort()).thenReturn(beanSort);
+        if(beanSort.isMixin()) {
+            val mixinFacet = Mockito.mock(MixinFacet.class);
+            Mockito.when(mixinFacet.isMixinFor(Mockito.any()))
+                .thenAnswer(invocation->Base.class.isAssignableFrom(invocation.getArgument(0)));
+            Mockito.when(spec.mixinFacet()).thenReturn(Optional.of(mixinFacet));
+        } else {
+            Mockito.when(spec.mixinFacet()).thenReturn(Optional.empty());
+        }
+        Mockito.doAnswer(invocation->{
+            Thread.sleep(10); // give any out of order scheduling a chance to show
+            introspected.add(type);
+            return null;
+        }).when(spec).introspectUpTo(Mockito.any());
+        return spec;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class SpecificationCacheConcurrentTest {
+
+    ObjectSpecification customerSpec;
+    ObjectSpecification orderSpec;
+
+    private SpecificationCache<ObjectSpecification> specificationCache =
+            new SpecificationCacheConcurrent<>();
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    void setUp() throws Exception {
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        orderSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(orderSpec.getCorrespondingClass()).thenReturn((Class)Order.class);
+    }
+
+    static class Customer {}
+    static class Order {}
+
+    @Test
+    void lookup_whenNotCached() {
+        assertFalse(specificationCache.lookup(Customer.class).isPresent());
+    }
+
+    @Test
+    void lookup_whenCached() {
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        assertSame(customerSpec, specificationCache.lookup(Customer.class).orElse(null));
+    }
+
+    @Test
+    void removeAndClear() {
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        specificationCache.computeIfAbsent(Order.class, __->orderSpec);
+
+        assertSame(customerSpec, specificationCache.remove(Customer.class));
+        assertEquals(1, specificationCache.snapshotSpecs().size());
+
+        val visited = new AtomicInteger();
+        specificationCache.forEach(__->visited.incrementAndGet());
+        assertEquals(1, visited.get());
+
+        specificationCache.clear();
+        assertTrue(specificationCache.snapshotSpecs().isEmpty());
+    }
+
+    @Test
+    void failingMappingFunction_shouldNotPoisonTheCache() {
+        assertThrows(IllegalStateException.class, ()->
+            specificationCache.computeIfAbsent(Customer.class, __->{ throw new IllegalStateException(); }));
+        assertSame(customerSpec, specificationCache.computeIfAbsent(Customer.class, __->customerSpec));
+    }
+
+    @Test @SneakyThrows
+    void concurrentCallers_shouldCreateSpecOnlyOnce() {
+
+        final int threadCount = 32;
+        val executor = Executors.newFixedThreadPool(threadCount);
+        val startSignal = new CountDownLatch(1);
+        val mappingFunctionCalls = new AtomicInteger();
+
+        try {
+            val futures = IntStream.range(0, threadCount)
+            .mapToObj(i->executor.submit(()->{
+                startSignal.await();
+                return specificationCache.computeIfAbsent(Customer.class, __->{
+                    mappingFunctionCalls.incrementAndGet();
+                    sleep(50); // simulate expensive spec creation
+                    return customerSpec;
+                });
+            }))
+            .collect(Collectors.toList());
+
+            startSignal.countDown();
+
+            for(val future : futures) {
+                assertSame(customerSpec, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, mappingFunctionCalls.get());
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static void sleep(final long millis) {
+        Thread.sleep(millis);
+    }
+
+}
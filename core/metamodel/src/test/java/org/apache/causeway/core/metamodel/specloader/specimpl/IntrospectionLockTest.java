@@ -0,0 +1,186 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class IntrospectionLockTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+    private static final BooleanSupplier REQUIRED = ()->true;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void whenReentrant_shouldNotAcquireAgain() {
+        val lock = new _IntrospectionLock();
+        assertTrue(lock.acquire(REQUIRED, ()->"a"));
+        assertFalse(lock.acquire(REQUIRED, ()->"a"));
+        lock.release();
+    }
+
+    @Test
+    void whenOwnerFinishedIntrospection_waiterShouldNotAcquire() {
+        val lock = new _IntrospectionLock();
+        assertTrue(lock.acquire(REQUIRED, ()->"a"));
+
+        val waiter = executor.submit(()->lock.acquire(()->false, ()->"a"));
+        sleep(50); // give the waiter a chance to wait
+        lock.release();
+
+        assertTimeoutPreemptively(TIMEOUT, ()->assertFalse(waiter.get()));
+    }
+
+    /**
+     * Each thread owns one lock of a cyclic pair, then tries to acquire the other one.
+     * Exactly one of them must back off (rather than both waiting forever),
+     * after which the other one acquires, regardless of how the threads interleave.
+     */
+    @Test
+    void whenCyclicPair_exactlyOneThreadShouldBackOff() {
+        assertTimeoutPreemptively(TIMEOUT, ()->{
+            for (int i = 0; i < 200; i++) {
+                val lockA = new _IntrospectionLock();
+                val lockB = new _IntrospectionLock();
+                val barrier = new CyclicBarrier(2);
+
+                val first = executor.submit(()->acquireCrosswise(lockA, lockB, barrier));
+                val second = executor.submit(()->acquireCrosswise(lockB, lockA, barrier));
+
+                assertNotEquals(first.get(), second.get());
+            }
+        });
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+        @Property @Getter private Order order;
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Order {
+        @Property @Getter private Customer customer;
+    }
+
+    @Test
+    void whenCyclicPairOfSpecsIntrospectedConcurrently_shouldComplete() {
+        assertTimeoutPreemptively(TIMEOUT, ()->{
+            for (int i = 0; i < 20; i++) {
+                val mmc = MetaModelContext_forTesting.builder()
+                        .memberExecutor(Mockito.mock(MemberExecutorService.class))
+                        .build();
+                val specLoader = mmc.getSpecificationLoader();
+                val customerSpec = specLoader.loadSpecification(Customer.class, IntrospectionState.NOT_INTROSPECTED);
+                val orderSpec = specLoader.loadSpecification(Order.class, IntrospectionState.NOT_INTROSPECTED);
+                val barrier = new CyclicBarrier(2);
+
+                val futures = List.<Future<?>>of(
+                        executor.submit(()->{
+                            barrier.await();
+                            customerSpec.introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+                            return null;
+                        }),
+                        executor.submit(()->{
+                            barrier.await();
+                            orderSpec.introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+                            return null;
+                        }));
+                for(val future : futures) {
+                    future.get();
+                }
+
+                assertEquals(Order.class,
+                        customerSpec.getPropertyElseFail("order").getElementType().getCorrespondingClass());
+                assertEquals(Customer.class,
+                        orderSpec.getPropertyElseFail("customer").getElementType().getCorrespondingClass());
+
+                specLoader.disposeMetaModel();
+            }
+        });
+    }
+
+    // -- HELPER
+
+    /**
+     * Acquires {@code owned}, then (once both threads own their lock) tries to acquire {@code other}.
+     * @return whether {@code other} was acquired
+     */
+    @SneakyThrows
+    private static boolean acquireCrosswise(
+            final _IntrospectionLock owned,
+            final _IntrospectionLock other,
+            final CyclicBarrier barrier) {
+        assertTrue(owned.acquire(REQUIRED, ()->"owned"));
+        try {
+            barrier.await();
+            val acquired = other.acquire(REQUIRED, ()->"other");
+            if(acquired) {
+                other.release();
+            }
+            return acquired;
+        } finally {
+            owned.release();
+        }
+    }
+
+    @SneakyThrows
+    private static void sleep(final long millis) {
+        Thread.sleep(millis);
+    }
+
+}
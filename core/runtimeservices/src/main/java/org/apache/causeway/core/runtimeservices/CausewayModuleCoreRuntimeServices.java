@@ -49,12 +49,14 @@
 import org.apache.causeway.core.runtimeservices.menubars.bootstrap.MenuBarsServiceBootstrap;
 import org.apache.causeway.core.runtimeservices.message.MessageServiceDefault;
 import org.apache.causeway.core.runtimeservices.placeholder.PlaceholderRenderServiceDefault;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingService;
 import org.apache.causeway.core.runtimeservices.publish.CommandPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.ExecutionPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.LifecycleCallbackNotifier;
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.causeway.core.runtimeservices.queryresultscache.QueryResultsCacheSharedTierDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.causeway.core.runtimeservices.repository.RepositoryServiceDefault;
@@ -81,6 +83,7 @@
         CausewayModuleCoreCodegenByteBuddy.class,
 
         // @Service's
+        AsyncPublishingService.class,
         BookmarkServiceDefault.class,
         CommandDtoFactoryDefault.class,
         CommandExecutorServiceDefault.class,
@@ -109,6 +112,7 @@
         ObjectIconServiceDefault.class,
         ObjectLifecyclePublisherDefault.class,
         PlaceholderRenderServiceDefault.class,
+        QueryResultsCacheSharedTierDefault.class,
         LifecycleCallbackNotifier.class,
         SchemaValueMarshallerDefault.class,
         ScratchpadDefault.class,
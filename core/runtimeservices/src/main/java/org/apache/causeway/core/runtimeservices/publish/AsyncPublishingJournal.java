@@ -0,0 +1,313 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Append-only file journal of the payloads handed over to an {@link AsyncPublishingPipeline},
+ * so that payloads not yet delivered at the time the JVM goes down are re-delivered on restart
+ * (at-least-once delivery).
+ * <p>
+ * Each payload is written as a <code>+&lt;seq&gt; &lt;encoded payload&gt;</code> line when submitted
+ * and acknowledged by a <code>-&lt;seq&gt;</code> line once delivered.
+ * On opening, and once mostly made up of acknowledged payloads, the journal is compacted to hold
+ * the pending (unacknowledged) payloads only.
+ * <p>
+ * Appended payloads are synced to disk by the journal's sync thread (group commit), such that
+ * concurrent appends share a single <code>fsync</code>.
+ *
+ * @param <T> payload type
+ * @since 2.0
+ */
+@Log4j2
+final class AsyncPublishingJournal<T> {
+
+    /**
+     * Line based (and line break free) encoding of payloads.
+     */
+    static interface Codec<T> {
+        String encode(T payload);
+        T decode(String encoded);
+    }
+
+    /**
+     * The journal file is compacted once it has grown beyond this many lines,
+     * and more than half of these are acknowledged.
+     */
+    private static final int COMPACTION_THRESHOLD = 10_000;
+
+    private final File file;
+    private final Codec<T> codec;
+    private final Map<Long, String> pending = new TreeMap<>();
+    private long nextSequence = 0L;
+    private long linesWritten = 0L;
+    private FileOutputStream out;
+    private BufferedWriter writer;
+
+    // group commit, guarded by this
+    private long appendsWritten = 0L;
+    private long appendsSynced = 0L;
+    private @Nullable IOException syncFailure;
+    private boolean closed;
+
+    /**
+     * Payloads that were journaled yet never acknowledged, in submission order.
+     */
+    @Getter private final Can<Entry<T>> recovered;
+
+    @lombok.Value(staticConstructor = "of")
+    static class Entry<T> {
+        private final long sequence;
+        private final @NonNull T payload;
+    }
+
+    AsyncPublishingJournal(final @NonNull File file, final @NonNull Codec<T> codec) {
+        this.file = file;
+        this.codec = codec;
+        try {
+            readExisting();
+            this.recovered = Can.ofStream(pending.entrySet().stream()
+                    .map(e->Entry.of(e.getKey(), codec.decode(e.getValue()))));
+            rewritePending();
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    String.format("failed to open publishing journal %s", file.getAbsolutePath()), e);
+        }
+        val syncThread = new Thread(this::syncLoop, "causeway-async-publishing-journal-" + file.getName());
+        syncThread.setDaemon(true);
+        syncThread.start();
+    }
+
+    /**
+     * Durably records given payloads (before they are handed over to the queue),
+     * waiting for the sync thread to have synced these to disk.
+     */
+    synchronized Can<Entry<T>> append(final @NonNull Can<T> payloads) {
+        val entries = payloads.map(payload->Entry.of(nextSequence++, payload));
+        try {
+            for(val entry : entries) {
+                val encoded = codec.encode(entry.getPayload());
+                pending.put(entry.getSequence(), encoded);
+                writeLine("+" + entry.getSequence() + " " + encoded);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        val ticket = ++appendsWritten;
+        notifyAll(); // wakes up the sync thread
+        try {
+            // releases the monitor while waiting, so other appends join the same sync
+            while(appendsSynced < ticket
+                    && syncFailure == null
+                    && !closed) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for publishing journal to sync", e);
+        }
+        if(appendsSynced < ticket) {
+            throw syncFailure != null
+                    ? new UncheckedIOException(syncFailure)
+                    : new IllegalStateException("publishing journal closed");
+        }
+        return entries;
+    }
+
+    /**
+     * Records given payloads as delivered
+     * (not synced to disk, as once lost, these are merely re-delivered).
+     */
+    synchronized void acknowledge(final @NonNull Can<Entry<T>> entries) {
+        try {
+            for(val entry : entries) {
+                pending.remove(entry.getSequence());
+                writeLine("-" + entry.getSequence());
+            }
+            // amortized: the journal has to grow by at least as many lines as are pending, before compacted again
+            if(linesWritten > COMPACTION_THRESHOLD
+                    && linesWritten > 2L * pending.size()) {
+                rewritePending();
+                notifyAll(); // wakes up appends waiting for their sync
+            } else {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    synchronized void close() {
+        if(closed) {
+            return;
+        }
+        try {
+            if(writer!=null) {
+                writer.flush();
+                out.getFD().sync();
+                appendsSynced = appendsWritten;
+                writer.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer = null;
+            out = null;
+            closed = true;
+            notifyAll();
+        }
+    }
+
+    // -- GROUP COMMIT
+
+    /**
+     * Syncs all appends written so far with a single <code>fsync</code>, for as long as the journal is open.
+     */
+    private void syncLoop() {
+        while(true) {
+            final long target;
+            final FileOutputStream outToSync;
+            synchronized(this) {
+                try {
+                    while(appendsSynced == appendsWritten
+                            && !closed) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if(closed) {
+                    return;
+                }
+                target = appendsWritten;
+                outToSync = out;
+            }
+            // syncs outside the monitor, so appends can be written meanwhile
+            IOException failure = null;
+            try {
+                outToSync.getFD().sync();
+            } catch (IOException e) {
+                failure = e;
+            }
+            synchronized(this) {
+                if(outToSync != out) {
+                    // compacted (and synced) meanwhile, or closed
+                } else if(failure != null) {
+                    log.error("failed to sync publishing journal {}", file, failure);
+                    syncFailure = failure;
+                } else {
+                    appendsSynced = Math.max(appendsSynced, target);
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private void readExisting() throws IOException {
+        if(!file.exists()) {
+            return;
+        }
+        try(val lines = Files.lines(file.toPath(), StandardCharsets.UTF_8)) {
+            lines.forEach(line->{
+                val separatorIndex = line.indexOf(' ');
+                val isSubmission = line.startsWith("+");
+                if(isSubmission != separatorIndex>0) {
+                    log.warn("skipping malformed line in publishing journal {}: {}", file, line);
+                    return; // eg. a partially written line, when the JVM went down
+                }
+                final long sequence;
+                try {
+                    sequence = Long.parseLong(isSubmission
+                            ? line.substring(1, separatorIndex)
+                            : line.substring(1));
+                } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                    log.warn("skipping malformed line in publishing journal {}: {}", file, line);
+                    return;
+                }
+                nextSequence = Math.max(nextSequence, sequence + 1);
+                if(isSubmission) {
+                    pending.put(sequence, line.substring(separatorIndex + 1));
+                } else {
+                    pending.remove(sequence);
+                }
+            });
+        }
+    }
+
+    /**
+     * (Re-)creates (and syncs) the journal file holding the pending payloads only,
+     * which includes all appends written so far.
+     */
+    private void rewritePending() throws IOException {
+        if(writer!=null) {
+            writer.close();
+        }
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        val tmpFile = new File(file.getAbsolutePath() + ".tmp");
+        try(val tmpOut = new FileOutputStream(tmpFile);
+            val tmpWriter = new BufferedWriter(new OutputStreamWriter(tmpOut, StandardCharsets.UTF_8))) {
+            for(val e : pending.entrySet()) {
+                tmpWriter.write("+" + e.getKey() + " " + e.getValue());
+                tmpWriter.newLine();
+            }
+            tmpWriter.flush();
+            tmpOut.getFD().sync();
+        }
+        Files.move(tmpFile.toPath(), file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        linesWritten = pending.size();
+        out = new FileOutputStream(file, true);
+        writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        appendsSynced = appendsWritten;
+    }
+
+    private void writeLine(final String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+        linesWritten++;
+    }
+
+}
@@ -0,0 +1,420 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingJournal.Entry;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Delivers payloads to a single subscriber asynchronously, using one lane per worker thread,
+ * each lane being a bounded queue that is serviced by its worker, delivering the queued payloads in batches.
+ * <p>
+ * Payloads are assigned to lanes by a lane key (eg. the interaction id), such that all payloads
+ * sharing a lane key are delivered in the order they were submitted.
+ * <p>
+ * Once a lane's queue is full, the submitting thread waits (up to a configurable timeout)
+ * for space to become available, after which it delivers the payloads itself (backpressure),
+ * but only after delivering any still queued in that lane, so as to retain their order.
+ * <p>
+ * Payloads the subscriber failed to process are retried (with exponential backoff) before any others of
+ * their lane, so retaining their order.
+ * <p>
+ * If a journal is provided, payloads are journaled before being queued and acknowledged once
+ * delivered, so that any not delivered are re-delivered after a restart.
+ *
+ * @param <T> payload type
+ * @see AsyncPublishingService
+ * @since 2.0
+ */
+@Log4j2
+public final class AsyncPublishingPipeline<T> {
+
+    /**
+     * Snapshot of a pipeline's state.
+     */
+    @lombok.Value
+    public static class Metrics {
+        private final String name;
+        /** number of payloads currently queued (across all lanes) */
+        private final int queueDepth;
+        /** age of the oldest queued payload (zero if none) */
+        private final long lagMillis;
+        private final long submitted;
+        private final long delivered;
+        /** number of payloads delivered by the submitting thread, because the queue was full */
+        private final long deliveredByCaller;
+        /** number of payloads the subscriber failed to process (counting each attempt) */
+        private final long failed;
+        /** number of payloads waiting to be retried, because the subscriber failed to process these */
+        private final int awaitingRetry;
+        /** number of payloads journaled but not yet delivered, or -1 if not journaled */
+        private final int journalPending;
+    }
+
+    @Getter private final String name;
+    private final Consumer<Can<T>> deliverer;
+    private final Function<T, Object> laneKeyOf;
+    private final int batchSize;
+    private final long offerTimeoutNanos;
+    private final long retryBackoffNanos;
+    private final long maxRetryBackoffNanos;
+    private final Can<Lane<T>> lanes;
+    private final @Nullable AsyncPublishingJournal<T> journal;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder deliveredByCaller = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @lombok.Value
+    private static class Queued<T> {
+        private final Entry<T> entry;
+        private final long enqueuedAtNanos;
+    }
+
+    /**
+     * Bounded queue, delivered from by either its worker or (on overflow) a submitting thread,
+     * the latter holding the (fair) lock such that deliveries of a lane never overlap nor overtake each other.
+     */
+    private static class Lane<T> {
+        private final BlockingQueue<Queued<T>> queue;
+        private final ReentrantLock deliveryLock = new ReentrantLock(true);
+        /** failed to deliver, to be retried before any queued ones; guarded by the delivery lock */
+        private final List<Entry<T>> undelivered = new ArrayList<>();
+        private int consecutiveFailures;
+        private long retryAtNanos;
+        private volatile int undeliveredCount;
+        Lane(final int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+        boolean isBackingOff() {
+            return !undelivered.isEmpty()
+                    && retryAtNanos - System.nanoTime() > 0;
+        }
+        void setUndelivered(final Can<Entry<T>> entries) {
+            undelivered.clear();
+            entries.forEach(undelivered::add);
+            undeliveredCount = undelivered.size();
+        }
+    }
+
+    /**
+     * @param deliverer - delivers a batch of payloads to the subscriber, is expected to set up
+     *      any interaction and transaction the subscriber requires
+     * @param laneKeyOf - payloads with equal lane keys are delivered in order
+     * @param queueCapacity - per lane
+     * @param workerThreads - number of lanes
+     * @param retryBackoff - how long to wait before retrying a failed delivery, doubled on each further failure
+     * @param maxRetryBackoff - upper bound for the above
+     */
+    AsyncPublishingPipeline(
+            final @NonNull String name,
+            final @NonNull Consumer<Can<T>> deliverer,
+            final @NonNull Function<T, Object> laneKeyOf,
+            final int queueCapacity,
+            final int batchSize,
+            final int workerThreads,
+            final @NonNull Duration offerTimeout,
+            final @NonNull Duration retryBackoff,
+            final @NonNull Duration maxRetryBackoff,
+            final @Nullable AsyncPublishingJournal<T> journal) {
+        this.name = name;
+        this.deliverer = deliverer;
+        this.laneKeyOf = laneKeyOf;
+        this.batchSize = batchSize;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.maxRetryBackoffNanos = maxRetryBackoff.toNanos();
+        this.lanes = Can.ofStream(IntStream.range(0, workerThreads)
+                .mapToObj(__->new Lane<T>(queueCapacity)));
+        this.journal = journal;
+
+        val threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable->{
+            val thread = new Thread(runnable,
+                    String.format("causeway-async-publishing-%s-%d", name, threadCount.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if(journal!=null) {
+            recover(journal.getRecovered());
+        }
+        lanes.forEach(lane->workers.execute(()->work(lane)));
+    }
+
+    /**
+     * Hands over given payloads for asynchronous delivery,
+     * delivering any that do not fit into their lane's queue (in time) on the calling thread.
+     */
+    public void submit(final @NonNull Can<T> payloads) {
+        enqueue(journal(payloads));
+    }
+
+    /**
+     * Journals given payloads (if journaled), but does not yet hand these over for delivery,
+     * which is done by a subsequent {@link #enqueue(Can)}, unless {@link #discard(Can) discarded}.
+     */
+    Can<Entry<T>> journal(final @NonNull Can<T> payloads) {
+        return journal!=null
+                ? journal.append(payloads)
+                : payloads.map(payload->Entry.of(-1L, payload));
+    }
+
+    /**
+     * Hands over given {@link #journal(Can) journaled} payloads for asynchronous delivery,
+     * delivering any that do not fit into their lane's queue (in time) on the calling thread.
+     */
+    void enqueue(final @NonNull Can<Entry<T>> entries) {
+        if(entries.isEmpty()) {
+            return;
+        }
+        submitted.add(entries.size());
+
+        // entries of a lane following one that did not fit are not queued either, to retain their order
+        val overflowByLane = new LinkedHashMap<Lane<T>, List<Entry<T>>>();
+        for(val entry : entries) {
+            val lane = laneOf(entry);
+            val overflow = overflowByLane.get(lane);
+            if(overflow!=null) {
+                overflow.add(entry);
+            } else if(!running
+                    || !offer(lane, entry)) {
+                overflowByLane.computeIfAbsent(lane, __->new ArrayList<>()).add(entry);
+            }
+        }
+        overflowByLane.forEach(this::deliverOverflow);
+    }
+
+    /**
+     * Discards given {@link #journal(Can) journaled} payloads, eg. because the transaction
+     * that published these was rolled back.
+     */
+    void discard(final @NonNull Can<Entry<T>> entries) {
+        if(journal!=null
+                && entries.isNotEmpty()) {
+            journal.acknowledge(entries);
+        }
+    }
+
+    public Metrics getMetrics() {
+        val now = System.nanoTime();
+        val lagNanos = lanes.stream()
+                .map(lane->Optional.ofNullable(lane.queue.peek()))
+                .flatMap(Optional::stream)
+                .mapToLong(queued->now - queued.getEnqueuedAtNanos())
+                .max()
+                .orElse(0L);
+        return new Metrics(
+                name,
+                lanes.stream().mapToInt(lane->lane.queue.size()).sum(),
+                TimeUnit.NANOSECONDS.toMillis(lagNanos),
+                submitted.sum(),
+                delivered.sum(),
+                deliveredByCaller.sum(),
+                failed.sum(),
+                lanes.stream().mapToInt(lane->lane.undeliveredCount).sum(),
+                journal!=null
+                    ? journal.getPendingCount()
+                    : -1);
+    }
+
+    /**
+     * Stops accepting new payloads, and waits (up to given timeout) for the queued ones to be delivered,
+     * except for lanes waiting to retry a failed delivery.
+     * Any payloads not delivered thereafter remain in the journal (if any).
+     */
+    void shutdown(final @NonNull Duration timeout) {
+        running = false;
+        workers.shutdown();
+        try {
+            if(!workers.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("{}: {} payload(s) not delivered on shutdown", name, getMetrics().getQueueDepth());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        } finally {
+            if(journal!=null) {
+                journal.close();
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private Lane<T> laneOf(final Entry<T> entry) {
+        return lanes.getElseFail(
+                Math.floorMod(Objects.hashCode(laneKeyOf.apply(entry.getPayload())), lanes.size()));
+    }
+
+    private boolean offer(final Lane<T> lane, final Entry<T> entry) {
+        try {
+            return lane.queue.offer(new Queued<>(entry, System.nanoTime()), offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recover(final Can<Entry<T>> recovered) {
+        if(recovered.isEmpty()) {
+            return;
+        }
+        log.info("{}: re-delivering {} journaled payload(s)", name, recovered.size());
+        for(val entry : recovered) {
+            if(!laneOf(entry).queue.offer(new Queued<>(entry, System.nanoTime()))) {
+                // remaining ones stay journaled, to be picked up by a later restart
+                log.warn("{}: queue full, postponing re-delivery of journaled payloads", name);
+                return;
+            }
+        }
+    }
+
+    private void work(final Lane<T> lane) {
+        final List<Queued<T>> batch = new ArrayList<>(batchSize);
+        while(true) {
+            long backOffNanos = 0L;
+            lane.deliveryLock.lock();
+            try {
+                if(!running
+                        && (lane.queue.isEmpty()
+                                || !lane.undelivered.isEmpty())) {
+                    return; // any undelivered remain journaled (if journaled)
+                }
+                if(!lane.undelivered.isEmpty()) {
+                    backOffNanos = lane.retryAtNanos - System.nanoTime();
+                    if(backOffNanos <= 0L) {
+                        // retries those failed, along with any queued meanwhile (up to the batch size)
+                        lane.queue.drainTo(batch, Math.max(0, batchSize - lane.undelivered.size()));
+                        deliver(lane, Can.ofCollection(lane.undelivered)
+                                .addAll(Can.ofCollection(batch).map(Queued::getEntry)));
+                    }
+                    continue;
+                }
+                val first = lane.queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first==null) {
+                    continue;
+                }
+                batch.add(first);
+                lane.queue.drainTo(batch, batchSize - 1);
+                deliver(lane, Can.ofCollection(batch).map(Queued::getEntry));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+                lane.deliveryLock.unlock();
+                // backs off without holding the lock
+                if(backOffNanos > 0L) {
+                    sleepNanos(Math.min(backOffNanos, TimeUnit.MILLISECONDS.toNanos(100)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Delivers given entries on the calling thread, preceded by any still queued in their lane
+     * (and any failed before); unless the lane is backing off from a failed delivery, in which
+     * case all of these are left for its worker to retry.
+     */
+    private void deliverOverflow(final Lane<T> lane, final List<Entry<T>> overflow) {
+        lane.deliveryLock.lock();
+        try {
+            final List<Queued<T>> queued = new ArrayList<>();
+            lane.queue.drainTo(queued);
+            val entries = Can.ofCollection(lane.undelivered)
+                    .addAll(Can.ofStream(queued.stream().map(Queued::getEntry)))
+                    .addAll(Can.ofCollection(overflow));
+            if(lane.isBackingOff()) {
+                log.debug("{}: queue full, leaving {} payload(s) for retry", name, entries.size());
+                lane.setUndelivered(entries);
+                return;
+            }
+            log.debug("{}: queue full, delivering {} payload(s) on calling thread", name, entries.size());
+            deliveredByCaller.add(entries.size());
+            deliver(lane, entries);
+        } finally {
+            lane.deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Delivers given entries of given lane (requires its delivery lock);
+     * on failure these become the lane's undelivered ones, to be retried after backing off.
+     */
+    private void deliver(final Lane<T> lane, final Can<Entry<T>> entries) {
+        try {
+            deliverer.accept(entries.map(Entry::getPayload));
+            delivered.add(entries.size());
+            lane.setUndelivered(Can.empty());
+            lane.consecutiveFailures = 0;
+            if(journal!=null) {
+                journal.acknowledge(entries);
+            }
+        } catch (Exception e) {
+            failed.add(entries.size());
+            lane.setUndelivered(entries);
+            lane.consecutiveFailures++;
+            val backOffNanos = Math.min(
+                    retryBackoffNanos << Math.min(lane.consecutiveFailures - 1, 20),
+                    maxRetryBackoffNanos);
+            lane.retryAtNanos = System.nanoTime() + backOffNanos;
+            log.error("{}: failed to deliver {} payload(s), retrying in {} ms", name, entries.size(),
+                    TimeUnit.NANOSECONDS.toMillis(backOffNanos), e);
+        }
+    }
+
+    private static void sleepNanos(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Manages the {@link AsyncPublishingPipeline}s of those subscribers that are configured
+ * to be called asynchronously
+ * (<code>causeway.core.runtime-services.publishing.async.subscribers</code>),
+ * one pipeline per subscriber and kind of payload.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".AsyncPublishingService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AsyncPublishingService {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final CausewayConfiguration.Core.RuntimeServices.Publishing.Async config;
+    private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+
+    private final Map<String, AsyncPublishingPipeline<?>> pipelinesByKey = new ConcurrentHashMap<>();
+
+    @Inject
+    public AsyncPublishingService(
+            final CausewayConfiguration causewayConfiguration,
+            final Provider<InteractionService> interactionServiceProvider,
+            final Provider<TransactionService> transactionServiceProvider) {
+        this.config = causewayConfiguration.getCore().getRuntimeServices().getPublishing().getAsync();
+        this.interactionServiceProvider = interactionServiceProvider;
+        this.transactionServiceProvider = transactionServiceProvider;
+    }
+
+    /**
+     * Whether given subscriber is configured to be called asynchronously.
+     */
+    public boolean isAsync(final @NonNull Object subscriber) {
+        val subscriberClass = subscriber.getClass();
+        return config.getSubscribers().contains(subscriberClass.getName())
+                || config.getSubscribers().contains(logicalNameOf(subscriber));
+    }
+
+    /**
+     * The pipeline of given subscriber for given kind of payload, created on first call.
+     *
+     * @param role - kind of payload, distinguishes pipelines of subscribers that implement multiple SPIs
+     * @param delivery - calls the subscriber; is called within an interaction and its own transaction
+     * @param laneKeyOf - payloads with equal lane keys (eg. those of the same interaction) are delivered in order
+     * @param journalCodec - if not {@code null} and a journal directory is configured,
+     *      payloads are journaled (using this codec) for at-least-once delivery
+     */
+    <S, T> AsyncPublishingPipeline<T> pipelineFor(
+            final @NonNull S subscriber,
+            final @NonNull String role,
+            final @NonNull BiConsumer<S, Can<T>> delivery,
+            final @NonNull Function<T, Object> laneKeyOf,
+            final @Nullable AsyncPublishingJournal.Codec<T> journalCodec) {
+        val name = logicalNameOf(subscriber) + "." + role;
+        return _Casts.uncheckedCast(pipelinesByKey.computeIfAbsent(name, __->{
+            val journal = journalCodec!=null
+                    && _Strings.isNotEmpty(config.getJournalDirectory())
+                    ? new AsyncPublishingJournal<T>(
+                            new File(config.getJournalDirectory(), name + ".journal"), journalCodec)
+                    : null;
+            log.info("creating async publishing pipeline {} (journaled: {})", name, journal!=null);
+            return new AsyncPublishingPipeline<T>(
+                    name,
+                    payloads->deliverWithinTransaction(()->delivery.accept(subscriber, payloads)),
+                    laneKeyOf,
+                    config.getQueueCapacity(),
+                    config.getBatchSize(),
+                    config.getWorkerThreads(),
+                    config.getOfferTimeout(),
+                    config.getRetryBackoff(),
+                    config.getMaxRetryBackoff(),
+                    journal);
+        }));
+    }
+
+    /**
+     * Submits given payloads to given pipeline once the current transaction has committed
+     * (discarding them should it roll back), or immediately if there is no current transaction.
+     * <p>
+     * The payloads are journaled (if the pipeline is journaled) right away, that is, still within
+     * the current transaction, such that these survive the JVM going down after the commit
+     * but before their delivery. Should the JVM go down in between journaling and commit,
+     * the payloads are re-delivered on restart even though their transaction did not commit
+     * (at-least-once delivery).
+     */
+    <T> void submitAfterCommit(
+            final @NonNull AsyncPublishingPipeline<T> pipeline,
+            final @NonNull Can<T> payloads) {
+        if(payloads.isEmpty()) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pipeline.submit(payloads);
+            return;
+        }
+        val entries = pipeline.journal(payloads);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if(status==STATUS_COMMITTED) {
+                    pipeline.enqueue(entries);
+                } else {
+                    pipeline.discard(entries);
+                }
+            }
+        });
+    }
+
+    /**
+     * Current metrics (queue depth, lag, etc.) of all pipelines.
+     */
+    public Can<AsyncPublishingPipeline.Metrics> getMetrics() {
+        return Can.ofCollection(pipelinesByKey.values())
+                .map(AsyncPublishingPipeline::getMetrics);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pipelinesByKey.values()
+            .forEach(pipeline->pipeline.shutdown(SHUTDOWN_TIMEOUT));
+        pipelinesByKey.clear();
+    }
+
+    // -- HELPER
+
+    private void deliverWithinTransaction(final Runnable delivery) {
+        val interactionService = interactionServiceProvider.get();
+        val transactionService = transactionServiceProvider.get();
+        final Runnable deliveryWithinTransaction = ()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, delivery::run)
+                .ifFailureFail();
+        if(interactionService.isInInteraction()) {
+            // eg. the submitting thread delivering itself, because the queue was full
+            deliveryWithinTransaction.run();
+        } else {
+            interactionService.runAnonymous(deliveryWithinTransaction::run);
+        }
+    }
+
+    private static String logicalNameOf(final Object subscriber) {
+        val named = subscriber.getClass().getAnnotation(Named.class);
+        return named!=null
+                ? named.value()
+                : subscriber.getClass().getName();
+    }
+
+}
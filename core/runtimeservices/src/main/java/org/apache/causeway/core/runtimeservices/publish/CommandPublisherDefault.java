@@ -33,6 +33,7 @@
 import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
@@ -50,17 +51,33 @@ public class CommandPublisherDefault implements CommandPublisher {
 
     final List<CommandSubscriber> subscribers;
     final Provider<InteractionLayerTracker> interactionServiceProvider;
+    final AsyncPublishingService asyncPublishingService;
 
     final Can<CommandSubscriber> enabledSubscribers;
+    final Can<CommandSubscriber> synchronousSubscribers;
+    final Can<AsyncPublishingPipeline<PhasedCommand>> asyncPipelines;
 
     public CommandPublisherDefault(
             final List<CommandSubscriber> subscribers,
-            final Provider<InteractionLayerTracker> interactionServiceProvider) {
+            final Provider<InteractionLayerTracker> interactionServiceProvider,
+            final AsyncPublishingService asyncPublishingService) {
         this.subscribers = subscribers;
         this.interactionServiceProvider = interactionServiceProvider;
+        this.asyncPublishingService = asyncPublishingService;
 
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        synchronousSubscribers = enabledSubscribers
+                .filter(subscriber->!asyncPublishingService.isAsync(subscriber));
+        asyncPipelines = enabledSubscribers
+                .filter(asyncPublishingService::isAsync)
+                .map(subscriber->asyncPublishingService.pipelineFor(
+                        subscriber,
+                        "commands",
+                        (final CommandSubscriber s, final Can<PhasedCommand> phasedCommands)->
+                            phasedCommands.forEach(phasedCommand->phasedCommand.deliverTo(s)),
+                        phasedCommand->phasedCommand.getCommand().getInteractionId(),
+                        new PhasedCommandJournalCodec()));
     }
 
     @Override
@@ -74,7 +91,8 @@ public void ready(@NonNull final Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isReady()) {
             log.debug("about to PUBLISH command {}: {} to {}", "ready", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onReady(command));
+            synchronousSubscribers.forEach(subscriber -> subscriber.onReady(command));
+            publishAsync(Phase.READY, command);
         }
 
         _Xray.exitPublishing(handle);
@@ -91,7 +109,8 @@ public void start(@NonNull final Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isStarted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "started", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onStarted(command));
+            synchronousSubscribers.forEach(subscriber -> subscriber.onStarted(command));
+            publishAsync(Phase.STARTED, command);
         }
 
         _Xray.exitPublishing(handle);
@@ -108,12 +127,74 @@ public void complete(final @NonNull Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isCompleted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "completed", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+            synchronousSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+            publishAsync(Phase.COMPLETED, command);
         }
 
         _Xray.exitPublishing(handle);
     }
 
+    // -- ASYNC PUBLISHING
+
+    static enum Phase {
+        READY,
+        STARTED,
+        COMPLETED
+    }
+
+    /**
+     * A phase of a command, along with a snapshot of the command as at that phase
+     * (as the command itself moves on to its next phase, while this one is still waiting to be delivered).
+     */
+    @lombok.Value(staticConstructor = "of")
+    static class PhasedCommand {
+        private final Phase phase;
+        private final Command command;
+        void deliverTo(final CommandSubscriber subscriber) {
+            switch (phase) {
+            case READY:
+                subscriber.onReady(command);
+                return;
+            case STARTED:
+                subscriber.onStarted(command);
+                return;
+            case COMPLETED:
+                subscriber.onCompleted(command);
+                return;
+            }
+        }
+    }
+
+    private void publishAsync(final Phase phase, final Command command) {
+        if(asyncPipelines.isEmpty()) {
+            return;
+        }
+        val phasedCommand = PhasedCommand.of(phase, snapshotOf(command));
+        for (val pipeline : asyncPipelines) {
+            asyncPublishingService.submitAfterCommit(pipeline, Can.ofSingleton(phasedCommand));
+        }
+    }
+
+    /**
+     * Copy of given command, sharing its {@link Command#getCommandDto() CommandDto}, which is not
+     * modified once the command is ready.
+     */
+    static Command snapshotOf(final Command command) {
+        val snapshot = new Command(command.getInteractionId());
+        val updater = snapshot.updater();
+        if(command.getCommandDto()!=null) {
+            updater.setCommandDtoAndIdentifier(command.getCommandDto());
+        }
+        updater.setParentInteractionId(command.getParentInteractionId());
+        updater.setStartedAt(command.getStartedAt());
+        updater.setCompletedAt(command.getCompletedAt());
+        updater.setResult(command.getException()!=null
+                ? Try.failure(command.getException())
+                : Try.success(command.getResult()));
+        updater.setPublishingPhase(command.getPublishingPhase());
+        return snapshot;
+    }
+
     // -- HELPER
 
     private boolean canPublish(final Command command) {
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.val;
+
+/**
+ * Encodes {@link EntityPropertyChange}s as a single line of comma separated, url-base64 encoded fields.
+ */
+final class EntityPropertyChangeJournalCodec
+implements AsyncPublishingJournal.Codec<EntityPropertyChange> {
+
+    private static final String NULL = "~"; // not part of the url-base64 alphabet
+
+    @Override
+    public String encode(final EntityPropertyChange change) {
+        return Stream.of(
+                change.getInteractionId().toString(),
+                Integer.toString(change.getSequence()),
+                change.getTarget().stringify(),
+                change.getLogicalMemberIdentifier(),
+                change.getPropertyId(),
+                change.getPreValue(),
+                change.getPostValue(),
+                change.getUsername(),
+                change.getTimestamp().toInstant().toString())
+            .map(EntityPropertyChangeJournalCodec::encodeField)
+            .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public EntityPropertyChange decode(final String encoded) {
+        val fields = encoded.split(",", -1);
+        final Function<Integer, String> field = index->decodeField(fields[index]);
+        return EntityPropertyChange.of(
+                UUID.fromString(field.apply(0)),
+                Integer.parseInt(field.apply(1)),
+                Bookmark.parseElseFail(field.apply(2)),
+                field.apply(3),
+                field.apply(4),
+                field.apply(5),
+                field.apply(6),
+                field.apply(7),
+                Timestamp.from(Instant.parse(field.apply(8))));
+    }
+
+    // -- HELPER
+
+    private static String encodeField(final @Nullable String value) {
+        return value!=null
+                ? _Strings.base64UrlEncode(value)
+                : NULL;
+    }
+
+    private static @Nullable String decodeField(final String encoded) {
+        return NULL.equals(encoded)
+                ? null
+                : _Strings.base64UrlDecode(encoded);
+    }
+
+}
@@ -66,13 +66,26 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final InteractionService interactionService;
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
+    private final AsyncPublishingService asyncPublishingService;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> synchronousSubscribers = Can.empty();
+    private Can<AsyncPublishingPipeline<EntityPropertyChange>> asyncPipelines = Can.empty();
 
     @PostConstruct
     public void init() {
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        synchronousSubscribers = enabledSubscribers
+                .filter(subscriber->!asyncPublishingService.isAsync(subscriber));
+        asyncPipelines = enabledSubscribers
+                .filter(asyncPublishingService::isAsync)
+                .map(subscriber->asyncPublishingService.pipelineFor(
+                        subscriber,
+                        "entityPropertyChanges",
+                        EntityPropertyChangeSubscriber::onChangingBatch,
+                        EntityPropertyChange::getInteractionId,
+                        new EntityPropertyChangeJournalCodec()));
     }
 
     private HasEnlistedEntityPropertyChanges hasEnlistedEntityPropertyChanges() {
@@ -106,11 +119,15 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(propertyChanges)
             );
 
-            propertyChanges.forEach(propertyChange->{
-                for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChange);
+            if(propertyChanges.isNotEmpty()) {
+                // subscriber by subscriber, each receiving all changes (not change by change)
+                for (val subscriber : synchronousSubscribers) {
+                    subscriber.onChangingBatch(propertyChanges);
                 }
-            });
+                for (val pipeline : asyncPipelines) {
+                    asyncPublishingService.submitAfterCommit(pipeline, propertyChanges);
+                }
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
@@ -91,6 +91,14 @@ public void onPreUpdate(
         lifecycleCallbackNotifier().preUpdate(entity);
     }
 
+    @Override
+    public void onPreFlushUpdate(
+            final ManagedObject entity,
+            final Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
+        entityChangeTracker()
+            .ifPresent(entityChangeTracker->entityChangeTracker.enlistUpdating(entity, propertyChangeRecordSupplier));
+    }
+
     @Override
     public void onPostUpdate(final ManagedObject entity) {
         lifecycleCallbackNotifier().postUpdate(entity);
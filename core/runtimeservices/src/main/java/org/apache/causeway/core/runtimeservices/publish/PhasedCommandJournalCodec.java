@@ -0,0 +1,174 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.command.Command.CommandPublishingPhase;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.runtimeservices.publish.CommandPublisherDefault.Phase;
+import org.apache.causeway.core.runtimeservices.publish.CommandPublisherDefault.PhasedCommand;
+
+import lombok.val;
+
+/**
+ * Encodes {@link PhasedCommand}s as a single line of comma separated, url-base64 encoded fields,
+ * the command itself by its {@link Command#getCommandDto() CommandDto}
+ * (as per {@link CommandDtoUtils#storageCodec()}), along with those of its details not held by the latter.
+ * <p>
+ * A command's exception is restored as a {@link JournaledException}, retaining its description and stack trace
+ * (class, method, file and line of each element).
+ */
+final class PhasedCommandJournalCodec
+implements AsyncPublishingJournal.Codec<PhasedCommand> {
+
+    private static final String NULL = "~"; // not part of the url-base64 alphabet
+
+    @Override
+    public String encode(final PhasedCommand phasedCommand) {
+        val command = phasedCommand.getCommand();
+        return Stream.of(
+                phasedCommand.getPhase().name(),
+                command.getInteractionId().toString(),
+                CommandDtoUtils.storageCodec().encode(command.getCommandDto(), DtoStorageFormat.JSON_GZIP),
+                toStringOrNull(command.getParentInteractionId()),
+                toStringOrNull(command.getStartedAt()!=null ? command.getStartedAt().toInstant() : null),
+                toStringOrNull(command.getCompletedAt()!=null ? command.getCompletedAt().toInstant() : null),
+                command.getResult()!=null ? command.getResult().stringify() : null,
+                command.getException()!=null ? encodeException(command.getException()) : null,
+                command.getPublishingPhase().name())
+            .map(PhasedCommandJournalCodec::encodeField)
+            .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public PhasedCommand decode(final String encoded) {
+        val fields = encoded.split(",", -1);
+        final Function<Integer, String> field = index->decodeField(fields[index]);
+
+        val command = new Command(UUID.fromString(field.apply(1)));
+        val updater = command.updater();
+        val commandDto = CommandDtoUtils.storageCodec().decode(field.apply(2));
+        if(commandDto!=null) {
+            updater.setCommandDtoAndIdentifier(commandDto);
+        }
+        updater.setParentInteractionId(mapIfPresent(field.apply(3), UUID::fromString));
+        updater.setStartedAt(mapIfPresent(field.apply(4), PhasedCommandJournalCodec::parseTimestamp));
+        updater.setCompletedAt(mapIfPresent(field.apply(5), PhasedCommandJournalCodec::parseTimestamp));
+        val exception = field.apply(7);
+        updater.setResult(exception!=null
+                ? Try.failure(decodeException(exception))
+                : Try.success(mapIfPresent(field.apply(6), Bookmark::parseElseFail)));
+        updater.setPublishingPhase(CommandPublishingPhase.valueOf(field.apply(8)));
+        return PhasedCommand.of(Phase.valueOf(field.apply(0)), command);
+    }
+
+    /**
+     * Stands in for a command's exception, once re-read from the journal.
+     */
+    static final class JournaledException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final String description;
+        JournaledException(final String description, final StackTraceElement[] stackTrace) {
+            super(description, null, false, true);
+            this.description = description;
+            setStackTrace(stackTrace);
+        }
+        /**
+         * As of the original exception.
+         */
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Its description, followed by one line per stack trace element, holding its tab separated fields.
+     */
+    private static String encodeException(final Throwable exception) {
+        return Stream.concat(
+                Stream.of(_Strings.base64UrlEncode(exception.toString())),
+                Stream.of(exception.getStackTrace())
+                    .map(element->String.join("\t",
+                            element.getClassName(),
+                            element.getMethodName(),
+                            _Strings.nullToEmpty(element.getFileName()),
+                            Integer.toString(element.getLineNumber()))))
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static JournaledException decodeException(final String encoded) {
+        val lines = encoded.split("\n");
+        val stackTrace = Arrays.stream(lines, 1, lines.length)
+                .map(line->line.split("\t", -1))
+                .map(parts->new StackTraceElement(
+                        parts[0],
+                        parts[1],
+                        _Strings.emptyToNull(parts[2]),
+                        Integer.parseInt(parts[3])))
+                .toArray(StackTraceElement[]::new);
+        return new JournaledException(_Strings.base64UrlDecode(lines[0]), stackTrace);
+    }
+
+    private static Timestamp parseTimestamp(final String instant) {
+        return Timestamp.from(Instant.parse(instant));
+    }
+
+    private static @Nullable String toStringOrNull(final @Nullable Object value) {
+        return value!=null
+                ? value.toString()
+                : null;
+    }
+
+    @Nullable
+    private static <R> R mapIfPresent(final @Nullable String value, final Function<String, R> mapper) {
+        return value!=null
+                ? mapper.apply(value)
+                : null;
+    }
+
+    private static String encodeField(final @Nullable String value) {
+        return value!=null
+                ? _Strings.base64UrlEncode(value)
+                : NULL;
+    }
+
+    private static @Nullable String decodeField(final String encoded) {
+        return NULL.equals(encoded)
+                ? null
+                : _Strings.base64UrlDecode(encoded);
+    }
+
+}
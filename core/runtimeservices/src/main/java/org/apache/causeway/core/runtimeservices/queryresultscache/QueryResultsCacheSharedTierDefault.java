@@ -0,0 +1,432 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheSharedTier;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
+import org.apache.causeway.core.transaction.changetracking.events.EntityTypesChangedEvent;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link QueryResultsCacheSharedTier}, bounded by size
+ * (least recently used are evicted first) and by time to live.
+ * <p>
+ * Only used if enabled via <code>causeway.core.runtime-services.query-results-cache.shared-tier.enabled</code>,
+ * and only for results of {@link QueryResultsCache#executeShared(Callable, Class, String, Object...)}.
+ * <p>
+ * Only results that are made up of entities and values (either as a single object, an {@link Optional},
+ * a {@link List} or a {@link Set}) are cached; entities are held by {@link Bookmark}, so that each
+ * interaction works with entity instances of its own persistence context.
+ * <p>
+ * Cached results are invalidated, once a transaction that changed any entity of a type they
+ * are made up of has committed; those not made up of any entities, whenever any entity was changed.
+ * <p>
+ * Within a transaction that has already enlisted changes of any entities (which are not yet committed,
+ * hence must not be seen by other interactions), results are neither cached nor looked up.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".QueryResultsCacheSharedTierDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class QueryResultsCacheSharedTierDefault implements QueryResultsCacheSharedTier {
+
+    @Getter private final boolean enabled;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Provider<SpecificationLoader> specificationLoaderProvider;
+    private final Provider<BookmarkService> bookmarkServiceProvider;
+    private final Provider<ObjectManager> objectManagerProvider;
+    private final Supplier<Can<Class<?>>> enlistedEntityTypes;
+
+    private final Object $lock = new Object();
+    private final Map<QueryResultsCache.Key, CacheEntry> entriesByKey;
+    private long generation; // guarded by $lock; incremented on each invalidation
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Inject
+    public QueryResultsCacheSharedTierDefault(
+            final CausewayConfiguration causewayConfiguration,
+            final InteractionService interactionService,
+            final Provider<SpecificationLoader> specificationLoaderProvider,
+            final Provider<BookmarkService> bookmarkServiceProvider,
+            final Provider<ObjectManager> objectManagerProvider,
+            final Provider<EntityChangeTracker> entityChangeTrackerProvider) {
+        this(causewayConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getSharedTier(),
+                System::nanoTime,
+                specificationLoaderProvider,
+                bookmarkServiceProvider,
+                objectManagerProvider,
+                ()->interactionService.isInInteraction()
+                    ? entityChangeTrackerProvider.get().getEnlistedEntityTypes()
+                    : Can.empty());
+    }
+
+    // JUnit support
+    QueryResultsCacheSharedTierDefault(
+            final CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.SharedTier config,
+            final LongSupplier nanoClock,
+            final Provider<SpecificationLoader> specificationLoaderProvider,
+            final Provider<BookmarkService> bookmarkServiceProvider,
+            final Provider<ObjectManager> objectManagerProvider,
+            final Supplier<Can<Class<?>>> enlistedEntityTypes) {
+        this.enabled = config.isEnabled();
+        this.maxSize = config.getMaxSize();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nanoClock = nanoClock;
+        this.specificationLoaderProvider = specificationLoaderProvider;
+        this.bookmarkServiceProvider = bookmarkServiceProvider;
+        this.objectManagerProvider = objectManagerProvider;
+        this.enlistedEntityTypes = enlistedEntityTypes;
+        this.entriesByKey = new LinkedHashMap<>(16, 0.75f, true); // access order
+    }
+
+    @Override
+    public <T> T computeIfAbsent(
+            final @NonNull QueryResultsCache.Key key,
+            final @NonNull Callable<T> callable) throws Exception {
+
+        if(!enabled) {
+            return callable.call();
+        }
+        if(enlistedEntityTypes.get().isNotEmpty()) {
+            // would otherwise share (or be based on) state not yet committed
+            return callable.call();
+        }
+
+        final long generationBeforeLookup;
+        final CacheEntry cachedEntry;
+        synchronized($lock) {
+            val entry = entriesByKey.get(key);
+            if(entry!=null
+                    && entry.isExpired(nanoClock.getAsLong())) {
+                entriesByKey.remove(key);
+                evictions.increment();
+                cachedEntry = null;
+            } else {
+                cachedEntry = entry;
+            }
+            generationBeforeLookup = generation;
+        }
+
+        if(cachedEntry!=null) {
+            // re-fetches entities outside the lock
+            val restored = cachedEntry.getSnapshot().restore(objectManagerProvider.get());
+            if(restored.isPresent()) {
+                hits.increment();
+                return _Casts.uncheckedCast(restored.get().getResult());
+            }
+            // some entity no longer exists
+            synchronized($lock) {
+                entriesByKey.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        val result = callable.call();
+
+        snapshot(result)
+        .ifPresent(snapshot->{
+            synchronized($lock) {
+                // don't cache, if invalidated while computing, as might have read stale data
+                if(generationBeforeLookup == generation) {
+                    entriesByKey.put(key, new CacheEntry(snapshot, nanoClock.getAsLong() + timeToLiveNanos));
+                    evictEldestWhileOversized();
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public void invalidateAll() {
+        synchronized($lock) {
+            ++generation;
+            invalidations.add(entriesByKey.size());
+            entriesByKey.clear();
+        }
+        log.debug("shared query results cache invalidated");
+    }
+
+    public Statistics getStatistics() {
+        final int size;
+        synchronized($lock) {
+            size = entriesByKey.size();
+        }
+        return new Statistics(size, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    @EventListener(EntityTypesChangedEvent.class)
+    public void onEntityTypesChanged(final EntityTypesChangedEvent event) {
+        if(!enabled) {
+            return;
+        }
+        synchronized($lock) {
+            ++generation;
+            val iterator = entriesByKey.values().iterator();
+            while(iterator.hasNext()) {
+                if(iterator.next().getSnapshot().isDependentOn(event)) {
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Results computed within a transaction that was rolled back might reflect changes that
+     * never made it to the database, unless the transaction did not change any entities.
+     * <p>
+     * Ordered early, so as to see the entity types enlisted by the transaction, before these are cleared.
+     */
+    @EventListener(TransactionAfterCompletionEvent.class)
+    @Order(PriorityPrecedence.EARLY)
+    public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        if(!enabled
+                || event.isCommitted()
+                || enlistedEntityTypes.get().isEmpty()) {
+            return;
+        }
+        invalidateAll();
+    }
+
+    // -- STATISTICS
+
+    @Value
+    public static class Statistics {
+        int size;
+        long hits;
+        long misses;
+        long evictions;
+        long invalidations;
+
+        @Override
+        public String toString() {
+            return String.format("size=%d, hits=%d, misses=%d, evictions=%d, invalidations=%d",
+                    size, hits, misses, evictions, invalidations);
+        }
+    }
+
+    // -- SNAPSHOT
+
+    /**
+     * Holds a result with any entities replaced by their bookmarks.
+     */
+    @Value
+    static class Snapshot {
+
+        static enum Shape {
+            SINGULAR,
+            OPTIONAL,
+            LIST,
+            SET
+        }
+
+        @Value
+        static class EntityRef {
+            Bookmark bookmark;
+        }
+
+        @Value
+        static class Restored {
+            @Nullable Object result;
+        }
+
+        Shape shape;
+        /** values as is, entities as {@link EntityRef} */
+        List<Object> elements;
+        /** empty if not made up of any entities */
+        Can<Class<?>> entityTypes;
+
+        boolean isDependentOn(final EntityTypesChangedEvent event) {
+            return entityTypes.isEmpty()
+                    || entityTypes.stream().anyMatch(entityType->
+                        event.getEntityTypes().stream().anyMatch(changedType->
+                            entityType.isAssignableFrom(changedType)
+                            || changedType.isAssignableFrom(entityType)));
+        }
+
+        /**
+         * Empty if any of the entities no longer exists.
+         * @implNote fetches entities in bulk, rather than one at a time
+         */
+        Optional<Restored> restore(final ObjectManager objectManager) {
+            val bookmarks = elements.stream()
+                    .filter(EntityRef.class::isInstance)
+                    .map(element->((EntityRef) element).getBookmark())
+                    .collect(Can.toCan());
+            val entities = objectManager.loadObjects(bookmarks);
+            if(entities.size() != bookmarks.size()
+                    || entities.stream().anyMatch(ManagedObjects::isNullOrUnspecifiedOrEmpty)) {
+                return Optional.empty();
+            }
+            val entityIterator = entities.iterator();
+            final List<Object> restored = new ArrayList<>(elements.size());
+            for(val element : elements) {
+                restored.add(element instanceof EntityRef
+                        ? entityIterator.next().getPojo()
+                        : element);
+            }
+            switch (shape) {
+            case SINGULAR:
+                return Optional.of(new Restored(restored.isEmpty() ? null : restored.get(0)));
+            case OPTIONAL:
+                return Optional.of(new Restored(restored.stream().findFirst()));
+            case LIST:
+                return Optional.of(new Restored(restored));
+            case SET:
+                return Optional.of(new Restored(new LinkedHashSet<>(restored)));
+            default:
+                throw new IllegalStateException("unknown shape " + shape);
+            }
+        }
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class CacheEntry {
+        Snapshot snapshot;
+        long expiresAtNanos;
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * Empty if given result cannot be shared across interactions.
+     */
+    private Optional<Snapshot> snapshot(final @Nullable Object result) {
+        final Snapshot.Shape shape;
+        final Collection<?> elements;
+        if(result == null) {
+            shape = Snapshot.Shape.SINGULAR;
+            elements = List.of();
+        } else if(result instanceof Optional) {
+            shape = Snapshot.Shape.OPTIONAL;
+            elements = ((Optional<?>) result).map(List::of).orElseGet(List::of);
+        } else if(result instanceof List) {
+            shape = Snapshot.Shape.LIST;
+            elements = (List<?>) result;
+        } else if(result instanceof Set) {
+            shape = Snapshot.Shape.SET;
+            elements = (Set<?>) result;
+        } else if(result instanceof Collection
+                || result instanceof Map) {
+            return Optional.empty(); // not supported
+        } else {
+            shape = Snapshot.Shape.SINGULAR;
+            elements = List.of(result);
+        }
+
+        val specificationLoader = specificationLoaderProvider.get();
+        val bookmarkService = bookmarkServiceProvider.get();
+        final List<Object> snapshotElements = new ArrayList<>(elements.size());
+        final Set<Class<?>> entityTypes = new LinkedHashSet<>();
+        for(val element : elements) {
+            if(element == null) {
+                snapshotElements.add(null);
+                continue;
+            }
+            val spec = specificationLoader.specForType(element.getClass()).orElse(null);
+            if(spec == null) {
+                return Optional.empty();
+            }
+            if(spec.isEntity()) {
+                val bookmark = bookmarkService.bookmarkFor(element).orElse(null);
+                if(bookmark == null) {
+                    return Optional.empty(); // eg. not yet persisted
+                }
+                snapshotElements.add(new Snapshot.EntityRef(bookmark));
+                entityTypes.add(spec.getCorrespondingClass());
+            } else if(spec.isValue()) {
+                snapshotElements.add(element);
+            } else {
+                return Optional.empty(); // eg. view models, which might hold references to entities
+            }
+        }
+        return Optional.of(new Snapshot(shape, snapshotElements, Can.ofCollection(entityTypes)));
+    }
+
+    /** @implNote only call within synchronized block! */
+    private void evictEldestWhileOversized() {
+        val iterator = entriesByKey.entrySet().iterator();
+        while(entriesByKey.size() > maxSize
+                && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+}
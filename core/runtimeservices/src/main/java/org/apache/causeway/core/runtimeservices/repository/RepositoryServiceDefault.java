@@ -24,6 +24,7 @@
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -52,6 +53,7 @@
 import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
+import org.apache.causeway.core.metamodel.objectmanager.QueryResultList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 
@@ -173,6 +175,32 @@ public <T> List<T> allMatches(final Query<T> query) {
         return submitQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+
+        val resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return Stream.empty();
+        }
+
+        val entityFacet = resultTypeSpec.entityFacet().orElse(null);
+        if(entityFacet==null) {
+            return submitQuery(query).stream();
+        }
+
+        val streamConfig = causewayConfiguration.getCore().getRuntimeServices().getRepositoryService().getStreamMatches();
+        return entityFacet
+                .streamByQuery(query, streamConfig.getFetchSize(), streamConfig.getReleaseEvery())
+                .map(MmUnwrapUtils::single)
+                .map(_Casts::<T>uncheckedCast);
+    }
+
     <T> List<T> submitQuery(final Query<T> query) {
         val resultTypeSpec = getSpecificationLoader()
                 .specForType(query.getResultType())
@@ -185,7 +213,8 @@ <T> List<T> submitQuery(final Query<T> query) {
         val queryRequest = ObjectBulkLoader.Request.of(resultTypeSpec, query);
         val allMatching = getObjectManager().queryObjects(queryRequest);
         final List<T> resultList = _Casts.uncheckedCast(MmUnwrapUtils.multipleAsList(allMatching));
-        return resultList;
+        // remember the query, so tables rendering this list (as action result) can push down sorting and paging
+        return QueryResultList.of(query, resultList);
     }
 
     @Override
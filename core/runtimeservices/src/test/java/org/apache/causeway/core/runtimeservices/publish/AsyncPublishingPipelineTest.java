@@ -0,0 +1,303 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.val;
+
+class AsyncPublishingPipelineTest {
+
+    @TempDir File tempDir;
+
+    final List<EntityPropertyChange> delivered = new CopyOnWriteArrayList<>();
+
+    @Test
+    void delivers_in_order_using_single_worker() throws InterruptedException {
+        val pipeline = pipeline(batch->delivered.addAll(batch.toList()), 100, null);
+
+        pipeline.submit(changes(0, 250));
+        pipeline.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(changes(0, 250).toList(), delivered);
+        val metrics = pipeline.getMetrics();
+        assertEquals(250L, metrics.getSubmitted());
+        assertEquals(250L, metrics.getDelivered());
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(-1, metrics.getJournalPending());
+    }
+
+    @Test
+    void when_queue_full_delivers_on_calling_thread_in_order() throws InterruptedException {
+        val release = new CountDownLatch(1);
+        val callingThread = Thread.currentThread();
+        val deliveredByCallingThread = new CopyOnWriteArrayList<EntityPropertyChange>();
+
+        val pipeline = pipeline(batch->{
+            if(Thread.currentThread()==callingThread) {
+                deliveredByCallingThread.addAll(batch.toList());
+            } else {
+                await(release); // blocks the worker
+            }
+            delivered.addAll(batch.toList());
+        }, 2, null);
+
+        // unblocks the worker only once the caller had to wait for it
+        new Thread(()->{
+            sleep(200);
+            release.countDown();
+        }).start();
+        pipeline.submit(changes(0, 10));
+
+        // worker was blocked and queue holds 2, so the remaining ones are delivered by the caller,
+        // yet only after those queued before
+        assertFalse(deliveredByCallingThread.isEmpty());
+        assertEquals(deliveredByCallingThread.size(), pipeline.getMetrics().getDeliveredByCaller());
+
+        pipeline.shutdown(Duration.ofSeconds(5));
+        assertEquals(changes(0, 10).toList(), delivered);
+    }
+
+    @Test
+    void delivers_in_order_per_lane_key_using_multiple_workers() throws InterruptedException {
+        val pipeline = new AsyncPublishingPipeline<EntityPropertyChange>("test",
+                batch->{
+                    sleep(1); // provokes interleaving of workers
+                    delivered.addAll(batch.toList());
+                },
+                EntityPropertyChange::getInteractionId,
+                5, 3, 4, Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofMillis(100), null);
+
+        val interactions = IntStream.range(0, 8)
+                .mapToObj(i->UUID.randomUUID())
+                .collect(Collectors.toList());
+        for (int i = 0; i < 50; i++) {
+            for(val interactionId : interactions) {
+                pipeline.submit(Can.ofSingleton(change(interactionId, i)));
+            }
+        }
+        pipeline.shutdown(Duration.ofSeconds(10));
+
+        assertEquals(400, delivered.size());
+        for(val interactionId : interactions) {
+            assertEquals(
+                    IntStream.range(0, 50).boxed().collect(Collectors.toList()),
+                    delivered.stream()
+                        .filter(change->change.getInteractionId().equals(interactionId))
+                        .map(EntityPropertyChange::getSequence)
+                        .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void journaled_then_discarded_changes_are_neither_delivered_nor_redelivered() throws InterruptedException {
+        val journalFile = new File(tempDir, "test.journal");
+
+        // eg. transaction rolled back
+        val firstRun = pipeline(batch->delivered.addAll(batch.toList()), 100,
+                new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec()));
+        val entries = firstRun.journal(changes(0, 5));
+        assertEquals(5, firstRun.getMetrics().getJournalPending());
+        firstRun.discard(entries);
+        assertEquals(0, firstRun.getMetrics().getJournalPending());
+        firstRun.shutdown(Duration.ofSeconds(5));
+
+        val journal = new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec());
+        assertEquals(0, journal.getPendingCount());
+        journal.close();
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    void journaled_but_not_yet_enqueued_changes_are_redelivered_after_restart() throws InterruptedException {
+        val journalFile = new File(tempDir, "test.journal");
+
+        // first run: JVM goes down after the commit, yet before the changes were handed over to the queue
+        val firstRun = pipeline(batch->delivered.addAll(batch.toList()), 100,
+                new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec()));
+        firstRun.journal(changes(0, 5));
+        firstRun.shutdown(Duration.ofSeconds(5));
+        assertTrue(delivered.isEmpty());
+
+        // second run: re-delivers those journaled
+        val secondRun = pipeline(batch->delivered.addAll(batch.toList()), 100,
+                new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec()));
+        secondRun.shutdown(Duration.ofSeconds(5));
+        assertEquals(changes(0, 5).toList(), delivered);
+    }
+
+    @Test
+    void journaled_but_undelivered_changes_are_redelivered_after_restart() throws InterruptedException {
+        val journalFile = new File(tempDir, "test.journal");
+
+        // first run: subscriber is down
+        val firstRun = pipeline(batch->{
+            throw new IllegalStateException("subscriber down");
+        }, 100, new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec()));
+        firstRun.submit(changes(0, 5));
+        sleep(50); // at least one attempt
+        firstRun.shutdown(Duration.ofSeconds(5));
+
+        assertTrue(firstRun.getMetrics().getFailed() >= 5L);
+        assertEquals(5, firstRun.getMetrics().getAwaitingRetry());
+        assertTrue(delivered.isEmpty());
+
+        // second run: re-delivers those not acknowledged
+        val journal = new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec());
+        assertEquals(5, journal.getPendingCount());
+        val secondRun = pipeline(batch->delivered.addAll(batch.toList()), 100, journal);
+        secondRun.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(changes(0, 5).toList(), delivered);
+        assertEquals(0, secondRun.getMetrics().getJournalPending());
+    }
+
+    @Test
+    void failed_deliveries_are_retried_in_order() throws InterruptedException {
+        val attempts = new AtomicInteger();
+        val pipeline = pipeline(batch->{
+            if(attempts.incrementAndGet() <= 3) {
+                throw new IllegalStateException("subscriber down");
+            }
+            delivered.addAll(batch.toList());
+        }, 100, new AsyncPublishingJournal<>(new File(tempDir, "test.journal"), new EntityPropertyChangeJournalCodec()));
+
+        pipeline.submit(changes(0, 5));
+        sleep(20); // while backing off
+        pipeline.submit(changes(5, 5));
+        awaitDelivered(10);
+        pipeline.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(changes(0, 10).toList(), delivered);
+        assertEquals(0, pipeline.getMetrics().getAwaitingRetry());
+        assertEquals(0, pipeline.getMetrics().getJournalPending());
+    }
+
+    @Test
+    void journal_is_compacted_while_payloads_are_pending() throws IOException {
+        val journalFile = new File(tempDir, "test.journal");
+        val journal = new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec());
+
+        journal.append(changes(0, 1)); // never acknowledged
+        for (int i = 1; i < 6_000; i++) {
+            journal.acknowledge(journal.append(changes(i, 1)));
+        }
+        journal.close();
+
+        assertTrue(Files.readAllLines(journalFile.toPath()).size() < 2_000);
+        val reopened = new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec());
+        assertEquals(changes(0, 1).toList(), reopened.getRecovered().map(AsyncPublishingJournal.Entry::getPayload).toList());
+        reopened.close();
+    }
+
+    @Test
+    void concurrent_appends_are_all_journaled() throws Exception {
+        val journalFile = new File(tempDir, "test.journal");
+        val journal = new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec());
+
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val futures = IntStream.range(0, 200)
+                    .mapToObj(i->executor.submit(()->journal.append(changes(i, 1))))
+                    .collect(Collectors.toList());
+            for(val future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        journal.close();
+
+        val reopened = new AsyncPublishingJournal<>(journalFile, new EntityPropertyChangeJournalCodec());
+        assertEquals(200, reopened.getPendingCount());
+        reopened.close();
+    }
+
+    // -- HELPER
+
+    private void awaitDelivered(final int count) {
+        val deadline = System.currentTimeMillis() + 5_000L;
+        while(delivered.size() < count
+                && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+    }
+
+    private AsyncPublishingPipeline<EntityPropertyChange> pipeline(
+            final java.util.function.Consumer<Can<EntityPropertyChange>> deliverer,
+            final int queueCapacity,
+            final AsyncPublishingJournal<EntityPropertyChange> journal) {
+        return new AsyncPublishingPipeline<>("test", deliverer, EntityPropertyChange::getInteractionId,
+                queueCapacity, 10, 1, Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofMillis(100), journal);
+    }
+
+    private static Can<EntityPropertyChange> changes(final int from, final int count) {
+        val interactionId = UUID.fromString("a1b2c3d4-0000-0000-0000-000000000000");
+        return Can.ofStream(IntStream.range(from, from + count)
+                .mapToObj(i->change(interactionId, i)));
+    }
+
+    private static EntityPropertyChange change(final UUID interactionId, final int i) {
+        val timestamp = new Timestamp(1_700_000_000_123L);
+        return EntityPropertyChange.of(
+                interactionId, i, Bookmark.forLogicalTypeNameAndIdentifier("test.Counter", "" + i),
+                "test.Counter#num", "num", i==0 ? null : "" + (i - 1), "" + i, "sven", timestamp);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.command.Command.CommandPublishingPhase;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+class CommandPublisherDefaultTest {
+
+    @Test
+    void snapshot_of_command_is_not_affected_by_later_phases() {
+        val command = new Command(UUID.randomUUID());
+        val startedAt = new Timestamp(1_700_000_000_000L);
+        command.updater().setStartedAt(startedAt);
+        command.updater().setPublishingPhase(CommandPublishingPhase.STARTED);
+
+        val snapshot = CommandPublisherDefault.snapshotOf(command);
+
+        command.updater().setCompletedAt(new Timestamp(1_700_000_001_000L));
+        command.updater().setPublishingPhase(CommandPublishingPhase.COMPLETED);
+
+        assertEquals(command.getInteractionId(), snapshot.getInteractionId());
+        assertEquals(startedAt, snapshot.getStartedAt());
+        assertNull(snapshot.getCompletedAt());
+        assertEquals(CommandPublishingPhase.STARTED, snapshot.getPublishingPhase());
+    }
+
+    @Test
+    void journaled_command_is_restored() {
+        val command = new Command(UUID.randomUUID());
+        val commandDto = new CommandDto();
+        commandDto.setInteractionId(command.getInteractionId().toString());
+        commandDto.setUsername("sven");
+        command.updater().setCommandDtoAndIdentifier(commandDto);
+        command.updater().setStartedAt(new Timestamp(1_700_000_000_000L));
+        command.updater().setCompletedAt(new Timestamp(1_700_000_001_000L));
+        command.updater().setResult(Try.success(Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1")));
+        command.updater().setPublishingPhase(CommandPublishingPhase.COMPLETED);
+
+        val codec = new PhasedCommandJournalCodec();
+        val restored = codec.decode(codec.encode(
+                CommandPublisherDefault.PhasedCommand.of(CommandPublisherDefault.Phase.COMPLETED, command)));
+
+        assertEquals(CommandPublisherDefault.Phase.COMPLETED, restored.getPhase());
+        val restoredCommand = restored.getCommand();
+        assertEquals(command.getInteractionId(), restoredCommand.getInteractionId());
+        assertEquals("sven", restoredCommand.getCommandDto().getUsername());
+        assertEquals(command.getStartedAt(), restoredCommand.getStartedAt());
+        assertEquals(command.getCompletedAt(), restoredCommand.getCompletedAt());
+        assertEquals(command.getResult(), restoredCommand.getResult());
+        assertNull(restoredCommand.getException());
+        assertNull(restoredCommand.getParentInteractionId());
+        assertEquals(CommandPublishingPhase.COMPLETED, restoredCommand.getPublishingPhase());
+    }
+
+    @Test
+    void journaled_command_exception_is_restored_with_its_stacktrace() {
+        val command = new Command(UUID.randomUUID());
+        val exception = new IllegalStateException("failed,\nacross lines");
+        command.updater().setResult(Try.failure(exception));
+        command.updater().setPublishingPhase(CommandPublishingPhase.COMPLETED);
+
+        val codec = new PhasedCommandJournalCodec();
+        val restoredCommand = codec.decode(codec.encode(
+                CommandPublisherDefault.PhasedCommand.of(CommandPublisherDefault.Phase.COMPLETED, command)))
+                .getCommand();
+
+        assertNull(restoredCommand.getCommandDto());
+        assertNull(restoredCommand.getResult());
+        assertEquals(exception.toString(), restoredCommand.getException().toString());
+        assertEquals(
+                Stream.of(exception.getStackTrace()).map(CommandPublisherDefaultTest::frame).collect(Collectors.toList()),
+                Stream.of(restoredCommand.getException().getStackTrace()).map(CommandPublisherDefaultTest::frame).collect(Collectors.toList()));
+    }
+
+    private static String frame(final StackTraceElement element) {
+        return element.getClassName() + "#" + element.getMethodName()
+                + "(" + element.getFileName() + ":" + element.getLineNumber() + ")";
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObject.Specialization;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.transaction.changetracking.events.EntityTypesChangedEvent;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
+
+import lombok.val;
+
+class QueryResultsCacheSharedTierDefaultTest {
+
+    static class Customer {}
+    static class Order {}
+
+    AtomicLong nanoClock;
+    AtomicInteger computeCount;
+    CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.SharedTier config;
+    SpecificationLoader specificationLoader;
+    BookmarkService bookmarkService;
+    ObjectManager objectManager;
+    Can<Class<?>> enlistedEntityTypes;
+
+    final Customer customer = new Customer();
+    final Customer customerRefetched = new Customer();
+    final Bookmark customerBookmark = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+
+    final QueryResultsCache.Key key = new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "find", "x");
+
+    @BeforeEach
+    void setup() {
+        nanoClock = new AtomicLong();
+        computeCount = new AtomicInteger();
+        config = new CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.SharedTier();
+        config.setEnabled(true);
+        config.setMaxSize(2);
+        config.setTimeToLive(Duration.ofSeconds(10));
+
+        val entitySpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(entitySpec.isEntity()).thenReturn(true);
+        Mockito.doReturn(Customer.class).when(entitySpec).getCorrespondingClass();
+        val valueSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(valueSpec.isValue()).thenReturn(true);
+
+        specificationLoader = Mockito.mock(SpecificationLoader.class);
+        Mockito.when(specificationLoader.specForType(Customer.class)).thenReturn(Optional.of(entitySpec));
+        Mockito.when(specificationLoader.specForType(String.class)).thenReturn(Optional.of(valueSpec));
+
+        bookmarkService = Mockito.mock(BookmarkService.class);
+        Mockito.when(bookmarkService.bookmarkFor(customer)).thenReturn(Optional.of(customerBookmark));
+
+        val customerRefetchedAdapter = Mockito.mock(ManagedObject.class);
+        Mockito.when(customerRefetchedAdapter.getSpecialization()).thenReturn(Specialization.ENTITY);
+        Mockito.when(customerRefetchedAdapter.getPojo()).thenReturn(customerRefetched);
+        objectManager = Mockito.mock(ObjectManager.class);
+        Mockito.when(objectManager.loadObjects(Mockito.any())).thenAnswer(invocation->
+            invocation.<Can<Bookmark>>getArgument(0).map(bookmark->customerRefetchedAdapter));
+
+        enlistedEntityTypes = Can.empty();
+    }
+
+    @Test
+    void whenDisabled_shouldAlwaysCompute() throws Exception {
+        config.setEnabled(false);
+        val cache = newCache();
+
+        cache.computeIfAbsent(key, ()->compute("a"));
+        cache.computeIfAbsent(key, ()->compute("a"));
+
+        assertEquals(2, computeCount.get());
+    }
+
+    @Test
+    void values_shouldBeShared() throws Exception {
+        val cache = newCache();
+
+        assertEquals("a", cache.computeIfAbsent(key, ()->compute("a")));
+        assertEquals("a", cache.computeIfAbsent(key, ()->compute("b")));
+
+        assertEquals(1, computeCount.get());
+        assertEquals(1, cache.getStatistics().getHits());
+        assertEquals(1, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    void entities_shouldBeRefetchedByBookmark() throws Exception {
+        val cache = newCache();
+
+        assertSame(customer, cache.computeIfAbsent(key, ()->compute(customer)));
+        assertSame(customerRefetched, cache.computeIfAbsent(key, ()->compute(customer)));
+
+        val list = cache.computeIfAbsent(
+                new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "list"),
+                ()->compute(List.of(customer, "a")));
+        assertEquals(List.of(customer, "a"), list);
+        assertEquals(List.of(customerRefetched, "a"), cache.computeIfAbsent(
+                new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "list"),
+                ()->compute(List.of())));
+
+        assertEquals(2, computeCount.get());
+    }
+
+    @Test
+    void entities_shouldBeRefetchedInBulk() throws Exception {
+        val cache = newCache();
+        val listKey = new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "list");
+
+        cache.computeIfAbsent(listKey, ()->compute(List.of(customer, "a", customer)));
+        assertEquals(List.of(customerRefetched, "a", customerRefetched),
+                cache.computeIfAbsent(listKey, ()->compute(List.of())));
+
+        Mockito.verify(objectManager, Mockito.times(1)).loadObjects(Can.of(customerBookmark, customerBookmark));
+        Mockito.verify(bookmarkService, Mockito.never()).lookup(Mockito.any(Bookmark.class));
+    }
+
+    @Test
+    void whenEntitiesChangedWithinTransaction_shouldNeitherPopulateNorLookup() throws Exception {
+        val cache = newCache();
+        cache.computeIfAbsent(key, ()->compute("a"));
+
+        enlistedEntityTypes = Can.ofSingleton(Order.class);
+        assertEquals("b", cache.computeIfAbsent(key, ()->compute("b")));
+        val otherKey = new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "other");
+        cache.computeIfAbsent(otherKey, ()->compute("c"));
+
+        assertEquals(1, cache.getStatistics().getSize());
+        assertEquals(3, computeCount.get());
+
+        enlistedEntityTypes = Can.empty();
+        assertEquals("a", cache.computeIfAbsent(key, ()->compute("b")));
+    }
+
+    @Test
+    void unknownTypes_shouldNotBeShared() throws Exception {
+        val cache = newCache();
+
+        val order = new Order();
+        assertSame(order, cache.computeIfAbsent(key, ()->compute(order)));
+        val otherOrder = new Order();
+        assertSame(otherOrder, cache.computeIfAbsent(key, ()->compute(otherOrder)));
+
+        assertNotSame(order, otherOrder);
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void whenExpired_shouldComputeAgain() throws Exception {
+        val cache = newCache();
+
+        cache.computeIfAbsent(key, ()->compute("a"));
+        nanoClock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.computeIfAbsent(key, ()->compute("a"));
+
+        assertEquals(2, computeCount.get());
+        assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void whenEntityTypesChanged_shouldInvalidateDependentResults() throws Exception {
+        val cache = newCache();
+        val customerKey = new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "customer");
+        val countKey = new QueryResultsCache.Key(QueryResultsCacheSharedTierDefaultTest.class, "count");
+
+        cache.computeIfAbsent(customerKey, ()->compute(customer));
+        cache.computeIfAbsent(countKey, ()->compute("42"));
+        assertEquals(2, cache.getStatistics().getSize());
+
+        // results without entities depend on any entity type
+        cache.onEntityTypesChanged(EntityTypesChangedEvent.of(Can.ofSingleton(Order.class)));
+        assertEquals(1, cache.getStatistics().getSize());
+
+        cache.onEntityTypesChanged(EntityTypesChangedEvent.of(Can.ofSingleton(Customer.class)));
+        assertEquals(0, cache.getStatistics().getSize());
+        assertEquals(2, cache.getStatistics().getInvalidations());
+    }
+
+    @Test
+    void whenRolledBack_shouldInvalidateAll() throws Exception {
+        val cache = newCache();
+
+        cache.computeIfAbsent(key, ()->compute(customer));
+        cache.onTransactionCompleted(TransactionAfterCompletionEvent.COMMITTED);
+        assertEquals(1, cache.getStatistics().getSize());
+
+        enlistedEntityTypes = Can.ofSingleton(Order.class);
+        cache.onTransactionCompleted(TransactionAfterCompletionEvent.ROLLED_BACK);
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void whenRolledBackWithoutChanges_shouldNotInvalidate() throws Exception {
+        val cache = newCache();
+
+        cache.computeIfAbsent(key, ()->compute(customer));
+        cache.onTransactionCompleted(TransactionAfterCompletionEvent.ROLLED_BACK);
+
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    // -- HELPER
+
+    private <T> T compute(final T result) {
+        computeCount.incrementAndGet();
+        return result;
+    }
+
+    private QueryResultsCacheSharedTierDefault newCache() {
+        return new QueryResultsCacheSharedTierDefault(config, nanoClock::get,
+                ()->specificationLoader, ()->bookmarkService, ()->objectManager, ()->enlistedEntityTypes);
+    }
+
+}
@@ -29,6 +29,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.core.codegen.bytebuddy.services.ProxyFactoryServiceByteBuddy;
@@ -100,4 +101,23 @@ void proxyShouldDelegateCalls() {
 
     }
 
+    @Test
+    void proxiesOfSameType_shouldShareProxyClass_whileDelegatingToTheirOwnHandler() {
+
+        final DelegatingInvocationHandlerForTest handler1 = new DelegatingInvocationHandlerForTest();
+        final DelegatingInvocationHandlerForTest handler2 = new DelegatingInvocationHandlerForTest();
+        final Employee proxy1 = proxyCreator.instantiateProxy(handler1);
+        final Employee proxy2 = new ProxyCreator(new ProxyFactoryServiceByteBuddy()).instantiateProxy(handler2);
+
+        assertSame(proxy1.getClass(), proxy2.getClass());
+
+        proxy1.getName();
+        assertTrue(handler1.wasInvoked("getName"));
+        assertFalse(handler2.wasInvoked("getName"));
+
+        proxy2.setName("Joe");
+        assertTrue(handler2.wasInvoked("setName"));
+        assertFalse(handler1.wasInvoked("setName"));
+    }
+
 }
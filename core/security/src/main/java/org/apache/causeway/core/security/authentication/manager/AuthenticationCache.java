@@ -0,0 +1,237 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authentication.manager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.CausewayModuleCoreSecurity;
+import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped cache of successful {@link AuthenticationRequestPassword} authentications,
+ * bounded by size (least recently used are evicted first) and by time to live.
+ * <p>
+ * Intended for stateless authentication strategies (such as HTTP Basic Auth), which otherwise
+ * have to verify the same credentials with every request. Only used if enabled via
+ * <code>causeway.security.authentication-cache.enabled</code>.
+ * <p>
+ * Credentials are never held in clear: entries are keyed by a digest of username and password,
+ * salted with a random value generated per instance (hence per JVM).
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(AuthenticationCache.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AuthenticationCache {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleCoreSecurity.NAMESPACE + ".AuthenticationCache";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int SALT_LENGTH = 16;
+
+    @Getter private final boolean enabled;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final byte[] salt;
+
+    private final Object $lock = new Object();
+    private final Map<String, CacheEntry> entriesByDigest;
+    private long generation; // guarded by $lock; incremented on each invalidation
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Inject
+    public AuthenticationCache(final CausewayConfiguration causewayConfiguration) {
+        this(causewayConfiguration.getSecurity().getAuthenticationCache(), System::nanoTime);
+    }
+
+    // JUnit support
+    AuthenticationCache(
+            final CausewayConfiguration.Security.AuthenticationCache config,
+            final LongSupplier nanoClock) {
+        this.enabled = config.isEnabled();
+        this.maxSize = config.getMaxSize();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nanoClock = nanoClock;
+        this.salt = new byte[SALT_LENGTH];
+        new SecureRandom().nextBytes(salt);
+        this.entriesByDigest = new LinkedHashMap<>(16, 0.75f, true); // access order
+    }
+
+    /**
+     * Returns the cached {@link InteractionContext} for given {@code request}'s credentials,
+     * provided it still passes given {@code isValid} test,
+     * otherwise uses given {@code authentication} to populate the cache.
+     * <p>
+     * Failed authentications (those resulting in {@code null}) are not cached, neither are
+     * requests that carry additional roles.
+     * <p>
+     * If not {@link #isEnabled() enabled}, simply delegates to given {@code authentication}.
+     */
+    @Nullable
+    public InteractionContext computeIfAbsent(
+            final @NonNull AuthenticationRequestPassword request,
+            final @NonNull Predicate<InteractionContext> isValid,
+            final @NonNull Supplier<InteractionContext> authentication) {
+
+        if(!enabled
+                || request.getName() == null
+                || request.streamRoles().findAny().isPresent()) {
+            return authentication.get();
+        }
+
+        val digest = digest(request);
+
+        final long generationBeforeAuthentication;
+        synchronized($lock) {
+            val entry = entriesByDigest.get(digest);
+            if(entry!=null) {
+                if(!entry.isExpired(nanoClock.getAsLong())
+                        && isValid.test(entry.getInteractionContext())) {
+                    hits.increment();
+                    return entry.getInteractionContext();
+                }
+                entriesByDigest.remove(digest);
+                evictions.increment();
+            }
+            generationBeforeAuthentication = generation;
+        }
+
+        misses.increment();
+        // authenticate outside the lock
+        val interactionContext = authentication.get();
+
+        synchronized($lock) {
+            // don't cache, if invalidated while authenticating, as might have read stale data
+            if(interactionContext!=null
+                    && generationBeforeAuthentication == generation) {
+                entriesByDigest.put(digest,
+                        new CacheEntry(interactionContext, nanoClock.getAsLong() + timeToLiveNanos));
+                evictEldestWhileOversized();
+            }
+        }
+        return interactionContext;
+    }
+
+    /**
+     * Discards all cached authentications.
+     */
+    public void invalidateAll() {
+        synchronized($lock) {
+            ++generation;
+            entriesByDigest.clear();
+        }
+        log.debug("authentication cache invalidated");
+    }
+
+    public Statistics getStatistics() {
+        final int size;
+        synchronized($lock) {
+            size = entriesByDigest.size();
+        }
+        return new Statistics(size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // -- STATISTICS
+
+    @Value
+    public static class Statistics {
+        int size;
+        long hits;
+        long misses;
+        long evictions;
+
+        @Override
+        public String toString() {
+            return String.format("size=%d, hits=%d, misses=%d, evictions=%d", size, hits, misses, evictions);
+        }
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class CacheEntry {
+        InteractionContext interactionContext;
+        long expiresAtNanos;
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    /** @implNote only call within synchronized block! */
+    private void evictEldestWhileOversized() {
+        val iterator = entriesByDigest.entrySet().iterator();
+        while(entriesByDigest.size() > maxSize
+                && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private String digest(final AuthenticationRequestPassword request) {
+        try {
+            val messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            messageDigest.update(salt);
+            messageDigest.update(request.getName().getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0); // separator, so that 'ab'+'c' does not collide with 'a'+'bc'
+            messageDigest.update(_Strings.nullToEmpty(request.getPassword()).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw _Exceptions.unrecoverable(e, "digest algorithm %s not available", DIGEST_ALGORITHM);
+        }
+    }
+
+}
@@ -49,4 +49,17 @@ public interface Authorizor {
      */
     boolean isUsable(InteractionContext authentication, Identifier identifier);
 
+    /**
+     * Changes whenever the permissions of any user might have changed (other than by a change of
+     * the user's roles), allowing for caching of artifacts that depend on authorization.
+     *
+     * <p>
+     *     The default implementation never changes, as is appropriate for any {@link Authorizor},
+     *     whose permissions are fixed for the lifetime of the application.
+     * </p>
+     */
+    default long getPermissionsRevision() {
+        return 0L;
+    }
+
 }
@@ -134,6 +134,13 @@ public boolean isVisible(
         return false;
     }
 
+    /**
+     * @see Authorizor#getPermissionsRevision()
+     */
+    public long getPermissionsRevision() {
+        return authorizor.getPermissionsRevision();
+    }
+
     // -- HELPER
 
     private static boolean containsSudoSuperuserRole(
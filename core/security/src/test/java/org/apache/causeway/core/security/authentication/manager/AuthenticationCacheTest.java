@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authentication.manager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+
+import lombok.val;
+
+class AuthenticationCacheTest {
+
+    AtomicLong nanoClock;
+    AtomicInteger authenticationCount;
+    CausewayConfiguration.Security.AuthenticationCache config;
+
+    @BeforeEach
+    void setup() {
+        nanoClock = new AtomicLong();
+        authenticationCount = new AtomicInteger();
+        config = new CausewayConfiguration.Security.AuthenticationCache();
+        config.setEnabled(true);
+        config.setMaxSize(2);
+        config.setTimeToLive(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void whenDisabled_shouldAlwaysAuthenticate() {
+        config.setEnabled(false);
+        val cache = newCache();
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+
+        assertEquals(2, authenticationCount.get());
+    }
+
+    @Test
+    void sameCredentials_shouldHit() {
+        val cache = newCache();
+
+        val first = cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        val second = cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+
+        assertSame(first, second);
+        assertEquals(1, authenticationCount.get());
+        assertEquals(1, cache.getStatistics().getHits());
+        assertEquals(1, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    void otherPassword_shouldMiss() {
+        val cache = newCache();
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        val ctx = cache.computeIfAbsent(request("sven", "wrong"), ctx_->true, ()->null);
+
+        assertNull(ctx);
+        assertEquals(2, cache.getStatistics().getMisses());
+        // failed authentications are not cached
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void whenExpired_shouldAuthenticateAgain() {
+        val cache = newCache();
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        nanoClock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+
+        assertEquals(2, authenticationCount.get());
+        assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void whenNoLongerValid_shouldAuthenticateAgain() {
+        val cache = newCache();
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        cache.computeIfAbsent(request("sven", "pass"), ctx->false, ()->authenticate("sven"));
+
+        assertEquals(2, authenticationCount.get());
+    }
+
+    @Test
+    void whenOversized_shouldEvictLeastRecentlyUsed() {
+        val cache = newCache();
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        cache.computeIfAbsent(request("dick", "pass"), ctx->true, ()->authenticate("dick"));
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven")); // hit
+        cache.computeIfAbsent(request("bob", "pass"), ctx->true, ()->authenticate("bob"));
+
+        assertEquals(2, cache.getStatistics().getSize());
+        assertEquals(1, cache.getStatistics().getEvictions());
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven")); // still a hit
+        assertEquals(3, authenticationCount.get());
+    }
+
+    @Test
+    void whenInvalidated_shouldAuthenticateAgain() {
+        val cache = newCache();
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        cache.computeIfAbsent(request("dick", "pass"), ctx->true, ()->authenticate("dick"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getStatistics().getSize());
+
+        cache.computeIfAbsent(request("sven", "pass"), ctx->true, ()->authenticate("sven"));
+        assertEquals(3, authenticationCount.get());
+    }
+
+    // -- HELPER
+
+    private static AuthenticationRequestPassword request(final String userName, final String password) {
+        return new AuthenticationRequestPassword(userName, password);
+    }
+
+    private InteractionContext authenticate(final String userName) {
+        authenticationCount.incrementAndGet();
+        return InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName));
+    }
+
+    private AuthenticationCache newCache() {
+        return new AuthenticationCache(config, nanoClock::get);
+    }
+
+}
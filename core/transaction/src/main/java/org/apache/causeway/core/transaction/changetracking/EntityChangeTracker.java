@@ -81,5 +81,15 @@ public interface EntityChangeTracker extends DisposableBean {
      */
     void incrementLoaded(ManagedObject entity);
 
+    /**
+     * Types of all entities enlisted (created, updated or deleted) within the current transaction so far.
+     * <p>
+     * Allows application scoped caches to not get populated with (not yet committed) state,
+     * derived from any of these types.
+     */
+    default Can<Class<?>> getEnlistedEntityTypes() {
+        return Can.empty();
+    }
+
 }
 
@@ -0,0 +1,47 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.transaction.changetracking.events;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Posted after a transaction has committed, listing the types of all entities that were created,
+ * updated or deleted within that transaction.
+ * <p>
+ * Unlike entity change publishing, this is not restricted to entities that have entity change publishing
+ * enabled, hence allows caches to invalidate any entries that are derived from those entity types.
+ *
+ * @since 2.0
+ */
+@Value(staticConstructor = "of")
+public class EntityTypesChangedEvent {
+
+    private final @NonNull Can<Class<?>> entityTypes;
+
+    /**
+     * Whether any of the changed entity types is a sub-type of (or same as) given {@code type}.
+     */
+    public boolean isAnyAssignableTo(final @NonNull Class<?> type) {
+        return entityTypes.stream().anyMatch(type::isAssignableFrom);
+    }
+
+}
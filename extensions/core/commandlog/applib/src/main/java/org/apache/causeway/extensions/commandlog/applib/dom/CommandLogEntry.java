@@ -151,6 +151,22 @@ public static class Nq {
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
+        /**
+         * Background commands not yet started, that are either unclaimed or whose claim's lease has expired.
+         */
+        public static final String FIND_BACKGROUND_AND_CLAIMABLE        = LOGICAL_TYPE_NAME + ".findBackgroundAndClaimable";
+        /**
+         * Bulk update, that claims a batch of background commands, each provided it is (still) claimable.
+         */
+        public static final String CLAIM                                = LOGICAL_TYPE_NAME + ".claim";
+        /**
+         * Background commands not yet started, that are claimed by a given worker with an unexpired lease.
+         */
+        public static final String FIND_CLAIMED_BY                      = LOGICAL_TYPE_NAME + ".findClaimedBy";
+        /**
+         * Bulk update, that extends the lease of a single background command, provided it is still claimed.
+         */
+        public static final String RENEW_LEASE                          = LOGICAL_TYPE_NAME + ".renewLease";
     }
 
 
@@ -665,6 +681,60 @@ class DomainEvent extends PropertyDomainEvent<String> {}
     }
 
 
+    @Property(
+            domainEvent = ClaimedBy.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL,
+            maxLength = ClaimedBy.MAX_LENGTH
+    )
+    @PropertyLayout(hidden = Where.ALL_TABLES)
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimedBy {
+        class DomainEvent extends PropertyDomainEvent<String> {}
+        int MAX_LENGTH = 120;
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a background command, the worker (node) that has claimed it for execution.
+     *
+     * @see #getLeaseExpiresAt()
+     * @see org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob
+     */
+    @ClaimedBy
+    public abstract String getClaimedBy();
+    public abstract void setClaimedBy(String claimedBy);
+    @MemberSupport public boolean hideClaimedBy() {
+        return getClaimedBy() == null;
+    }
+
+
+    @Property(
+            domainEvent = LeaseExpiresAt.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @PropertyLayout(hidden = Where.ALL_TABLES)
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface LeaseExpiresAt {
+        class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a {@link #getClaimedBy() claimed} background command, when the claim expires;
+     * if not yet started by then, the command can be claimed by any other worker.
+     */
+    @LeaseExpiresAt
+    public abstract java.sql.Timestamp getLeaseExpiresAt();
+    public abstract void setLeaseExpiresAt(java.sql.Timestamp leaseExpiresAt);
+    @MemberSupport public boolean hideLeaseExpiresAt() {
+        return getClaimedBy() == null;
+    }
+
+
     @Programmatic
     public void saveAnalysis(final String analysis) {
         if (analysis == null) {
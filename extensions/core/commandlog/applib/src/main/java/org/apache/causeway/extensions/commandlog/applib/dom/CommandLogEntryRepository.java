@@ -281,6 +281,101 @@ public List<C> findBackgroundAndNotYetStarted() {
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED));
     }
 
+    /**
+     * Returns (up to given limit) background commands not yet started, that are either unclaimed,
+     * or whose claim's lease has expired at given point in time.
+     *
+     * <p>
+     *     Commands against a target, for which any other (not yet completed) command is claimed with an
+     *     unexpired lease, are not returned, so that commands against the same target are never executed
+     *     by different nodes concurrently (or out of order).
+     * </p>
+     *
+     * <p>
+     *     Candidates for {@link #claim(List, String, Timestamp, Timestamp) claiming}, in support of
+     *     background command execution across multiple nodes.
+     * </p>
+     */
+    public List<C> findBackgroundAndClaimable(final Timestamp now, final int limit) {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_CLAIMABLE)
+                        .withParameter("now", now)
+                        .withLimit(limit));
+    }
+
+    /**
+     * Attempts to claim the (background) commands with given interactionIds on behalf of given worker,
+     * with a lease that expires at given point in time; each command is claimed only if not yet started
+     * and either unclaimed or its previous claim's lease has expired.
+     *
+     * <p>
+     *     The default implementation is a read-modify-write and hence only safe if there is a single worker;
+     *     persistence specific implementations override this with an atomic (conditional) bulk update.
+     * </p>
+     *
+     * @return the number of commands claimed
+     * @see #findClaimedBy(String, Timestamp)
+     */
+    public int claim(
+            final List<UUID> interactionIds,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        int claimed = 0;
+        for (val interactionId : interactionIds) {
+            val claimable = findByInteractionId(interactionId)
+                .filter(commandLogEntry->commandLogEntry.getStartedAt() == null)
+                .filter(commandLogEntry->commandLogEntry.getClaimedBy() == null
+                        || commandLogEntry.getLeaseExpiresAt().before(now));
+            if(claimable.isPresent()) {
+                claimable.get().setClaimedBy(claimedBy);
+                claimable.get().setLeaseExpiresAt(leaseExpiresAt);
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Returns the background commands not yet started, that are claimed by given worker
+     * with a lease that has not expired at given point in time, in the order they were submitted.
+     */
+    public List<C> findClaimedBy(final String claimedBy, final Timestamp now) {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_CLAIMED_BY)
+                        .withParameter("claimedBy", claimedBy)
+                        .withParameter("now", now));
+    }
+
+    /**
+     * Attempts to extend the lease of the (background) command with given interactionId, as claimed
+     * by given worker, to given point in time; succeeds only if the command is still claimed by that worker,
+     * its lease has not yet expired and it is not yet completed.
+     *
+     * <p>
+     *     The default implementation is a read-modify-write; persistence specific implementations
+     *     override this with an atomic (conditional) bulk update, which also locks the command
+     *     for the remainder of the current transaction.
+     * </p>
+     *
+     * @return whether the lease was renewed
+     */
+    public boolean renewLease(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        return findByInteractionId(interactionId)
+                .filter(commandLogEntry->commandLogEntry.getCompletedAt() == null)
+                .filter(commandLogEntry->claimedBy.equals(commandLogEntry.getClaimedBy())
+                        && !commandLogEntry.getLeaseExpiresAt().before(now))
+                .map(commandLogEntry->{
+                    commandLogEntry.setLeaseExpiresAt(leaseExpiresAt);
+                    return true;
+                })
+                .orElse(false);
+    }
+
     public List<C> findRecentBackgroundByTarget(final Bookmark target) {
         return repositoryService().allMatches(
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_RECENT_BACKGROUND_BY_TARGET)
@@ -18,11 +18,26 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 
 import lombok.Getter;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -33,6 +48,12 @@
  *     dashboard.
  * </p>
  *
+ * <p>
+ *     Also holds the threads that {@link RunBackgroundCommandsJob} uses with
+ *     {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.ExecutionMode#WORKER_POOL},
+ *     as a new instance of the job is created for each run.
+ * </p>
+ *
  * @see RunBackgroundCommandsJob
  */
 @Service
@@ -47,6 +68,28 @@ public enum State {
     @Getter
     private State state = State.RUNNING;
 
+    /**
+     * Identifies this node (JVM) when claiming background commands,
+     * as per {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.ExecutionMode#WORKER_POOL}.
+     */
+    @Getter
+    private final String workerId = _Strings.trimmed(
+            UUID.randomUUID() + "/" + ManagementFactory.getRuntimeMXBean().getName(), 120);
+
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    private final _Lazy<ExecutorService> workerPool = _Lazy.threadSafe(()->
+            Executors.newFixedThreadPool(getParallelism(), newThreadFactory("worker")));
+
+    private final _Lazy<ScheduledExecutorService> leaseHeartbeat = _Lazy.threadSafe(()->
+            Executors.newScheduledThreadPool(getParallelism(), newThreadFactory("lease-heartbeat")));
+
+    @PreDestroy
+    public void close() {
+        workerPool.getMemoized().ifPresent(ExecutorService::shutdownNow);
+        leaseHeartbeat.getMemoized().ifPresent(ExecutorService::shutdownNow);
+    }
+
     @Programmatic
     public void pause() {
         log.info("Paused");
@@ -67,4 +110,36 @@ public boolean isRunning() {
         return state == State.RUNNING;
     }
 
+    // -- WORKER POOL
+
+    /**
+     * Executes the claimed commands, reused across job runs.
+     */
+    ExecutorService getWorkerPool() {
+        return workerPool.get();
+    }
+
+    /**
+     * Renews the leases of commands while they are being executed, reused across job runs.
+     */
+    ScheduledExecutorService getLeaseHeartbeat() {
+        return leaseHeartbeat.get();
+    }
+
+    // -- HELPER
+
+    private int getParallelism() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getParallelism();
+    }
+
+    private static ThreadFactory newThreadFactory(final String purpose) {
+        val threadCount = new AtomicInteger();
+        return runnable->{
+            val thread = new Thread(runnable,
+                    "causeway-background-commands-" + purpose + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
 }
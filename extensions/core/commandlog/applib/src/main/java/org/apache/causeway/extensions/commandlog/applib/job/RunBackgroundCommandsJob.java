@@ -18,9 +18,15 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -39,10 +45,12 @@
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
+import lombok.Value;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -56,6 +64,18 @@
  *     the control is managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
  *
+ * <p>
+ *     By default, all pending commands are executed one at a time.  Alternatively, with
+ *     {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.ExecutionMode#WORKER_POOL},
+ *     each run claims a batch of commands (so that multiple nodes can share the work) and executes them
+ *     concurrently, while still executing commands against the same target in the order they were submitted.
+ *     Commands against a target, for which another node holds an unexpired claim, are left for that node.
+ *     The lease of each command is renewed as it is started, and then periodically (each in a transaction
+ *     of its own) while it is executing, and verified before it is completed; if lost meanwhile (expired,
+ *     hence possibly claimed by another node), the command is rolled back and the remaining commands
+ *     against the same target are skipped.
+ * </p>
+ *
  * @see BackgroundCommandsJobControl
  *
  * @since 2.0 {@index}
@@ -72,6 +92,7 @@ public class RunBackgroundCommandsJob implements Job {
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject CommandExecutorService commandExecutorService;
     @Inject BackgroundCommandsJobControl backgroundCommandsJobControl;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 
     @Override
@@ -85,6 +106,12 @@ public void execute(final JobExecutionContext quartzContext) {
         UserMemento user = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         InteractionContext interactionContext = InteractionContext.builder().user(user).build();
 
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        if (config.getExecutionMode().isWorkerPool()) {
+            executeUsingWorkerPool(interactionContext, config);
+            return;
+        }
+
         // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
         final Optional<List<CommandDto>> commandDtosIfAny =
                 interactionService.callAndCatch(interactionContext, () ->
@@ -103,39 +130,232 @@ public void execute(final JobExecutionContext quartzContext) {
         // for each command, we execute within its own transaction.  Failure of one should not impact the next.
         commandDtosIfAny.ifPresent(commandDtos -> {
             for (val commandDto : commandDtos) {
-                interactionService.runAndCatch(interactionContext, () -> {
-                    transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
-                        // look up the CommandLogEntry again because we are within a new transaction.
-                        val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+                executeCommand(interactionContext, commandDto);
+            }
+        });
+    }
+
+    // -- WORKER POOL
+
+    @Value(staticConstructor = "of")
+    private static class ClaimedCommand {
+        CommandDto commandDto;
+        /** commands with the same key are executed in sequence */
+        String orderingKey;
+    }
+
+    private void executeUsingWorkerPool(
+            final InteractionContext interactionContext,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config) {
+
+        val workerId = backgroundCommandsJobControl.getWorkerId();
+        val now = clockService.getClock().nowAsJavaSqlTimestamp();
+        val leaseExpiresAt = new Timestamp(now.getTime() + config.getLeaseDuration().toMillis());
+
+        // we claim a batch of commands first (using a single conditional update), in a transaction of its own,
+        // so the claims are visible to other nodes
+        final List<ClaimedCommand> claimedCommands =
+                interactionService.callAndCatch(interactionContext, () ->
+                    transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                        val claimableIds = commandLogEntryRepository
+                                .findBackgroundAndClaimable(now, config.getBatchSize())
+                                .stream()
+                                .map(CommandLogEntry::getInteractionId)
+                                .collect(Collectors.toList());
+                        if (claimableIds.isEmpty()
+                                || commandLogEntryRepository.claim(claimableIds, workerId, now, leaseExpiresAt) == 0) {
+                            return List.<ClaimedCommand>of();
+                        }
+                        return commandLogEntryRepository.findClaimedBy(workerId, now)
+                                .stream()
+                                .map(commandLogEntry -> ClaimedCommand.of(
+                                        commandLogEntry.getCommandDto(),
+                                        orderingKeyFor(commandLogEntry)))
+                                .collect(Collectors.toList());
+                    })
+                        .ifFailureFail()
+                        .valueAsNonNullElseFail()
+                    )
+                    .ifFailureFail()    // we give up if unable to claim any
+                    .getValue()
+                    .orElseGet(List::of);
 
-                        // finally, we execute
-                        commandLogEntryIfAny.ifPresent(commandLogEntry ->
+        if (claimedCommands.isEmpty()) {
+            return;
+        }
+
+        // commands are claimed in the order they were submitted; grouping by target retains that order per target
+        final Map<String, List<CommandDto>> commandDtosByTarget = claimedCommands.stream()
+                .collect(Collectors.groupingBy(
+                        ClaimedCommand::getOrderingKey,
+                        LinkedHashMap::new,
+                        Collectors.mapping(ClaimedCommand::getCommandDto, Collectors.toList())));
+
+        log.debug("worker {} claimed {} command(s) against {} target(s)",
+                workerId, claimedCommands.size(), commandDtosByTarget.size());
+
+        val executor = backgroundCommandsJobControl.getWorkerPool();
+        CompletableFuture.allOf(commandDtosByTarget.values().stream()
+                .map(commandDtos -> CompletableFuture.runAsync(() -> {
+                    for (val commandDto : commandDtos) {
+                        if (!executeClaimedCommand(interactionContext, commandDto, workerId, config)) {
+                            // lease lost, so another node might have claimed the remaining commands meanwhile
+                            return;
+                        }
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new))
+        .join();
+    }
+
+    private static String orderingKeyFor(final CommandLogEntry commandLogEntry) {
+        return commandLogEntry.getTarget() != null
+                ? commandLogEntry.getTarget().stringify()
+                : commandLogEntry.getInteractionId().toString(); // no ordering constraint
+    }
+
+    /**
+     * Executes given command, provided its lease can be renewed (when started) and is still held (when completed).
+     * <p>
+     * While executing, the lease is renewed periodically, each time in a transaction of its own,
+     * so that the command is not locked for the duration of its execution.
+     *
+     * @return whether the lease was held throughout, so that any subsequent commands (against the same target)
+     *      may be executed
+     */
+    private boolean executeClaimedCommand(
+            final InteractionContext interactionContext,
+            final CommandDto commandDto,
+            final String workerId,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config) {
+        val interactionId = UUID.fromString(commandDto.getInteractionId());
+        // renew the lease as the command is started, committed right away, so not locking the command meanwhile
+        if (!renewLeaseInOwnTransaction(interactionContext, interactionId, workerId, config)) {
+            log.warn("lease lost, command {} not executed", commandDto.getInteractionId());
+            return false;
+        }
+        val heartbeatPeriodMillis = Math.max(1L, config.getLeaseDuration().toMillis() / 3);
+        val heartbeat = backgroundCommandsJobControl.getLeaseHeartbeat().scheduleWithFixedDelay(() -> {
+                    if (!renewLeaseInOwnTransaction(interactionContext, interactionId, workerId, config)) {
+                        log.warn("failed to renew lease of command {}", commandDto.getInteractionId());
+                    }
+                }, heartbeatPeriodMillis, heartbeatPeriodMillis, TimeUnit.MILLISECONDS);
+
+        val leaseLost = new AtomicBoolean();
+        interactionService.runAndCatch(interactionContext, () -> {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                // look up the CommandLogEntry again because we are within a new transaction.
+                val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(interactionId);
+
+                commandLogEntryIfAny.ifPresent(commandLogEntry ->
+                {
+                    try {
+                        commandExecutorService.executeCommand(
+                                CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto);
+                    } finally {
+                        heartbeat.cancel(false);
+                    }
+                    // verify the lease has not expired while executing, otherwise roll back
+                    if (!renewLease(interactionId, workerId, config)) {
+                        leaseLost.set(true);
+                        throw new LeaseLostException(commandDto.getInteractionId());
+                    }
+                    commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
+                });
+            })
+            .ifFailureFail();
+        })
+        .ifFailure(throwable -> {
+            if (leaseLost.get()) {
+                return;
+            }
+            log.error("Failed to execute command: " + CommandDtoUtils.dtoMapper().toString(commandDto), throwable);
+            // update this command as having failed.
+            interactionService.runAndCatch(interactionContext, () -> {
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                    commandLogEntryRepository.findByInteractionId(interactionId)
+                        .ifPresent(commandLogEntry ->
                         {
-                            commandExecutorService.executeCommand(
-                                    CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto);
+                            commandLogEntry.setException(throwable);
                             commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
                         });
-                    })
-                    .ifFailureFail();
-                })
-                .ifFailure(throwable -> {
-                    log.error("Failed to execute command: " + CommandDtoUtils.dtoMapper().toString(commandDto), throwable);
-                    // update this command as having failed.
-                    interactionService.runAndCatch(interactionContext, () -> {
-                        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
-                            // look up the CommandLogEntry again because we are within a new transaction.
-                            val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
-
-                            // capture the error
-                            commandLogEntryIfAny.ifPresent(commandLogEntry ->
-                            {
-                                commandLogEntry.setException(throwable);
-                                commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
-                            });
-                        });
+                });
+            });
+        });
+        heartbeat.cancel(false);
+        if (leaseLost.get()) {
+            log.warn("lease lost, command {} rolled back", commandDto.getInteractionId());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean renewLeaseInOwnTransaction(
+            final InteractionContext interactionContext,
+            final UUID interactionId,
+            final String workerId,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config) {
+        return interactionService.callAndCatch(interactionContext, () ->
+                    transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                        renewLease(interactionId, workerId, config))
+                        .ifFailureFail()
+                        .valueAsNonNullElseFail()
+                    )
+                .ifFailure(throwable -> log.warn("failed to renew lease of command {}", interactionId, throwable))
+                .getValue()
+                .orElse(false);
+    }
+
+    private boolean renewLease(
+            final UUID interactionId,
+            final String workerId,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config) {
+        val now = clockService.getClock().nowAsJavaSqlTimestamp();
+        return commandLogEntryRepository.renewLease(
+                interactionId, workerId, now, new Timestamp(now.getTime() + config.getLeaseDuration().toMillis()));
+    }
+
+    private static class LeaseLostException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        LeaseLostException(final String interactionId) {
+            super("lease lost while executing command " + interactionId);
+        }
+    }
+
+    // -- HELPER
+
+    private void executeCommand(final InteractionContext interactionContext, final CommandDto commandDto) {
+        interactionService.runAndCatch(interactionContext, () -> {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                // look up the CommandLogEntry again because we are within a new transaction.
+                val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+
+                // finally, we execute
+                commandLogEntryIfAny.ifPresent(commandLogEntry ->
+                {
+                    commandExecutorService.executeCommand(
+                            CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto);
+                    commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
+                });
+            })
+            .ifFailureFail();
+        })
+        .ifFailure(throwable -> {
+            log.error("Failed to execute command: " + CommandDtoUtils.dtoMapper().toString(commandDto), throwable);
+            // update this command as having failed.
+            interactionService.runAndCatch(interactionContext, () -> {
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                    // look up the CommandLogEntry again because we are within a new transaction.
+                    val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+
+                    // capture the error
+                    commandLogEntryIfAny.ifPresent(commandLogEntry ->
+                    {
+                        commandLogEntry.setException(throwable);
+                        commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
                     });
                 });
-            }
+            });
         });
     }
 
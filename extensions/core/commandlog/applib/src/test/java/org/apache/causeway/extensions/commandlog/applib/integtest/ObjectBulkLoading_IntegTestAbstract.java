@@ -0,0 +1,232 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.integtest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.extensions.commandlog.applib.integtest.model.Counter;
+import org.apache.causeway.extensions.commandlog.applib.integtest.model.CounterRepository;
+import org.apache.causeway.extensions.commandlog.applib.integtest.model.Counter_bumpUsingMixin;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Bulk loading of entities by bookmarks, as provided by {@link ObjectManager#loadObjects(Can)} and
+ * {@link ObjectManager#demementifyAll(Can)}, and implemented by the persistence specific entity facets.
+ * <p>
+ * Covers an entity type with datastore identity (JDO) or a simple primary key (JPA), the {@link Counter},
+ * and one with application identity (JDO) or a composite primary key (JPA), the {@link CommandLogEntry}.
+ */
+public abstract class ObjectBulkLoading_IntegTestAbstract extends CausewayIntegrationTestAbstract {
+
+    @BeforeAll
+    static void beforeAll() {
+        CausewayPresets.forcePrototyping();
+    }
+
+    Bookmark counter1;
+    Bookmark counter2;
+    Bookmark counter3;
+    Bookmark counterRemoved;
+    Bookmark commandLogEntry1;
+    Bookmark commandLogEntry2;
+    Bookmark commandLogEntryRemoved;
+
+    @BeforeEach
+    void beforeEach() {
+        interactionService.nextInteraction();
+
+        counterRepository.removeAll();
+        commandLogEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        counter1 = bookmarkFor(counterRepository.persist(newCounter("counter-1")));
+        counter2 = bookmarkFor(counterRepository.persist(newCounter("counter-2")));
+        counter3 = bookmarkFor(counterRepository.persist(newCounter("counter-3")));
+        val toBeRemoved = counterRepository.persist(newCounter("counter-removed"));
+        counterRemoved = bookmarkFor(toBeRemoved);
+        repositoryService.remove(toBeRemoved);
+        interactionService.nextInteraction();
+
+        // each command is logged with its own entry
+        for(int i = 0; i < 3; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counterRepository.findByName("counter-1")).act();
+            interactionService.nextInteraction();
+        }
+        val commandLogEntries = commandLogEntryRepository.findAll();
+        assertThat(commandLogEntries).hasSize(3);
+        commandLogEntry1 = bookmarkFor(commandLogEntries.get(0));
+        commandLogEntry2 = bookmarkFor(commandLogEntries.get(1));
+        commandLogEntryRemoved = bookmarkFor(commandLogEntries.get(2));
+        repositoryService.remove(commandLogEntries.get(2));
+        interactionService.nextInteraction();
+    }
+
+    protected abstract Counter newCounter(String name);
+
+    @Test
+    void loadObjects_retains_order_and_duplicates() {
+
+        // when
+        val objects = objectManager.loadObjects(Can.of(counter3, counter1, counter3, counter2, counter1));
+
+        // then
+        assertThat(describe(objects))
+            .containsExactly("counter-3", "counter-1", "counter-3", "counter-2", "counter-1");
+        assertThat(bookmarksOf(objects))
+            .containsExactly(counter3, counter1, counter3, counter2, counter1);
+    }
+
+    @Test
+    void loadObjects_represents_missing_as_empty() {
+
+        // when
+        val objects = objectManager.loadObjects(Can.of(
+                counter1, counterRemoved, counter2,
+                commandLogEntry1, commandLogEntryRemoved, commandLogEntry2));
+
+        // then
+        assertThat(describe(objects))
+            .containsExactly(
+                    "counter-1", null, "counter-2",
+                    describe(commandLogEntry1), null, describe(commandLogEntry2));
+    }
+
+    @Test
+    void loadObjects_of_mixed_types() {
+
+        // given
+        val unknownType = Bookmark.forLogicalTypeNameAndIdentifier("commandlog.test.NoSuchType", "1");
+
+        // when
+        val objects = objectManager.loadObjects(Can.of(
+                commandLogEntry2, counter2, unknownType, commandLogEntry1, counter1, commandLogEntry2));
+
+        // then ... bookmarks of unknown type are skipped
+        assertThat(describe(objects))
+            .containsExactly(
+                    describe(commandLogEntry2), "counter-2", describe(commandLogEntry1),
+                    "counter-1", describe(commandLogEntry2));
+    }
+
+    @Test
+    void loadObjects_in_chunks() {
+
+        // given ... more than fit into a single chunk (of 500), with one missing in the second chunk
+        val names = IntStream.range(0, 1200)
+                .mapToObj(i->String.format("bulk-%04d", i))
+                .collect(Collectors.toList());
+        val bookmarks = names.stream()
+                .map(name->bookmarkFor(counterRepository.persist(newCounter(name))))
+                .collect(Can.toCan())
+                .reverse();
+        repositoryService.remove(bookmarkService.lookup(bookmarks.getElseFail(700), Counter.class).orElseThrow());
+        interactionService.nextInteraction();
+
+        // when
+        val objects = objectManager.loadObjects(bookmarks);
+
+        // then
+        assertThat(objects.size()).isEqualTo(1200);
+        val described = describe(objects);
+        IntStream.range(0, 1200).forEach(index->
+            assertThat(described.get(index))
+                .isEqualTo(index==700
+                        ? null
+                        : names.get(1199 - index)));
+    }
+
+    @Test
+    void demementifyAll_retains_order_and_duplicates_of_mixed_types() {
+
+        // given
+        val mementos = Can.of(counter2, commandLogEntry1, counter1, counter2, commandLogEntry2)
+                .map(bookmark->objectManager.mementifyElseFail(objectManager.loadObjectElseFail(bookmark)));
+        interactionService.nextInteraction();
+
+        // when
+        val objects = objectManager.demementifyAll(mementos);
+
+        // then
+        assertThat(describe(objects))
+            .containsExactly(
+                    "counter-2", describe(commandLogEntry1), "counter-1",
+                    "counter-2", describe(commandLogEntry2));
+        assertThat(bookmarksOf(objects))
+            .containsExactly(counter2, commandLogEntry1, counter1, counter2, commandLogEntry2);
+    }
+
+    // -- HELPER
+
+    private Bookmark bookmarkFor(final Object domainObject) {
+        return bookmarkService.bookmarkFor(domainObject).orElseThrow();
+    }
+
+    private List<Bookmark> bookmarksOf(final Can<ManagedObject> objects) {
+        return objects.stream()
+                .map(object->object.getBookmark().orElse(null))
+                .collect(Collectors.toList());
+    }
+
+    private String describe(final Bookmark commandLogEntryBookmark) {
+        return bookmarkService.lookup(commandLogEntryBookmark, CommandLogEntry.class)
+                .map(CommandLogEntry::getInteractionId)
+                .orElseThrow()
+                .toString();
+    }
+
+    /**
+     * Counters by name, command log entries by interaction id, missing ones as {@code null}.
+     */
+    private static List<String> describe(final Can<ManagedObject> objects) {
+        return objects.stream()
+                .map(ManagedObject::getPojo)
+                .map(pojo->pojo instanceof Counter
+                        ? ((Counter) pojo).getName()
+                        : pojo instanceof CommandLogEntry
+                            ? ((CommandLogEntry) pojo).getInteractionId().toString()
+                            : null)
+                .collect(Collectors.toList());
+    }
+
+    @Inject CounterRepository counterRepository;
+    @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
+    @Inject BookmarkService bookmarkService;
+    @Inject ObjectManager objectManager;
+
+}
@@ -0,0 +1,301 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.integtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.ExecutionMode;
+import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.extensions.commandlog.applib.integtest.model.Counter;
+import org.apache.causeway.extensions.commandlog.applib.integtest.model.CounterRepository;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobControl;
+import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+@ExtendWith(MockitoExtension.class)
+public abstract class RunBackgroundCommandsJob_IntegTestAbstract extends CausewayIntegrationTestAbstract {
+
+    @Mock JobExecutionContext mockQuartzJobExecutionContext;
+
+    List<Bookmark> bookmarks;
+
+    protected abstract Counter newCounter(String name);
+
+    private static boolean prototypingOrig;
+
+    @BeforeAll
+    static void setup_environment() {
+        prototypingOrig = new CausewaySystemEnvironment().isPrototyping();
+        new CausewaySystemEnvironment().setPrototyping(true);
+    }
+
+    @AfterAll
+    static void reset_environment() {
+        new CausewaySystemEnvironment().setPrototyping(prototypingOrig);
+    }
+
+    @BeforeEach
+    void setup_counters() {
+        setupCounters(3);
+    }
+
+    @AfterEach
+    void reset_config() {
+        val config = runBackgroundCommandsConfig();
+        config.setExecutionMode(ExecutionMode.SEQUENTIAL);
+        config.setParallelism(4);
+        config.setBatchSize(50);
+    }
+
+    @Test
+    void worker_pool_executes_all_claimed_commands_in_order_per_target() {
+
+        // given
+        submitBackgroundCommands(10);
+
+        val config = runBackgroundCommandsConfig();
+        config.setExecutionMode(ExecutionMode.WORKER_POOL);
+        config.setParallelism(3);
+        config.setBatchSize(20);
+
+        // when (simulate quartz running in the background)
+        runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+        interactionService.nextInteraction();
+
+        // then only the first batch was claimed and executed
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val entries = commandLogEntryRepository.findAll();
+            assertThat(entries).hasSize(30);
+            assertThat(entries.stream().filter(CommandLogEntry::isComplete)).hasSize(20);
+            assertThat(entries.stream().filter(CommandLogEntry::isComplete))
+                    .allSatisfy(x -> assertThat(x.getClaimedBy()).isEqualTo(backgroundCommandsJobControl.getWorkerId()))
+                    .allSatisfy(x -> assertThat(x.getException()).isNullOrEmpty());
+        }).ifFailureFail();
+
+        // when the job runs again, the remaining commands are claimed
+        runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+        interactionService.nextInteraction();
+
+        // then each counter was bumped by each of its commands
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+            for (val bookmark : bookmarks) {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                assertThat(counter.getNum()).isEqualTo(10L);
+            }
+        }).ifFailureFail();
+    }
+
+    @Test
+    void commands_claimed_with_an_unexpired_lease_are_not_claimable() {
+
+        // given
+        submitBackgroundCommands(1);
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val now = clockService.getClock().nowAsJavaSqlTimestamp();
+            val later = new java.sql.Timestamp(now.getTime() + 60_000L);
+            val claimableIds = interactionIdsOf(commandLogEntryRepository.findBackgroundAndClaimable(now, 10));
+            assertThat(claimableIds).hasSize(3);
+
+            // when
+            assertThat(commandLogEntryRepository.claim(claimableIds, "node-a", now, later)).isEqualTo(3);
+            // then
+            assertThat(commandLogEntryRepository.claim(claimableIds, "node-b", now, later)).isZero();
+            assertThat(interactionIdsOf(commandLogEntryRepository.findClaimedBy("node-a", now)))
+                    .containsExactlyElementsOf(claimableIds);
+            // but once the lease has expired
+            val afterExpiry = new java.sql.Timestamp(later.getTime() + 1L);
+            assertThat(commandLogEntryRepository.claim(claimableIds, "node-b", afterExpiry, afterExpiry)).isEqualTo(3);
+            assertThat(commandLogEntryRepository.findClaimedBy("node-a", afterExpiry)).isEmpty();
+        }).ifFailureFail();
+    }
+
+    @Test
+    void targets_with_an_unexpired_claim_are_not_claimable() {
+
+        // given
+        submitBackgroundCommands(2);
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val now = clockService.getClock().nowAsJavaSqlTimestamp();
+            val later = new java.sql.Timestamp(now.getTime() + 60_000L);
+            val claimable = commandLogEntryRepository.findBackgroundAndClaimable(now, 10);
+            assertThat(claimable).hasSize(6);
+
+            // when node-a claims the first command against the first target only
+            val first = claimable.get(0);
+            assertThat(commandLogEntryRepository.claim(List.of(first.getInteractionId()), "node-a", now, later))
+                    .isEqualTo(1);
+
+            // then no other command against that target is claimable, while the lease has not expired
+            val claimableMeanwhile = commandLogEntryRepository.findBackgroundAndClaimable(now, 10);
+            assertThat(claimableMeanwhile).hasSize(4);
+            assertThat(claimableMeanwhile)
+                    .noneSatisfy(x -> assertThat(x.getTarget()).isEqualTo(first.getTarget()));
+
+            // but once the lease has expired
+            val afterExpiry = new java.sql.Timestamp(later.getTime() + 1L);
+            assertThat(commandLogEntryRepository.findBackgroundAndClaimable(afterExpiry, 10)).hasSize(6);
+        }).ifFailureFail();
+    }
+
+    @Test
+    void lease_is_renewed_only_while_held() {
+
+        // given
+        submitBackgroundCommands(1);
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val now = clockService.getClock().nowAsJavaSqlTimestamp();
+            val later = new java.sql.Timestamp(now.getTime() + 60_000L);
+            val muchLater = new java.sql.Timestamp(now.getTime() + 120_000L);
+            val first = commandLogEntryRepository.findBackgroundAndClaimable(now, 10).get(0).getInteractionId();
+            commandLogEntryRepository.claim(List.of(first), "node-a", now, later);
+
+            // when, then
+            assertThat(commandLogEntryRepository.renewLease(first, "node-b", now, muchLater)).isFalse();
+            assertThat(commandLogEntryRepository.renewLease(first, "node-a", now, muchLater)).isTrue();
+            // (the renewed lease has not expired)
+            assertThat(commandLogEntryRepository.claim(List.of(first), "node-b", later, later)).isZero();
+            // but not once it has expired
+            val afterExpiry = new java.sql.Timestamp(muchLater.getTime() + 1L);
+            assertThat(commandLogEntryRepository.renewLease(first, "node-a", afterExpiry, afterExpiry)).isFalse();
+        }).ifFailureFail();
+    }
+
+    /**
+     * Compares throughput of sequential execution vs. execution using a worker pool.
+     */
+    @Test
+    @DisabledIfSystemProperty(named = "isRunningWithSurefire", matches = "true")
+    void benchmark() {
+
+        final int targets = 16;
+        final int commandsPerTarget = 50;
+
+        for (val executionMode : ExecutionMode.values()) {
+
+            setupCounters(targets);
+            submitBackgroundCommands(commandsPerTarget);
+
+            val config = runBackgroundCommandsConfig();
+            config.setExecutionMode(executionMode);
+            config.setParallelism(8);
+            config.setBatchSize(targets * commandsPerTarget);
+
+            val watch = _Timing.now();
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+            interactionService.nextInteraction();
+            watch.stop();
+
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+            }).ifFailureFail();
+
+            System.err.printf(Locale.US, "%-12s %d commands in %d ms (%.1f commands/s)%n",
+                    executionMode,
+                    targets * commandsPerTarget,
+                    watch.getMillis(),
+                    1000. * targets * commandsPerTarget / Math.max(1L, watch.getMillis()));
+        }
+    }
+
+    // -- HELPER
+
+    private void setupCounters(final int count) {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            commandLogEntryRepository.removeAll();
+            counterRepository.removeAll();
+            for (int i = 0; i < count; i++) {
+                counterRepository.persist(newCounter("counter-" + i));
+            }
+            final List<Counter> counters = _Casts.uncheckedCast(counterRepository.find());
+            bookmarks = counters.stream()
+                    .map(bookmarkService::bookmarkForElseFail)
+                    .collect(Collectors.toList());
+        }).ifFailureFail();
+    }
+
+    private void submitBackgroundCommands(final int commandsPerTarget) {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            for (int i = 0; i < commandsPerTarget; i++) {
+                for (val bookmark : bookmarks) {
+                    val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                    backgroundService.execute(counter).bumpUsingDeclaredAction();
+                }
+            }
+        }).ifFailureFail();
+    }
+
+    private static List<UUID> interactionIdsOf(final List<? extends CommandLogEntry> commandLogEntries) {
+        return commandLogEntries.stream()
+                .map(CommandLogEntry::getInteractionId)
+                .collect(Collectors.toList());
+    }
+
+    private CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands runBackgroundCommandsConfig() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+    }
+
+    @Inject InteractionService interactionService;
+    @Inject BackgroundService backgroundService;
+    @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
+    @Inject TransactionService transactionService;
+    @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
+    @Inject BackgroundCommandsJobControl backgroundCommandsJobControl;
+    @Inject BookmarkService bookmarkService;
+    @Inject CounterRepository counterRepository;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject ClockService clockService;
+
+}
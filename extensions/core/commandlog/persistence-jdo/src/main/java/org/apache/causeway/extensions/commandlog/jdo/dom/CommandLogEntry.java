@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Convert;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -187,6 +188,46 @@
                     + " WHERE executeIn == 'BACKGROUND' "
                     + "    && target    == :target "
                     + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_CLAIMABLE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && (claimedBy == null || leaseExpiresAt < :now) "
+                  + "    && (SELECT count(other) "
+                  + "          FROM " + CommandLogEntry.FQCN + " other "
+                  + "         WHERE other.target == this.target "
+                  + "            && other.executeIn == 'BACKGROUND' "
+                  + "            && other.completedAt == null "
+                  + "            && other.claimedBy != null "
+                  + "            && other.leaseExpiresAt >= :now) == 0 "
+                  + " ORDER BY timestamp ASC "), // programmatic RANGE
+    @Query(
+            name  = Nq.CLAIM,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET claimedBy = :claimedBy, "
+                  + "       leaseExpiresAt = :leaseExpiresAt "
+                  + " WHERE :interactionIds.contains(interactionId) "
+                  + "    && startedAt == null "
+                  + "    && (claimedBy == null || leaseExpiresAt < :now) "),
+    @Query(
+            name  = Nq.FIND_CLAIMED_BY,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && claimedBy == :claimedBy "
+                  + "    && leaseExpiresAt >= :now "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.RENEW_LEASE,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET leaseExpiresAt = :leaseExpiresAt "
+                  + " WHERE interactionId == :interactionId "
+                  + "    && completedAt == null "
+                  + "    && claimedBy == :claimedBy "
+                  + "    && leaseExpiresAt >= :now "),
     @Query(
             name  = Nq.FIND_MOST_RECENT_REPLAYED,
             value = "SELECT "
@@ -285,6 +326,7 @@ public CommandLogEntry(
 
 
     @Persistent
+    @Convert(CommandLogEntryDtoConverter.class)
     @Column(allowsNull = CommandDtoAnnot.ALLOWS_NULL, jdbcType = "CLOB")
     @CommandDtoAnnot
     @Getter @Setter
@@ -328,4 +370,16 @@ public CommandLogEntry(
     @Getter @Setter
     private String replayStateFailureReason;
 
+
+    @Column(allowsNull = ClaimedBy.ALLOWS_NULL, length = ClaimedBy.MAX_LENGTH)
+    @ClaimedBy
+    @Getter @Setter
+    private String claimedBy;
+
+
+    @Column(allowsNull = LeaseExpiresAt.ALLOWS_NULL)
+    @LeaseExpiresAt
+    @Getter @Setter
+    private java.sql.Timestamp leaseExpiresAt;
+
 }
@@ -18,13 +18,24 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -39,10 +50,68 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    private static final String JDOQL_ALLOW_ALL = "datanucleus.query.jdoql.allowAll";
+    private static final int CLAIM_CHUNK_SIZE = 500;
+
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims atomically, using a conditional (JDOQL) bulk update (per chunk of interactionIds).
+     */
+    @Override
+    public int claim(
+            final List<UUID> interactionIds,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        int claimed = 0;
+        for (val chunk : Can.ofCollection(interactionIds).partitionInnerBound(CLAIM_CHUNK_SIZE)) {
+            claimed += executeBulkUpdate(Nq.CLAIM, Map.of(
+                    "claimedBy", claimedBy,
+                    "leaseExpiresAt", leaseExpiresAt,
+                    "interactionIds", chunk.toList(),
+                    "now", now));
+        }
+        return claimed;
+    }
+
+    /**
+     * Renews atomically, using a conditional (JDOQL) bulk update.
+     */
+    @Override
+    public boolean renewLease(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        return executeBulkUpdate(Nq.RENEW_LEASE, Map.of(
+                "leaseExpiresAt", leaseExpiresAt,
+                "interactionId", interactionId,
+                "claimedBy", claimedBy,
+                "now", now)) == 1;
+    }
+
+    // -- HELPER
+
+    private int executeBulkUpdate(final String queryName, final Map<String, Object> params) {
+        val pm = jdoSupportService.getPersistenceManager();
+        // DN only allows JDOQL UPDATE statements if explicitly enabled;
+        // as the query is parsed on creation, this can't be a query extension
+        val allowAllBefore = pm.getProperties().get(JDOQL_ALLOW_ALL);
+        pm.setProperty(JDOQL_ALLOW_ALL, Boolean.TRUE);
+        try {
+            val query = pm.newNamedQuery(CommandLogEntry.class, queryName);
+            final Number updated = (Number) query.executeWithMap(params);
+            return updated.intValue();
+        } finally {
+            pm.setProperty(JDOQL_ALLOW_ALL, allowAllBefore != null ? allowAllBefore : Boolean.FALSE);
+        }
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
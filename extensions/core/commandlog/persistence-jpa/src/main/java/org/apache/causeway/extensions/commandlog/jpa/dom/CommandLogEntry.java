@@ -48,7 +48,6 @@
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.java.util.JavaUtilUuidConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayCommandDtoConverter;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 import lombok.Getter;
@@ -194,6 +193,47 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.target    = :target "
                   + " ORDER BY cl.timestamp DESC"),
+        @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_CLAIMABLE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.claimedBy is null OR cl.leaseExpiresAt < :now) "
+                  + "   AND NOT EXISTS ("
+                  + "       SELECT other "
+                  + "         FROM CommandLogEntry other "
+                  + "        WHERE other.target = cl.target "
+                  + "          AND other.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "          AND other.completedAt is null "
+                  + "          AND other.claimedBy is not null "
+                  + "          AND other.leaseExpiresAt >= :now) "
+                  + " ORDER BY cl.timestamp ASC"), // programmatic LIMIT
+        @NamedQuery(
+            name  = Nq.CLAIM,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.claimedBy = :claimedBy, "
+                  + "       cl.leaseExpiresAt = :leaseExpiresAt "
+                  + " WHERE cl.pk.interactionId IN :interactionIds "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.claimedBy is null OR cl.leaseExpiresAt < :now)"),
+        @NamedQuery(
+            name  = Nq.FIND_CLAIMED_BY,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND cl.claimedBy = :claimedBy "
+                  + "   AND cl.leaseExpiresAt >= :now "
+                  + " ORDER BY cl.timestamp ASC"),
+        @NamedQuery(
+            name  = Nq.RENEW_LEASE,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.leaseExpiresAt = :leaseExpiresAt "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.completedAt is null "
+                  + "   AND cl.claimedBy = :claimedBy "
+                  + "   AND cl.leaseExpiresAt >= :now"),
     @NamedQuery(
             name  = Nq.FIND_MOST_RECENT_REPLAYED,
             query = "SELECT cl "
@@ -295,7 +335,7 @@ public void setInteractionId(final UUID interactionId) {
     private String logicalMemberIdentifier;
 
 
-    @Convert(converter = CausewayCommandDtoConverter.class)
+    @Convert(converter = CommandLogEntryDtoConverter.class)
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = CommandDtoAnnot.NULLABLE, columnDefinition = "CLOB")
     @CommandDtoAnnot
@@ -341,4 +381,16 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private String replayStateFailureReason;
 
+
+    @Column(nullable = ClaimedBy.NULLABLE, length = ClaimedBy.MAX_LENGTH)
+    @ClaimedBy
+    @Getter @Setter
+    private String claimedBy;
+
+
+    @Column(nullable = LeaseExpiresAt.NULLABLE)
+    @LeaseExpiresAt
+    @Getter @Setter
+    private java.sql.Timestamp leaseExpiresAt;
+
 }
@@ -18,13 +18,23 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -39,8 +49,54 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    private static final int CLAIM_CHUNK_SIZE = 500;
+
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims atomically, using a conditional bulk update (per chunk of interactionIds).
+     */
+    @Override
+    public int claim(
+            final List<UUID> interactionIds,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        val entityManager = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class);
+        int claimed = 0;
+        for (val chunk : Can.ofCollection(interactionIds).partitionInnerBound(CLAIM_CHUNK_SIZE)) {
+            claimed += entityManager
+                    .createNamedQuery(Nq.CLAIM)
+                    .setParameter("claimedBy", claimedBy)
+                    .setParameter("leaseExpiresAt", leaseExpiresAt)
+                    .setParameter("interactionIds", chunk.toList())
+                    .setParameter("now", now)
+                    .executeUpdate();
+        }
+        return claimed;
+    }
+
+    /**
+     * Renews atomically, using a conditional bulk update.
+     */
+    @Override
+    public boolean renewLease(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        final int updated = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.RENEW_LEASE)
+                .setParameter("leaseExpiresAt", leaseExpiresAt)
+                .setParameter("interactionId", interactionId)
+                .setParameter("claimedBy", claimedBy)
+                .setParameter("now", now)
+                .executeUpdate();
+        return updated == 1;
+    }
+
 }
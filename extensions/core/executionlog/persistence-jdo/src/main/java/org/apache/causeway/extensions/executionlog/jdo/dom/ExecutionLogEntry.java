@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Convert;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -200,6 +201,7 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
 
 
     @Persistent
+    @Convert(ExecutionLogEntryDtoConverter.class)
     @Column(allowsNull = InteractionDtoAnnot.ALLOWS_NULL, jdbcType = "CLOB", sqlType = "LONGVARCHAR")
     @InteractionDtoAnnot
     @Getter @Setter
@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionlog.jpa.dom;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+/**
+ * Reads any of the {@link DtoStorageFormat}s, writes the {@link ExecutionLogEntry}'s {@link InteractionDto}
+ * in the format as configured by <code>causeway.extensions.execution-log.dto-storage-format</code>.
+ *
+ * @since 2.0 {@index}
+ */
+@Converter
+public class ExecutionLogEntryDtoConverter implements AttributeConverter<InteractionDto, String> {
+
+    @Override
+    public String convertToDatabaseColumn(final InteractionDto memberValue) {
+        return InteractionDtoUtils.storageCodec().encode(memberValue, storageFormat());
+    }
+
+    @Override
+    public InteractionDto convertToEntityAttribute(final String datastoreValue) {
+        return InteractionDtoUtils.storageCodec().decode(datastoreValue);
+    }
+
+    private static DtoStorageFormat storageFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getExtensions().getExecutionLog().getDtoStorageFormat())
+                .orElse(DtoStorageFormat.XML);
+    }
+
+}
@@ -19,15 +19,18 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
@@ -40,6 +43,7 @@
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -107,6 +111,32 @@ public List<E> findOldest() {
                         .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending()));
     }
 
+    /**
+     * As per {@link #findOldest()}, but skipping the given entries, that is, allows to fetch the next batch
+     * while the previous one (not yet deleted) is still being processed.
+     *
+     * <p>
+     *     Unlike a high-water mark, this also picks up entries that are ordered before those given,
+     *     yet only got committed later (eg. by a long-running transaction).
+     * </p>
+     */
+    public List<E> findOldestExcluding(final Collection<? extends HasInteractionIdAndSequence> excluded) {
+        if(excluded.isEmpty()) {
+            return findOldest();
+        }
+        val maxPending = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending();
+        val excludedKeys = excluded.stream()
+                .map(Key::of)
+                .collect(Collectors.toSet());
+        return repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
+                        .withLimit(maxPending + excludedKeys.size()))
+                .stream()
+                .filter(entry->!excludedKeys.contains(Key.of(entry)))
+                .limit(maxPending)
+                .collect(Collectors.toList());
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -165,6 +195,36 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    /**
+     * Deletes exactly the given entries (any no longer existing are ignored), that is, acknowledges
+     * an entire batch at once.
+     *
+     * <p>
+     *     This default implementation deletes one entry at a time; subclasses are expected to override with a
+     *     single bulk delete statement.
+     * </p>
+     *
+     * @return the number of entries deleted
+     */
+    @Programmatic
+    public int deleteAll(final Collection<? extends HasInteractionIdAndSequence> entries) {
+        return (int) entries.stream()
+                .filter(entry->deleteByInteractionIdAndSequence(entry.getInteractionId(), entry.getSequence()))
+                .count();
+    }
+
+    /**
+     * The primary key of an entry.
+     */
+    @lombok.Value(staticConstructor = "of")
+    public static class Key implements HasInteractionIdAndSequence {
+        UUID interactionId;
+        int sequence;
+        public static Key of(final HasInteractionIdAndSequence entry) {
+            return of(entry.getInteractionId(), entry.getSequence());
+        }
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -18,19 +18,32 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.restapi;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.annotation.NatureOfService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -44,6 +57,11 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     Alternatively, the client can {@link #poll(String, int) long-poll} for entries, and acknowledge
+ *     all entries of a batch at once, using {@link #deleteMany(String)}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -54,6 +72,7 @@ public class OutboxRestApi  {
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".OutboxRestApi";
 
     final @Inject ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> entryRepository;
+    final @Inject CausewayConfiguration causewayConfiguration;
 
     /**
      * This action is intended to be invoked with <code>Accept</code> header set to
@@ -75,6 +94,65 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As per {@link #pending()}, but if there are none pending, waits (up to the given number of seconds,
+     * bounded by configuration) until there are, that is, allows the <i>outbox rest client</i> to long-poll.
+     *
+     * <p>
+     *     If entries to exclude are provided (in the same format as for {@link #deleteMany(String)}),
+     *     then these are skipped, allowing the client to fetch the next batch while still processing
+     *     (and not yet having deleted) the previous one.
+     * </p>
+     *
+     * <p>
+     *     While waiting, the outbox is re-queried in a (short-lived) transaction of its own each time,
+     *     so that entries committed in the meantime are seen, regardless of the isolation level.
+     * </p>
+     *
+     * <p>
+     *     As the request's own transaction (and hence its JDBC connection) is held for the entire wait,
+     *     the number of concurrently waiting long-polls is bounded by configuration; any further long-poll
+     *     returns immediately, same as {@link #pending()} (but still skipping excluded entries).
+     * </p>
+     *
+     * <p>
+     *     This action is intended to be invoked with the same <code>Accept</code> header as {@link #pending()}.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents poll(
+            @Parameter(optionality = Optionality.OPTIONAL) final String excludingInteractionsDtoXml,
+            final int maxWaitInSecs) {
+
+        val restApiConfig = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi();
+        val maxWait = Duration.ofSeconds(Math.max(0, maxWaitInSecs));
+        val deadline = System.nanoTime()
+                + (maxWait.compareTo(restApiConfig.getMaxWait()) < 0 ? maxWait : restApiConfig.getMaxWait()).toNanos();
+        val excluded = keysOf(excludingInteractionsDtoXml);
+
+        if(!maxWait.isZero()
+                && waitingPolls.get().tryAcquire()) {
+            try {
+                while(System.nanoTime() < deadline
+                        && !anyPendingExcluding(excluded)
+                        && sleep(restApiConfig.getPollInterval())) {
+                    // wait for entries to be committed
+                }
+            } finally {
+                waitingPolls.get().release();
+            }
+        }
+
+        val entries = entryRepository.findOldestExcluding(excluded);
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -90,15 +168,55 @@ public void delete(final String interactionId, final int sequence) {
             commandPublishing = Publishing.DISABLED
     )
     public void deleteMany(final String interactionsDtoXml) {
-        val interactionsDto = InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    val interactionId = interactionType.getInteractionId();
-                    val sequence = interactionType.getExecution().getSequence();
-                    entryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        entryRepository.deleteAll(keysOf(interactionsDtoXml));
     }
 
     @Inject FactoryService factoryService;
+    @Inject TransactionService transactionService;
+
+    /**
+     * Permits for long-polls to wait, bounding the connections held by waiting requests.
+     */
+    private final _Lazy<Semaphore> waitingPolls = _Lazy.threadSafe(this::newWaitingPollsSemaphore);
+
+    // -- HELPER
+
+    private static List<ExecutionOutboxEntryRepository.Key> keysOf(final @Nullable String interactionsDtoXml) {
+        if(_Strings.isNullOrEmpty(interactionsDtoXml)) {
+            return Collections.emptyList();
+        }
+        return InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml).getInteractionDto().stream()
+                .map(interactionDto->ExecutionOutboxEntryRepository.Key.of(
+                        UUID.fromString(interactionDto.getInteractionId()),
+                        interactionDto.getExecution().getSequence()))
+                .collect(Collectors.toList());
+    }
+
+    private Semaphore newWaitingPollsSemaphore() {
+        return new Semaphore(
+                causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxConcurrentPolls());
+    }
+
+    /**
+     * Checks in a transaction of its own, so as to see entries committed since the last check.
+     */
+    private boolean anyPendingExcluding(final List<ExecutionOutboxEntryRepository.Key> excluded) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                    ()->!entryRepository.findOldestExcluding(excluded).isEmpty())
+                .valueAsNonNullElseFail();
+    }
+
+    /**
+     * @return whether not interrupted
+     */
+    private static boolean sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
 }
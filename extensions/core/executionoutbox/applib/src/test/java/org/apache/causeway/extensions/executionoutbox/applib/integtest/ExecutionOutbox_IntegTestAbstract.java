@@ -18,9 +18,14 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.inject.Inject;
 
@@ -39,6 +44,7 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.commons.internal.base._Timing;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -46,6 +52,7 @@
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixin;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixinWithExecutionPublishingDisabled;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
@@ -283,6 +290,92 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void findOldestExcluding_and_deleteAll() {
+
+        // given
+        wrapperFactory.wrap(counter1).bumpUsingDeclaredAction();
+        wrapperFactory.wrap(counter1).setNum(99L);
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        val oldestEntries = executionOutboxEntryRepository.findOldest();
+        val oldest = keysOf(oldestEntries);
+        assertThat(oldest).hasSize(3);
+        val firstBatch = oldestEntries.subList(0, 2).stream()
+                .map(ExecutionOutboxEntryRepository.Key::of)
+                .collect(Collectors.toList());
+
+        // when
+        val excludingFirstBatch = keysOf(executionOutboxEntryRepository.findOldestExcluding(firstBatch));
+
+        // then
+        assertThat(excludingFirstBatch).containsExactly(oldest.get(2));
+
+        // given an entry ordered before the first batch, yet committed only after it was obtained
+        val lateEntry = oldestEntries.get(0);
+        val lateInteractionId = UUID.randomUUID();
+        executionOutboxEntryRepository.upsert(
+                lateInteractionId, 0, lateEntry.getExecutionType(),
+                new Timestamp(lateEntry.getTimestamp().getTime() - 1_000L),
+                lateEntry.getUsername(), lateEntry.getTarget(), lateEntry.getLogicalMemberIdentifier(),
+                lateEntry.getInteractionDto());
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // when
+        val deleted = executionOutboxEntryRepository.deleteAll(firstBatch);
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then only the first batch is deleted
+        assertThat(deleted).isEqualTo(2);
+        assertThat(keysOf(executionOutboxEntryRepository.findOldest()))
+            .containsExactly(lateInteractionId + "_0", oldest.get(2));
+
+        // when already deleted
+        assertThat(executionOutboxEntryRepository.deleteAll(firstBatch)).isZero();
+    }
+
+    @Test
+    void poll_waits_only_while_permitted() throws Exception {
+
+        // given no pending entries
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+        assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            // when as many long-polls are waiting as permitted (by default)
+            val waitingPolls = IntStream.range(0, 2)
+                    .mapToObj(i->CompletableFuture.supplyAsync(
+                            ()->interactionService.callAnonymous(()->outboxRestApi.poll(null, 3)),
+                            executor))
+                    .collect(Collectors.toList());
+            Thread.sleep(1_000L);
+
+            // then a further long-poll returns without waiting
+            val stopWatch = _Timing.now();
+            val outboxEvents = outboxRestApi.poll(null, 3);
+            stopWatch.stop();
+
+            assertThat(outboxEvents.getExecutions()).isEmpty();
+            assertThat(stopWatch.getMillis()).isLessThan(1_500L);
+            assertThat(waitingPolls.stream().map(CompletableFuture::join))
+                .allMatch(waitingPoll->waitingPoll.getExecutions().isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> keysOf(final List<? extends ExecutionOutboxEntry> entries) {
+        return entries.stream()
+                .map(entry->entry.getInteractionId() + "_" + entry.getSequence())
+                .collect(Collectors.toList());
+    }
+
     @Inject ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -290,5 +383,6 @@ void test_all_the_repository_methods() {
     @Inject CounterRepository counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject OutboxRestApi outboxRestApi;
 
 }
@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Convert;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -77,7 +78,7 @@
 public class ExecutionOutboxEntry extends org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry {
 
 
-    public static final String FQCN = "org.apache.causeway.extensions.executionlog.jdo.dom.ExecutionLogEntry";
+    public static final String FQCN = "org.apache.causeway.extensions.executionoutbox.jdo.dom.ExecutionOutboxEntry";
     @PrimaryKey
     @InteractionId
     @Column(allowsNull = InteractionId.ALLOWS_NULL, length=InteractionId.MAX_LENGTH)
@@ -128,6 +129,7 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
 
 
     @Persistent
+    @Convert(ExecutionOutboxEntryDtoConverter.class)
     @Column(allowsNull = InteractionDtoAnnot.ALLOWS_NULL, jdbcType = "CLOB", sqlType = "LONGVARCHAR")
     @InteractionDtoAnnot
     @Getter @Setter
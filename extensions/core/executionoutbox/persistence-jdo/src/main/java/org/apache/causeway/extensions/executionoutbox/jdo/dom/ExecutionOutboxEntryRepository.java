@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.StringJoiner;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -25,10 +30,14 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository.LOGICAL_TYPE_NAME)
@@ -37,10 +46,44 @@
 public class ExecutionOutboxEntryRepository
 extends org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository<ExecutionOutboxEntry> {
 
+    private static final String JDOQL_ALLOW_ALL = "datanucleus.query.jdoql.allowAll";
+    private static final int DELETE_CHUNK_SIZE = 100;
+
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
 
+    /**
+     * Deletes using (JDOQL) bulk deletes, one per chunk of entries.
+     */
+    @Override
+    public int deleteAll(final Collection<? extends HasInteractionIdAndSequence> entries) {
+        val pm = jdoSupportService.getPersistenceManager();
+        // DN only allows JDOQL DELETE statements if explicitly enabled;
+        // as the query is parsed on creation, this can't be a query extension
+        val allowAllBefore = pm.getProperties().get(JDOQL_ALLOW_ALL);
+        pm.setProperty(JDOQL_ALLOW_ALL, Boolean.TRUE);
+        try {
+            int deleted = 0;
+            for(val chunk : Can.ofCollection(entries).partitionInnerBound(DELETE_CHUNK_SIZE)) {
+                val params = new HashMap<String, Object>();
+                val filter = new StringJoiner(" || ");
+                for (int i = 0; i < chunk.size(); i++) {
+                    filter.add("(interactionId == :interactionId" + i + " && sequence == :sequence" + i + ")");
+                    params.put("interactionId" + i, chunk.getElseFail(i).getInteractionId());
+                    params.put("sequence" + i, chunk.getElseFail(i).getSequence());
+                }
+                val query = pm.newQuery("DELETE FROM " + ExecutionOutboxEntry.FQCN + " WHERE " + filter);
+                deleted += ((Number) query.executeWithMap(params)).intValue();
+            }
+            return deleted;
+        } finally {
+            pm.setProperty(JDOQL_ALLOW_ALL, allowAllBefore != null ? allowAllBefore : Boolean.FALSE);
+        }
+    }
+
     /**
      * for testing only
      */
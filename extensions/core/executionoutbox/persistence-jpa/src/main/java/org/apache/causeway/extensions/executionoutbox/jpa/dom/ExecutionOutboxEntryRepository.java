@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.Collection;
+import java.util.StringJoiner;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -25,10 +29,14 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository.LOGICAL_TYPE_NAME)
@@ -37,10 +45,36 @@
 public class ExecutionOutboxEntryRepository
 extends org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository<ExecutionOutboxEntry> {
 
+    private static final int DELETE_CHUNK_SIZE = 100;
+
+    @Inject JpaSupportService jpaSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
 
+    /**
+     * Deletes using bulk deletes, one per chunk of entries.
+     */
+    @Override
+    public int deleteAll(final Collection<? extends HasInteractionIdAndSequence> entries) {
+        val entityManager = jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        int deleted = 0;
+        for(val chunk : Can.ofCollection(entries).partitionInnerBound(DELETE_CHUNK_SIZE)) {
+            val filter = new StringJoiner(" OR ");
+            for (int i = 0; i < chunk.size(); i++) {
+                filter.add("(ele.pk.interactionId = :interactionId" + i + " AND ele.pk.sequence = :sequence" + i + ")");
+            }
+            val query = entityManager.createQuery("DELETE FROM ExecutionOutboxEntry ele WHERE " + filter);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter("interactionId" + i, chunk.getElseFail(i).getInteractionId());
+                query.setParameter("sequence" + i, chunk.getElseFail(i).getSequence());
+            }
+            deleted += query.executeUpdate();
+        }
+        return deleted;
+    }
+
     /**
      * for testing only
      */
@@ -26,6 +26,9 @@
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
@@ -123,12 +126,34 @@ public List<InteractionDto> pending() {
                 .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
         var response = invocationBuilder.get();
 
-        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+        return digest(response);
+    }
 
-        digest.ifFailureFail();
-        return digest.getValue()
-                .map(InteractionsDto::getInteractionDto)
-                .orElseGet(Collections::emptyList);
+    /**
+     * As per {@link #pending()}, but if there are none pending, the server waits (up to the given number of seconds)
+     * until there are (long-poll).
+     *
+     * <p>
+     *     The read timeout ({@link #withReadTimeoutInSecs(int)}) must exceed the given wait.
+     * </p>
+     *
+     * @param excluding - if provided, these interactions are skipped, as is required to fetch
+     *      the next batch while the previous one has not yet been deleted
+     */
+    public List<InteractionDto> poll(final @Nullable List<InteractionDto> excluding, final int maxWaitInSecs) {
+
+        val args = client.arguments()
+                .addActionParameter("excludingInteractionsDtoXml",
+                        excluding != null && !excluding.isEmpty()
+                            ? toXml(excluding)
+                            : null)
+                .addActionParameter("maxWaitInSecs", maxWaitInSecs);
+
+        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPollUri())
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
+        val response = invocationBuilder.put(args.build());
+
+        return digest(response);
     }
 
     public void delete(final String interactionId, final int sequence) {
@@ -136,16 +161,33 @@ public void delete(final String interactionId, final int sequence) {
                 new DeleteMessage(interactionId, sequence));
     }
 
+    /**
+     * Deletes exactly the given interactions, that is, acknowledges an entire batch
+     * (as returned by {@link #pending()} or {@link #poll(List, int)}) at once.
+     */
     public void deleteMany(final List<InteractionDto> interactionDtos) {
+        invoke(outboxClientConfig.getDeleteManyUri(),
+                new DeleteManyMessage(toXml(interactionDtos)));
+    }
+
+    // -- HELPER
+
+    private String toXml(final List<InteractionDto> interactionDtos) {
         val interactionsDto = new InteractionsDto();
         interactionDtos.forEach(interactionDto -> {
             addTo(interactionsDto, interactionDto);
         });
-        invoke(outboxClientConfig.getDeleteManyUri(),
-                new DeleteManyMessage(InteractionsDtoUtils.dtoMapper().toString(interactionsDto)));
+        return InteractionsDtoUtils.dtoMapper().toString(interactionsDto);
     }
 
-    // -- HELPER
+    private List<InteractionDto> digest(final Response response) {
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
 
     private void addTo(final InteractionsDto interactionsDto, final InteractionDto orig) {
         val copy = new InteractionDto();
@@ -47,4 +47,7 @@ public class OutboxClientConfig {
     @XmlElement(name="deleteManyUri")
     private String deleteManyUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteMany/invoke";
 
+    @XmlElement(name="pollUri")
+    private String pollUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/poll/invoke";
+
 }
@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.causeway.extensions.executionoutbox.restclient.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Consumes the outbox batch by batch, using an {@link OutboxClient}: while a batch is being processed, the next batch
+ * is already being fetched (long-polling, if there is none yet, and skipping those of the batch being processed);
+ * once processed, a batch is acknowledged at once, by {@link OutboxClient#deleteMany(List) deleting} exactly
+ * its interactions.
+ *
+ * <p>
+ *     If processing a batch fails, that batch is not acknowledged and the exception is propagated, hence the batch
+ *     will be obtained again by any subsequent consumer (at-least-once delivery).
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class PipelinedOutboxConsumer implements AutoCloseable {
+
+    private final @NonNull OutboxClient outboxClient;
+
+    /**
+     * How long each poll may wait for new interactions, if there are none pending.
+     */
+    private final int maxWaitInSecs;
+
+    private final ExecutorService fetcher = Executors.newSingleThreadExecutor(runnable->{
+        val thread = new Thread(runnable, "outbox-fetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Processes batches until {@code keepRunning} returns {@code false} (as checked before each batch)
+     * or processing a batch fails.
+     */
+    public void consume(
+            final @NonNull Consumer<List<InteractionDto>> batchProcessor,
+            final @NonNull BooleanSupplier keepRunning) {
+
+        List<InteractionDto> batch = outboxClient.poll(null, maxWaitInSecs);
+        while(keepRunning.getAsBoolean()) {
+            if(batch.isEmpty()) {
+                batch = outboxClient.poll(null, maxWaitInSecs);
+                continue;
+            }
+            val inFlight = batch;
+            val nextBatch = CompletableFuture.supplyAsync(()->outboxClient.poll(inFlight, maxWaitInSecs), fetcher);
+            try {
+                batchProcessor.accept(batch);
+            } catch (RuntimeException e) {
+                nextBatch.cancel(false);
+                throw e;
+            }
+            outboxClient.deleteMany(batch);
+            log.debug("processed and acknowledged {} interactions", batch.size());
+            batch = nextBatch.join();
+        }
+    }
+
+    @Override
+    public void close() {
+        fetcher.shutdownNow();
+    }
+
+}
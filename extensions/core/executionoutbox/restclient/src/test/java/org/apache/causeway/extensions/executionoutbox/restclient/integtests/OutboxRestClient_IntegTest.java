@@ -237,6 +237,49 @@ void scenario() {
 
     }
 
+    @Test
+    void poll_when_none_waits_then_returns_empty() {
+
+        // when
+        List<InteractionDto> polled = outboxClient.poll(null, 1);
+
+        // then
+        assertThat(polled).isEmpty();
+    }
+
+    @Test
+    void poll_excluding_and_deleteMany() {
+
+        // given
+        interactionService.runAnonymous(() -> {
+            counter1 = counterRepository.findByName("counter-1");
+            bump(counter1, 10);
+        });
+
+        // when
+        List<InteractionDto> firstBatch = outboxClient.poll(null, 1);
+
+        // then
+        assertThat(firstBatch).hasSize(10);
+
+        // when
+        List<InteractionDto> inFlight = firstBatch.subList(0, 5);
+        List<InteractionDto> remaining = outboxClient.poll(inFlight, 1);
+
+        // then
+        assertThat(remaining).hasSize(5);
+        assertThat(remaining.get(0).getInteractionId()).isEqualTo(firstBatch.get(5).getInteractionId());
+
+        // when
+        outboxClient.deleteMany(inFlight);
+
+        // then
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> all = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+            assertThat(all).hasSize(5);
+        });
+    }
+
     private void bump(final org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter counter, final int numberOfTimes) {
         IntStream.range(0, numberOfTimes).forEach(x -> {
             wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter).act();
@@ -33,6 +33,7 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
 import lombok.AccessLevel;
@@ -64,6 +65,29 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    /**
+     * Creates an entry for each of the provided changes, flushing only once all have been persisted
+     * (rather than once per entry, as would {@link #createFor(EntityPropertyChange)}).
+     *
+     * <p>
+     *     Persistence mechanism specific subclasses may override, to make use of the bulk APIs of
+     *     the underlying ORM.
+     * </p>
+     */
+    public Can<E> createForBatch(final Can<EntityPropertyChange> changes) {
+        val entries = newEntriesFor(changes);
+        repositoryService.persistAndFlush(entries.toList().toArray());
+        return entries;
+    }
+
+    protected Can<E> newEntriesFor(final Can<EntityPropertyChange> changes) {
+        return changes.map(change->{
+            E entry = factoryService.detachedEntity(auditTrailEntryClass);
+            entry.init(change);
+            return entry;
+        });
+    }
+
     public Optional<E> findFirstByTarget(final Bookmark target) {
         return repositoryService.firstMatch(
                 Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND_FIRST_BY_TARGET)
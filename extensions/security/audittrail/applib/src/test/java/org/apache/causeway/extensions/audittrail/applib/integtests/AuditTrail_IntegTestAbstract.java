@@ -32,6 +32,7 @@
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -51,6 +52,9 @@ static void beforeAll() {
 
     @BeforeEach
     void setUp() {
+        counterRepository.find().forEach(counter->counter.setPrevious(null));
+        interactionService.nextInteraction();
+
         counterRepository.removeAll();
         interactionService.nextInteraction();
 
@@ -97,6 +101,27 @@ void created() {
                 .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isNull());
     }
 
+    @Test
+    void created_in_bulk() {
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            counterRepository.persist(newCounter("counter-" + i));
+        }
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        assertThat(entries.stream().map(AuditTrailEntry::getInteractionId).distinct()).hasSize(1);
+
+        val propertyIdsByTarget = entries.stream()
+                .collect(Collectors.groupingBy(AuditTrailEntry::getTarget,
+                        Collectors.mapping(AuditTrailEntry::getPropertyId, Collectors.toList())));
+        assertThat(propertyIdsByTarget).hasSize(10);
+        assertThat(propertyIdsByTarget.values())
+                .allSatisfy(propertyIds -> assertThat(propertyIds).contains("name", "num", "num2"));
+    }
+
     @Test
     void updated_using_mixin() {
 
@@ -154,6 +179,52 @@ void updated_using_mixin() {
 
     }
 
+    @Test
+    void updated_publishes_changed_properties_only() {
+
+        // given
+        var counter1 = counterRepository.persist(newCounter("counter-1"));
+        val counter2 = counterRepository.persist(newCounter("counter-2"));
+        val counter3 = counterRepository.persist(newCounter("counter-3"));
+        counter1.setNum(1L);
+        counter1.setNum2(2L);
+        counter1.setPrevious(counter2);
+        val target1 = bookmarkService.bookmarkFor(counter1).orElseThrow();
+        val target3 = bookmarkService.bookmarkFor(counter3).orElseThrow();
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        counter1 = bookmarkService.lookup(target1, Counter.class).orElseThrow();
+        counter1.setNum(10L);   // with JDO, the first change is enlisted when about to become dirty (preDirty)
+        transactionService.flushTransaction();
+        counter1.setNum(11L);   // changed again after a flush, the pre-value is still the one from before the first change
+        counter1.setNum2(2L);   // written, but not changed
+        counter1.setName("counter-1b"); // with JDO, further changes are enlisted when flushed (preStore)
+        counter1.setPrevious(bookmarkService.lookup(target3, Counter.class).orElseThrow()); // reference
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val propertyIds = entries.stream().map(AuditTrailEntry::getPropertyId).collect(Collectors.toList());
+        assertThat(propertyIds).containsExactlyInAnyOrder("num", "name", "previous");
+
+        val entriesById = entries.stream().collect(Collectors.toMap(AuditTrailEntry::getPropertyId, x -> x));
+        assertThat(entriesById.values())
+                .allSatisfy(e -> assertThat(e).extracting(AuditTrailEntry::getTarget).isEqualTo(target1));
+        assertThat(entriesById.get("num"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("11"));
+        assertThat(entriesById.get("name"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("counter-1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("counter-1b"));
+        assertThat(entriesById.get("previous"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("counter-2"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("counter-3"));
+    }
+
     @Test
     void deleted() {
 
@@ -202,6 +273,7 @@ void deleted() {
     @Inject InteractionService interactionService;
     @Inject CounterRepository<? extends Counter> counterRepository;
     @Inject WrapperFactory wrapperFactory;
+    @Inject TransactionService transactionService;
     @Inject BookmarkService bookmarkService;
     @Inject AuditTrailEntryRepository<? extends AuditTrailEntry> auditTrailEntryRepository;
 
@@ -50,6 +50,9 @@ public abstract class Counter implements Comparable<Counter> {
     public abstract String getName();
     public abstract void setName(String name);
 
+    public abstract Counter getPrevious();
+    public abstract void setPrevious(Counter previous);
+
     @Action(commandPublishing = Publishing.ENABLED)
     public Counter bumpUsingDeclaredAction() {
         return doBump();
@@ -73,4 +76,9 @@ Counter doBump() {
     public int compareTo(final Counter o) {
         return this.getName().compareTo(o.getName());
     }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
 }
@@ -19,12 +19,43 @@
  */
 package org.apache.causeway.extensions.audittrail.jdo.dom;
 
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
+
 @Service
 public class AuditTrailEntryRepository extends org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository<AuditTrailEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    /**
+     * Persists all entries with a single call to {@link javax.jdo.PersistenceManager#makePersistentAll(java.util.Collection)},
+     * and flushes once.
+     *
+     * <p>
+     *     DataNucleus sends the resulting inserts as JDBC batches (of up to
+     *     <code>datanucleus.rdbms.statementBatchLimit</code> statements, 50 by default).
+     * </p>
+     */
+    @Override
+    public Can<AuditTrailEntry> createForBatch(final Can<EntityPropertyChange> changes) {
+        if(changes.isEmpty()) {
+            return Can.empty();
+        }
+        val entries = newEntriesFor(changes);
+        val pm = jdoSupportService.getPersistenceManager();
+        pm.makePersistentAll(entries.toList());
+        pm.flush();
+        return entries;
+    }
 }
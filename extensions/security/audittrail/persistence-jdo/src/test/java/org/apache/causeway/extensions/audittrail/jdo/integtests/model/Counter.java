@@ -61,5 +61,13 @@ public class Counter extends org.apache.causeway.extensions.audittrail.applib.in
     @Getter @Setter
     private Long num2;
 
+    @Column(allowsNull = "true", name = "previousId")
+    @Getter
+    private Counter previous;
+
+    @Override
+    public void setPrevious(final org.apache.causeway.extensions.audittrail.applib.integtests.model.Counter previous) {
+        this.previous = (Counter) previous;
+    }
 
 }
@@ -26,6 +26,8 @@
 import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
 import org.apache.causeway.applib.annotation.DomainObject;
@@ -70,5 +72,14 @@ public class Counter extends org.apache.causeway.extensions.audittrail.applib.in
     @Getter @Setter
     private Long num2;
 
+    @ManyToOne(optional = true)
+    @JoinColumn(name = "previousId", nullable = true)
+    @Getter
+    private Counter previous;
+
+    @Override
+    public void setPrevious(final org.apache.causeway.extensions.audittrail.applib.integtests.model.Counter previous) {
+        this.previous = (Counter) previous;
+    }
 
 }
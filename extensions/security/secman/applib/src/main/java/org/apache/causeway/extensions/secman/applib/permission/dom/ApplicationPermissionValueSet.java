@@ -20,8 +20,12 @@
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.commons.internal.collections._Lists;
@@ -99,6 +103,15 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Decision table, lazily populated with the outcome of {@link #grants(Identifier, ApplicationPermissionMode)},
+     * such that repeated checks for the same {@link Identifier} and mode are a single hash lookup.
+     * <p>
+     * As any set of permissions is immutable, there is no need to ever invalidate its entries.
+     * Not serialized, instead re-created on first use.
+     */
+    private transient volatile Map<ApplicationPermissionMode, Map<Identifier, Boolean>> grantsByModeAndIdentifier;
+
 
     // -- constructor
 
@@ -140,6 +153,22 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
         return evaluate(featureId, mode).isGranted();
     }
 
+    /**
+     * Optimized variant of {@link #grants(ApplicationFeatureId, ApplicationPermissionMode)}, memoizing its outcome
+     * per {@link Identifier} and mode.
+     */
+    @Programmatic
+    public boolean grants(final Identifier identifier, final ApplicationPermissionMode mode) {
+        val grantsByIdentifier = grantsByModeAndIdentifier().get(mode);
+        val granted = grantsByIdentifier.get(identifier);
+        if(granted!=null) {
+            return granted;
+        }
+        val newlyGranted = grants(ApplicationFeatureId.fromIdentifier(identifier), mode);
+        grantsByIdentifier.put(identifier, newlyGranted);
+        return newlyGranted;
+    }
+
     @Programmatic
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
@@ -156,6 +185,25 @@ public Evaluation evaluate(
     }
 
 
+    // -- HELPER
+
+    private Map<ApplicationPermissionMode, Map<Identifier, Boolean>> grantsByModeAndIdentifier() {
+        Map<ApplicationPermissionMode, Map<Identifier, Boolean>> grantsByModeAndIdentifier = this.grantsByModeAndIdentifier;
+        if(grantsByModeAndIdentifier==null) {
+            synchronized(this) {
+                grantsByModeAndIdentifier = this.grantsByModeAndIdentifier;
+                if(grantsByModeAndIdentifier==null) {
+                    grantsByModeAndIdentifier = new EnumMap<>(ApplicationPermissionMode.class);
+                    for(val mode : ApplicationPermissionMode.values()) {
+                        grantsByModeAndIdentifier.put(mode, new ConcurrentHashMap<>());
+                    }
+                    this.grantsByModeAndIdentifier = grantsByModeAndIdentifier;
+                }
+            }
+        }
+        return grantsByModeAndIdentifier;
+    }
+
     // -- equals, hashCode, toString
     @Override
     public boolean equals(final Object o) {
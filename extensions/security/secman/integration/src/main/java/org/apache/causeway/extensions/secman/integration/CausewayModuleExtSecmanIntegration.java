@@ -24,7 +24,10 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.integration.authenticator.AuthenticationCacheInvalidator;
 import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman;
+import org.apache.causeway.extensions.secman.integration.authorizor.PermissionSetCache;
+import org.apache.causeway.extensions.secman.integration.authorizor.PermissionSetCacheMenu;
 import org.apache.causeway.extensions.secman.integration.facets.TenantedAuthorizationPostProcessor;
 import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
 import org.apache.causeway.extensions.secman.integration.spiimpl.ImpersonateMenuAdvisorForSecman;
@@ -41,7 +44,10 @@
         CausewayModuleExtSecmanApplib.class,
 
         // @Component or @Service
+        AuthenticationCacheInvalidator.class,
         AuthorizorSecman.class,
+        PermissionSetCache.class,
+        PermissionSetCacheMenu.class,
         TenantedAuthorizationPostProcessor.Register.class,
         TableColumnVisibilityServiceForSecman.class,
         ImpersonateMenuAdvisorForSecman.class, //not activated by default yet
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authenticator;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
+import org.apache.causeway.core.transaction.changetracking.events.EntityTypesChangedEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invalidates the {@link AuthenticationCache}, whenever any {@link ApplicationUser}
+ * (eg. its password or status) or {@link ApplicationRole} was changed within a committed transaction.
+ * <p>
+ * Invalidates as a whole, as only the types of changed entities are known, and any role change
+ * might affect any number of users.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthenticationCacheInvalidator")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class AuthenticationCacheInvalidator {
+
+    private final AuthenticationCache authenticationCache;
+
+    @EventListener(EntityTypesChangedEvent.class)
+    public void onEntityTypesChanged(final EntityTypesChangedEvent event) {
+        if(!authenticationCache.isEnabled()) {
+            return;
+        }
+        if(event.isAnyAssignableTo(ApplicationUser.class)
+                || event.isAnyAssignableTo(ApplicationRole.class)) {
+            authenticationCache.invalidateAll();
+        }
+    }
+
+}
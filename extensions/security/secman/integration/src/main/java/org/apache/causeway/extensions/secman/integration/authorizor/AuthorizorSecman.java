@@ -34,7 +34,6 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
-import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.metamodel.MetaModelService;
 import org.apache.causeway.commons.internal.base._Lazy;
@@ -72,6 +71,7 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject PermissionSetCache permissionSetCache;
     @Inject MetaModelService metaModelService;
 
     private _Lazy<Identifier> logoutIdentifier = _Lazy.of(this::logoutIdentifier);
@@ -97,6 +97,15 @@ public boolean isUsable(final InteractionContext authentication, final Identifie
         return grants(authentication, identifier, ApplicationPermissionMode.CHANGING);
     }
 
+    /**
+     * Changes whenever any {@link ApplicationUser}, role or permission was changed.
+     * @see PermissionSetCache#getGeneration()
+     */
+    @Override
+    public long getPermissionsRevision() {
+        return permissionSetCache.getGeneration();
+    }
+
     // -- HELPER
 
     private boolean grants(
@@ -107,14 +116,14 @@ private boolean grants(
         val userName = authentication.getUser().getName();
         val permissionSetIfAny = cache.get()
                 .computeIfAbsent(userName, ()->
-                applicationUserRepository
-                .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                permissionSetCache
+                .computeIfAbsent(userName, ()->
+                    applicationUserRepository
+                    .findByUsername(userName)
+                    .map(ApplicationUser::getPermissionSet)));
 
         return permissionSetIfAny
-        .map(permissionSet->permissionSet.grants(
-                ApplicationFeatureId.fromIdentifier(identifier),
-                permissionMode))
+        .map(permissionSet->permissionSet.grants(identifier, permissionMode))
         .orElse(false);
     }
 
@@ -0,0 +1,244 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
+import org.apache.causeway.core.transaction.changetracking.events.EntityTypesChangedEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped cache of {@link ApplicationPermissionValueSet}s keyed by username,
+ * bounded by size (least recently used are evicted first) and by time to live.
+ * <p>
+ * Sits behind the interaction scoped {@link AuthorizorSecman.PermissionCache}, and is only
+ * used if enabled via <code>causeway.extensions.secman.permission-cache.enabled</code>.
+ * <p>
+ * Invalidated as a whole, whenever any {@link ApplicationUser}, {@link ApplicationRole}
+ * or {@link ApplicationPermission} was changed within a committed transaction.
+ * Each such invalidation increments the {@link #getGeneration() generation}, even if not enabled.
+ * Permission sets looked up within a transaction that has any of these enlisted (not yet committed)
+ * are not cached, as that transaction might still roll back.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".PermissionSetCache")
+@javax.annotation.Priority(PriorityPrecedence.EARLY)
+@Qualifier("Secman")
+@Log4j2
+public class PermissionSetCache {
+
+    @Getter private final boolean enabled;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Supplier<Can<Class<?>>> enlistedEntityTypes;
+
+    private final Object $lock = new Object();
+    private final Map<String, CacheEntry> entriesByUsername;
+    private long generation; // guarded by $lock; incremented on each invalidation
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Inject
+    public PermissionSetCache(
+            final CausewayConfiguration causewayConfiguration,
+            final InteractionService interactionService,
+            final Provider<EntityChangeTracker> entityChangeTrackerProvider) {
+        this(causewayConfiguration.getExtensions().getSecman().getPermissionCache(),
+                System::nanoTime,
+                ()->interactionService.isInInteraction()
+                    ? entityChangeTrackerProvider.get().getEnlistedEntityTypes()
+                    : Can.empty());
+    }
+
+    // JUnit support
+    PermissionSetCache(
+            final CausewayConfiguration.Extensions.Secman.PermissionCache config,
+            final LongSupplier nanoClock,
+            final Supplier<Can<Class<?>>> enlistedEntityTypes) {
+        this.enabled = config.isEnabled();
+        this.maxSize = config.getMaxSize();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nanoClock = nanoClock;
+        this.enlistedEntityTypes = enlistedEntityTypes;
+        this.entriesByUsername = new LinkedHashMap<>(16, 0.75f, true); // access order
+    }
+
+    /**
+     * Returns the cached permission set for given {@code userName}, otherwise uses given {@code lookup}
+     * to populate the cache.
+     * <p>
+     * If not {@link #isEnabled() enabled}, simply delegates to given {@code lookup}.
+     */
+    public Optional<ApplicationPermissionValueSet> computeIfAbsent(
+            final @NonNull String userName,
+            final @NonNull Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+        if(!enabled) {
+            return lookup.get();
+        }
+
+        final long generationBeforeLookup;
+        synchronized($lock) {
+            val entry = entriesByUsername.get(userName);
+            if(entry!=null) {
+                if(!entry.isExpired(nanoClock.getAsLong())) {
+                    hits.increment();
+                    return entry.getPermissionSet();
+                }
+                entriesByUsername.remove(userName);
+                evictions.increment();
+            }
+            generationBeforeLookup = generation;
+        }
+
+        misses.increment();
+        // database lookup outside the lock
+        val permissionSet = lookup.get();
+
+        // don't cache, if the current transaction has (uncommitted) secman changes, as it might still roll back;
+        // checked after the lookup, as the lookup itself might have flushed pending changes
+        if(enlistedEntityTypes.get().stream().anyMatch(PermissionSetCache::isSecmanEntityType)) {
+            return permissionSet;
+        }
+
+        synchronized($lock) {
+            // don't cache, if invalidated while looking up, as might have read stale data
+            if(generationBeforeLookup == generation) {
+                entriesByUsername.put(userName,
+                        new CacheEntry(permissionSet, nanoClock.getAsLong() + timeToLiveNanos));
+                evictEldestWhileOversized();
+            }
+        }
+        return permissionSet;
+    }
+
+    /**
+     * Discards all cached permission sets.
+     */
+    public void invalidateAll() {
+        synchronized($lock) {
+            ++generation;
+            entriesByUsername.clear();
+        }
+        log.debug("permission set cache invalidated");
+    }
+
+    /**
+     * Incremented on each invalidation, that is, whenever permissions might have changed.
+     */
+    public long getGeneration() {
+        synchronized($lock) {
+            return generation;
+        }
+    }
+
+    public Statistics getStatistics() {
+        final int size;
+        synchronized($lock) {
+            size = entriesByUsername.size();
+        }
+        return new Statistics(size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    @EventListener(EntityTypesChangedEvent.class)
+    public void onEntityTypesChanged(final EntityTypesChangedEvent event) {
+        // also if not enabled, so that the generation reflects any change of permissions
+        if(event.getEntityTypes().stream().anyMatch(PermissionSetCache::isSecmanEntityType)) {
+            invalidateAll();
+        }
+    }
+
+    // -- STATISTICS
+
+    @Value
+    public static class Statistics {
+        int size;
+        long hits;
+        long misses;
+        long evictions;
+
+        @Override
+        public String toString() {
+            return String.format("size=%d, hits=%d, misses=%d, evictions=%d", size, hits, misses, evictions);
+        }
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class CacheEntry {
+        Optional<ApplicationPermissionValueSet> permissionSet;
+        long expiresAtNanos;
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    private static boolean isSecmanEntityType(final Class<?> entityType) {
+        return ApplicationUser.class.isAssignableFrom(entityType)
+                || ApplicationRole.class.isAssignableFrom(entityType)
+                || ApplicationPermission.class.isAssignableFrom(entityType);
+    }
+
+    /** @implNote only call within synchronized block! */
+    private void evictEldestWhileOversized() {
+        val iterator = entriesByUsername.entrySet().iterator();
+        while(entriesByUsername.size() > maxSize
+                && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+}
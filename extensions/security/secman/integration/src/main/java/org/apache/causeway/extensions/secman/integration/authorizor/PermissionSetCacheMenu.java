@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.apache.causeway.applib.annotation.Action;
+import org.apache.causeway.applib.annotation.ActionLayout;
+import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.DomainServiceLayout;
+import org.apache.causeway.applib.annotation.MemberSupport;
+import org.apache.causeway.applib.annotation.NatureOfService;
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Publishing;
+import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.services.message.MessageService;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Administration of the application scoped {@link PermissionSetCache}; its actions are
+ * hidden unless the cache is enabled.
+ *
+ * @since 2.0 {@index}
+ */
+@Named(PermissionSetCacheMenu.LOGICAL_TYPE_NAME)
+@DomainService(
+        nature = NatureOfService.VIEW
+)
+@DomainServiceLayout(
+        named = "Security",
+        menuBar = DomainServiceLayout.MenuBar.SECONDARY
+)
+@javax.annotation.Priority(PriorityPrecedence.EARLY)
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class PermissionSetCacheMenu {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleExtSecmanApplib.NAMESPACE + ".PermissionSetCacheMenu";
+
+    public static abstract class ActionDomainEvent<T> extends CausewayModuleExtSecmanApplib.ActionDomainEvent<T> {}
+
+    private final PermissionSetCache permissionSetCache;
+    private final MessageService messageService;
+
+    @Action(
+            commandPublishing = Publishing.DISABLED,
+            domainEvent = flushPermissionCache.ActionDomainEvent.class,
+            executionPublishing = Publishing.DISABLED,
+            semantics = SemanticsOf.IDEMPOTENT
+            )
+    @ActionLayout(sequence = "100.60.1")
+    public class flushPermissionCache {
+
+        public class ActionDomainEvent extends PermissionSetCacheMenu.ActionDomainEvent<flushPermissionCache> {}
+
+        @MemberSupport public void act() {
+            permissionSetCache.invalidateAll();
+            messageService.informUser("Permission cache flushed");
+        }
+        @MemberSupport public boolean hideAct() {
+            return !permissionSetCache.isEnabled();
+        }
+    }
+
+    @Action(
+            commandPublishing = Publishing.DISABLED,
+            domainEvent = permissionCacheStatistics.ActionDomainEvent.class,
+            executionPublishing = Publishing.DISABLED,
+            semantics = SemanticsOf.SAFE
+            )
+    @ActionLayout(sequence = "100.60.2")
+    public class permissionCacheStatistics {
+
+        public class ActionDomainEvent extends PermissionSetCacheMenu.ActionDomainEvent<permissionCacheStatistics> {}
+
+        @MemberSupport public String act() {
+            return permissionSetCache.getStatistics().toString();
+        }
+        @MemberSupport public boolean hideAct() {
+            return !permissionSetCache.isEnabled();
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.events.EntityTypesChangedEvent;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+
+import lombok.val;
+
+class PermissionSetCacheTest {
+
+    AtomicLong nanoClock;
+    AtomicInteger lookupCount;
+    Can<Class<?>> enlistedEntityTypes;
+    CausewayConfiguration.Extensions.Secman.PermissionCache config;
+
+    final Optional<ApplicationPermissionValueSet> permissionSet =
+            Optional.of(new ApplicationPermissionValueSet(List.of(), null));
+
+    @BeforeEach
+    void setup() {
+        nanoClock = new AtomicLong();
+        lookupCount = new AtomicInteger();
+        enlistedEntityTypes = Can.empty();
+        config = new CausewayConfiguration.Extensions.Secman.PermissionCache();
+        config.setEnabled(true);
+        config.setMaxSize(2);
+        config.setTimeToLive(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void whenDisabled_shouldAlwaysLookup() {
+        config.setEnabled(false);
+        val cache = newCache();
+
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void whenEnabled_shouldLookupOnlyOnce() {
+        val cache = newCache();
+
+        assertThat(cache.computeIfAbsent("sven", this::lookup)).isSameAs(permissionSet);
+        assertThat(cache.computeIfAbsent("sven", this::lookup)).isSameAs(permissionSet);
+
+        assertThat(lookupCount.get()).isEqualTo(1);
+        assertThat(cache.getStatistics().getHits()).isEqualTo(1);
+        assertThat(cache.getStatistics().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void whenExpired_shouldLookupAgain() {
+        val cache = newCache();
+
+        cache.computeIfAbsent("sven", this::lookup);
+        nanoClock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+        assertThat(cache.getStatistics().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void whenOversized_shouldEvictLeastRecentlyUsed() {
+        val cache = newCache();
+
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("dick", this::lookup);
+        cache.computeIfAbsent("sven", this::lookup); // sven now most recently used
+        cache.computeIfAbsent("bob", this::lookup); // evicts dick
+
+        assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+        assertThat(cache.getStatistics().getEvictions()).isEqualTo(1);
+
+        lookupCount.set(0);
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookupCount.get()).isEqualTo(0);
+        cache.computeIfAbsent("dick", this::lookup);
+        assertThat(lookupCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void whenSecmanEntitiesChanged_shouldInvalidate() {
+        val cache = newCache();
+
+        cache.computeIfAbsent("sven", this::lookup);
+
+        cache.onEntityTypesChanged(EntityTypesChangedEvent.of(Can.ofSingleton(String.class)));
+        assertThat(cache.getStatistics().getSize()).isEqualTo(1);
+        assertThat(cache.getGeneration()).isEqualTo(0L);
+
+        cache.onEntityTypesChanged(EntityTypesChangedEvent.of(Can.ofSingleton(SomeRole.class)));
+        assertThat(cache.getStatistics().getSize()).isEqualTo(0);
+        assertThat(cache.getGeneration()).isEqualTo(1L);
+    }
+
+    @Test
+    void whenDisabled_andSecmanEntitiesChanged_shouldStillIncrementGeneration() {
+        config.setEnabled(false);
+        val cache = newCache();
+
+        cache.onEntityTypesChanged(EntityTypesChangedEvent.of(Can.ofSingleton(SomeRole.class)));
+        assertThat(cache.getGeneration()).isEqualTo(1L);
+    }
+
+    @Test
+    void whenSecmanEntitiesEnlistedInCurrentTransaction_shouldNotCache() {
+        val cache = newCache();
+
+        enlistedEntityTypes = Can.ofSingleton(SomeRole.class);
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(cache.getStatistics().getSize()).isEqualTo(0);
+
+        enlistedEntityTypes = Can.ofSingleton(String.class);
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(cache.getStatistics().getSize()).isEqualTo(1);
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    // -- HELPER
+
+    static abstract class SomeRole extends ApplicationRole {}
+
+    private PermissionSetCache newCache() {
+        return new PermissionSetCache(config, nanoClock::get, ()->enlistedEntityTypes);
+    }
+
+    private Optional<ApplicationPermissionValueSet> lookup() {
+        lookupCount.incrementAndGet();
+        return permissionSet;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+import org.apache.causeway.extensions.secman.integration.permissions.exampledomain.Customer;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newMember;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.VETO;
+
+import lombok.val;
+
+class ApplicationPermissionValueSet_grants_Test {
+
+    final LogicalType customerType = LogicalType.eager(Customer.class, "customer.Customer");
+    final Identifier lastName = Identifier.propertyIdentifier(customerType, "lastName");
+    final Identifier firstName = Identifier.propertyIdentifier(customerType, "firstName");
+
+    AtomicInteger evaluationCount;
+    ApplicationPermissionValueSet permissionSet;
+
+    @BeforeEach
+    void setup() {
+        evaluationCount = new AtomicInteger();
+
+        val evaluator = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+
+        final PermissionsEvaluationService countingEvaluator = (featureId, mode, permissionValues)->{
+            evaluationCount.incrementAndGet();
+            return evaluator.evaluate(featureId, mode, permissionValues);
+        };
+
+        permissionSet = new ApplicationPermissionValueSet(
+                List.of(
+                        new ApplicationPermissionValue(newNamespace("customer"), ALLOW, VIEWING),
+                        new ApplicationPermissionValue(newMember("customer.Customer#lastName"), ALLOW, CHANGING),
+                        new ApplicationPermissionValue(newMember("customer.Customer#firstName"), VETO, VIEWING)),
+                countingEvaluator);
+    }
+
+    @Test
+    void shouldAgreeWithFeatureIdBasedEvaluation() {
+        assertThat(permissionSet.grants(lastName, VIEWING))
+            .isEqualTo(permissionSet.grants(newMember("customer.Customer#lastName"), VIEWING))
+            .isTrue();
+        assertThat(permissionSet.grants(lastName, CHANGING))
+            .isEqualTo(permissionSet.grants(newMember("customer.Customer#lastName"), CHANGING))
+            .isTrue();
+        assertThat(permissionSet.grants(firstName, VIEWING))
+            .isEqualTo(permissionSet.grants(newMember("customer.Customer#firstName"), VIEWING))
+            .isFalse();
+        assertThat(permissionSet.grants(firstName, CHANGING))
+            .isEqualTo(permissionSet.grants(newMember("customer.Customer#firstName"), CHANGING))
+            .isFalse();
+    }
+
+    @Test
+    void repeatedChecks_shouldBeMemoized() {
+        permissionSet.grants(lastName, VIEWING);
+        val evaluationsAfterFirstCheck = evaluationCount.get();
+        assertThat(evaluationsAfterFirstCheck).isPositive();
+
+        permissionSet.grants(lastName, VIEWING);
+        permissionSet.grants(lastName, VIEWING);
+        assertThat(evaluationCount.get()).isEqualTo(evaluationsAfterFirstCheck);
+
+        // different mode is evaluated separately
+        permissionSet.grants(lastName, CHANGING);
+        assertThat(evaluationCount.get()).isGreaterThan(evaluationsAfterFirstCheck);
+    }
+
+}
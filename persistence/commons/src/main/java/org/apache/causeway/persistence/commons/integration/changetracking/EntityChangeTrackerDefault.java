@@ -44,6 +44,7 @@
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.iactn.Interaction;
 import org.apache.causeway.applib.services.iactn.InteractionProvider;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
@@ -56,6 +57,7 @@
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
@@ -68,6 +70,8 @@
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.causeway.core.transaction.changetracking.EntityPropertyChangePublisher;
 import org.apache.causeway.core.transaction.changetracking.HasEnlistedEntityChanges;
+import org.apache.causeway.core.transaction.changetracking.events.EntityTypesChangedEvent;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
 import org.apache.causeway.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.AccessLevel;
@@ -110,6 +114,8 @@
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
     private final PreAndPostValueEvaluatorService preAndPostValueEvaluatorService;
+    private final EventBusService eventBusService;
+    private final CausewayConfiguration causewayConfiguration;
 
     /**
      * Contains a record for every objectId/propertyId that was changed.
@@ -127,6 +133,12 @@
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
+    /**
+     * Types of all entities enlisted within the current transaction, regardless of whether enabled for
+     * entity change publishing; posted with an {@link EntityTypesChangedEvent} once the transaction has committed.
+     */
+    private final Set<Class<?>> changedEntityTypes = _Sets.newLinkedHashSet();
+
     private final LongAdder numberEntitiesLoaded = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
     private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
@@ -137,6 +149,7 @@ public void destroy() throws Exception {
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
         changeKindByEnlistedAdapter.clear();
+        changedEntityTypes.clear();
 
         numberEntitiesLoaded.reset();
         entityChangeEventCount.reset();
@@ -236,6 +249,20 @@ public void onTransactionCompleting(final TransactionBeforeCompletionEvent event
             entityChangeTracker().onTransactionCompleting(event);
         }
 
+        /**
+         * TRANSACTION END BOUNDARY
+         * @apiNote intended to be called after transaction completion by the framework internally
+         */
+        @EventListener(value = TransactionAfterCompletionEvent.class)
+        @Order(PriorityPrecedence.LATE)
+        public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+
+            if(!interactionService.isInInteraction()) {
+                return;
+            }
+            entityChangeTracker().onTransactionCompleted(event);
+        }
+
         private EntityChangeTrackerDefault entityChangeTracker() {
             return entityChangeTrackerProvider.get();
         }
@@ -253,6 +280,23 @@ void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
         }
     }
 
+    /**
+     * As called by {@link TransactionSubscriber}, so long as there is an {@link Interaction} in
+     * {@link InteractionScope scope}.
+     */
+    void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        if(changedEntityTypes.isEmpty()) {
+            return;
+        }
+        try {
+            if(event.isCommitted()) {
+                eventBusService.post(EntityTypesChangedEvent.of(Can.ofCollection(changedEntityTypes)));
+            }
+        } finally {
+            changedEntityTypes.clear();
+        }
+    }
+
     private void doPublish() {
         _Xray.publish(this, interactionProviderProvider);
 
@@ -347,6 +391,21 @@ private boolean enlistForChangeKindPublishing(
         return false;
     }
 
+    @Override
+    public Can<Class<?>> getEnlistedEntityTypes() {
+        return Can.ofCollection(changedEntityTypes);
+    }
+
+    private void enlistForTypeChangeTracking(final ManagedObject entity) {
+        if(ManagedObjects.isSpecified(entity)) {
+            changedEntityTypes.add(entity.getSpecification().getCorrespondingClass());
+        }
+    }
+
+    private boolean isDirtyPropertiesOnly() {
+        return causewayConfiguration.getPersistence().getEntityChangeTracking().isDirtyPropertiesOnly();
+    }
+
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
         return enlistedPropertyChangeRecordsById.size();
@@ -359,6 +418,8 @@ public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
 
+        enlistForTypeChangeTracking(entity);
+
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
         }
@@ -378,6 +439,8 @@ public void enlistUpdating(
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
 
+        enlistForTypeChangeTracking(entity);
+
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
         }
@@ -389,11 +452,12 @@ public void enlistUpdating(
         enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
 
         final Can<PropertyChangeRecord> ormPropertyChangeRecords = propertyChangeRecordSupplier!=null
+                    && isDirtyPropertiesOnly()
                 ? propertyChangeRecordSupplier.apply(entity)
                 : null;
 
         if(ormPropertyChangeRecords != null) {
-            // provided by ORM
+            // provided by ORM, changed properties only
             ormPropertyChangeRecords
                     .stream()
                     .filter(pcr -> ! enlistedPropertyChangeRecordsById.containsKey(pcr.getId())) // only if not previously seen
@@ -413,6 +477,8 @@ public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
 
+        enlistForTypeChangeTracking(entity);
+
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
         }
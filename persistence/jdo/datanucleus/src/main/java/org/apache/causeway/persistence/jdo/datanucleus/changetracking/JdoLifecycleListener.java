@@ -29,11 +29,14 @@
 import javax.jdo.listener.StoreLifecycleListener;
 
 import org.datanucleus.enhancement.Persistable;
+import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.annotation.Domain;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnStateManagerForCauseway;
@@ -112,8 +115,10 @@ public void preStore(final InstanceLifecycleEvent event) {
             objectLifecyclePublisher.onPrePersist(
                     entity.asEitherWithOrWithoutMemoizedBookmark());
         } else {
-            // not here, using preDirty for that instead
-            //objectLifecyclePublisher.onPreUpdate(entity, /*propertyChangeRecordSupplier*/ null);
+            // callbacks not here, using preDirty for that instead;
+            // however, only now we know all the fields that were changed (since preDirty)
+            objectLifecyclePublisher.onPreFlushUpdate(entity,
+                    __->gatherPropertyChangeRecords(pojo, entity));
         }
     }
 
@@ -158,7 +163,8 @@ public void preDirty(final InstanceLifecycleEvent event) {
      * Besides triggering UPDATING lifecycle events, also enlists entity property changes, if enabled.
      *
      * @implNote {@code propertyChangeRecordSupplier} is an optional parameter to provide the pre-computed
-     * {@link PropertyChangeRecord}s from the ORM. JPA does this, JDO does not.
+     * {@link PropertyChangeRecord}s from the ORM. As preDirty is called before the first field is changed,
+     * any further changes are provided with {@link #preStore(InstanceLifecycleEvent)}.
      *
      * @see ObjectLifecyclePublisher#onPreUpdate(ManagedObject, java.util.function.Function)
      * @see org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener#onPreUpdate(Object)
@@ -166,7 +172,8 @@ public void preDirty(final InstanceLifecycleEvent event) {
      */
     private final void doPreDirty(final Persistable pojo) {
         val entity = adaptEntity(pojo);
-        objectLifecyclePublisher.onPreUpdate(entity, /*propertyChangeRecordSupplier*/ null);
+        objectLifecyclePublisher.onPreUpdate(entity,
+                __->gatherPropertyChangeRecords(pojo, entity));
     }
 
     @Override
@@ -224,6 +231,25 @@ private ManagedObject adaptEntity(
         return _Utils.adaptEntity(metaModelContext, pojo);
     }
 
+    /**
+     * The {@link PropertyChangeRecord}s of those properties, whose fields were written to within the
+     * current transaction, as tracked by {@link DnStateManagerForCauseway}.
+     * <p>
+     * Returns {@code null} if the entity is not managed by {@link DnStateManagerForCauseway},
+     * in which case the pre-values of all its properties are captured instead.
+     */
+    private @Nullable Can<PropertyChangeRecord> gatherPropertyChangeRecords(
+            final @NonNull Persistable pojo,
+            final @NonNull ManagedObject entity) {
+        return DnStateManagerForCauseway.extractFrom(pojo)
+                .map(stateManager->stateManager.getPreValuesOfChangedFields().entrySet().stream()
+                        .map(entry->MmEntityUtils.lookupPropertyChangeRecordIdForChangePublishing(entity, entry.getKey())
+                                .map(id->PropertyChangeRecord.ofCurrent(id, entry.getValue()))
+                                .orElse(null)) // ignore
+                        .collect(Can.toCan())) // a Can only collects non-null elements
+                .orElse(null);
+    }
+
     private boolean isInserting(
             final @NonNull Persistable pojo) {
         return DnStateManagerForCauseway.extractFrom(pojo)
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.entities;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -29,11 +32,13 @@
 import org.datanucleus.metadata.AbstractClassMetaData;
 import org.datanucleus.state.ReferentialStateManagerImpl;
 import org.datanucleus.store.FieldValues;
+import org.datanucleus.transaction.Transaction;
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._Refs;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity.JdoEntityFacet;
 
@@ -124,11 +129,156 @@ public void disconnect() {
         val snapshotOid = snapshotOid();
 
         super.disconnect();
+        preValuesByFieldNumber = null;
 
         snapshotOid
             .ifPresent(oid->DnOidStoreAndRecoverHelper.forEntity(entityPojo).storeOid(oid));
     }
 
+    @Override
+    public void postCommit(final Transaction tx) {
+        super.postCommit(tx);
+        preValuesByFieldNumber = null;
+    }
+
+    @Override
+    public void preRollback(final Transaction tx) {
+        super.preRollback(tx);
+        preValuesByFieldNumber = null;
+    }
+
+    @Override
+    public void evict() {
+        super.evict();
+        preValuesByFieldNumber = null;
+    }
+
+    // -- FIELD WRITE INTERCEPTION
+
+    @Override
+    public void setBooleanField(final Persistable pc, final int fieldNumber, final boolean currentValue, final boolean newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setBooleanField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setByteField(final Persistable pc, final int fieldNumber, final byte currentValue, final byte newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setByteField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setCharField(final Persistable pc, final int fieldNumber, final char currentValue, final char newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setCharField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setDoubleField(final Persistable pc, final int fieldNumber, final double currentValue, final double newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setDoubleField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setFloatField(final Persistable pc, final int fieldNumber, final float currentValue, final float newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setFloatField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setIntField(final Persistable pc, final int fieldNumber, final int currentValue, final int newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setIntField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setLongField(final Persistable pc, final int fieldNumber, final long currentValue, final long newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setLongField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setShortField(final Persistable pc, final int fieldNumber, final short currentValue, final short newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setShortField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setStringField(final Persistable pc, final int fieldNumber, final String currentValue, final String newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setStringField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setObjectField(final Persistable pc, final int fieldNumber, final Object currentValue, final Object newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setObjectField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void makeDirty(final int fieldNumber) {
+        capturePreValue(myPC, fieldNumber);
+        super.makeDirty(fieldNumber);
+    }
+
+    // -- DIRTY FIELD PRE-VALUES
+
+    /**
+     * Values of those fields, that were written to within the current transaction, as they were before
+     * the (first) write, keyed by absolute field number. Only populated for persistent (not new) entities,
+     * that are enabled for entity change publishing.
+     */
+    private Map<Integer, Object> preValuesByFieldNumber;
+
+    private Boolean changePublishingEnabled; // lazily initialized
+
+    /**
+     * Values of those fields, that were written to within the current transaction, as they were before
+     * the (first) write, keyed by field name.
+     * <p>
+     * Used for entity change publishing, such that pre-values need only be captured for fields that
+     * were actually changed, rather than for all properties of an entity.
+     */
+    public Map<String, Object> getPreValuesOfChangedFields() {
+        if(preValuesByFieldNumber==null) {
+            return Collections.emptyMap();
+        }
+        val preValuesByFieldName = new HashMap<String, Object>(preValuesByFieldNumber.size());
+        preValuesByFieldNumber.forEach((fieldNumber, preValue)->
+            preValuesByFieldName.put(
+                    cmd.getMetaDataForManagedMemberAtAbsolutePosition(fieldNumber).getName(),
+                    preValue));
+        return preValuesByFieldName;
+    }
+
+    private void capturePreValue(final Persistable pc, final int fieldNumber) {
+        if(pc!=myPC
+                || myLC==null
+                || !myLC.isPersistent()
+                || myLC.isNew()
+                || (preValuesByFieldNumber!=null && preValuesByFieldNumber.containsKey(fieldNumber))
+                || !isChangePublishingEnabled()) {
+            return; // nothing to capture
+        }
+        if(!isFieldLoaded(fieldNumber)) {
+            loadField(fieldNumber);
+        }
+        if(preValuesByFieldNumber==null) {
+            preValuesByFieldNumber = new HashMap<>();
+        }
+        preValuesByFieldNumber.put(fieldNumber, provideField(fieldNumber));
+    }
+
+    private boolean isChangePublishingEnabled() {
+        if(changePublishingEnabled==null) {
+            lookupEntityFacet()
+                .ifPresent(entityFacet->changePublishingEnabled =
+                    EntityChangePublishingFacet.isPublishingEnabled(entityFacet.getEntitySpecification()));
+        }
+        return changePublishingEnabled==null // if in doubt, capture
+                || changePublishingEnabled;
+    }
+
     // -- PREDICATES
 
     public boolean isInsertingOrInsertingCallbacks() {
@@ -19,18 +19,29 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.FetchPlan;
+import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
+import javax.jdo.annotations.PersistenceModifier;
+import javax.jdo.identity.SingleFieldIdentity;
 
+import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.api.jdo.JDOQuery;
 import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.identity.SingleFieldId;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.metadata.IdentityType;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
 import org.springframework.lang.Nullable;
 
@@ -44,6 +55,7 @@
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.services.xactn.TransactionalProcessor;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.IndexedConsumer;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
@@ -92,6 +104,11 @@
     @Getter(value = AccessLevel.PROTECTED) @Accessors(fluent = true)
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    /**
+     * Max number of entities to locate per round trip, when fetching by bookmarks.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private final Class<?> entityClass;
 
     // lazily looks up the primaryKeyTypeFor (needs a PersistenceManager)
@@ -170,6 +187,15 @@ public Optional<String> identifierFor(final Object pojo) {
         return identifierForDnPrimaryKey(primaryKey);
     }
 
+    @Override
+    public Optional<Object> versionOf(final @Nullable Object pojo) {
+        if (pojo==null
+                || !DnEntityStateProvider.entityState(pojo).isAttached()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(JDOHelper.getVersion(pojo));
+    }
+
     public Optional<String> identifierForDnPrimaryKey(final @Nullable Object primaryKey) {
         val idIfAny = Optional.ofNullable(primaryKey)
                 .map(pk->
@@ -213,6 +239,45 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * With datastore identity, locates the objects in bulk using {@link PersistenceManager#getObjectsById},
+     * with application identity (of a single primary key field) queries by primary keys instead,
+     * as DataNucleus fails to locate objects in bulk by (single field) application identity.
+     * With a composite primary key, fetches one at a time.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        val classMetadata = classMetadata();
+        val identityType = classMetadata!=null
+                ? classMetadata.getIdentityType()
+                : null;
+        if(identityType == IdentityType.APPLICATION
+                && _NullSafe.size(classMetadata.getPrimaryKeyMemberNames())!=1) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceManager = getPersistenceManager();
+        val fetchPlan = persistenceManager.getFetchPlan();
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
+
+        val entityPojos = new HashMap<Bookmark, Object>();
+
+        bookmarks
+        .partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+        .forEach(chunk->entityPojos.putAll(identityType == IdentityType.APPLICATION
+                ? fetchByPrimaryKeyMember(persistenceManager, classMetadata.getPrimaryKeyMemberNames()[0], chunk)
+                : fetchByObjectIds(persistenceManager, chunk)));
+
+        return entityPojos;
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -249,34 +314,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
         } else if(query instanceof NamedQuery) {
 
-            val applibNamedQuery = (NamedQuery<?>) query;
-            val queryResultType = applibNamedQuery.getResultType();
-
-            val persistenceManager = getPersistenceManager();
-
-            val namedParams = _Maps.<String, Object>newHashMap();
-            val namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
-                    .setNamedParameters(namedParams);
-
-            namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
-
-            if(!range.isUnconstrained()) {
-                namedQuery.range(range.getStart(), range.getEnd());
-            }
-
-            // inject services into query params; not sure if required (might be redundant)
-            {
-                val injector = getServiceInjector();
-
-                applibNamedQuery
-                .getParametersByName()
-                .values()
-                .forEach(injector::injectServicesInto);
-            }
-
-            applibNamedQuery
-                .getParametersByName()
-                .forEach(namedParams::put);
+            val namedQuery = newNamedQuery((NamedQuery<?>) query);
 
             Supplier<List<?>> executeMethod = hasResultPhrase(namedQuery)
                     ? namedQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
@@ -295,6 +333,258 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    @Override
+    public Stream<ManagedObject> streamByQuery(
+            final Query<?> query, final int fetchSize, final int releaseEveryNRows) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {}", query.getDescription());
+        }
+
+        final javax.jdo.Query<?> jdoQuery;
+
+        if(query instanceof AllInstancesQuery) {
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+            val range = query.getRange();
+            jdoQuery = getPersistenceManager().newQuery(entityClass);
+            jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+            if(!range.isUnconstrained()) {
+                jdoQuery.range(range.getStart(), range.getEnd());
+            }
+
+        } else if(query instanceof NamedQuery) {
+
+            jdoQuery = newNamedQuery((NamedQuery<?>) query);
+
+        } else {
+            throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                    query.getClass(),
+                    query.getDescription());
+        }
+
+        // lazily loaded query result, backed by a forward-only cursor, not retaining rows already read
+        jdoQuery.getFetchPlan().setFetchSize(fetchSize > 0
+                ? fetchSize
+                : FetchPlan.FETCH_SIZE_OPTIMAL);
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_RESULT_SET_TYPE, "forward-only");
+        jdoQuery.extension(org.datanucleus.store.query.Query.EXTENSION_RESULT_CACHE_TYPE, "none");
+
+        val queryResult = hasResultPhrase(jdoQuery)
+                ? jdoQuery.executeResultList()
+                : jdoQuery.executeList();
+
+        val persistenceManager = getPersistenceManager();
+        return EntityFacet.releasingInBatches(
+                    _NullSafe.stream(queryResult),
+                    releaseEveryNRows,
+                    batch -> persistenceManager.evictAll(batch.stream()
+                        .filter(Persistable.class::isInstance)
+                        .collect(Collectors.toList())))
+                .map(fetchedObject->adapt(objectLifecyclePublisher, fetchedObject))
+                .onClose(jdoQuery::closeAll);
+    }
+
+    @Override
+    public boolean isPageableByQuery(final Query<?> query) {
+        return query instanceof AllInstancesQuery;
+    }
+
+    @Override
+    public Optional<Can<ManagedObject>> fetchByQuerySorted(
+            final Query<?> query, final @Nullable String propertyId, final boolean ascending) {
+
+        if(!isPageableByQuery(query)
+                || (propertyId!=null
+                        && !isPersistentMember(propertyId))) {
+            return Optional.empty(); // ordering cannot be pushed down
+        }
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+        val range = query.getRange();
+        val persistenceManager = getPersistenceManager();
+
+        val jdoQuery = persistenceManager.newQuery(entityClass);
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+        jdoQuery.setOrdering(ordering(propertyId, ascending));
+
+        if(!range.isUnconstrained()) {
+            jdoQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return Optional.of(fetchWithinTransaction(jdoQuery::executeList));
+    }
+
+    @Override
+    public int countByQuery(final Query<?> query) {
+
+        if(!isPageableByQuery(query)) {
+            return EntityFacet.super.countByQuery(query);
+        }
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+        val persistenceManager = getPersistenceManager();
+
+        val countQuery = persistenceManager.newQuery(entityClass);
+        countQuery.setResult("count(this)");
+
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->((Number)countQuery.executeResultUnique()).intValue())
+                .ifFailureFail()
+                .getValue().orElseThrow();
+    }
+
+    /**
+     * Whether given property is a persistent member of the entity,
+     * that is, whether it can be used to order by.
+     */
+    private boolean isPersistentMember(final String propertyId) {
+        val typeMetadata = pmf.getPersistenceManagerFactory().getMetadata(entityClass.getName());
+        if(typeMetadata==null) {
+            return false;
+        }
+        return _NullSafe.stream(typeMetadata.getMembers())
+                .anyMatch(member->member.getName().equals(propertyId)
+                        && member.getPersistenceModifier() == PersistenceModifier.PERSISTENT);
+    }
+
+    /**
+     * Orders by given property (if any), then by primary key, such that pages are stable,
+     * even if the property's values are not unique.
+     */
+    private String ordering(
+            final @Nullable String propertyId,
+            final boolean ascending) {
+        val direction = ascending ? " ascending" : " descending";
+        val classMetadata = classMetadata();
+        val primaryKeyOrdering = classMetadata!=null
+                && classMetadata.getIdentityType() == IdentityType.APPLICATION
+                ? _NullSafe.stream(classMetadata.getPrimaryKeyMemberNames())
+                        .filter(memberName->!memberName.equals(propertyId))
+                        .sorted()
+                : Stream.of("JDOHelper.getObjectId(this)"); // datastore identity
+        return Stream.concat(
+                    Stream.ofNullable(propertyId),
+                    primaryKeyOrdering)
+                .map(expression->expression + direction)
+                .collect(Collectors.joining(", "));
+    }
+
+    private Map<Bookmark, Object> fetchByObjectIds(
+            final PersistenceManager persistenceManager,
+            final Can<Bookmark> bookmarks) {
+        val primaryKeys = bookmarks
+                .map(bookmark->(Object)primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()))
+                .toList();
+        final Object[] entityPojos;
+        try {
+            // validating, hence located in bulk by the store
+            entityPojos = persistenceManager.getObjectsById(true, primaryKeys.toArray());
+        } catch (final RuntimeException e) {
+            val recognition = exceptionRecognizerService.recognize(e);
+            if(recognition.isPresent()
+                    && recognition.get().getCategory() == Category.NOT_FOUND) {
+                // some are missing, fall back to fetching one at a time
+                return EntityFacet.super.fetchByBookmarks(bookmarks);
+            }
+            throw e;
+        }
+        val entityPojosByBookmark = new HashMap<Bookmark, Object>();
+        bookmarks.forEach(IndexedConsumer.offset(0, (index, bookmark)->{
+            val entityPojo = entityPojos[index];
+            if(entityPojo!=null) {
+                entityPojosByBookmark.put(bookmark, entityPojo);
+            }
+        }));
+        return entityPojosByBookmark;
+    }
+
+    private Map<Bookmark, Object> fetchByPrimaryKeyMember(
+            final PersistenceManager persistenceManager,
+            final String primaryKeyMemberName,
+            final Can<Bookmark> bookmarks) {
+        val bookmarksByIdentifier = new HashMap<String, Bookmark>();
+        bookmarks.forEach(bookmark->bookmarksByIdentifier.put(bookmark.getIdentifier(), bookmark));
+
+        // select from Entity where :primaryKeys.contains(primaryKeyMember)
+        val primaryKeys = bookmarksByIdentifier.keySet().stream()
+                .map(identifier->primaryKeyTypeForDecoding().destring(identifier))
+                .map(JdoEntityFacet::unwrapSingleFieldIdentity)
+                .collect(Collectors.toList());
+
+        val jdoQuery = persistenceManager.newQuery(entityClass);
+        jdoQuery.setFilter(":primaryKeys.contains(" + primaryKeyMemberName + ")");
+
+        val entityPojosByBookmark = new HashMap<Bookmark, Object>();
+        jdoQuery.setParameters(primaryKeys).executeList()
+            .forEach(entityPojo->
+                identifierForDnPrimaryKey(persistenceManager.getObjectId(entityPojo))
+                    .map(bookmarksByIdentifier::get)
+                    .ifPresent(bookmark->entityPojosByBookmark.put(bookmark, entityPojo)));
+        jdoQuery.closeAll();
+        return entityPojosByBookmark;
+    }
+
+    /**
+     * The plain primary key value (eg. {@link java.util.UUID}), as required by JDOQL,
+     * from given (DataNucleus or JDO) single field identity.
+     */
+    private static Object unwrapSingleFieldIdentity(final Object primaryKey) {
+        return primaryKey instanceof SingleFieldId
+                ? ((SingleFieldId<?, ?>) primaryKey).getKeyAsObject()
+                : primaryKey instanceof SingleFieldIdentity
+                    ? ((SingleFieldIdentity) primaryKey).getKeyAsObject()
+                    : primaryKey;
+    }
+
+    private @Nullable AbstractClassMetaData classMetadata() {
+        val nucleusContext = ((JDOPersistenceManagerFactory) getPersistenceManager().getPersistenceManagerFactory())
+                .getNucleusContext();
+        return nucleusContext.getMetaDataManager().getMetaDataForClass(
+                entityClass, nucleusContext.getClassLoaderResolver(entityClass.getClassLoader()));
+    }
+
+    private javax.jdo.Query<?> newNamedQuery(final NamedQuery<?> applibNamedQuery) {
+
+        val range = applibNamedQuery.getRange();
+        val queryResultType = applibNamedQuery.getResultType();
+
+        val persistenceManager = getPersistenceManager();
+
+        val namedParams = _Maps.<String, Object>newHashMap();
+        val namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
+                .setNamedParameters(namedParams);
+
+        namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(!range.isUnconstrained()) {
+            namedQuery.range(range.getStart(), range.getEnd());
+        }
+
+        // inject services into query params; not sure if required (might be redundant)
+        {
+            val injector = getServiceInjector();
+
+            applibNamedQuery
+            .getParametersByName()
+            .values()
+            .forEach(injector::injectServicesInto);
+        }
+
+        applibNamedQuery
+            .getParametersByName()
+            .forEach(namedParams::put);
+
+        return namedQuery;
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
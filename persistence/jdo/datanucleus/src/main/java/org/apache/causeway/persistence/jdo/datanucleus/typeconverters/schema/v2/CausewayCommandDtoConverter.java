@@ -21,9 +21,12 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Reads any of the {@link DtoStorageFormat}s, writes {@link DtoStorageFormat#XML}.
+ *
  * @since 2.0 {@index}
  */
 public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, String>{
@@ -32,12 +35,12 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return CommandDtoUtils.storageCodec().encode(memberValue, DtoStorageFormat.XML);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return CommandDtoUtils.storageCodec().decode(datastoreValue);
     }
 
 }
@@ -20,10 +20,13 @@
 
 import org.datanucleus.store.types.converters.TypeConverter;
 
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Reads any of the {@link DtoStorageFormat}s, writes {@link DtoStorageFormat#XML}.
+ *
  * @since 2.0 {@index}
  */
 public class CausewayInteractionDtoConverter implements TypeConverter<InteractionDto, String>{
@@ -32,12 +35,12 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return InteractionDtoUtils.storageCodec().encode(memberValue, DtoStorageFormat.XML);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return InteractionDtoUtils.storageCodec().decode(datastoreValue);
     }
 
 }
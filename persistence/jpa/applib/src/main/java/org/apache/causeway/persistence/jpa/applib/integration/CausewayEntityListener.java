@@ -31,6 +31,7 @@
 import org.eclipse.persistence.sessions.UnitOfWork;
 import org.eclipse.persistence.sessions.changesets.DirectToFieldChangeRecord;
 import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+import org.eclipse.persistence.sessions.changesets.ObjectReferenceChangeRecord;
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.collections.Can;
@@ -141,12 +142,18 @@ private Can<PropertyChangeRecord> gatherPropertyChangeRecords(final @Nullable Ma
             .map((final ObjectChangeSet objectChanges)->{
                 return
                     objectChanges.getChanges().stream()
-                    .filter(DirectToFieldChangeRecord.class::isInstance)
-                    .map(DirectToFieldChangeRecord.class::cast)
                     .map(ormChangeRecord -> {
+                        final Object oldValue;
+                        if(ormChangeRecord instanceof DirectToFieldChangeRecord) {
+                            oldValue = ((DirectToFieldChangeRecord) ormChangeRecord).getOldValue();
+                        } else if(ormChangeRecord instanceof ObjectReferenceChangeRecord) {
+                            oldValue = ((ObjectReferenceChangeRecord) ormChangeRecord).getOldValue();
+                        } else {
+                            return null; // ignore, eg. collections
+                        }
                         final String propertyName = ormChangeRecord.getAttribute();
                         return MmEntityUtils.lookupPropertyChangeRecordIdForChangePublishing(entity, propertyName)
-                                .map(id -> PropertyChangeRecord.ofCurrent(id, ormChangeRecord.getOldValue()))
+                                .map(id -> PropertyChangeRecord.ofCurrent(id, oldValue))
                                 .orElse(null); // ignore
                     })
                     .collect(Can.toCan()); // a Can only collects non-null elements
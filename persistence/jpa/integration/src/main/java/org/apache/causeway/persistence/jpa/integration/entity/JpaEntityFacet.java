@@ -18,19 +18,52 @@
  */
 package org.apache.causeway.persistence.jpa.integration.entity;
 
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
 import javax.persistence.PersistenceUnitUtil;
-
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EmbeddableType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.PluralAttribute;
+import javax.persistence.metamodel.Type.PersistenceType;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.queries.CursoredStream;
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
@@ -45,6 +78,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.val;
@@ -59,6 +93,11 @@
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    /**
+     * Max number of primary keys per {@code IN} clause, when fetching by bookmarks.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private final Class<?> entityClass;
     private PrimaryKeyType<?> primaryKeyType;
 
@@ -114,12 +153,113 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val entityManager = getEntityManager();
+        val entityType = entityManager.getMetamodel().entity(entityClass);
+        if(bookmarks.size()<2
+                || !entityType.hasSingleIdAttribute()
+                || entityType.getIdType().getPersistenceType() != PersistenceType.BASIC) {
+            // simple primary keys only, for the identifiers of fetched entities to reliably match
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val bookmarksByPrimaryKey = new LinkedHashMap<Object, Bookmark>();
+        bookmarks.forEach(bookmark->
+            bookmarksByPrimaryKey.put(primaryKeyType.destring(bookmark.getIdentifier()), bookmark));
+
+        val idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        val entityPojos = new HashMap<Bookmark, Object>();
+
+        // select e from Entity e where e.id in :primaryKeys
+        Can.ofCollection(bookmarksByPrimaryKey.keySet())
+        .partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+        .forEach(primaryKeys->{
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root));
+            cr.where(root.get(idAttributeName).in(primaryKeys.toList()));
+
+            entityManager.createQuery(cr).getResultStream()
+                .forEach(entityPojo->
+                    Optional.ofNullable(bookmarksByPrimaryKey.get(persistenceUnitUtil.getIdentifier(entityPojo)))
+                        .ifPresent(bookmark->entityPojos.put(bookmark, entityPojo)));
+        });
+
+        return entityPojos;
+    }
+
+    @Override
+    public Optional<Object> versionOf(final @Nullable Object pojo) {
+        if (!getEntityState(pojo).hasOid()) {
+            return Optional.empty();
+        }
+        return getVersionMember()
+                .map(versionMember->versionMember instanceof Method
+                        ? ReflectionUtils.invokeMethod((Method) versionMember, pojo)
+                        : ReflectionUtils.getField((Field) versionMember, pojo));
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
 
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
+        val entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                createTypedQuery(query).getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    @Override
+    public Stream<ManagedObject> streamByQuery(
+            final Query<?> query, final int fetchSize, final int releaseEveryNRows) {
+
+        val typedQuery = createTypedQuery(query);
+
+        // EclipseLink's getResultStream() is not backed by a cursor, so we ask for one explicitly
+        typedQuery.setHint(QueryHints.CURSOR, HintValues.TRUE);
+        if (fetchSize > 0) {
+            typedQuery.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+            typedQuery.setHint(QueryHints.CURSOR_PAGE_SIZE, fetchSize);
+        }
+
+        val cursor = (CursoredStream) typedQuery.getSingleResult();
+
+        val iterator = new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+            @Override
+            public Object next() {
+                val entity = cursor.next();
+                cursor.releasePrevious(); // don't retain rows already read
+                return entity;
+            }
+        };
+
+        val entityManager = getEntityManager();
+        val entitySpec = getEntitySpecification();
+        return EntityFacet.releasingInBatches(
+                    StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false),
+                    releaseEveryNRows,
+                    batch -> batch.stream()
+                        .filter(entityClass::isInstance)
+                        .forEach(entityManager::detach))
+                .map(entity -> ManagedObject.adaptSingular(entitySpec, entity))
+                .onClose(cursor::close);
+    }
+
+    private TypedQuery<?> createTypedQuery(final Query<?> query) {
 
         val range = query.getRange();
 
@@ -148,10 +288,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 typedQuery.setMaxResults(range.getLimitAsInt());
             }
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    typedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return typedQuery;
 
         } else if (query instanceof NamedQuery) {
 
@@ -175,10 +312,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                     .forEach((paramName, paramValue) ->
                             namedQuery.setParameter(paramName, paramValue));
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    namedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return namedQuery;
 
         }
 
@@ -186,6 +320,137 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    @Override
+    public boolean isPageableByQuery(final Query<?> query) {
+        return query instanceof AllInstancesQuery;
+    }
+
+    @Override
+    public Optional<Can<ManagedObject>> fetchByQuerySorted(
+            final Query<?> query, final @Nullable String propertyId, final boolean ascending) {
+
+        if (!isPageableByQuery(query)
+                || (propertyId!=null
+                        && !isPersistentAttribute(propertyId))) {
+            return Optional.empty(); // ordering cannot be pushed down
+        }
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+        val range = query.getRange();
+        val entityManager = getEntityManager();
+
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery(entityClass);
+        val root = cr.from(entityClass);
+
+        cr.select(_Casts.uncheckedCast(root));
+        cr.orderBy(orderBy(cb, root, entityManager.getMetamodel().entity(entityClass), propertyId, ascending));
+
+        val typedQuery = entityManager
+                .createQuery(cr);
+
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+
+        val entitySpec = getEntitySpecification();
+        return Optional.of(Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity))));
+    }
+
+    @Override
+    public int countByQuery(final Query<?> query) {
+
+        if (!isPageableByQuery(query)) {
+            return EntityFacet.super.countByQuery(query);
+        }
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+        val entityManager = getEntityManager();
+
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery(Long.class);
+        cr.select(cb.count(cr.from(entityClass)));
+
+        return Math.toIntExact(entityManager.createQuery(cr).getSingleResult());
+    }
+
+    @Override
+    public Optional<Can<ManagedObject>> fetchCollectionPage(
+            final Object pojo, final String collectionId,
+            final @Nullable String propertyId, final boolean ascending, final QueryRange range) {
+
+        val elementEntityType = lookupPersistentCollectionElementType(pojo, collectionId).orElse(null);
+        if(elementEntityType==null) {
+            return Optional.empty();
+        }
+
+        if(propertyId!=null) {
+            if(!isPersistentAttribute(elementEntityType, propertyId)) {
+                return Optional.empty(); // ordering cannot be pushed down
+            }
+        } else {
+            if(isOrderedCollection(collectionId)) {
+                return Optional.empty(); // natural order cannot be reproduced
+            }
+            // order by primary key only, for pages to be stable
+        }
+
+        val entityManager = getEntityManager();
+
+        // select e from Entity p join p.collection e where p = :pojo order by e.property
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery(elementEntityType.getJavaType());
+        val root = cr.from(entityClass);
+        val join = root.join(collectionId);
+
+        cr.select(_Casts.uncheckedCast(join));
+        cr.where(cb.equal(root, pojo));
+        cr.orderBy(orderBy(cb, join, elementEntityType, propertyId, ascending));
+
+        val typedQuery = entityManager
+                .createQuery(cr);
+
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+
+        val specLoader = getSpecificationLoader();
+        return Optional.of(Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(specLoader, entity))));
+    }
+
+    @Override
+    public OptionalInt countCollection(final Object pojo, final String collectionId) {
+
+        if(lookupPersistentCollectionElementType(pojo, collectionId).isEmpty()) {
+            return OptionalInt.empty();
+        }
+
+        val entityManager = getEntityManager();
+
+        // select count(e) from Entity p join p.collection e where p = :pojo
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery(Long.class);
+        val root = cr.from(entityClass);
+        cr.select(cb.count(root.join(collectionId)));
+        cr.where(cb.equal(root, pojo));
+
+        return OptionalInt.of(Math.toIntExact(entityManager.createQuery(cr).getSingleResult()));
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
@@ -260,6 +525,130 @@ public <T> T detach(final T pojo) {
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getEntityManager(), entityClass);
 
+    // lazily looks up the version attribute's java member (field or getter), if any
+    @Getter(lazy=true, value=AccessLevel.PRIVATE)
+    private final Optional<Member> versionMember = lookupVersionMember();
+
+    private Optional<Member> lookupVersionMember() {
+        val entityType = getEntityManager().getMetamodel().entity(entityClass);
+        if(!entityType.hasVersionAttribute()) {
+            return Optional.empty();
+        }
+        val versionMember = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .map(SingularAttribute::getJavaMember)
+                .filter(member->member instanceof Field || member instanceof Method)
+                .findFirst();
+        versionMember.ifPresent(member->{
+            if(member instanceof Method) {
+                ReflectionUtils.makeAccessible((Method) member);
+            } else {
+                ReflectionUtils.makeAccessible((Field) member);
+            }
+        });
+        return versionMember;
+    }
+
+    /**
+     * Whether given property is a (singular) persistent attribute of the entity,
+     * that is, whether it can be used to order by.
+     */
+    private boolean isPersistentAttribute(final String propertyId) {
+        return isPersistentAttribute(getEntityManager().getMetamodel().entity(entityClass), propertyId);
+    }
+
+    private static boolean isPersistentAttribute(final EntityType<?> entityType, final String propertyId) {
+        try {
+            return !entityType
+                    .getAttribute(propertyId)
+                    .isCollection();
+        } catch (IllegalArgumentException e) {
+            return false; // not known to the JPA metamodel, eg. a derived property
+        }
+    }
+
+    /**
+     * Orders by given property (if any), then by primary key, such that pages are stable,
+     * even if the property's values are not unique.
+     */
+    private static List<Order> orderBy(
+            final CriteriaBuilder cb,
+            final Path<?> path,
+            final EntityType<?> entityType,
+            final @Nullable String propertyId,
+            final boolean ascending) {
+        val orders = new ArrayList<Order>();
+        if(propertyId!=null) {
+            orders.add(order(cb, path.get(propertyId), ascending));
+        }
+        entityType.getSingularAttributes().stream()
+            .filter(SingularAttribute::isId)
+            .filter(idAttribute->!idAttribute.getName().equals(propertyId))
+            .sorted(Comparator.comparing(Attribute::getName))
+            .forEach(idAttribute->{
+                val idPath = path.get(idAttribute.getName());
+                if(idAttribute.getType() instanceof EmbeddableType) {
+                    // embedded id, order by each of its key attributes
+                    ((EmbeddableType<?>) idAttribute.getType()).getSingularAttributes().stream()
+                        .sorted(Comparator.comparing(Attribute::getName))
+                        .forEach(keyAttribute->orders.add(order(cb, idPath.get(keyAttribute.getName()), ascending)));
+                } else {
+                    orders.add(order(cb, idPath, ascending));
+                }
+            });
+        return orders;
+    }
+
+    private static Order order(final CriteriaBuilder cb, final Path<?> path, final boolean ascending) {
+        return ascending
+                ? cb.asc(path)
+                : cb.desc(path);
+    }
+
+    /**
+     * Optionally the element type of given collection, based on whether given pojo is persistent and
+     * the collection is a persistent association to other entities (rather than an element collection).
+     */
+    private Optional<EntityType<?>> lookupPersistentCollectionElementType(
+            final Object pojo, final String collectionId) {
+        if (pojo == null
+                || !getEntityState(pojo).hasOid()) {
+            return Optional.empty();
+        }
+        try {
+            val attribute = getEntityManager().getMetamodel().entity(entityClass)
+                    .getAttribute(collectionId);
+            return attribute instanceof PluralAttribute
+                    && ((PluralAttribute<?, ?, ?>) attribute).getElementType() instanceof EntityType
+                    ? Optional.of((EntityType<?>) ((PluralAttribute<?, ?, ?>) attribute).getElementType())
+                    : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty(); // not known to the JPA metamodel, eg. a derived collection
+        }
+    }
+
+    /**
+     * Whether the natural order of given collection is other than by primary key,
+     * eg. it is a {@link SortedSet} or is ordered by the persistence layer.
+     */
+    private boolean isOrderedCollection(final String collectionId) {
+        val javaMember = getEntityManager().getMetamodel().entity(entityClass)
+                .getAttribute(collectionId)
+                .getJavaMember();
+        if(!(javaMember instanceof AnnotatedElement)) {
+            return true; // unknown, so be conservative
+        }
+        val annotatedElement = (AnnotatedElement) javaMember;
+        val collectionType = javaMember instanceof Field
+                ? ((Field) javaMember).getType()
+                : javaMember instanceof Method
+                    ? ((Method) javaMember).getReturnType()
+                    : Object.class;
+        return SortedSet.class.isAssignableFrom(collectionType)
+                || annotatedElement.isAnnotationPresent(OrderBy.class)
+                || annotatedElement.isAnnotationPresent(OrderColumn.class);
+    }
+
     // -- DEPENDENCIES
 
     protected EntityManager getEntityManager() {
@@ -22,9 +22,12 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Reads any of the {@link DtoStorageFormat}s, writes {@link DtoStorageFormat#XML}.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +36,12 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return CommandDtoUtils.storageCodec().encode(memberValue, DtoStorageFormat.XML);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return CommandDtoUtils.storageCodec().decode(datastoreValue);
     }
 
 }
@@ -21,10 +21,13 @@
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 
+import org.apache.causeway.applib.util.schema.DtoStorageFormat;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Reads any of the {@link DtoStorageFormat}s, writes {@link DtoStorageFormat#XML}.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +36,12 @@
 
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return InteractionDtoUtils.storageCodec().encode(memberValue, DtoStorageFormat.XML);
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return InteractionDtoUtils.storageCodec().decode(datastoreValue);
     }
 
 }
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.RegressionTestWithJpaFixtures;
+import org.apache.causeway.testdomain.jpa.entities.JpaInventory;
+import org.apache.causeway.testdomain.jpa.entities.JpaProduct;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaCollectionPagingTest",
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JpaCollectionPagingTest extends RegressionTestWithJpaFixtures {
+
+    @Test
+    void collectionCount_shouldBePushedDown() {
+        run(()->{
+            val inventory = inventory();
+            assertEquals(3, entityFacet(inventory).countCollection(inventory, "products").getAsInt());
+        });
+    }
+
+    @Test
+    void sortedCollectionPages_shouldBePushedDown() {
+        run(()->{
+            val inventory = inventory();
+            val entityFacet = entityFacet(inventory);
+
+            val firstPage = entityFacet
+                    .fetchCollectionPage(inventory, "products", "name", true, QueryRange.of(0, 2))
+                    .orElseThrow();
+            val secondPage = entityFacet
+                    .fetchCollectionPage(inventory, "products", "name", true, QueryRange.of(2, 2))
+                    .orElseThrow();
+
+            assertEquals(List.of("Dune", "The Foundation"), namesOf(firstPage));
+            assertEquals(List.of("The Time Machine"), namesOf(secondPage));
+        });
+    }
+
+    @Test
+    void naturalOrderPages_shouldBePushedDownOrderedByPrimaryKey() {
+        run(()->{
+            val inventory = inventory();
+            val entityFacet = entityFacet(inventory);
+
+            val pagedNames = pagedNames(entityFacet, inventory, null);
+            assertEquals(3, pagedNames.size());
+        });
+    }
+
+    @Test
+    void whenSortPropertyNotUnique_pagesShouldNotOverlap() {
+        run(()->{
+            // all products share the same price, so the order among them is decided by primary key
+            val inventory = inventory();
+            inventory.getProducts().forEach(product->product.setPrice(99.));
+            transactionService.flushTransaction();
+
+            val pagedNames = pagedNames(entityFacet(inventory), inventory, "price");
+            assertEquals(3, pagedNames.size());
+        });
+    }
+
+    // -- HELPER
+
+    private JpaInventory inventory() {
+        return repositoryService.allInstances(JpaInventory.class).get(0);
+    }
+
+    private EntityFacet entityFacet(final JpaInventory inventory) {
+        return objectManager.adapt(inventory).getSpecification().entityFacetElseFail();
+    }
+
+    /**
+     * Names of all products, fetched one page (of size 1) at a time.
+     */
+    private static Set<String> pagedNames(
+            final EntityFacet entityFacet, final JpaInventory inventory, final String sortPropertyId) {
+        return Stream.of(0L, 1L, 2L)
+                .map(skip->entityFacet
+                        .fetchCollectionPage(inventory, "products", sortPropertyId, true, QueryRange.of(skip, 1))
+                        .orElseThrow())
+                .flatMap(page->namesOf(page).stream())
+                .collect(Collectors.toSet());
+    }
+
+    private static List<String> namesOf(final Can<ManagedObject> page) {
+        return page
+                .map(element->((JpaProduct)element.getPojo()).getName())
+                .toList();
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
+import org.apache.causeway.core.metamodel.tabular.interactive.DataRow;
+import org.apache.causeway.core.metamodel.tabular.interactive.DataTableInteractive;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.JpaInventoryManager;
+import org.apache.causeway.testdomain.jpa.RegressionTestWithJpaFixtures;
+import org.apache.causeway.testdomain.jpa.entities.JpaProduct;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaQueryBackedTableTest",
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JpaQueryBackedTableTest extends RegressionTestWithJpaFixtures {
+
+    @Test
+    void actionResultFromQuery_shouldBeQueryBacked() {
+        run(()->{
+            val table = findAllProductsTable();
+
+            assertTrue(table.isQueryBacked());
+            assertEquals(3, table.getElementCount());
+            assertEquals(table.getElementCount(), table.countByQuery());
+        });
+    }
+
+    @Test
+    void queryBackedTable_shouldPageSortedByProperty() {
+        run(()->{
+            val table = findAllProductsTable();
+            val nameProperty = table.getElementType().getPropertyElseFail("name");
+
+            val firstPage = table.fetchPage(nameProperty, true, 0, 2).orElseThrow();
+            val secondPage = table.fetchPage(nameProperty, true, 2, 2).orElseThrow();
+            assertEquals(List.of("Dune", "The Foundation"), namesOf(firstPage));
+            assertEquals(List.of("The Time Machine"), namesOf(secondPage));
+
+            val firstPageDescending = table.fetchPage(nameProperty, false, 0, 2).orElseThrow();
+            assertEquals(List.of("The Time Machine", "The Foundation"), namesOf(firstPageDescending));
+        });
+    }
+
+    @Test
+    void queryBackedTable_whenSortPropertyNotUnique_shouldPageWithoutOverlap() {
+        run(()->{
+            // all products share the same price, so the order among them is decided by primary key
+            repositoryService.allInstances(JpaProduct.class)
+                .forEach(product->product.setPrice(99.));
+            transactionService.flushTransaction();
+
+            val table = findAllProductsTable();
+            val priceProperty = table.getElementType().getPropertyElseFail("price");
+
+            val pagedNames = Stream.of(0L, 1L, 2L)
+                    .map(skip->table.fetchPage(priceProperty, true, skip, 1).orElseThrow())
+                    .flatMap(page->namesOf(page).stream())
+                    .collect(Collectors.toSet());
+
+            assertEquals(3, pagedNames.size());
+        });
+    }
+
+    @Test
+    void queryBackedTable_whenUnsorted_shouldPageWithoutOverlap() {
+        run(()->{
+            val table = findAllProductsTable();
+
+            val pagedNames = Stream.of(0L, 1L, 2L)
+                    .map(skip->table.fetchPage(null, true, skip, 1).orElseThrow())
+                    .flatMap(page->namesOf(page).stream())
+                    .collect(Collectors.toSet());
+
+            assertEquals(3, pagedNames.size());
+        });
+    }
+
+    // -- HELPER
+
+    private DataTableInteractive findAllProductsTable() {
+        val inventoryManager = objectManager.adapt(factoryService.viewModel(JpaInventoryManager.class));
+        val managedAction = ActionInteraction.start(inventoryManager, "findAllProducts", Where.ANYWHERE)
+                .getManagedActionElseFail();
+        val actionResult = managedAction.invoke(Can.empty()).getSuccessElseFail();
+        return DataTableInteractive.forAction(managedAction, Can.empty(), actionResult);
+    }
+
+    private static List<String> namesOf(final Can<DataRow> dataRows) {
+        return dataRows
+                .map(dataRow->((JpaProduct)dataRow.getRowElement().getPojo()).getName())
+                .toList();
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.rest;
+
+import java.io.IOException;
+
+import javax.inject.Inject;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.xml.bind.JAXBException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.RegressionTestWithJdoFixtures;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+import org.apache.causeway.testdomain.util.dto.BookDto;
+import org.apache.causeway.testdomain.util.rest.RestEndpointService;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.client.RestfulClient;
+import org.apache.causeway.viewer.restfulobjects.jaxrsresteasy.CausewayModuleViewerRestfulObjectsJaxrsResteasy;
+
+import lombok.val;
+
+/**
+ * Mixed GET/POST batches, as executed by the <code>/batch</code> resource, both non-atomic and atomic.
+ * <p>
+ * Sub-requests are dispatched to the other resources within the batch request, so the self links
+ * of their results are checked, to verify that the (request scoped) JAX-RS context and the
+ * resource context get resolved for the sub-request being dispatched.
+ */
+@SpringBootTest(
+        classes = {
+                RestEndpointService.class,
+                },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Import({
+    Configuration_usingJdo.class,
+    CausewayModuleViewerRestfulObjectsJaxrsResteasy.class
+})
+class RestServiceBatchTest extends RegressionTestWithJdoFixtures {
+
+    private static final String INVENTORY_RESOURCE = "services/testdomain.jdo.InventoryResourceAlias";
+
+    @Inject RestEndpointService restService;
+
+    private RestfulClient restfulClient;
+    private String restfulBaseUrl;
+
+    @BeforeEach
+    void checkPrereq() {
+        assertTrue(restService.getPort()>0);
+        val useRequestDebugLogging = true;
+        this.restfulClient = restService.newClient(useRequestDebugLogging);
+        this.restfulBaseUrl = restfulClient.getConfig().getRestfulBaseUrl();
+    }
+
+    @Test
+    void mixedBatch_nonAtomic() throws JAXBException, IOException {
+
+        val results = postBatch(false,
+                get("service", INVENTORY_RESOURCE),
+                storeBook("store", "Batch Book", "BATCH ISBN 1"),
+                get("action", INVENTORY_RESOURCE + "/actions/listBooks"));
+
+        assertEquals(3, results.size());
+
+        val serviceResult = results.arrayGet(0);
+        assertEquals("service", serviceResult.getString("id"));
+        assertEquals(200, serviceResult.getInt("status"));
+        assertEquals(restfulBaseUrl + INVENTORY_RESOURCE, selfHref(serviceResult.getRepresentation("body")));
+
+        val storeResult = results.arrayGet(1);
+        assertEquals("store", storeResult.getString("id"));
+        assertEquals(200, storeResult.getInt("status"));
+        assertTrue(selfHref(storeResult.getRepresentation("body.result"))
+                .startsWith(restfulBaseUrl + "objects/testdomain.jdo.Book/"));
+
+        val actionResult = results.arrayGet(2);
+        assertEquals("action", actionResult.getString("id"));
+        assertEquals(200, actionResult.getInt("status"));
+        assertEquals(restfulBaseUrl + INVENTORY_RESOURCE + "/actions/listBooks",
+                selfHref(actionResult.getRepresentation("body")));
+
+        // the POST was committed within its own transaction
+        assertTrue(isBookStored("BATCH ISBN 1"));
+    }
+
+    @Test
+    void mixedBatch_atomic_rollsBackAsAWhole() throws JAXBException, IOException {
+
+        val results = postBatch(true,
+                storeBook("store", "Batch Book", "BATCH ISBN 2"),
+                get("service", INVENTORY_RESOURCE),
+                get("missing", "objects/testdomain.jdo.NoSuchType/1"),
+                get("notExecuted", INVENTORY_RESOURCE + "/actions/listBooks"));
+
+        assertEquals(4, results.size());
+
+        // succeeded, but rolled back, reported as when executed
+        val storeResult = results.arrayGet(0);
+        assertEquals("store", storeResult.getString("id"));
+        assertEquals(200, storeResult.getInt("status"));
+        assertTrue(storeResult.getBoolean("rolledBack"));
+        assertTrue(selfHref(storeResult.getRepresentation("body.result"))
+                .startsWith(restfulBaseUrl + "objects/testdomain.jdo.Book/"));
+
+        val serviceResult = results.arrayGet(1);
+        assertEquals(200, serviceResult.getInt("status"));
+        assertTrue(serviceResult.getBoolean("rolledBack"));
+        assertEquals(restfulBaseUrl + INVENTORY_RESOURCE, selfHref(serviceResult.getRepresentation("body")));
+
+        // the failed one
+        val missingResult = results.arrayGet(2);
+        assertEquals("missing", missingResult.getString("id"));
+        assertTrue(missingResult.getInt("status") >= 400);
+        assertFalse(missingResult.isBoolean("rolledBack"));
+
+        // not executed
+        val notExecutedResult = results.arrayGet(3);
+        assertEquals("notExecuted", notExecutedResult.getString("id"));
+        assertEquals(424, notExecutedResult.getInt("status"));
+
+        // the POST was rolled back along with the batch
+        assertFalse(isBookStored("BATCH ISBN 2"));
+    }
+
+    @Test
+    void mixedBatch_atomic_commitsAsAWhole() throws JAXBException, IOException {
+
+        val results = postBatch(true,
+                get("service", INVENTORY_RESOURCE),
+                storeBook("store", "Batch Book", "BATCH ISBN 3"),
+                get("action", INVENTORY_RESOURCE + "/actions/listBooks"));
+
+        assertEquals(3, results.size());
+        results.streamArrayElements().forEach(result->{
+            assertEquals(200, result.getInt("status"));
+            assertFalse(result.isBoolean("rolledBack"));
+        });
+        assertEquals(restfulBaseUrl + INVENTORY_RESOURCE + "/actions/listBooks",
+                selfHref(results.arrayGet(2).getRepresentation("body")));
+
+        assertTrue(isBookStored("BATCH ISBN 3"));
+    }
+
+    // -- HELPER
+
+    private JsonRepresentation postBatch(
+            final boolean atomic,
+            final JsonRepresentation... requests) throws IOException {
+        val requestsRepr = JsonRepresentation.newArray();
+        for(val request : requests) {
+            requestsRepr.arrayAdd(request);
+        }
+        val batchRepr = JsonRepresentation.newMap()
+                .mapPutBoolean("atomic", atomic)
+                .mapPutJsonRepresentation("requests", requestsRepr);
+
+        val response = restfulClient.request("batch")
+                .accept(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(batchRepr.toString()));
+        assertEquals(200, response.getStatus());
+
+        val resultsRepr = JsonMapper.instance().read(response.readEntity(String.class));
+        assertTrue(resultsRepr.isArray());
+        return resultsRepr;
+    }
+
+    private static JsonRepresentation get(final String id, final String href) {
+        return JsonRepresentation.newMap(
+                "id", id,
+                "method", "GET",
+                "href", href);
+    }
+
+    private JsonRepresentation storeBook(final String id, final String name, final String isbn) throws JAXBException {
+        val newBook = JdoBook.of(name, "A sample batch book for testing.", 11.,
+                "Batch Author", isbn, "Batch Publisher");
+        val args = restfulClient.arguments()
+                .addActionParameter("newBook", BookDto.from(newBook).encode())
+                .build();
+        return JsonRepresentation.newMap(
+                    "id", id,
+                    "method", "POST",
+                    "href", INVENTORY_RESOURCE + "/actions/storeBook/invoke")
+                .mapPutJsonRepresentation("headers",
+                        JsonRepresentation.newMap("Content-Type", MediaType.APPLICATION_JSON))
+                .mapPutJsonRepresentation("body", JsonMapper.instance().read(args.getEntity()));
+    }
+
+    private static String selfHref(final JsonRepresentation repr) {
+        return repr.getArray("links").streamArrayElements()
+                .filter(link->"self".equals(link.getString("rel")))
+                .map(link->link.getString("href"))
+                .findFirst()
+                .orElseThrow(()->new AssertionError("no self link in " + repr));
+    }
+
+    private boolean isBookStored(final String isbn) {
+        return call(()->repositoryService.allInstances(JdoBook.class).stream()
+                .anyMatch(book->isbn.equals(book.getIsbn())));
+    }
+
+}
@@ -27,7 +27,9 @@
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.Nature;
 import org.apache.causeway.applib.annotation.Publishing;
+import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.domain.DomainObjectList.ActionDomainEvent;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.testdomain.jdo.entities.JdoProduct;
 
@@ -56,6 +58,13 @@ public int countProducts() {
         return getAllProducts().size();
     }
 
+    // -- FIND ALL PRODUCTS
+
+    @Action(semantics = SemanticsOf.SAFE)
+    public List<JdoProduct> findAllProducts() {
+        return repository.allMatches(Query.allInstances(JdoProduct.class));
+    }
+
     @Collection
     public List<JdoProduct> getAllProducts() {
         return repository.allInstances(JdoProduct.class);
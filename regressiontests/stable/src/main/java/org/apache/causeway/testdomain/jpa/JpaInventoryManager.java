@@ -26,7 +26,9 @@
 import org.apache.causeway.applib.annotation.Collection;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.domain.DomainObjectList.ActionDomainEvent;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.testdomain.jpa.entities.JpaProduct;
 
@@ -54,6 +56,13 @@ public int countProducts() {
         return getAllProducts().size();
     }
 
+    // -- FIND ALL PRODUCTS
+
+    @Action(semantics = SemanticsOf.SAFE)
+    public List<JpaProduct> findAllProducts() {
+        return repository.allMatches(Query.allInstances(JpaProduct.class));
+    }
+
     @Collection
     public List<JpaProduct> getAllProducts() {
         return repository.allInstances(JpaProduct.class);
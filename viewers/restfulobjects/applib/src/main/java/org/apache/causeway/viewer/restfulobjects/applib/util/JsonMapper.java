@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.applib.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -150,4 +151,17 @@ public String write(final Object object) throws JsonGenerationException, JsonMap
         return objectMapper.writeValueAsString(object);
     }
 
+    /**
+     * Writes given {@code object} straight to given {@link OutputStream} (UTF-8 encoded),
+     * without buffering the entire JSON in memory.
+     * <p>
+     * The stream is not closed.
+     */
+    public void write(final OutputStream outputStream, final Object object) throws JsonGenerationException, JsonMappingException, IOException {
+        try(final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            objectMapper.writeValue(generator, object);
+        }
+    }
+
 }
@@ -183,6 +183,15 @@ public Integer valueOf(final String str) {
                 return Integer.valueOf(str);
             }
 
+            @Override
+            public Integer valueOf(final JsonRepresentation jsonRepresentation) {
+                if (jsonRepresentation != null
+                        && jsonRepresentation.isInt()) {
+                    return jsonRepresentation.asInt();
+                }
+                return super.valueOf(jsonRepresentation);
+            }
+
             @Override
             public String asString(final Integer t) {
                 return t.toString();
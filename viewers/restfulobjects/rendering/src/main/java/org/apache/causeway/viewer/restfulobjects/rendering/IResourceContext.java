@@ -33,6 +33,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 
 /**
  * Provides access to request-specific context (eg HTTP headers),
@@ -74,6 +75,13 @@ public interface IResourceContext extends HasMetaModelContext {
     List<List<String>> getFollowLinks();
     boolean isValidateOnly();
 
+    /**
+     * Optionally the paging and sorting to apply when rendering collections and lists,
+     * based on whether any of the {@code x-ro-page}, {@code x-ro-page-size} or {@code x-ro-sort}
+     * query parameters were provided.
+     */
+    Optional<Paging> getPaging();
+
     default Restfulobjects config() {
         return getMetaModelContext().getConfiguration().getViewer().getRestfulobjects();
     }
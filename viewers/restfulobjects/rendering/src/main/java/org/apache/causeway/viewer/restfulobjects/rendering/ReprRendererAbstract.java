@@ -36,6 +36,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.DomainTypeReprRenderer;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueEncoderService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 
 import lombok.Getter;
 import lombok.val;
@@ -203,6 +204,31 @@ private void addToExtensions(final String key, final List<ManagedObject> adapter
         }
     }
 
+    /**
+     * Convenience for representations of collections and lists that were paged and/or sorted,
+     * adds the paging details to the extensions, as well as links to the next and previous pages (if any).
+     */
+    protected final void addExtensionsAndLinksForPaging(final Paging paging, final int totalCount) {
+        val pagingRepr = JsonRepresentation.newMap();
+        pagingRepr.mapPutInt("page", paging.getPage());
+        pagingRepr.mapPutInt("pageSize", paging.getPageSize());
+        pagingRepr.mapPutInt("totalCount", totalCount);
+        if(paging.getSortPropertyId()!=null) {
+            pagingRepr.mapPutString("sort", (paging.isAscending() ? "" : "-") + paging.getSortPropertyId());
+        }
+        getExtensions().mapPutJsonRepresentation("paging", pagingRepr);
+
+        paging.hrefForNextPage(totalCount)
+        .ifPresent(href->addPageLink(Rel.NEXT, href));
+        paging.hrefForPreviousPage()
+        .ifPresent(href->addPageLink(Rel.PREVIOUS, href));
+    }
+
+    private void addPageLink(final Rel rel, final String href) {
+        getLinks().arrayAdd(
+                LinkBuilder.newBuilder(resourceContext, rel.getName(), representationType, "%s", href).build());
+    }
+
     protected Stream<ManagedObject> streamServiceAdapters() {
         val metaModelContext = resourceContext.getMetaModelContext();
         return metaModelContext.streamServiceAdapters();
@@ -25,11 +25,13 @@
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
 import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonWriterUtil;
 
 import lombok.val;
@@ -81,11 +83,23 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(isStreamResponses(renderer)
+                        ? streamingOutputFor(entityRepresentation, inferPrettyPrinting(renderer))
+                        : JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
 
         return response;
     }
 
+    /**
+     * Writes given {@code representation} straight to the response stream, rather than rendering it into
+     * a {@link String} first; any {@link DeferredJsonArray} contained is rendered only while being written.
+     */
+    public static StreamingOutput streamingOutputFor(
+            final JsonRepresentation representation,
+            final JsonMapper.PrettyPrinting prettyPrinting) {
+        return outputStream->JsonMapper.instance(prettyPrinting).write(outputStream, representation);
+    }
+
     private static Date now(final ReprRenderer<?> renderer) {
         if(renderer instanceof ReprRendererAbstract) {
             ((ReprRendererAbstract<?>)renderer).getResourceContext().getMetaModelContext().getServiceRegistry()
@@ -105,6 +119,11 @@ public static Response.ResponseBuilder mediaType(
         return responseBuilder;
     }
 
+    public static boolean isStreamResponses(final ReprRenderer<?> renderer) {
+        return renderer instanceof ReprRendererAbstract
+                && ((ReprRendererAbstract<?>) renderer).getResourceContext().config().isStreamResponses();
+    }
+
     public static JsonMapper.PrettyPrinting inferPrettyPrinting(final ReprRenderer<?> renderer) {
 
         if(renderer instanceof ReprRendererAbstract) {
@@ -30,6 +30,8 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -100,28 +102,44 @@ private void addValue() {
             return;
         }
 
+        resourceContext.getPaging()
+        .ifPresent(paging->{
+            final Paging.Page page = paging.pageInMemory(objectAdapters.stream(), elementType);
+            objectAdapters = page.getElements().toList();
+            addExtensionsAndLinksForPaging(paging, page.getTotalCount());
+        });
+
+        if(resourceContext.config().isStreamResponses()) {
+            // elements are rendered one at a time, while being written to the response
+            representation.mapPutJsonRepresentation("value",
+                    DeferredJsonArray.of(objectAdapters, this::renderElement).asJsonRepresentation());
+            return;
+        }
+
         final JsonRepresentation values = JsonRepresentation.newArray();
 
         objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
+        .forEach(adapter->values.arrayAdd(renderElement(adapter)));
 
         representation.mapPutJsonRepresentation("value", values);
     }
 
+    private JsonRepresentation renderElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
+    }
+
 
     protected void addLinkToReturnType() {
         addLink(Rel.RETURN_TYPE, returnType);
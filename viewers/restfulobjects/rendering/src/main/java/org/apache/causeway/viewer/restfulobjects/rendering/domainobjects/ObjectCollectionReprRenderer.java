@@ -19,12 +19,17 @@
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmVisibilityUtils;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
@@ -34,6 +39,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 
 import lombok.val;
 
@@ -91,8 +97,17 @@ public JsonRepresentation render() {
     // ///////////////////////////////////////////////////
 
     private void addValue(final LinkFollowSpecs linkFollower) {
-        val valueAdapter = objectMember.get(objectAdapter, getInteractionInitiatedBy());
-        if (valueAdapter == null) {
+        final Optional<Paging> paging = mode.isStandalone()
+                ? resourceContext.getPaging()
+                : Optional.empty();
+
+        // if paged by the persistence layer, the collection itself is not loaded
+        final Optional<Paging.Page> pushedDownPage = paging.flatMap(this::pushedDownPageOf);
+        final ManagedObject valueAdapter = pushedDownPage.isPresent()
+                ? null
+                : objectMember.get(objectAdapter, getInteractionInitiatedBy());
+        if (!pushedDownPage.isPresent()
+                && valueAdapter == null) {
             return;
         }
 
@@ -100,11 +115,22 @@ private void addValue(final LinkFollowSpecs linkFollower) {
         final boolean eagerlyRender = !followHref.isTerminated()
                 || (resourceContext.config().isHonorUiHints()
                         && Facets.defaultViewIsTable(objectMember)
-                        && resourceContext.canEagerlyRender(valueAdapter));
+                        && (valueAdapter == null // pushed down
+                                || resourceContext.canEagerlyRender(valueAdapter)));
 
         final List<JsonRepresentation> list = _Lists.newArrayList();
 
-        CollectionFacet.streamAdapters(valueAdapter)
+        final Stream<ManagedObject> elementAdapters = paging
+                .map(paging_->{
+                    final Paging.Page page = pushedDownPage
+                            .orElseGet(()->paging_.pageInMemory(
+                                    CollectionFacet.streamAdapters(valueAdapter), objectMember.getElementType()));
+                    addExtensionsAndLinksForPaging(paging_, page.getTotalCount());
+                    return page.getElements().stream();
+                })
+                .orElseGet(()->CollectionFacet.streamAdapters(valueAdapter));
+
+        elementAdapters
         .forEach(elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
@@ -125,6 +151,62 @@ private void addValue(final LinkFollowSpecs linkFollower) {
         representation.mapPut("value", list);
     }
 
+    /**
+     * Optionally pushes paging and sorting down to the persistence layer, without loading the collection.
+     * <p>
+     * Empty if not possible, in which case the (fully loaded and visibility filtered) collection
+     * is to be sorted and sliced in memory.
+     */
+    private Optional<Paging.Page> pushedDownPageOf(final Paging paging) {
+        val elementType = objectMember.getElementType();
+        // validates the sort property, even if pushed down
+        val sortProperty = paging.lookupSortProperty(elementType);
+        // collections with an explicit ordering (other than natural) are not pushed down, unless sorted by request
+        val canPushDown = (sortProperty.isPresent()
+                    || !objectMember.getElementComparator().isPresent())
+                && !(isFilterVisibility()
+                        && MmVisibilityUtils.isVisibilityInstanceDependent(elementType));
+        if(!canPushDown) {
+            return Optional.empty();
+        }
+        return objectAdapter.getSpecification().entityFacet()
+                .flatMap(entityFacet->{
+                    val pojo = objectAdapter.getPojo();
+                    val collectionId = objectMember.getId();
+                    val totalCount = entityFacet.countCollection(pojo, collectionId);
+                    if(!totalCount.isPresent()) {
+                        return Optional.<Paging.Page>empty();
+                    }
+                    return entityFacet.fetchCollectionPage(
+                                pojo, collectionId, paging.getSortPropertyId(), paging.isAscending(), paging.getRange())
+                            .flatMap(elements->{
+                                if(!isFilterVisibility()) {
+                                    return Optional.of(Paging.Page.of(elements, totalCount.getAsInt()));
+                                }
+                                if(elements.isEmpty()) {
+                                    // cannot tell whether the (out of range) elements would be visible
+                                    return totalCount.getAsInt() == 0
+                                            ? Optional.of(Paging.Page.of(elements, 0))
+                                            : Optional.empty();
+                                }
+                                // elements are either all visible or all hidden
+                                return Optional.of(
+                                        MmVisibilityUtils.isVisible(elements.getFirstElseFail(), getInteractionInitiatedBy())
+                                            ? Paging.Page.of(elements, totalCount.getAsInt())
+                                            : Paging.Page.of(Can.empty(), 0));
+                            });
+                });
+    }
+
+    /**
+     * Whether the collection accessor filters the elements for visibility, in which case
+     * pushing down is only possible if the element type's visibility is instance independent,
+     * as a query cannot reproduce the filtering.
+     */
+    private boolean isFilterVisibility() {
+        return resourceContext.getMetaModelContext().getConfiguration().getCore().getMetaModel().isFilterVisibility();
+    }
+
 
     // ///////////////////////////////////////////////////
     // details link
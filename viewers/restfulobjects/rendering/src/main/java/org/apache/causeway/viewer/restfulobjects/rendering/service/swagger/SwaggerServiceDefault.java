@@ -18,6 +18,13 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -26,33 +33,107 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
 import org.apache.causeway.core.config.RestEasyConfiguration;
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.OpenApiSpecGenerator;
 
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.val;
 
+/**
+ * Generates the spec once per {@link Visibility} and {@link Format}, then serves it from cache,
+ * until the metamodel changes (eg. a specification is reloaded when prototyping).
+ * <p>
+ * Specs are generated lazily (on first request) rather than eagerly {@link #onMetamodelLoaded() once the metamodel
+ * is loaded}, as most applications never request (all of) them, and generation would otherwise add to bootstrapping.
+ * Concurrent requests for the same spec wait for a single generation to complete, without blocking requests
+ * for any other spec.
+ */
 @Service
 @Named(CausewayModuleViewerRestfulObjectsApplib.NAMESPACE + ".swaggerServiceDefault")
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
-public class SwaggerServiceDefault implements SwaggerService {
+public class SwaggerServiceDefault implements SwaggerService, MetamodelListener {
+
+    /**
+     * A generated spec, pre-serialized as (UTF-8) bytes and gzip compressed bytes,
+     * along with a (strong) entity tag, derived from its content.
+     */
+    public static class CachedSpec {
+
+        @Getter private final String spec;
+        private final byte[] bytes;
+        private final byte[] gzipped;
+        @Getter private final String entityTag;
+        private final long metamodelRevision;
+
+        CachedSpec(final @NonNull String spec, final long metamodelRevision) {
+            this.spec = spec;
+            this.bytes = spec.getBytes(StandardCharsets.UTF_8);
+            this.gzipped = gzip(bytes);
+            this.entityTag = HashUtils.tryDigest(HashAlgorithm.SHA256, bytes, 64*1024)
+                    .valueAsNonNullElseFail()
+                    .asHexString();
+            this.metamodelRevision = metamodelRevision;
+        }
+
+        /**
+         * @return a defensive copy
+         */
+        public byte[] getBytes() {
+            return bytes.clone();
+        }
+
+        /**
+         * @return a defensive copy
+         */
+        public byte[] getGzipped() {
+            return gzipped.clone();
+        }
+
+        @SneakyThrows
+        private static byte[] gzip(final byte[] bytes) {
+            val out = new ByteArrayOutputStream(bytes.length / 4);
+            try(val gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CacheKey {
+        private final @NonNull Visibility visibility;
+        private final @NonNull Format format;
+    }
 
     private final OpenApiSpecGenerator swaggerSpecGenerator;
+    private final SpecificationLoader specificationLoader;
     private final String basePath;
 
+    private final Map<CacheKey, CompletableFuture<CachedSpec>> cache = new ConcurrentHashMap<>();
+
     @Inject
     public SwaggerServiceDefault(
             final OpenApiSpecGenerator swaggerSpecGenerator,
+            final SpecificationLoader specificationLoader,
             final RestEasyConfiguration restEasyConfiguration,
             final WebAppContextPath webAppContextPath) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.specificationLoader = specificationLoader;
 
         val restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         val restfulBase = webAppContextPath.prependContextPath(restfulPath);
@@ -64,7 +145,56 @@ public SwaggerServiceDefault(
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+        return lookupCachedSpec(visibility, format).getSpec();
+    }
+
+    /**
+     * The spec with given visibility and format, generated only if not already cached
+     * or if the metamodel changed since.
+     */
+    public CachedSpec lookupCachedSpec(
+            final @NonNull Visibility visibility,
+            final @NonNull Format format) {
+        val key = CacheKey.of(visibility, format);
+        while(true) {
+            val metamodelRevision = specificationLoader.getMetamodelRevision();
+            val existing = cache.get(key);
+            if(existing!=null
+                    && (!existing.isDone()
+                            || existing.join().metamodelRevision == metamodelRevision)) {
+                // either current, or generation in progress (by another thread), so wait for it
+                return existing.join();
+            }
+            val pending = new CompletableFuture<CachedSpec>();
+            val isClaimed = existing==null
+                    ? cache.putIfAbsent(key, pending)==null
+                    : cache.replace(key, existing, pending);
+            if(!isClaimed) {
+                continue; // another thread has started generation meanwhile
+            }
+            // generate outside of any map operation, so as not to block lookups of other specs
+            try {
+                pending.complete(generate(key, metamodelRevision));
+            } catch (Throwable ex) {
+                cache.remove(key, pending);
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+            return pending.join();
+        }
+    }
+
+    @Override
+    public void onMetamodelLoaded() {
+        cache.clear();
+    }
+
+    // -- HELPER
+
+    private CachedSpec generate(final CacheKey key, final long metamodelRevision) {
+        val spec = swaggerSpecGenerator.generate(basePath, key.getVisibility(), key.getFormat());
+        // if the metamodel changes while generating, the revision recorded is outdated, hence triggers regeneration
+        return new CachedSpec(spec, metamodelRevision);
     }
 
 }
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * A JSON array, whose elements are only rendered when written, one element at a time,
+ * such that any element's representation can be garbage collected as soon as it was written.
+ * <p>
+ * Only to be used for representations that are written straight to the response
+ * (as opposed to being inspected any further), as its elements are not accessible
+ * via the {@link JsonRepresentation} API.
+ *
+ * @see org.apache.causeway.viewer.restfulobjects.rendering.Responses
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class DeferredJsonArray<T>
+extends JsonSerializable.Base {
+
+    private final @NonNull Iterable<T> elements;
+    private final @NonNull Function<T, JsonRepresentation> elementRenderer;
+
+    /**
+     * A {@link JsonRepresentation} wrapping this deferred array.
+     */
+    public JsonRepresentation asJsonRepresentation() {
+        return new JsonRepresentation(new POJONode(this));
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        writeElements(gen);
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        val typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_ARRAY));
+        writeElements(gen);
+        typeSer.writeTypeSuffix(gen, typeIdDef);
+    }
+
+    // -- HELPER
+
+    private void writeElements(final JsonGenerator gen) throws IOException {
+        for (val element : elements) {
+            val elementRepresentation = elementRenderer.apply(element);
+            gen.writeTree(elementRepresentation.asJsonNode());
+        }
+    }
+
+}
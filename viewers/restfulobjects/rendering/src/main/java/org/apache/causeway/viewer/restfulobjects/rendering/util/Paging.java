@@ -0,0 +1,213 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Paging and sorting of the elements of collection and list representations, as requested by the
+ * (Restful Objects extension) query parameters {@code x-ro-page} (1-based), {@code x-ro-page-size}
+ * and {@code x-ro-sort} (a property of the element type, prefixed with {@code -} for descending order).
+ */
+@Value(staticConstructor = "of")
+public class Paging {
+
+    /**
+     * The elements of a single page, along with the number of elements of all pages.
+     */
+    @Value(staticConstructor = "of")
+    public static class Page {
+        private final @NonNull Can<ManagedObject> elements;
+        private final int totalCount;
+    }
+
+    /**
+     * 1-based
+     */
+    private final int page;
+
+    /**
+     * {@code 0} if not paged (sorted only)
+     */
+    private final int pageSize;
+
+    private final @Nullable String sortPropertyId;
+    private final boolean ascending;
+
+    /**
+     * (Restful relative) href of the current request, without any {@code x-ro-page} parameter,
+     * or {@code null} if the current request cannot be repeated to fetch other pages (eg. is not a GET).
+     */
+    private final @Nullable String pageHrefBase;
+
+    public boolean isPaged() {
+        return pageSize > 0;
+    }
+
+    public long getSkip() {
+        return isPaged()
+                ? (long)(page - 1) * pageSize
+                : 0L;
+    }
+
+    public QueryRange getRange() {
+        return isPaged()
+                ? QueryRange.of(getSkip(), pageSize)
+                : QueryRange.unconstrained();
+    }
+
+    /**
+     * Optionally the href to fetch the next page with, based on whether there are elements beyond the current page.
+     * @see #hrefForPage(int)
+     */
+    public Optional<String> hrefForNextPage(final int totalCount) {
+        return isPaged()
+                && getSkip() + pageSize < totalCount
+                ? hrefForPage(page + 1)
+                : Optional.empty();
+    }
+
+    /**
+     * Optionally the href to fetch the previous page with, based on whether the current page is not the first.
+     * @see #hrefForPage(int)
+     */
+    public Optional<String> hrefForPreviousPage() {
+        return isPaged()
+                && page > 1
+                ? hrefForPage(page - 1)
+                : Optional.empty();
+    }
+
+    /**
+     * Optionally the href to fetch given page with, based on whether the current request can be repeated.
+     */
+    public Optional<String> hrefForPage(final int page) {
+        if(pageHrefBase==null) {
+            return Optional.empty();
+        }
+        return Optional.of(pageHrefBase
+                + (pageHrefBase.contains("?") ? "&" : "?")
+                + "x-ro-page=" + page);
+    }
+
+    /**
+     * The sort property looked up from given element type, if any.
+     * @throws RestfulObjectsApplicationException if the element type has no such property
+     */
+    public Optional<OneToOneAssociation> lookupSortProperty(final @Nullable ObjectSpecification elementType) {
+        if(sortPropertyId==null) {
+            return Optional.empty();
+        }
+        return Optional.of(Optional.ofNullable(elementType)
+                .flatMap(spec->spec.getProperty(sortPropertyId))
+                .orElseThrow(()->RestfulObjectsApplicationException.createWithMessage(
+                        RestfulResponse.HttpStatusCode.BAD_REQUEST,
+                        "x-ro-sort: cannot sort by '%s', not a property of the element type", sortPropertyId)));
+    }
+
+    /**
+     * Sorts (if requested) and slices given elements in memory.
+     */
+    public Page pageInMemory(
+            final @NonNull Stream<ManagedObject> elements,
+            final @Nullable ObjectSpecification elementType) {
+        val all = lookupSortProperty(elementType)
+                .map(sortProperty->elements.sorted(ManagedObjects.orderingBy(sortProperty, ascending)))
+                .orElse(elements)
+                .collect(Can.toCan());
+        if(!isPaged()) {
+            return Page.of(all, all.size());
+        }
+        return Page.of(
+                all.stream()
+                    .skip(getSkip())
+                    .limit(pageSize)
+                    .collect(Can.toCan()),
+                all.size());
+    }
+
+    // -- PARSING
+
+    /**
+     * Optionally the paging as requested, based on whether any of the paging or sorting parameters were given.
+     * @throws RestfulObjectsApplicationException if any of the parameters are invalid
+     */
+    public static Optional<Paging> parse(
+            final @Nullable Integer page,
+            final @Nullable Integer pageSize,
+            final @Nullable String sort,
+            final int defaultPageSize,
+            final @Nullable String pageHrefBase) {
+
+        if(page==null
+                && pageSize==null
+                && _Strings.isNullOrEmpty(sort)) {
+            return Optional.empty();
+        }
+        if(page!=null && page < 1) {
+            throw badRequest("x-ro-page must be 1 or greater, got %d", page);
+        }
+        if(pageSize!=null && pageSize < 1) {
+            throw badRequest("x-ro-page-size must be 1 or greater, got %d", pageSize);
+        }
+
+        final boolean isPaged = page!=null || pageSize!=null;
+        final boolean descending = sort!=null && sort.startsWith("-");
+        final String sortPropertyId = _Strings.isNullOrEmpty(sort)
+                ? null
+                : descending
+                    ? sort.substring(1)
+                    : sort;
+        if(sortPropertyId!=null && sortPropertyId.isEmpty()) {
+            throw badRequest("x-ro-sort must name a property");
+        }
+
+        return Optional.of(of(
+                page!=null ? page : 1,
+                isPaged
+                    ? (pageSize!=null ? pageSize : defaultPageSize)
+                    : 0,
+                sortPropertyId,
+                !descending,
+                pageHrefBase));
+    }
+
+    private static RestfulObjectsApplicationException badRequest(final String format, final Object... args) {
+        return RestfulObjectsApplicationException.createWithMessage(
+                RestfulResponse.HttpStatusCode.BAD_REQUEST, format, args);
+    }
+
+}
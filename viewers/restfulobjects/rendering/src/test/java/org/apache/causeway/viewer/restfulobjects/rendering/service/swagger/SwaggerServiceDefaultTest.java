@@ -0,0 +1,134 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.swagger.Format;
+import org.apache.causeway.applib.services.swagger.Visibility;
+import org.apache.causeway.core.config.RestEasyConfiguration;
+import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.OpenApiSpecGenerator;
+
+import lombok.val;
+
+class SwaggerServiceDefaultTest {
+
+    OpenApiSpecGenerator generator;
+    SpecificationLoader specificationLoader;
+    SwaggerServiceDefault swaggerService;
+
+    @BeforeEach
+    void setUp() {
+        generator = Mockito.mock(OpenApiSpecGenerator.class);
+        specificationLoader = Mockito.mock(SpecificationLoader.class);
+        when(generator.generate(anyString(), any(Visibility.class), any(Format.class)))
+            .thenAnswer(invocation->"spec:" + invocation.getArgument(1) + ":" + invocation.getArgument(2));
+        swaggerService = new SwaggerServiceDefault(
+                generator, specificationLoader, new RestEasyConfiguration(), new WebAppContextPath());
+    }
+
+    @Test
+    void shouldGenerateOncePerVisibilityAndFormat() {
+        val first = swaggerService.lookupCachedSpec(Visibility.PUBLIC, Format.JSON);
+        val second = swaggerService.lookupCachedSpec(Visibility.PUBLIC, Format.JSON);
+        val yaml = swaggerService.lookupCachedSpec(Visibility.PUBLIC, Format.YAML);
+
+        assertSame(first, second);
+        assertNotEquals(first.getEntityTag(), yaml.getEntityTag());
+        assertEquals("spec:PUBLIC:JSON", swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON));
+        verify(generator, times(1)).generate("/restful/", Visibility.PUBLIC, Format.JSON);
+        verify(generator, times(1)).generate("/restful/", Visibility.PUBLIC, Format.YAML);
+    }
+
+    @Test
+    void shouldRegenerate_whenMetamodelChanged() {
+        val first = swaggerService.lookupCachedSpec(Visibility.PRIVATE, Format.JSON);
+        when(specificationLoader.getMetamodelRevision()).thenReturn(1L);
+        val second = swaggerService.lookupCachedSpec(Visibility.PRIVATE, Format.JSON);
+
+        assertNotEquals(first, second);
+        verify(generator, times(2)).generate("/restful/", Visibility.PRIVATE, Format.JSON);
+
+        swaggerService.onMetamodelLoaded();
+        swaggerService.lookupCachedSpec(Visibility.PRIVATE, Format.JSON);
+        verify(generator, times(3)).generate("/restful/", Visibility.PRIVATE, Format.JSON);
+    }
+
+    @Test
+    void whileGenerating_shouldNotBlockOtherSpecs_andGenerateSameSpecOnlyOnce() throws Exception {
+        val generating = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        when(generator.generate(anyString(), eq(Visibility.PUBLIC), eq(Format.JSON)))
+            .thenAnswer(invocation->{
+                generating.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return "spec:PUBLIC:JSON";
+            });
+
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            val first = executor.submit(()->swaggerService.lookupCachedSpec(Visibility.PUBLIC, Format.JSON));
+            assertTrue(generating.await(10, TimeUnit.SECONDS));
+            val second = executor.submit(()->swaggerService.lookupCachedSpec(Visibility.PUBLIC, Format.JSON));
+
+            // other specs can be looked up meanwhile
+            assertEquals("spec:PRIVATE:YAML", swaggerService.lookupCachedSpec(Visibility.PRIVATE, Format.YAML).getSpec());
+            assertFalse(first.isDone());
+
+            release.countDown();
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            verify(generator, times(1)).generate("/restful/", Visibility.PUBLIC, Format.JSON);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void gzipped_shouldDecompressToSameBytes() throws Exception {
+        val cachedSpec = swaggerService.lookupCachedSpec(Visibility.PUBLIC, Format.JSON);
+        try(val in = new GZIPInputStream(new ByteArrayInputStream(cachedSpec.getGzipped()))) {
+            assertEquals("spec:PUBLIC:JSON", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+}
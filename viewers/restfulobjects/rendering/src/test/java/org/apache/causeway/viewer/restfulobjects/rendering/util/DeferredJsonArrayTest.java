@@ -0,0 +1,75 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.rendering.Responses;
+
+import lombok.val;
+
+class DeferredJsonArrayTest {
+
+    @Test
+    void shouldWriteSameJsonAsEagerlyRenderedArray() throws Exception {
+
+        val elements = List.of("a", "b", "c");
+
+        val eager = JsonRepresentation.newMap();
+        val values = JsonRepresentation.newArray();
+        elements.forEach(element->values.arrayAdd(render(element)));
+        eager.mapPutJsonRepresentation("value", values);
+
+        val deferred = JsonRepresentation.newMap();
+        deferred.mapPutJsonRepresentation("value",
+                DeferredJsonArray.of(elements, DeferredJsonArrayTest::render).asJsonRepresentation());
+
+        val expected = JsonWriterUtil.jsonFor(eager, JsonMapper.PrettyPrinting.DISABLE);
+
+        val out = new ByteArrayOutputStream();
+        Responses.streamingOutputFor(deferred, JsonMapper.PrettyPrinting.DISABLE).write(out);
+
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(expected, JsonWriterUtil.jsonFor(deferred, JsonMapper.PrettyPrinting.DISABLE));
+    }
+
+    @Test
+    void emptyArray() throws Exception {
+        val deferred = JsonRepresentation.newMap();
+        deferred.mapPutJsonRepresentation("value",
+                DeferredJsonArray.of(List.<String>of(), DeferredJsonArrayTest::render).asJsonRepresentation());
+
+        assertEquals("{\"value\":[]}", JsonWriterUtil.jsonFor(deferred, JsonMapper.PrettyPrinting.DISABLE));
+    }
+
+    // -- HELPER
+
+    private static JsonRepresentation render(final String element) {
+        return JsonRepresentation.newMap("title", element);
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.val;
+
+class PagingTest {
+
+    @Test
+    void whenNoParameters_thenNoPaging() {
+        assertFalse(Paging.parse(null, null, null, 25, "objects/a/1").isPresent());
+        assertFalse(Paging.parse(null, null, "", 25, "objects/a/1").isPresent());
+    }
+
+    @Test
+    void whenPageOnly_thenDefaultPageSize() {
+        val paging = Paging.parse(3, null, null, 25, "objects/a/1").get();
+        assertTrue(paging.isPaged());
+        assertEquals(QueryRange.of(50, 25), paging.getRange());
+        assertEquals("objects/a/1?x-ro-page=4", paging.hrefForPage(4).get());
+    }
+
+    @Test
+    void whenSortOnly_thenNotPaged() {
+        val paging = Paging.parse(null, null, "-name", 25, "objects/a/1?x-ro-sort=-name").get();
+        assertFalse(paging.isPaged());
+        assertEquals("name", paging.getSortPropertyId());
+        assertFalse(paging.isAscending());
+        assertEquals(QueryRange.unconstrained(), paging.getRange());
+        assertEquals("objects/a/1?x-ro-sort=-name&x-ro-page=2", paging.hrefForPage(2).get());
+    }
+
+    @Test
+    void whenInvalid_thenBadRequest() {
+        assertThrows(RestfulObjectsApplicationException.class, ()->Paging.parse(0, null, null, 25, null));
+        assertThrows(RestfulObjectsApplicationException.class, ()->Paging.parse(null, 0, null, 25, null));
+        assertThrows(RestfulObjectsApplicationException.class, ()->Paging.parse(null, null, "-", 25, null));
+    }
+
+    @Test
+    void whenNotRepeatable_thenNoHref() {
+        assertFalse(Paging.parse(2, 10, null, 25, null).get().hrefForPage(3).isPresent());
+    }
+
+    @Test
+    void whenFirstPage_thenOnlyNextLink() {
+        val paging = Paging.parse(1, 10, "name", 25, "objects/a/1?x-ro-sort=name").get();
+        assertEquals("objects/a/1?x-ro-sort=name&x-ro-page=2", paging.hrefForNextPage(25).get());
+        assertFalse(paging.hrefForPreviousPage().isPresent());
+    }
+
+    @Test
+    void whenMiddlePage_thenNextAndPreviousLinks() {
+        val paging = Paging.parse(2, 10, null, 25, "objects/a/1").get();
+        assertEquals("objects/a/1?x-ro-page=3", paging.hrefForNextPage(25).get());
+        assertEquals("objects/a/1?x-ro-page=1", paging.hrefForPreviousPage().get());
+    }
+
+    @Test
+    void whenLastPage_thenOnlyPreviousLink() {
+        val paging = Paging.parse(3, 10, null, 25, "objects/a/1").get();
+        assertFalse(paging.hrefForNextPage(25).isPresent());
+        assertEquals("objects/a/1?x-ro-page=2", paging.hrefForPreviousPage().get());
+        // exactly full last page
+        assertFalse(Paging.parse(2, 10, null, 25, "objects/a/1").get().hrefForNextPage(20).isPresent());
+    }
+
+    @Test
+    void whenNotPaged_thenNoLinks() {
+        val paging = Paging.parse(null, null, "name", 25, "objects/a/1?x-ro-sort=name").get();
+        assertFalse(paging.hrefForNextPage(100).isPresent());
+        assertFalse(paging.hrefForPreviousPage().isPresent());
+    }
+
+    @Test
+    void pageInMemory_shouldSliceAndCountAll() {
+        val elements = IntStream.range(0, 7)
+                .mapToObj(i->Mockito.mock(ManagedObject.class))
+                .collect(Collectors.toList());
+
+        val paging = Paging.parse(3, 3, null, 25, null).get();
+        val page = paging.pageInMemory(elements.stream(), null);
+
+        assertEquals(7, page.getTotalCount());
+        assertEquals(1, page.getElements().size());
+        assertEquals(elements.get(6), page.getElements().getFirstElseFail());
+    }
+
+}
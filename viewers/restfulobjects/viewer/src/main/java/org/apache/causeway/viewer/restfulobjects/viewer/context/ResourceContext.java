@@ -18,11 +18,14 @@
  */
 package org.apache.causeway.viewer.restfulobjects.viewer.context;
 
+import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -50,6 +53,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.util.RequestParams;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.ResourceDescriptor;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.serialization.SerializationStrategy;
@@ -75,6 +79,7 @@
 
     @Getter private List<List<String>> followLinks;
     @Getter private boolean validateOnly;
+    @Getter(onMethod_={@Override}) private Optional<Paging> paging;
 
     private final Where where;
     private final RepresentationService.Intent intent;
@@ -129,6 +134,39 @@ void init(final RepresentationType representationType) {
 
         this.followLinks = Collections.unmodifiableList(getArg(RequestParameter.FOLLOW_LINKS));
         this.validateOnly = getArg(RequestParameter.VALIDATE_ONLY);
+        this.paging = Paging.parse(
+                getArgIfAny(RequestParameter.PAGE),
+                getArgIfAny(RequestParameter.PAGE_SIZE),
+                getArgIfAny(RequestParameter.SORT),
+                RequestParameter.PAGE_SIZE.getDefault(),
+                pageHrefBase());
+    }
+
+    /**
+     * The (restful relative) href of the current request without any {@code x-ro-page} parameter,
+     * or {@code null} if not a GET request with simple query args (that other pages could be requested with).
+     */
+    private String pageHrefBase() {
+        if(httpServletRequest==null
+                || !"GET".equals(httpServletRequest.getMethod())) {
+            return null;
+        }
+        val restfulBasePath = URI.create(restfulAbsoluteBase).getPath();
+        val requestUri = httpServletRequest.getRequestURI();
+        if(requestUri==null
+                || !requestUri.startsWith(restfulBasePath)
+                || !simpleQueryArgs(httpServletRequest.getParameterMap())) {
+            return null;
+        }
+        val queryString = Stream.of(_Strings.nullToEmpty(httpServletRequest.getQueryString()).split("&"))
+                .filter(_Strings::isNotEmpty)
+                .filter(param->!param.equals(RequestParameter.PAGE.getName())
+                        && !param.startsWith(RequestParameter.PAGE.getName() + "="))
+                .collect(Collectors.joining("&"));
+        val resourcePath = requestUri.substring(restfulBasePath.length());
+        return queryString.isEmpty()
+                ? resourcePath
+                : resourcePath + "?" + queryString;
     }
 
     private void ensureDomainModelQueryParamSupported() {
@@ -203,6 +241,18 @@ public <Q> Q getArg(final RequestParameter<Q> requestParameter) {
         return requestParameter.valueOf(queryStringJsonRepr);
     }
 
+    /**
+     * As {@link #getArg(RequestParameter)}, but {@code null} rather than the parameter's default,
+     * if the parameter was not provided.
+     */
+    private <Q> Q getArgIfAny(final RequestParameter<Q> requestParameter) {
+        final JsonRepresentation queryStringJsonRepr = getQueryStringAsJsonRepr();
+        return queryStringJsonRepr!=null
+                && queryStringJsonRepr.isMap()
+                ? requestParameter.getParser().valueOf(queryStringJsonRepr.getRepresentation(requestParameter.getName()))
+                : null;
+    }
+
     @Override
     public Where getWhere() {
         return where;
@@ -0,0 +1,224 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.ServletException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.Caching;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonWriterUtil;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.RequestParams;
+
+import lombok.Getter;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes an ordered list of sub-requests (to any of the other resources) within a single request,
+ * hence within the single interaction set up for it, eg.
+ * <pre>
+ * {
+ *   "atomic": false,
+ *   "requests": [
+ *     { "id": "customer", "method": "GET", "href": "objects/customers.Customer/123" },
+ *     { "id": "orders", "method": "GET", "href": "objects/customers.Customer/123/collections/orders" }
+ *   ]
+ * }
+ * </pre>
+ * responding with a JSON array of the sub-requests' results, each with its own status code, headers and body.
+ * <p>
+ * Safe sub-requests (GET, HEAD, OPTIONS) all share the batch request's transaction, while any other
+ * sub-request gets its own transaction, rolled back if the sub-request fails.
+ * If the batch is {@code atomic}, then instead all sub-requests are executed within a single transaction,
+ * and the first one to fail rolls back the batch as a whole: the results of the sub-requests executed before
+ * are still reported (with their status, headers and body as when executed), but marked with
+ * <code>"rolledBack": true</code>; the sub-requests following are not executed, and are reported
+ * with status <i>424 Failed Dependency</i>.
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects#getMaxBatchSize()
+ */
+@Component
+@Path("/batch")
+@Log4j2
+public class BatchResourceServerside extends ResourceAbstract {
+
+    static final int SC_FAILED_DEPENDENCY = 424;
+
+    public BatchResourceServerside() {
+        super();
+        log.debug("<init>");
+    }
+
+    @POST
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.APPLICATION_JSON })
+    public Response batch(final InputStream body) {
+
+        if (!getInteractionService().isInInteraction()) {
+            throw RestfulObjectsApplicationException.create(HttpStatusCode.UNAUTHORIZED);
+        }
+
+        val batchRepr = RequestParams.ofRequestBody(body).asMap();
+        val items = _BatchItem.parseAll(batchRepr,
+                getConfiguration().getViewer().getRestfulobjects().getMaxBatchSize());
+        val atomic = batchRepr.isBoolean("atomic")
+                && batchRepr.getBoolean("atomic");
+
+        val resultsRepr = JsonRepresentation.newArray(items.size());
+        (atomic
+                ? executeAtomically(items)
+                : executeIndividually(items))
+            .forEach(resultsRepr::arrayAdd);
+
+        return _EndpointLogging.response(log, "POST /batch",
+                Response.ok(JsonWriterUtil.jsonFor(resultsRepr, getSystemEnvironment()), MediaType.APPLICATION_JSON_TYPE)
+                .cacheControl(Caching.NONE.getCacheControl())
+                .build());
+    }
+
+    // -- HELPER
+
+    private List<JsonRepresentation> executeIndividually(final Can<_BatchItem> items) {
+        return items.stream()
+                .map(item->item.isSafe()
+                        ? execute(item)
+                        : executeWithinOwnTransaction(item))
+                .collect(Can.toCan())
+                .toList();
+    }
+
+    private JsonRepresentation executeWithinOwnTransaction(final _BatchItem item) {
+        return getTransactionService().callTransactional(Propagation.REQUIRES_NEW, ()->
+                    failIfNotSuccessful(item, execute(item)))
+                .fold(
+                        failure->BatchAbortedException.resultOf(failure)
+                            .orElseGet(()->failureResult(item, failure)),
+                        success->success.orElseThrow());
+    }
+
+    private List<JsonRepresentation> executeAtomically(final Can<_BatchItem> items) {
+        val results = new ArrayList<JsonRepresentation>(items.size());
+        val outcome = getTransactionService().runTransactional(Propagation.REQUIRES_NEW, ()->
+                items.forEach(item->results.add(failIfNotSuccessful(item, execute(item)))));
+        if(outcome.isSuccess()) {
+            return results;
+        }
+        val failedResult = outcome.getFailure()
+                .flatMap(BatchAbortedException::resultOf)
+                .orElse(null);
+        if(failedResult==null) {
+            outcome.ifFailureFail(); // eg. failed to commit
+        }
+
+        // the batch was rolled back as a whole
+        val atomicResults = new ArrayList<JsonRepresentation>(items.size());
+        for(int index = 0; index < items.size(); index++) {
+            atomicResults.add(index < results.size()
+                    ? results.get(index).mapPutBoolean("rolledBack", true)
+                    : index==results.size()
+                        ? failedResult
+                        : notExecutedResult(items.getElseFail(index)));
+        }
+        return atomicResults;
+    }
+
+    private JsonRepresentation execute(final _BatchItem item) {
+        val subResponse = new _BatchSubResponse(httpServletResponse);
+        try {
+            val dispatcherPath = item.dispatcherPath(
+                    httpServletRequest.getContextPath(),
+                    uriInfo.getBaseUri().getRawPath());
+            val subRequest = new _BatchSubRequest(
+                    httpServletRequest, item.getMethod(), item.getHeaders(), item.getBody());
+            // sub-requests are forwarded straight to the JAX-RS servlet, without passing the interaction filter again
+            httpServletRequest.getServletContext()
+                .getRequestDispatcher(dispatcherPath)
+                .forward(subRequest, subResponse);
+        } catch (RestfulObjectsApplicationException e) {
+            subResponse.sendError(e.getHttpStatusCode().getStatusCode(), e.getMessage());
+        } catch (ServletException | IOException | RuntimeException e) {
+            log.warn("batch sub-request '{}' failed", item.getId(), e);
+            subResponse.sendError(HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(), e.getMessage());
+        }
+        return subResponse.toResult(item.getId());
+    }
+
+    private static JsonRepresentation failIfNotSuccessful(final _BatchItem item, final JsonRepresentation result) {
+        if(result.getInt("status") >= 400) {
+            throw new BatchAbortedException(item, result);
+        }
+        return result;
+    }
+
+    private static JsonRepresentation failureResult(final _BatchItem item, final Throwable failure) {
+        log.warn("batch sub-request '{}' failed", item.getId(), failure);
+        return JsonRepresentation.newMap()
+                .mapPutString("id", item.getId())
+                .mapPutInt("status", HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode())
+                .mapPutString("body", failure.getMessage());
+    }
+
+    private static JsonRepresentation notExecutedResult(final _BatchItem item) {
+        return JsonRepresentation.newMap()
+                .mapPutString("id", item.getId())
+                .mapPutInt("status", SC_FAILED_DEPENDENCY);
+    }
+
+    /**
+     * Thrown within a transaction to have it rolled back, when a sub-request was not successful.
+     */
+    private static class BatchAbortedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        @Getter private final transient JsonRepresentation result;
+
+        BatchAbortedException(final _BatchItem item, final JsonRepresentation result) {
+            super(String.format("batch sub-request '%s' was not successful", item.getId()));
+            this.result = result;
+        }
+
+        static Optional<JsonRepresentation> resultOf(final Throwable failure) {
+            return _Exceptions.streamCausalChain(failure)
+                    .filter(BatchAbortedException.class::isInstance)
+                    .map(BatchAbortedException.class::cast)
+                    .map(BatchAbortedException::getResult)
+                    .findFirst();
+        }
+    }
+
+}
@@ -31,6 +31,7 @@
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -173,8 +174,20 @@ public Response object(
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}", domainType, instanceId, roEx));
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
+        // if the entity is unchanged, a conditional GET need not render the object
+        val entityTagIfAny = getConfiguration().getViewer().getRestfulobjects().isDomainObjectEtags()
+                ? _EntityTags.forDomainObject(
+                        objectAdapter,
+                        getInteractionService().currentInteractionContext().orElse(null),
+                        getAuthorizationManager().getPermissionsRevision(),
+                        uriInfo,
+                        httpHeaders)
+                : Optional.<EntityTag>empty();
+
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                entityTagIfAny
+                .map(entityTag->_EntityTags.evaluate(request, entityTag, domainResourceHelper::objectRepresentation))
+                .orElseGet(domainResourceHelper::objectRepresentation));
     }
 
 
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import javax.ws.rs.GET;
@@ -32,6 +34,8 @@
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
@@ -63,6 +67,7 @@
 import org.apache.causeway.viewer.restfulobjects.viewer.util.UrlParserUtils;
 
 import lombok.NonNull;
+import lombok.Value;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -78,6 +83,14 @@
 extends ResourceAbstract
 implements DomainTypeResource {
 
+    @Value(staticConstructor = "of")
+    private static class MetamodelHash {
+        long metamodelRevision;
+        String hash;
+    }
+
+    private final Map<String, MetamodelHash> metamodelHashByLogicalTypeName = _Maps.newConcurrentHashMap();
+
     public DomainTypeResourceServerside() {
         super();
         log.debug("<init>");
@@ -127,7 +140,7 @@ public Response domainType(
         renderer.with(objectSpec).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}", domainType,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                conditionally(objectSpec, ()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -191,7 +204,7 @@ public Response typeProperty(
         renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/properties/{}", domainType, propertyId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                conditionally(parentSpec, ()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -228,7 +241,7 @@ public Response typeCollection(
         renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/collections/{}", domainType, collectionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                conditionally(parentSpec, ()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -258,7 +271,7 @@ public Response typeAction(
         renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}", domainType, actionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                conditionally(parentSpec, ()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -291,7 +304,7 @@ public Response typeActionParam(
         renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}/params/{}", domainType, actionId, paramId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                conditionally(parentSpec, ()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     // //////////////////////////////////////////////////////////
@@ -381,6 +394,33 @@ public Response domainTypeIsSupertypeOf(
                 Responses.ofOk(renderer, Caching.ONE_DAY).build());
     }
 
+    // -- HELPER
+
+    /**
+     * Domain type representations only change with the metamodel, hence are tagged by a hash over
+     * the metamodel of given {@code spec}, memoized until the metamodel revision changes.
+     */
+    private Response conditionally(final ObjectSpecification spec, final Supplier<Response> responseSupplier) {
+        val metamodelRevision = getSpecificationLoader().getMetamodelRevision();
+        val cached = metamodelHashByLogicalTypeName.get(spec.getLogicalTypeName());
+        final String metamodelHash;
+        if(cached!=null
+                && cached.getMetamodelRevision()==metamodelRevision) {
+            metamodelHash = cached.getHash();
+        } else {
+            metamodelHash = _EntityTags.metamodelHash(spec);
+            metamodelHashByLogicalTypeName.put(spec.getLogicalTypeName(),
+                    MetamodelHash.of(metamodelRevision, metamodelHash));
+        }
+        val entityTag = _EntityTags.forDomainType(
+                metamodelHash,
+                getInteractionService().currentInteractionContext().orElse(null),
+                getAuthorizationManager().getPermissionsRevision(),
+                uriInfo,
+                httpHeaders);
+        return _EntityTags.evaluate(request, entityTag, responseSupplier);
+    }
+
     private static String domainTypeFor(
             final String domainTypeStr,
             final String argsAsUrlEncodedQueryString,
@@ -19,7 +19,9 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -28,8 +30,12 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 
 import org.springframework.stereotype.Component;
 
@@ -37,6 +43,7 @@
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.SwaggerServiceDefault;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -52,6 +59,7 @@ public class SwaggerSpecResource {
 
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
+    @Context Request request;
 
     @Inject
     public SwaggerSpecResource(
@@ -68,8 +76,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public Response swaggerPrivate() {
+        return _EndpointLogging.response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +87,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public Response swaggerPrototyping() {
+        return _EndpointLogging.response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,20 +98,55 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public Response swaggerPublic() {
+        return _EndpointLogging.response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    private Response swagger(final Visibility visibility) {
 
         val format = deriveFrom(httpHeaders);
-        val callable = new MyCallable(swaggerService, visibility, format);
+        val mediaType = format == Format.YAML
+                ? "text/yaml"
+                : MediaType.APPLICATION_JSON;
+
+        if(!(swaggerService instanceof SwaggerServiceDefault)) {
+            val callable = new MyCallable(swaggerService, visibility, format);
+            val spec = interactionService.callAnonymous(callable);
+            return Response.ok(spec, mediaType).build();
+        }
+
+        // pre-serialized and cached, hence supports conditional requests and pre-compressed content
+        val cachedSpec = interactionService.callAnonymous(()->
+                ((SwaggerServiceDefault)swaggerService).lookupCachedSpec(visibility, format));
+
+        val gzip = acceptsGzip(httpHeaders);
+        val entityTag = new EntityTag(gzip
+                ? cachedSpec.getEntityTag() + "-gzip"
+                : cachedSpec.getEntityTag());
+
+        final ResponseBuilder responseBuilder = Optional.ofNullable(request.evaluatePreconditions(entityTag))
+                .orElseGet(()->gzip
+                        ? Response.ok(cachedSpec.getGzipped(), mediaType)
+                                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        : Response.ok(cachedSpec.getBytes(), mediaType));
+
+        return responseBuilder
+                .tag(entityTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
 
-        val spec = interactionService.callAnonymous(callable);
-        return spec;
+    private static boolean acceptsGzip(final HttpHeaders httpHeaders) {
+        return Optional.ofNullable(httpHeaders.getRequestHeader(HttpHeaders.ACCEPT_ENCODING))
+                .map(values->values.stream()
+                        .flatMap(value->Stream.of(value.split(",")))
+                        .map(encoding->encoding.trim().toLowerCase())
+                        .anyMatch(encoding->encoding.equals("gzip")
+                                || encoding.startsWith("gzip;") && !encoding.replace(" ", "").endsWith("q=0")))
+                .orElse(false);
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
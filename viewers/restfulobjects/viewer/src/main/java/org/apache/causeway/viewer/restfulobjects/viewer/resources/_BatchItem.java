@@ -0,0 +1,186 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * A sub-request of a batch, as parsed from the batch request's body, eg.
+ * <pre>
+ * { "id": "customer", "method": "GET", "href": "objects/customers.Customer/123", "headers": { ... }, "body": { ... } }
+ * </pre>
+ * The {@code href} is either absolute or relative to the restful base URI.
+ */
+@Value
+class _BatchItem {
+
+    private final @NonNull String id;
+    private final @NonNull String method;
+    private final @NonNull String href;
+    private final @NonNull Map<String, String> headers;
+    private final @NonNull byte[] body;
+
+    /**
+     * Whether this sub-request does not modify any state (GET, HEAD or OPTIONS).
+     */
+    boolean isSafe() {
+        return "GET".equals(method)
+                || "HEAD".equals(method)
+                || "OPTIONS".equals(method);
+    }
+
+    /**
+     * The path (including the query string, if any) to forward this sub-request to,
+     * relative to the web application's context path.
+     * <p>
+     * As forwards bypass any (request dispatch) filters, the {@code href} is normalized before being checked,
+     * and must not have any {@code ..} segments (neither raw nor percent-encoded).
+     *
+     * @param contextPath eg. {@code /ctx}
+     * @param restfulBasePath eg. {@code /ctx/restful/}
+     * @throws RestfulObjectsApplicationException if the {@code href} does not address any other
+     *      Restful Objects resource
+     */
+    String dispatcherPath(final @NonNull String contextPath, final @NonNull String restfulBasePath) {
+        final URI uri;
+        try {
+            uri = new URI(href.startsWith("/") || href.contains("://")
+                    ? href
+                    : restfulBasePath + href);
+        } catch (URISyntaxException e) {
+            throw badRequest("sub-request '%s': href '%s' is malformed", id, href);
+        }
+        if(uri.isOpaque()
+                || hasParentSegment(uri.getRawPath())
+                || hasParentSegment(uri.getPath())) {
+            throw badRequest("sub-request '%s': href '%s' must not have any '..' segments", id, href);
+        }
+
+        val normalized = uri.normalize();
+        val rawPath = normalized.getRawPath();
+        val path = normalized.getPath(); // decoded
+        if(!rawPath.startsWith(restfulBasePath)
+                || !path.startsWith(restfulBasePath)
+                || !rawPath.startsWith(contextPath)) {
+            throw badRequest("sub-request '%s': href '%s' is not a Restful Objects resource", id, href);
+        }
+        val resourcePath = path.substring(restfulBasePath.length());
+        if(resourcePath.equals("batch")
+                || resourcePath.startsWith("batch/")
+                || resourcePath.startsWith("batch;")) {
+            throw badRequest("sub-request '%s': batches cannot be nested", id);
+        }
+        return rawPath.substring(contextPath.length())
+                + (normalized.getRawQuery()!=null ? "?" + normalized.getRawQuery() : "");
+    }
+
+    private static boolean hasParentSegment(final @Nullable String path) {
+        return path!=null
+                && Stream.of(path.split("/", -1))
+                    .anyMatch(".."::equals);
+    }
+
+    // -- PARSING
+
+    /**
+     * Parses the sub-requests listed by the {@code requests} array of given batch representation.
+     * @throws RestfulObjectsApplicationException if any of the sub-requests is malformed
+     *      or there are more than {@code maxBatchSize}
+     */
+    static Can<_BatchItem> parseAll(final @NonNull JsonRepresentation batchRepr, final int maxBatchSize) {
+        if(!batchRepr.isArray("requests")) {
+            throw badRequest("batch must provide its sub-requests as 'requests' array");
+        }
+        val requestsRepr = batchRepr.getArray("requests");
+        if(requestsRepr.size() > maxBatchSize) {
+            throw badRequest("batch must not have more than %d sub-requests, got %d",
+                    maxBatchSize, requestsRepr.size());
+        }
+        val index = new AtomicInteger();
+        return requestsRepr.streamArrayElements()
+                .map(itemRepr->parse(itemRepr, index.getAndIncrement()))
+                .collect(Can.toCan());
+    }
+
+    private static _BatchItem parse(final JsonRepresentation itemRepr, final int index) {
+        if(!itemRepr.isMap()) {
+            throw badRequest("sub-request #%d is not a JSON map", index);
+        }
+        val id = itemRepr.isString("id")
+                ? itemRepr.getString("id")
+                : "" + index;
+        val href = itemRepr.isString("href")
+                ? itemRepr.getString("href")
+                : null;
+        if(_Strings.isNullOrEmpty(href)) {
+            throw badRequest("sub-request '%s' has no 'href'", id);
+        }
+        val method = itemRepr.isString("method")
+                ? itemRepr.getString("method").toUpperCase(Locale.ROOT)
+                : "GET";
+
+        val headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+        headers.put(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        if(itemRepr.isMap("headers")) {
+            itemRepr.getMap("headers").streamMapEntries()
+                .filter(entry->entry.getValue().isValue())
+                .forEach(entry->headers.put(entry.getKey(), entry.getValue().asJsonNode().asText()));
+        }
+
+        val bodyRepr = itemRepr.getRepresentation("body");
+        final byte[] body;
+        if(bodyRepr==null) {
+            body = new byte[0];
+        } else if(bodyRepr.isString()) {
+            body = bodyRepr.asString().getBytes(StandardCharsets.UTF_8);
+        } else {
+            body = bodyRepr.toString().getBytes(StandardCharsets.UTF_8);
+            headers.putIfAbsent(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        }
+
+        return new _BatchItem(id, method, href, headers, body);
+    }
+
+    private static RestfulObjectsApplicationException badRequest(final String format, final Object... args) {
+        return RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST, format, args);
+    }
+
+}
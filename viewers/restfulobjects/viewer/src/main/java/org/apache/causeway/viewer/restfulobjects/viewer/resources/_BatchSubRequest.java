@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * A sub-request of a batch, that replaces the HTTP method, the headers and the body of the batch request,
+ * while its path and query string are provided by the servlet container, when forwarded.
+ */
+class _BatchSubRequest extends HttpServletRequestWrapper {
+
+    private final String method;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    _BatchSubRequest(
+            final @NonNull HttpServletRequest batchRequest,
+            final @NonNull String method,
+            final @NonNull Map<String, String> headers,
+            final @NonNull byte[] body) {
+        super(batchRequest);
+        this.method = method;
+        this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, value)->this.headers.put(name, List.of(value)));
+        this.body = body;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    // -- HEADERS
+
+    @Override
+    public String getHeader(final String name) {
+        val values = headers.get(name);
+        return values!=null
+                ? values.get(0)
+                : null;
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(final String name) {
+        return Collections.enumeration(headers.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(final String name) {
+        val value = getHeader(name);
+        return value!=null
+                ? Integer.parseInt(value)
+                : -1;
+    }
+
+    @Override
+    public long getDateHeader(final String name) {
+        val value = getHeader(name);
+        return value!=null
+                ? ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli()
+                : -1L;
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    // -- BODY
+
+    @Override
+    public ServletInputStream getInputStream() {
+        val in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override public int read() {
+                return in.read();
+            }
+            @Override public int read(final byte[] b, final int off, final int len) {
+                return in.read(b, off, len);
+            }
+            @Override public boolean isFinished() {
+                return in.available()==0;
+            }
+            @Override public boolean isReady() {
+                return true;
+            }
+            @Override public void setReadListener(final ReadListener readListener) {
+                throw new UnsupportedOperationException("batch sub-requests are read synchronously");
+            }
+        };
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,334 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Buffers status, headers and body of a batch sub-request's response,
+ * none of which are passed on to the batch request's response.
+ */
+class _BatchSubResponse extends HttpServletResponseWrapper {
+
+    @Getter private int status = SC_OK;
+    @Getter private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private PrintWriter writer;
+    private String characterEncoding = StandardCharsets.UTF_8.name();
+
+    _BatchSubResponse(final @NonNull HttpServletResponse batchResponse) {
+        super(batchResponse);
+    }
+
+    /**
+     * The body written so far, decoded using the response's character encoding.
+     */
+    String getBodyAsString() {
+        if(writer!=null) {
+            writer.flush();
+        }
+        return new String(body.toByteArray(), Charset.forName(characterEncoding));
+    }
+
+    /**
+     * The result of the sub-request identified by given {@code id}, eg.
+     * <pre>
+     * { "id": "customer", "status": 200, "headers": { ... }, "body": { ... } }
+     * </pre>
+     * The body is embedded as JSON, if the sub-response is of a JSON media type, otherwise as string.
+     */
+    JsonRepresentation toResult(final @NonNull String id) {
+        val headersNode = JsonNodeFactory.instance.objectNode();
+        headers.forEach((name, values)->headersNode.put(name, String.join(", ", values)));
+
+        val resultRepr = JsonRepresentation.newMap();
+        resultRepr.mapPutString("id", id);
+        resultRepr.mapPutInt("status", status);
+        resultRepr.mapPutJsonRepresentation("headers", new JsonRepresentation(headersNode));
+
+        val bodyAsString = getBodyAsString();
+        if(bodyAsString.isEmpty()) {
+            return resultRepr;
+        }
+        if(isJson(getContentType())) {
+            try {
+                resultRepr.mapPutJsonRepresentation("body", JsonMapper.instance().read(bodyAsString));
+                return resultRepr;
+            } catch (IOException e) {
+                // fall through, embedding the body as string
+            }
+        }
+        resultRepr.mapPutString("body", bodyAsString);
+        return resultRepr;
+    }
+
+    // -- STATUS
+
+    @Override
+    public void setStatus(final int status) {
+        this.status = status;
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void setStatus(final int status, final String message) {
+        this.status = status;
+    }
+
+    @Override
+    public void sendError(final int status) {
+        sendError(status, null);
+    }
+
+    @Override
+    public void sendError(final int status, final String message) {
+        this.status = status;
+        resetBuffer();
+        if(_Strings.isNotEmpty(message)) {
+            setContentType("text/plain");
+            body.writeBytes(message.getBytes(Charset.forName(characterEncoding)));
+        }
+    }
+
+    @Override
+    public void sendRedirect(final String location) {
+        this.status = SC_FOUND;
+        setHeader("Location", location);
+    }
+
+    // -- HEADERS
+
+    @Override
+    public boolean containsHeader(final String name) {
+        return headers.containsKey(name);
+    }
+
+    @Override
+    public String getHeader(final String name) {
+        val values = headers.get(name);
+        return values!=null
+                ? values.get(0)
+                : null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(final String name) {
+        return List.copyOf(headers.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return List.copyOf(headers.keySet());
+    }
+
+    @Override
+    public void setHeader(final String name, final String value) {
+        headers.remove(name);
+        addHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(final String name, final String value) {
+        if(value==null) {
+            return;
+        }
+        if("Content-Type".equalsIgnoreCase(name)) {
+            setContentType(value);
+            return;
+        }
+        headers.computeIfAbsent(name, __->new ArrayList<>()).add(value);
+    }
+
+    @Override
+    public void setIntHeader(final String name, final int value) {
+        setHeader(name, "" + value);
+    }
+
+    @Override
+    public void addIntHeader(final String name, final int value) {
+        addHeader(name, "" + value);
+    }
+
+    @Override
+    public void setDateHeader(final String name, final long date) {
+        setHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void addDateHeader(final String name, final long date) {
+        addHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void setContentType(final String contentType) {
+        headers.remove("Content-Type");
+        if(contentType==null) {
+            return;
+        }
+        headers.computeIfAbsent("Content-Type", __->new ArrayList<>()).add(contentType);
+        val charsetIndex = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if(charsetIndex>-1) {
+            characterEncoding = contentType.substring(charsetIndex + "charset=".length()).trim();
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    @Override
+    public void setCharacterEncoding(final String characterEncoding) {
+        if(characterEncoding!=null) {
+            this.characterEncoding = characterEncoding;
+        }
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setContentLength(final int len) {
+        // the length is that of the buffered body
+    }
+
+    @Override
+    public void setContentLengthLong(final long len) {
+        // the length is that of the buffered body
+    }
+
+    @Override
+    public void setLocale(final Locale locale) {
+        // not passed on to the batch request's response
+    }
+
+    @Override
+    public void addCookie(final Cookie cookie) {
+        // not passed on to the batch request's response
+    }
+
+    // -- BODY
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return new ServletOutputStream() {
+            @Override public void write(final int b) {
+                body.write(b);
+            }
+            @Override public void write(final byte[] b, final int off, final int len) {
+                body.write(b, off, len);
+            }
+            @Override public boolean isReady() {
+                return true;
+            }
+            @Override public void setWriteListener(final WriteListener writeListener) {
+                throw new UnsupportedOperationException("batch sub-responses are written synchronously");
+            }
+        };
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if(writer==null) {
+            writer = new PrintWriter(new OutputStreamWriter(body, Charset.forName(characterEncoding)));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if(writer!=null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        status = SC_OK;
+        headers.clear();
+        resetBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if(writer!=null) {
+            writer.flush();
+        }
+        body.reset();
+    }
+
+    @Override
+    public void setBufferSize(final int size) {
+        // always fully buffered
+    }
+
+    @Override
+    public int getBufferSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    // -- HELPER
+
+    private static boolean isJson(final String contentType) {
+        return contentType!=null
+                && contentType.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    private static String formatDate(final long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectFeature;
+import org.apache.causeway.core.security.authorization.manager.AuthorizationManager;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Strong {@link EntityTag}s for conditional GET requests (<code>If-None-Match</code>).
+ * <p>
+ * Any tag also covers the requesting user (name, roles, tenancy, locale and time zone) and the
+ * {@link AuthorizationManager#getPermissionsRevision() revision of permissions}, as well as the
+ * request's URI and <code>Accept</code> header, as each of these might affect the representation.
+ */
+@UtilityClass
+class _EntityTags {
+
+    /**
+     * Optionally the tag of given domain object's representation, based on whether the entity has
+     * a (optimistic locking) version, that is, any change to its persistent state results in a different tag.
+     * <p>
+     * Derived state (not backed by the entity's persistent state) is not covered.
+     */
+    Optional<EntityTag> forDomainObject(
+            final @NonNull ManagedObject domainObject,
+            final @Nullable InteractionContext interactionContext,
+            final long permissionsRevision,
+            final @NonNull UriInfo uriInfo,
+            final @NonNull HttpHeaders httpHeaders) {
+        return domainObject.getSpecification().entityFacet()
+                .flatMap(entityFacet->entityFacet.versionOf(domainObject.getPojo()))
+                .map(version->tagOf(
+                        domainObject.getSpecification().getLogicalTypeName(),
+                        "" + version,
+                        userFingerprint(interactionContext, permissionsRevision),
+                        variantFingerprint(uriInfo, httpHeaders)));
+    }
+
+    /**
+     * Tag of given domain type's representation, based on given {@code metamodelHash}.
+     */
+    EntityTag forDomainType(
+            final @NonNull String metamodelHash,
+            final @Nullable InteractionContext interactionContext,
+            final long permissionsRevision,
+            final @NonNull UriInfo uriInfo,
+            final @NonNull HttpHeaders httpHeaders) {
+        return tagOf(
+                metamodelHash,
+                userFingerprint(interactionContext, permissionsRevision),
+                variantFingerprint(uriInfo, httpHeaders));
+    }
+
+    /**
+     * Hash over the structure of given domain type: its members, their types and their (static) names.
+     * Changes only with the application's code (or translations), that is, with the
+     * {@link org.apache.causeway.core.metamodel.specloader.SpecificationLoader#getMetamodelRevision() metamodel revision}.
+     */
+    String metamodelHash(final @NonNull ObjectSpecification spec) {
+        val members = Stream.concat(
+                spec.streamAssociations(MixedIn.INCLUDED),
+                spec.streamAnyActions(MixedIn.INCLUDED))
+            .map(member->member instanceof ObjectAction
+                    ? featureFingerprint(member) + ((ObjectAction) member).streamParameters()
+                            .map(_EntityTags::featureFingerprint)
+                            .collect(Collectors.joining(",", "(", ")"))
+                    : featureFingerprint(member))
+            .sorted()
+            .collect(Collectors.joining(";"));
+        return hash(String.join("|",
+                spec.getLogicalTypeName(),
+                spec.getSingularName(),
+                "" + spec.getDescription(),
+                members));
+    }
+
+    /**
+     * If given {@code entityTag} matches the request's <code>If-None-Match</code> header,
+     * returns a 304 (not modified) response, otherwise the supplied response, in both cases tagged.
+     */
+    Response evaluate(
+            final @NonNull Request request,
+            final @NonNull EntityTag entityTag,
+            final @NonNull Supplier<Response> responseSupplier) {
+        val notModified = request.evaluatePreconditions(entityTag);
+        if(notModified!=null) {
+            return notModified.tag(entityTag).build();
+        }
+        return Response.fromResponse(responseSupplier.get())
+                .tag(entityTag)
+                .build();
+    }
+
+    // -- HELPER
+
+    private String userFingerprint(
+            final @Nullable InteractionContext interactionContext,
+            final long permissionsRevision) {
+        if(interactionContext==null) {
+            return "" + permissionsRevision;
+        }
+        val user = interactionContext.getUser();
+        return String.join("|",
+                user.getName(),
+                user.streamRoleNames().sorted().collect(Collectors.joining(",")),
+                "" + permissionsRevision,
+                "" + user.getMultiTenancyToken(),
+                "" + interactionContext.getLocale(),
+                "" + interactionContext.getTimeZone());
+    }
+
+    private String variantFingerprint(final UriInfo uriInfo, final HttpHeaders httpHeaders) {
+        return uriInfo.getRequestUri() + "|" + httpHeaders.getRequestHeaders().getOrDefault(HttpHeaders.ACCEPT, null);
+    }
+
+    private String featureFingerprint(final ObjectFeature feature) {
+        return feature.getFeatureIdentifier()
+                + ":" + feature.getElementType().getLogicalTypeName()
+                + ":" + feature.getCanonicalFriendlyName()
+                + ":" + feature.getCanonicalDescription().orElse(null);
+    }
+
+    private EntityTag tagOf(final String... parts) {
+        return new EntityTag(hash(String.join("|", parts)));
+    }
+
+    private String hash(final String string) {
+        return HashUtils.tryDigest(HashAlgorithm.SHA256, string.getBytes(StandardCharsets.UTF_8), 4*1024)
+                .valueAsNonNullElseFail()
+                .asHexString();
+    }
+
+}
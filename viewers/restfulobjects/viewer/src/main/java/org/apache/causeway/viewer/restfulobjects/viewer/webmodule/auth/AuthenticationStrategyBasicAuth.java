@@ -30,12 +30,15 @@
 import org.apache.causeway.commons.internal.base._Bytes;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
 
 import lombok.val;
 
 /**
  * Implements the HTTP Basic Auth protocol; does not bind the
  * {@link InteractionContext} onto the {@link HttpSession}.
+ * <p>
+ * Successful authentications are cached by the {@link AuthenticationCache}, if enabled.
  *
  * @since 2.0 {@index}
  */
@@ -74,14 +77,19 @@ public InteractionContext lookupValid(
         val password = matcher.group(2);
 
         val authenticationRequestPwd = new AuthenticationRequestPassword(user, password);
-        val authenticationManager = super.getAuthenticationManager(httpServletRequest);
-        val authentication = authenticationManager.authenticate(authenticationRequestPwd);
+        val authenticationManager = getAuthenticationManager(httpServletRequest);
+        val authenticationCache = getAuthenticationCache(httpServletRequest);
+        val authentication = authenticationCache.computeIfAbsent(
+                authenticationRequestPwd,
+                authenticationManager::isSessionValid,
+                ()->authenticationManager.authenticate(authenticationRequestPwd));
         return authentication;
     }
 
     /**
      * This implementation is stateless and so does not support binding the {@link InteractionContext} (aka
-     * authentication) into a store (eg a session); instead each request is authenticated afresh.
+     * authentication) into a store (eg a session); instead each request is authenticated afresh
+     * (unless the {@link AuthenticationCache} is enabled).
      */
     @Override
     public void bind(
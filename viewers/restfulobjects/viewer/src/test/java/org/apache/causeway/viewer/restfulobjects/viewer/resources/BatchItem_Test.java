@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class BatchItem_Test {
+
+    @Test
+    void parseAll() {
+        val items = _BatchItem.parseAll(read("{'requests': ["
+                + "{'id': 'customer', 'href': 'objects/customers.Customer/1'},"
+                + "{'method': 'put', 'href': 'objects/customers.Customer/1/properties/name',"
+                + " 'headers': {'Accept': 'application/json;profile=urn:org.restfulobjects:repr-types/object-property'},"
+                + " 'body': {'value': 'Fred'}}"
+                + "]}"), 10);
+
+        assertEquals(2, items.size());
+
+        val get = items.getElseFail(0);
+        assertEquals("customer", get.getId());
+        assertEquals("GET", get.getMethod());
+        assertTrue(get.isSafe());
+        assertEquals("application/json", get.getHeaders().get("accept"));
+        assertEquals(0, get.getBody().length);
+
+        val put = items.getElseFail(1);
+        assertEquals("1", put.getId());
+        assertEquals("PUT", put.getMethod());
+        assertFalse(put.isSafe());
+        assertEquals("application/json;profile=urn:org.restfulobjects:repr-types/object-property",
+                put.getHeaders().get("Accept"));
+        assertEquals("application/json", put.getHeaders().get("Content-Type"));
+        assertEquals("{\"value\":\"Fred\"}", new String(put.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parseAll_whenMalformed() {
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->_BatchItem.parseAll(read("{}"), 10));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->_BatchItem.parseAll(read("{'requests': [{'id': 'noHref'}]}"), 10));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->_BatchItem.parseAll(read("{'requests': [{'href': 'version'}, {'href': 'user'}]}"), 1));
+    }
+
+    @Test
+    void dispatcherPath() {
+        assertEquals("/restful/objects/customers.Customer/1?x-ro-follow-links=members",
+                item("objects/customers.Customer/1?x-ro-follow-links=members").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertEquals("/restful/version",
+                item("/ctx/restful/version").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertEquals("/restful/version",
+                item("http://localhost:8080/ctx/restful/version").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertEquals("/restful/version",
+                item("version").dispatcherPath("", "/restful/"));
+        assertEquals("/restful/objects/customers.Customer/1",
+                item("./objects/./customers.Customer/1").dispatcherPath("/ctx", "/ctx/restful/"));
+    }
+
+    @Test
+    void dispatcherPath_whenNotRestfulObjects() {
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("/ctx/wicket/").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("batch").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("batch;x=1").dispatcherPath("/ctx", "/ctx/restful/"));
+    }
+
+    @Test
+    void dispatcherPath_whenEscapingRestfulObjects() {
+        // would otherwise be forwarded to other servlets, bypassing their filters
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("../wicket/").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("/ctx/restful/../wicket/").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("http://localhost:8080/ctx/restful/objects/../../wicket/").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("%2e%2e/wicket/").dispatcherPath("/ctx", "/ctx/restful/"));
+
+        // would otherwise nest batches
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("objects/../batch").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("./batch").dispatcherPath("/ctx", "/ctx/restful/"));
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("b%61tch").dispatcherPath("/ctx", "/ctx/restful/"));
+
+        assertThrows(RestfulObjectsApplicationException.class,
+                ()->item("objects/with space").dispatcherPath("/ctx", "/ctx/restful/"));
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static JsonRepresentation read(final String json) {
+        return JsonMapper.instance().read(json.replace('\'', '"'));
+    }
+
+    private static _BatchItem item(final String href) {
+        return _BatchItem.parseAll(read("{'requests': [{'href': '" + href + "'}]}"), 1).getFirstElseFail();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import lombok.val;
+
+class BatchSubResponse_Test {
+
+    HttpServletResponse batchResponse;
+    _BatchSubResponse subResponse;
+
+    @BeforeEach
+    void setUp() {
+        batchResponse = Mockito.mock(HttpServletResponse.class);
+        subResponse = new _BatchSubResponse(batchResponse);
+    }
+
+    @Test
+    void toResult_withJsonBody() throws Exception {
+        subResponse.setStatus(200);
+        subResponse.setContentType("application/json;profile=\"urn:org.restfulobjects:repr-types/object\"");
+        subResponse.addHeader("Cache-Control", "no-cache");
+        subResponse.getOutputStream().write("{\"title\":\"Fred\"}".getBytes(StandardCharsets.UTF_8));
+        subResponse.flushBuffer();
+
+        val result = subResponse.toResult("customer");
+
+        assertEquals("customer", result.getString("id"));
+        assertEquals(200, result.getInt("status"));
+        assertEquals("no-cache", result.getMap("headers").getString("Cache-Control"));
+        assertEquals("Fred", result.getMap("body").getString("title"));
+        assertFalse(subResponse.isCommitted());
+        Mockito.verifyNoInteractions(batchResponse);
+    }
+
+    @Test
+    void toResult_withError() {
+        subResponse.getWriter().print("partially written");
+        subResponse.sendError(404, "no such object");
+
+        val result = subResponse.toResult("customer");
+
+        assertEquals(404, result.getInt("status"));
+        assertEquals("no such object", result.getString("body"));
+        Mockito.verifyNoInteractions(batchResponse);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.net.URI;
+import java.util.Optional;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class EntityTags_Test {
+
+    final Object pojo = new Object();
+
+    ManagedObject domainObject;
+    EntityFacet entityFacet;
+    UriInfo uriInfo;
+    HttpHeaders httpHeaders;
+
+    @BeforeAll
+    static void setUpJaxRs() {
+        // no JAX-RS implementation on the test class-path
+        RuntimeDelegate.setInstance(Mockito.mock(RuntimeDelegate.class));
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityFacet = Mockito.mock(EntityFacet.class);
+        val spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.entityFacet()).thenReturn(Optional.of(entityFacet));
+        Mockito.when(spec.getLogicalTypeName()).thenReturn("demo.Customer");
+        domainObject = Mockito.mock(ManagedObject.class);
+        Mockito.when(domainObject.getSpecification()).thenReturn(spec);
+        Mockito.when(domainObject.getPojo()).thenReturn(pojo);
+
+        uriInfo = Mockito.mock(UriInfo.class);
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(URI.create("http://localhost/restful/objects/demo.Customer/1"));
+        httpHeaders = Mockito.mock(HttpHeaders.class);
+        Mockito.when(httpHeaders.getRequestHeaders()).thenReturn(new MultivaluedHashMap<>());
+    }
+
+    @Test
+    void whenNoVersion_thenNoTag() {
+        Mockito.when(entityFacet.versionOf(pojo)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), _EntityTags.forDomainObject(domainObject, user("sven"), 0L, uriInfo, httpHeaders));
+    }
+
+    @Test
+    void tag_shouldDependOnVersionAndUser() {
+        Mockito.when(entityFacet.versionOf(pojo)).thenReturn(Optional.of(1L));
+        val tag = _EntityTags.forDomainObject(domainObject, user("sven"), 0L, uriInfo, httpHeaders).orElseThrow();
+
+        assertEquals(tag, _EntityTags.forDomainObject(domainObject, user("sven"), 0L, uriInfo, httpHeaders).orElseThrow());
+        assertNotEquals(tag, _EntityTags.forDomainObject(domainObject, user("dick"), 0L, uriInfo, httpHeaders).orElseThrow());
+
+        Mockito.when(entityFacet.versionOf(pojo)).thenReturn(Optional.of(2L));
+        assertNotEquals(tag, _EntityTags.forDomainObject(domainObject, user("sven"), 0L, uriInfo, httpHeaders).orElseThrow());
+    }
+
+    @Test
+    void tag_shouldDependOnPermissionsRevision() {
+        Mockito.when(entityFacet.versionOf(pojo)).thenReturn(Optional.of(1L));
+        val tag = _EntityTags.forDomainObject(domainObject, user("sven"), 0L, uriInfo, httpHeaders).orElseThrow();
+
+        assertNotEquals(tag, _EntityTags.forDomainObject(domainObject, user("sven"), 1L, uriInfo, httpHeaders).orElseThrow());
+        assertNotEquals(
+                _EntityTags.forDomainType("hash", user("sven"), 0L, uriInfo, httpHeaders),
+                _EntityTags.forDomainType("hash", user("sven"), 1L, uriInfo, httpHeaders));
+    }
+
+    // -- HELPER
+
+    private static InteractionContext user(final String name) {
+        return InteractionContext.ofUserWithSystemDefaults(UserMemento.ofNameAndRoleNames(name, "role1"));
+    }
+
+}
@@ -109,7 +109,8 @@ private void buildGui() {
                 collectionModel.getVariant(),
                 getWicketViewerSettings());
 
-        val dataProvider = new CollectionContentsSortableDataProvider(collectionModel);
+        val dataProvider = new CollectionContentsSortableDataProvider(
+                collectionModel, getWicketViewerSettings().getTablePaging());
         val dataTable = new CausewayAjaxDataTable(
                 ID_TABLE, columns, dataProvider, collectionModel.getPageSize(), toggleboxColumn);
         addOrReplace(dataTable);
@@ -28,6 +28,7 @@
 
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Wicket.TablePaging;
 import org.apache.causeway.core.metamodel.facets.object.tabledec.TableDecoratorFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
@@ -40,6 +41,10 @@
 
 /**
  * Part of the {@link AjaxFallbackDefaultDataTable} API.
+ * <p>
+ * With {@link TablePaging#QUERY}, tables backed by a query have sorting and paging
+ * pushed down to the persistence layer, otherwise all rows are loaded and then
+ * sorted and paged in memory.
  */
 public class CollectionContentsSortableDataProvider
 extends SortableDataProvider<DataRow, String> {
@@ -47,11 +52,19 @@
     private static final long serialVersionUID = 1L;
 
     private final IModel<DataTableInteractive> dataTableModelHolder;
+    private final TablePaging tablePaging;
 
     public CollectionContentsSortableDataProvider(final IModel<DataTableInteractive> dataTableModelHolder) {
+        this(dataTableModelHolder, TablePaging.IN_MEMORY);
+    }
+
+    public CollectionContentsSortableDataProvider(
+            final IModel<DataTableInteractive> dataTableModelHolder,
+            final TablePaging tablePaging) {
         this.dataTableModelHolder = dataTableModelHolder instanceof EntityCollectionModelAbstract
                 ? ((EntityCollectionModelAbstract)dataTableModelHolder).delegate()
                 : dataTableModelHolder;
+        this.tablePaging = tablePaging;
     }
 
     public boolean isDecoratedWithDataTablesNet() {
@@ -72,17 +85,36 @@ public IModel<DataRow> model(final DataRow dataRow) {
 
     @Override
     public long size() {
-        return getDataTableModel().getElementCount();
+        return isPagedByQuery()
+                ? getDataTableModel().countByQuery()
+                : getDataTableModel().getElementCount();
     }
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
+        if(isPagedByQuery()) {
+            val sort = getSort();
+            val page = getDataTableModel().fetchPage(
+                    lookupPropertyFor(sort).orElse(null),
+                    sort==null || sort.isAscending(),
+                    skip,
+                    limit);
+            if(page.isPresent()) {
+                return page.get().iterator();
+            }
+            // else fall through, sort order cannot be pushed down to the persistence layer
+        }
         val visibleRows = getDataTableModel().getDataRowsFiltered().getValue();
         return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
     // -- HELPER
 
+    private boolean isPagedByQuery() {
+        return tablePaging.isQuery()
+                && getDataTableModel().isQueryBacked();
+    }
+
     private Can<DataRow> sorted(final Can<DataRow> dataRows) {
         val sort = getSort();
         val sortProperty = lookupPropertyFor(sort).orElse(null);
@@ -200,7 +200,7 @@ private PackedManagedObject demementify(
             final @NonNull List<ObjectMemento> mementos) {
         return ManagedObject.packed(
                 elementSpec(),
-                mementos.stream().map(this::demementify).collect(Can.toCan()));
+                scalarModel.getObjectManager().demementifyAll(Can.ofCollection(mementos)));
     }
 
     private @NonNull Bindable<ManagedObject> updateReceiver() {